@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so every result also
+ * reports its allocation rate.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class BenchmarkRunner
+{
+	/**
+	 * Runs the benchmarks.
+	 * 
+	 * @param arguments The JMH command line arguments.
+	 * @throws CommandLineOptionException If the arguments are invalid.
+	 * @throws RunnerException If a benchmark fails.
+	 * @throws IOException If the help cannot be shown.
+	 */
+	public static void main( String[] arguments )
+			throws CommandLineOptionException, RunnerException, IOException
+	{
+		CommandLineOptions commandLineOptions = new CommandLineOptions(
+				arguments );
+		Runner runner = new Runner( new OptionsBuilder( )
+				.parent( commandLineOptions ).addProfiler( GCProfiler.class )
+				.build( ) );
+
+		if( commandLineOptions.shouldHelp( ) )
+		{
+			commandLineOptions.showHelp( );
+		}
+		else if( commandLineOptions.shouldList( ) )
+		{
+			runner.list( );
+		}
+		else
+		{
+			runner.run( );
+		}
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.animation;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.animation.BonePalette;
+import com.ruleyunruly.simpleworks.animation.Skin;
+import com.ruleyunruly.simpleworks.animation.Skinner;
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector4F;
+
+/**
+ * Benchmarks skinning vertices one at a time with objects, in batches with
+ * {@link Skin}, and across a {@link JobSystem} with {@link Skinner}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class SkinningBenchmark
+{
+	/**
+	 * The number of bones.
+	 */
+	private static final int BONE_COUNT = 64;
+
+	/**
+	 * The number of vertices.
+	 */
+	@Param( { "10000", "100000" } )
+	private int size;
+
+	/**
+	 * Whether the palette drops the last row of every matrix.
+	 */
+	@Param( { "true", "false" } )
+	private boolean affine;
+
+	/**
+	 * The job system for the parallel skinning.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * The parallel skinner.
+	 */
+	private Skinner skinner;
+
+	/**
+	 * The matrices of the bones, as objects.
+	 */
+	private Matrix4F[] bones;
+
+	/**
+	 * The matrices of the bones, as an array.
+	 */
+	private BonePalette palette;
+
+	/**
+	 * The positions of the vertices, as objects.
+	 */
+	private Vector3F[] positions;
+
+	/**
+	 * The normals of the vertices, as objects.
+	 */
+	private Vector3F[] normals;
+
+	/**
+	 * The vertices, as arrays.
+	 */
+	private Skin skin;
+
+	/**
+	 * The float buffer to store the skinned vertices in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up a skeleton and vertices influenced by random bones.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+
+		jobSystem = new JobSystem( );
+		skinner = new Skinner( jobSystem );
+		bones = new Matrix4F[ BONE_COUNT ];
+		palette = new BonePalette( BONE_COUNT, affine );
+		positions = new Vector3F[ size ];
+		normals = new Vector3F[ size ];
+		skin = new Skin( size, true );
+		floatBuffer = ByteBuffer.allocateDirect( size * 6 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+
+		for( int i = 0; i < BONE_COUNT; i++ )
+		{
+			bones[ i ] = new Matrix4F( ).recreateIntoTransformation(
+					new Vector3F( i, 0.0F, 0.0F ),
+					new Vector3F( i * 5.0F, i * 3.0F, 0.0F ),
+					new Vector3F( 1.0F, 1.0F, 1.0F ) );
+			palette.set( i, bones[ i ] );
+		}
+
+		for( int i = 0; i < size; i++ )
+		{
+			positions[ i ] = new Vector3F( random.nextFloat( ),
+					random.nextFloat( ), random.nextFloat( ) );
+			normals[ i ] = new Vector3F( random.nextFloat( ) + 0.1F,
+					random.nextFloat( ), random.nextFloat( ) ).setNormalized( );
+			skin.positions.set( i, positions[ i ] );
+			skin.normals.set( i, normals[ i ] );
+
+			for( int j = 0; j < Skin.MAX_INFLUENCES; j++ )
+			{
+				skin.setInfluence( i, j, random.nextInt( BONE_COUNT ),
+						random.nextFloat( ) );
+			}
+		}
+
+		skin.setNormalizedWeights( 0, size );
+	}
+
+	/**
+	 * Stops the job system.
+	 */
+	@TearDown
+	public void tearDown( )
+	{
+		jobSystem.shutdown( );
+	}
+
+	@Benchmark
+	public FloatBuffer objects( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			Vector3F position = positions[ i ];
+			Vector3F normal = normals[ i ];
+			Vector4F skinnedPosition = new Vector4F( );
+			Vector3F skinnedNormal = new Vector3F( );
+
+			for( int j = 0; j < Skin.MAX_INFLUENCES; j++ )
+			{
+				int influence = i * Skin.MAX_INFLUENCES + j;
+				Matrix4F bone = bones[ skin.boneIndices[ influence ] ];
+				float weight = skin.boneWeights[ influence ];
+
+				Vector4F transformedNormal = transform( bone, new Vector4F(
+						normal.x, normal.y, normal.z, 0.0F ) );
+
+				skinnedPosition.add( transform( bone, new Vector4F( position.x,
+						position.y, position.z, 1.0F ) ).multiply( weight ) );
+				skinnedNormal.add( new Vector3F( transformedNormal.x,
+						transformedNormal.y, transformedNormal.z )
+								.multiply( weight ) );
+			}
+
+			skinnedPosition.storeAt( floatBuffer, i * 6 );
+			skinnedNormal.setNormalized( ).storeAt( floatBuffer, i * 6 + 3 );
+		}
+
+		return floatBuffer;
+	}
+
+	@Benchmark
+	public FloatBuffer batch( )
+	{
+		return skin.skin( palette, 0, size, floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer parallel( )
+	{
+		return skinner.skin( skin, palette, 0, size, floatBuffer, 0 );
+	}
+
+	/**
+	 * Transforms a vector by a matrix, as a renderer without batch skinning
+	 * would.
+	 * 
+	 * @param matrix The matrix to transform by.
+	 * @param vector The vector to transform.
+	 * @return A new vector.
+	 */
+	private static Vector4F transform( Matrix4F matrix, Vector4F vector )
+	{
+		return new Vector4F(
+				matrix.element00 * vector.x + matrix.element10 * vector.y
+						+ matrix.element20 * vector.z
+						+ matrix.element30 * vector.w,
+				matrix.element01 * vector.x + matrix.element11 * vector.y
+						+ matrix.element21 * vector.z
+						+ matrix.element31 * vector.w,
+				matrix.element02 * vector.x + matrix.element12 * vector.y
+						+ matrix.element22 * vector.z
+						+ matrix.element32 * vector.w,
+				matrix.element03 * vector.x + matrix.element13 * vector.y
+						+ matrix.element23 * vector.z
+						+ matrix.element33 * vector.w );
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Matrix4FKernel;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Benchmarks transforming points on one thread against spreading them across
+ * a {@link JobSystem}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" } )
+@State( Scope.Thread )
+public class JobSystemBenchmark
+{
+	/**
+	 * The number of points.
+	 */
+	@Param( { "100000", "1000000" } )
+	private int size;
+
+	/**
+	 * The job system spreading the points.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * The kernel transforming the points.
+	 */
+	private Matrix4FKernel kernel;
+
+	/**
+	 * The matrix to transform by.
+	 */
+	private Matrix4F matrix;
+
+	/**
+	 * The points to transform.
+	 */
+	private Vector3FArray points;
+
+	/**
+	 * The transformed points.
+	 */
+	private Vector3FArray transformedPoints;
+
+	/**
+	 * Sets up the job system and operands.
+	 */
+	@Setup
+	public void setup( )
+	{
+		jobSystem = new JobSystem( );
+		kernel = Matrix4FKernel.getDefault( );
+		matrix = new Matrix4F( ).recreateIntoTransformation(
+				new Vector3F( 1.0F, 2.0F, 3.0F ),
+				new Vector3F( 10.0F, 20.0F, 30.0F ),
+				new Vector3F( 1.0F, 1.0F, 1.0F ) );
+		points = new Vector3FArray( size );
+		transformedPoints = new Vector3FArray( size );
+
+		for( int i = 0; i < size; i++ )
+		{
+			points.set( i, i, i + 1.0F, i + 2.0F );
+		}
+	}
+
+	/**
+	 * Stops the job system.
+	 */
+	@TearDown
+	public void tearDown( )
+	{
+		jobSystem.shutdown( );
+	}
+
+	@Benchmark
+	public Vector3FArray transformSerial( )
+	{
+		kernel.transform( matrix, points, transformedPoints, 0, size );
+
+		return transformedPoints;
+	}
+
+	@Benchmark
+	public Vector3FArray transformParallel( )
+	{
+		jobSystem.parallelFor( 0, size, 16384, ( fromIndex, toIndex ) -> kernel
+				.transform( matrix, points, transformedPoints, fromIndex, toIndex ) );
+
+		return transformedPoints;
+	}
+}
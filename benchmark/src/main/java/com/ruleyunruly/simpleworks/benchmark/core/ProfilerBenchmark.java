@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.core.Profiler;
+
+/**
+ * Benchmarks the cost of one {@link Profiler} zone, enabled and disabled.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class ProfilerBenchmark
+{
+	/**
+	 * The profiler recording zones.
+	 */
+	private Profiler enabledProfiler;
+
+	/**
+	 * The profiler not recording zones.
+	 */
+	private Profiler disabledProfiler;
+
+	/**
+	 * The zone id.
+	 */
+	private int zone;
+
+	/**
+	 * Sets up the profilers.
+	 */
+	@Setup
+	public void setup( )
+	{
+		enabledProfiler = new Profiler( );
+		disabledProfiler = new Profiler( );
+		zone = enabledProfiler.registerZone( "zone" );
+
+		disabledProfiler.registerZone( "zone" );
+		disabledProfiler.setEnabled( false );
+	}
+
+	@Benchmark
+	public void zoneEnabled( )
+	{
+		enabledProfiler.begin( zone );
+		enabledProfiler.end( zone );
+	}
+
+	@Benchmark
+	public void zoneDisabled( )
+	{
+		disabledProfiler.begin( zone );
+		disabledProfiler.end( zone );
+	}
+}
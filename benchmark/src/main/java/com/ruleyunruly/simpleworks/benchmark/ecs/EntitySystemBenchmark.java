@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.ecs;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.ecs.EntitySystem;
+import com.ruleyunruly.simpleworks.ecs.Group;
+import com.ruleyunruly.simpleworks.ecs.Matrix4FStore;
+import com.ruleyunruly.simpleworks.ecs.Vector3FStore;
+import com.ruleyunruly.simpleworks.ecs.World;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks moving entities and rebuilding their transformations, with an
+ * object per entity and with an {@link EntitySystem} over component columns
+ * on one thread and across a {@link JobSystem}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class EntitySystemBenchmark
+{
+	/**
+	 * The time step.
+	 */
+	private static final float DELTA_TIME = 1.0F / 60.0F;
+
+	/**
+	 * The number of entities.
+	 */
+	@Param( { "100000" } )
+	private int size;
+
+	/**
+	 * The job system for the parallel update.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * The entities, as objects in a scattered order.
+	 */
+	private EntityObject[] objects;
+
+	/**
+	 * The system moving the entities.
+	 */
+	private EntitySystem movement;
+
+	/**
+	 * Sets up the entities both ways.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+		World world = new World( size );
+		Vector3FStore positions = new Vector3FStore( world, size );
+		Vector3FStore velocities = new Vector3FStore( world, size );
+		Matrix4FStore transformations = new Matrix4FStore( world, size );
+		List<Integer> order = IntStream.range( 0, size ).boxed( )
+				.collect( Collectors.toList( ) );
+
+		jobSystem = new JobSystem( );
+		objects = new EntityObject[ size ];
+
+		Collections.shuffle( order, random );
+
+		for( int i = 0; i < size; i++ )
+		{
+			int entity = world.createEntity( );
+			float speed = random.nextFloat( );
+
+			objects[ order.get( i ) ] = new EntityObject( speed );
+
+			positions.set( entity, 0.0F, 0.0F, 0.0F );
+			velocities.set( entity, speed, speed, speed );
+			transformations.add( entity );
+		}
+
+		movement = new EntitySystem( new Group( positions, velocities,
+				transformations ) )
+		{
+			@Override
+			protected void update( int fromIndex, int toIndex,
+					float deltaTime )
+			{
+				float[] x = positions.values.x;
+				float[] y = positions.values.y;
+				float[] z = positions.values.z;
+				float[] velocityX = velocities.values.x;
+				float[] velocityY = velocities.values.y;
+				float[] velocityZ = velocities.values.z;
+				float[] matrices = transformations.values;
+
+				for( int i = fromIndex; i < toIndex; i++ )
+				{
+					x[ i ] += velocityX[ i ] * deltaTime;
+					y[ i ] += velocityY[ i ] * deltaTime;
+					z[ i ] += velocityZ[ i ] * deltaTime;
+					matrices[ i * 16 + 12 ] = x[ i ];
+					matrices[ i * 16 + 13 ] = y[ i ];
+					matrices[ i * 16 + 14 ] = z[ i ];
+				}
+			}
+		};
+	}
+
+	/**
+	 * Stops the job system.
+	 */
+	@TearDown
+	public void tearDown( )
+	{
+		jobSystem.shutdown( );
+	}
+
+	@Benchmark
+	public EntityObject[] objects( )
+	{
+		for( EntityObject object : objects )
+		{
+			object.update( DELTA_TIME );
+		}
+
+		return objects;
+	}
+
+	@Benchmark
+	public EntitySystem system( )
+	{
+		movement.update( DELTA_TIME );
+
+		return movement;
+	}
+
+	@Benchmark
+	public EntitySystem systemParallel( )
+	{
+		movement.update( DELTA_TIME, jobSystem );
+
+		return movement;
+	}
+
+	/**
+	 * Holds an entity that owns its own vectors and matrix.
+	 */
+	public static class EntityObject
+	{
+		/**
+		 * The position.
+		 */
+		private final Vector3F position;
+
+		/**
+		 * The velocity.
+		 */
+		private final Vector3F velocity;
+
+		/**
+		 * The transformation.
+		 */
+		private final Matrix4F transformation;
+
+		/**
+		 * Initializes this entity.
+		 * 
+		 * @param speed The speed along each axis.
+		 */
+		public EntityObject( float speed )
+		{
+			position = new Vector3F( );
+			velocity = new Vector3F( speed, speed, speed );
+			transformation = new Matrix4F( ).setIdentity( );
+		}
+
+		/**
+		 * Moves this entity.
+		 * 
+		 * @param deltaTime The time step.
+		 */
+		public void update( float deltaTime )
+		{
+			position.x += velocity.x * deltaTime;
+			position.y += velocity.y * deltaTime;
+			position.z += velocity.z * deltaTime;
+			transformation.element30 = position.x;
+			transformation.element31 = position.y;
+			transformation.element32 = position.z;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Benchmarks packing many matrices and vectors into one float buffer, one
+ * object at a time and with the bulk store helpers.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class BulkStoreBenchmark
+{
+	/**
+	 * The number of matrices and vectors.
+	 */
+	@Param( { "10000" } )
+	private int size;
+
+	/**
+	 * The matrices to store.
+	 */
+	private Matrix4F[] matrices;
+
+	/**
+	 * The vectors to store.
+	 */
+	private Vector3F[] vectors;
+
+	/**
+	 * The vectors to store, as lanes.
+	 */
+	private Vector3FArray vectorArray;
+
+	/**
+	 * The float buffer to store in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up the matrices and vectors.
+	 */
+	@Setup
+	public void setup( )
+	{
+		matrices = new Matrix4F[ size ];
+		vectors = new Vector3F[ size ];
+		vectorArray = new Vector3FArray( size );
+		floatBuffer = ByteBuffer.allocateDirect( size * 16 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+
+		for( int i = 0; i < size; i++ )
+		{
+			matrices[ i ] = new Matrix4F( ).translate( i, i, i );
+			vectors[ i ] = new Vector3F( i, i, i );
+			vectorArray.set( i, vectors[ i ] );
+		}
+	}
+
+	@Benchmark
+	public FloatBuffer storeMatricesEach( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			matrices[ i ].storeAt( floatBuffer, i * 16 );
+		}
+
+		return floatBuffer;
+	}
+
+	@Benchmark
+	public FloatBuffer storeMatricesBulk( )
+	{
+		return Matrix4F.storeAt( matrices, 0, size, floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer storeVectorsEach( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			vectors[ i ].storeAt( floatBuffer, i * 3 );
+		}
+
+		return floatBuffer;
+	}
+
+	@Benchmark
+	public FloatBuffer storeVectorsBulk( )
+	{
+		return Vector3F.storeAt( vectors, 0, size, floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer storeVectorArray( )
+	{
+		return vectorArray.storeAt( floatBuffer, 0, 0, size );
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.CameraRelative;
+import com.ruleyunruly.simpleworks.math.Matrix4D;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3D;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks the cost of double precision transformations stored relative to
+ * the camera against the float path: multiplying parent and local
+ * transformations, and storing the products in a float buffer.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class CameraRelativeBenchmark
+{
+	/**
+	 * The number of transformations.
+	 */
+	@Param( { "1000", "10000" } )
+	private int size;
+
+	/**
+	 * The parent transformation, in floats.
+	 */
+	private Matrix4F parentFloat;
+
+	/**
+	 * The parent transformation, in doubles.
+	 */
+	private Matrix4D parentDouble;
+
+	/**
+	 * The local transformations, in floats.
+	 */
+	private Matrix4F[] localsFloat;
+
+	/**
+	 * The local transformations, in doubles.
+	 */
+	private Matrix4D[] localsDouble;
+
+	/**
+	 * The world transformations, in floats.
+	 */
+	private Matrix4F[] worldsFloat;
+
+	/**
+	 * The world transformations, in doubles.
+	 */
+	private Matrix4D[] worldsDouble;
+
+	/**
+	 * The camera the double transformations are stored relative to.
+	 */
+	private CameraRelative camera;
+
+	/**
+	 * The float buffer to store the world transformations in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up the transformations, far from the origin.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Vector3F rotation = new Vector3F( 10.0F, 20.0F, 30.0F );
+		Vector3F scale = new Vector3F( 1.0F, 1.0F, 1.0F );
+
+		parentFloat = new Matrix4F( ).recreateIntoTransformation(
+				new Vector3F( 1.0e6F, 0.0F, 1.0e6F ), rotation, scale );
+		parentDouble = new Matrix4D( ).recreateIntoTransformation(
+				new Vector3D( 1.0e6, 0.0, 1.0e6 ), new Vector3D( rotation ),
+				new Vector3D( scale ) );
+		localsFloat = new Matrix4F[ size ];
+		localsDouble = new Matrix4D[ size ];
+		worldsFloat = new Matrix4F[ size ];
+		worldsDouble = new Matrix4D[ size ];
+		camera = new CameraRelative( new Vector3D( 1.0e6, 2.0, 1.0e6 ) );
+		floatBuffer = ByteBuffer.allocateDirect( size * 16 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+
+		for( int i = 0; i < size; i++ )
+		{
+			localsFloat[ i ] = new Matrix4F( ).recreateIntoTransformation(
+					new Vector3F( i, i, i ), new Vector3F( i, 0.0F, 0.0F ),
+					scale );
+			localsDouble[ i ] = new Matrix4D( ).set( localsFloat[ i ] );
+			worldsFloat[ i ] = new Matrix4F( );
+			worldsDouble[ i ] = new Matrix4D( );
+		}
+	}
+
+	@Benchmark
+	public FloatBuffer multiplyAndStoreFloat( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			worldsFloat[ i ].set( parentFloat ).multiply( localsFloat[ i ] );
+		}
+
+		return Matrix4F.storeAt( worldsFloat, 0, size, floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer multiplyAndStoreDouble( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			worldsDouble[ i ].set( parentDouble ).multiply( localsDouble[ i ] );
+		}
+
+		return camera.storeAt( worldsDouble, 0, size, floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer storeFloat( )
+	{
+		return Matrix4F.storeAt( localsFloat, 0, size, floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer storeDouble( )
+	{
+		return camera.storeAt( localsDouble, 0, size, floatBuffer, 0 );
+	}
+}
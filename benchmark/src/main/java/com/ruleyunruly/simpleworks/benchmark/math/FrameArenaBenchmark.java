@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.FrameArena;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks calculating triangle normals with new vectors, with vectors
+ * from a {@link FrameArena}, and with reused vectors through the destination
+ * overloads. Run with {@code -prof gc} to compare the allocation rates.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class FrameArenaBenchmark
+{
+	/**
+	 * The number of triangles.
+	 */
+	@Param( { "10000" } )
+	private int size;
+
+	/**
+	 * The corners of the triangles.
+	 */
+	private Vector3F[] corners;
+
+	/**
+	 * The normals of the triangles.
+	 */
+	private Vector3F[] normals;
+
+	/**
+	 * The first edge, for the destination overloads.
+	 */
+	private Vector3F edge1;
+
+	/**
+	 * The second edge, for the destination overloads.
+	 */
+	private Vector3F edge2;
+
+	/**
+	 * Sets up random triangles.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+
+		corners = new Vector3F[ size * 3 ];
+		normals = new Vector3F[ size ];
+		edge1 = new Vector3F( );
+		edge2 = new Vector3F( );
+
+		for( int i = 0; i < corners.length; i++ )
+		{
+			corners[ i ] = new Vector3F( random.nextFloat( ),
+					random.nextFloat( ), random.nextFloat( ) );
+		}
+
+		for( int i = 0; i < size; i++ )
+		{
+			normals[ i ] = new Vector3F( );
+		}
+	}
+
+	@Benchmark
+	public Vector3F[] allocating( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			Vector3F corner = corners[ i * 3 ];
+			Vector3F edge1 = new Vector3F( corners[ i * 3 + 1 ] )
+					.subtract( corner );
+			Vector3F edge2 = new Vector3F( corners[ i * 3 + 2 ] )
+					.subtract( corner );
+
+			normals[ i ] = edge1.getCrossProduct( edge2 ).setNormalized( );
+		}
+
+		return normals;
+	}
+
+	@Benchmark
+	public Vector3F[] arena( )
+	{
+		FrameArena arena = FrameArena.get( );
+
+		FrameArena.nextFrame( );
+
+		for( int i = 0; i < size; i++ )
+		{
+			Vector3F corner = corners[ i * 3 ];
+			Vector3F edge1 = arena.getVector3F( corners[ i * 3 + 1 ] )
+					.subtract( corner );
+			Vector3F edge2 = arena.getVector3F( corners[ i * 3 + 2 ] )
+					.subtract( corner );
+
+			edge1.getCrossProduct( edge2, normals[ i ] ).setNormalized( );
+		}
+
+		return normals;
+	}
+
+	@Benchmark
+	public Vector3F[] destination( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			Vector3F corner = corners[ i * 3 ];
+
+			edge1.set( corners[ i * 3 + 1 ] ).subtract( corner );
+			edge2.set( corners[ i * 3 + 2 ] ).subtract( corner );
+			edge1.getCrossProduct( edge2, normals[ i ] ).setNormalized( );
+		}
+
+		return normals;
+	}
+}
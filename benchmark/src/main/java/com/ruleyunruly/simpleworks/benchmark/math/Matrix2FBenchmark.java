@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix2F;
+
+/**
+ * Benchmarks the operations of {@link Matrix2F}.
+ * <p>
+ * The operands are chosen so that applying an operation in place over and
+ * over keeps the matrix finite and out of the denormal range.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class Matrix2FBenchmark
+{
+	/**
+	 * The matrix being operated on.
+	 */
+	private Matrix2F matrix;
+
+	/**
+	 * The rotation matrix to multiply by.
+	 */
+	private Matrix2F rotation;
+
+	/**
+	 * The matrix to add or subtract.
+	 */
+	private Matrix2F identity;
+
+	/**
+	 * The float buffer to store in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up the operands.
+	 */
+	@Setup
+	public void setup( )
+	{
+		matrix = new Matrix2F( 0.8F, 0.6F, -0.6F, 0.8F );
+		rotation = new Matrix2F( matrix );
+		identity = new Matrix2F( );
+		floatBuffer = ByteBuffer.allocateDirect( 4 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+	}
+
+	@Benchmark
+	public Matrix2F setZero( )
+	{
+		return matrix.setZero( );
+	}
+
+	@Benchmark
+	public Matrix2F setNegated( )
+	{
+		return matrix.setNegated( );
+	}
+
+	@Benchmark
+	public Matrix2F setIdentity( )
+	{
+		return matrix.setIdentity( );
+	}
+
+	@Benchmark
+	public Matrix2F setTransposed( )
+	{
+		return matrix.setTransposed( );
+	}
+
+	@Benchmark
+	public float getDeterminant( )
+	{
+		return matrix.getDeterminant( );
+	}
+
+	@Benchmark
+	public Matrix2F setInverted( )
+	{
+		return matrix.setInverted( );
+	}
+
+	@Benchmark
+	public Matrix2F add( )
+	{
+		return matrix.add( identity );
+	}
+
+	@Benchmark
+	public Matrix2F subtract( )
+	{
+		return matrix.subtract( identity );
+	}
+
+	@Benchmark
+	public Matrix2F multiply( )
+	{
+		return matrix.multiply( rotation );
+	}
+
+	@Benchmark
+	public Matrix2F store( )
+	{
+		floatBuffer.clear( );
+
+		return matrix.store( floatBuffer );
+	}
+}
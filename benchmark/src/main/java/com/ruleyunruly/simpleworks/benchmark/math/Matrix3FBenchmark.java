@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix3F;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks the operations of {@link Matrix3F}.
+ * <p>
+ * The operands are chosen so that applying an operation in place over and
+ * over keeps the matrix finite and out of the denormal range.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class Matrix3FBenchmark
+{
+	/**
+	 * The matrix being operated on.
+	 */
+	private Matrix3F matrix;
+
+	/**
+	 * The rotation matrix to multiply by.
+	 */
+	private Matrix3F rotation;
+
+	/**
+	 * The matrix to add or subtract.
+	 */
+	private Matrix3F identity;
+
+	/**
+	 * The transformation matrix to take the normal matrix of.
+	 */
+	private Matrix4F transformation;
+
+	/**
+	 * The float buffer to store in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up the operands.
+	 */
+	@Setup
+	public void setup( )
+	{
+		matrix = new Matrix3F( 1.0F, 0.0F, 0.0F, 0.0F, 0.8F, 0.6F, 0.0F,
+				-0.6F, 0.8F );
+		rotation = new Matrix3F( matrix );
+		identity = new Matrix3F( );
+		transformation = new Matrix4F( ).recreateIntoTransformation(
+				new Vector3F( 1.0F, 2.0F, 3.0F ),
+				new Vector3F( 10.0F, 20.0F, 30.0F ),
+				new Vector3F( 1.0F, 2.0F, 3.0F ) );
+		floatBuffer = ByteBuffer.allocateDirect( 9 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+	}
+
+	@Benchmark
+	public Matrix3F setZero( )
+	{
+		return matrix.setZero( );
+	}
+
+	@Benchmark
+	public Matrix3F setNegated( )
+	{
+		return matrix.setNegated( );
+	}
+
+	@Benchmark
+	public Matrix3F setIdentity( )
+	{
+		return matrix.setIdentity( );
+	}
+
+	@Benchmark
+	public Matrix3F setTransposed( )
+	{
+		return matrix.setTransposed( );
+	}
+
+	@Benchmark
+	public float getDeterminant( )
+	{
+		return matrix.getDeterminant( );
+	}
+
+	@Benchmark
+	public Matrix3F setInverted( )
+	{
+		return matrix.setInverted( );
+	}
+
+	@Benchmark
+	public Matrix3F recreateIntoNormal( )
+	{
+		return matrix.recreateIntoNormal( transformation );
+	}
+
+	@Benchmark
+	public Matrix3F add( )
+	{
+		return matrix.add( identity );
+	}
+
+	@Benchmark
+	public Matrix3F subtract( )
+	{
+		return matrix.subtract( identity );
+	}
+
+	@Benchmark
+	public Matrix3F multiply( )
+	{
+		return matrix.multiply( rotation );
+	}
+
+	@Benchmark
+	public Matrix3F store( )
+	{
+		floatBuffer.clear( );
+
+		return matrix.store( floatBuffer );
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks the operations of {@link Matrix4F}.
+ * <p>
+ * The operands are chosen so that applying an operation in place over and
+ * over keeps the matrix finite and out of the denormal range. The recreate
+ * benchmarks should report a {@code gc.alloc.rate.norm} of 0 B/op.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class Matrix4FBenchmark
+{
+	/**
+	 * The matrix being operated on.
+	 */
+	private Matrix4F matrix;
+
+	/**
+	 * The rotation matrix to multiply by.
+	 */
+	private Matrix4F rotation;
+
+	/**
+	 * The matrix to add or subtract.
+	 */
+	private Matrix4F identity;
+
+	/**
+	 * The vector to translate by.
+	 */
+	private Vector3F translation;
+
+	/**
+	 * The unit vector to rotate around.
+	 */
+	private Vector3F axis;
+
+	/**
+	 * The euler angles (in degrees) to rotate by.
+	 */
+	private Vector3F angles;
+
+	/**
+	 * The vector to scale by.
+	 */
+	private Vector3F scale;
+
+	/**
+	 * The angle (in degrees) to rotate by.
+	 */
+	private float angle;
+
+	/**
+	 * The float buffer to store in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up the operands.
+	 */
+	@Setup
+	public void setup( )
+	{
+		axis = new Vector3F( 0.0F, 0.6F, 0.8F );
+		angle = 30.0F;
+		matrix = new Matrix4F( ).rotate( angle, axis );
+		rotation = new Matrix4F( ).rotate( angle, axis );
+		identity = new Matrix4F( );
+		translation = new Vector3F( 1.0F, 2.0F, 3.0F );
+		angles = new Vector3F( 10.0F, 20.0F, 30.0F );
+		scale = new Vector3F( 1.0F, 1.0F, 1.0F );
+		floatBuffer = ByteBuffer.allocateDirect( 16 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+	}
+
+	@Benchmark
+	public Matrix4F setZero( )
+	{
+		return matrix.setZero( );
+	}
+
+	@Benchmark
+	public Matrix4F setNegated( )
+	{
+		return matrix.setNegated( );
+	}
+
+	@Benchmark
+	public Matrix4F setIdentity( )
+	{
+		return matrix.setIdentity( );
+	}
+
+	@Benchmark
+	public Matrix4F setTransposed( )
+	{
+		return matrix.setTransposed( );
+	}
+
+	@Benchmark
+	public float getDeterminant( )
+	{
+		return matrix.getDeterminant( );
+	}
+
+	@Benchmark
+	public Matrix4F setInverted( )
+	{
+		return matrix.setInverted( );
+	}
+
+	@Benchmark
+	public Matrix4F setInvertedAffine( )
+	{
+		return matrix.setInvertedAffine( );
+	}
+
+	@Benchmark
+	public Matrix4F add( )
+	{
+		return matrix.add( identity );
+	}
+
+	@Benchmark
+	public Matrix4F subtract( )
+	{
+		return matrix.subtract( identity );
+	}
+
+	@Benchmark
+	public Matrix4F multiply( )
+	{
+		return matrix.multiply( rotation );
+	}
+
+	@Benchmark
+	public Matrix4F translate( )
+	{
+		return matrix.translate( translation );
+	}
+
+	@Benchmark
+	public Matrix4F rotate( )
+	{
+		return matrix.rotate( angle, axis );
+	}
+
+	@Benchmark
+	public Matrix4F rotateX( )
+	{
+		return matrix.rotateX( angle );
+	}
+
+	@Benchmark
+	public Matrix4F rotateY( )
+	{
+		return matrix.rotateY( angle );
+	}
+
+	@Benchmark
+	public Matrix4F rotateZ( )
+	{
+		return matrix.rotateZ( angle );
+	}
+
+	@Benchmark
+	public Matrix4F scale( )
+	{
+		return matrix.scale( scale );
+	}
+
+	@Benchmark
+	public Matrix4F recreateIntoRotation( )
+	{
+		return matrix.recreateIntoRotation( angles );
+	}
+
+	@Benchmark
+	public Matrix4F recreateIntoTransformation( )
+	{
+		return matrix.recreateIntoTransformation( translation, angles, scale );
+	}
+
+	@Benchmark
+	public Matrix4F recreateIntoView( )
+	{
+		return matrix.recreateIntoView( translation, angles );
+	}
+
+	@Benchmark
+	public Matrix4F recreateIntoPerspective( )
+	{
+		return matrix.recreateIntoPerspective( 1920, 1080, 70.0F, 0.1F,
+				1000.0F );
+	}
+
+	@Benchmark
+	public Matrix4F store( )
+	{
+		floatBuffer.clear( );
+
+		return matrix.store( floatBuffer );
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Matrix4FBuffer;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks filling a {@link Matrix4FBuffer} with model-view-projection and
+ * transformation matrices directly against building them on the heap and
+ * copying them in.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class Matrix4FBufferBenchmark
+{
+	/**
+	 * The number of matrices.
+	 */
+	@Param( { "1000", "10000" } )
+	private int size;
+
+	/**
+	 * The view-projection matrix.
+	 */
+	private Matrix4F viewProjection;
+
+	/**
+	 * The view-projection matrix, as an array.
+	 */
+	private float[] viewProjectionArray;
+
+	/**
+	 * The model matrices.
+	 */
+	private Matrix4F[] models;
+
+	/**
+	 * The translations of the models.
+	 */
+	private Vector3F[] translations;
+
+	/**
+	 * The rotations of the models.
+	 */
+	private Vector3F[] rotations;
+
+	/**
+	 * The scale of the models.
+	 */
+	private Vector3F scale;
+
+	/**
+	 * The model-view-projection matrices on the heap.
+	 */
+	private Matrix4F[] products;
+
+	/**
+	 * The model-view-projection matrices off the heap.
+	 */
+	private Matrix4FBuffer buffer;
+
+	/**
+	 * Sets up the matrices.
+	 */
+	@Setup
+	public void setup( )
+	{
+		viewProjection = new Matrix4F( )
+				.recreateIntoPerspective( 1920, 1080, 70.0F, 0.1F, 1000.0F )
+				.multiply( new Matrix4F( ).recreateIntoView(
+						new Vector3F( 1.0F, 2.0F, 3.0F ),
+						new Vector3F( 10.0F, 20.0F, 0.0F ) ) );
+		viewProjectionArray = new float[ 16 ];
+		models = new Matrix4F[ size ];
+		translations = new Vector3F[ size ];
+		rotations = new Vector3F[ size ];
+		scale = new Vector3F( 1.0F, 1.0F, 1.0F );
+		products = new Matrix4F[ size ];
+		buffer = new Matrix4FBuffer( size );
+
+		viewProjection.store( viewProjectionArray, 0 );
+
+		for( int i = 0; i < size; i++ )
+		{
+			translations[ i ] = new Vector3F( i, i, i );
+			rotations[ i ] = new Vector3F( i, 0.0F, 0.0F );
+			models[ i ] = new Matrix4F( ).recreateIntoTransformation(
+					translations[ i ], rotations[ i ], scale );
+			products[ i ] = new Matrix4F( );
+		}
+	}
+
+	@Benchmark
+	public Matrix4FBuffer multiplyThenCopy( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			buffer.set( i, products[ i ].set( viewProjectionArray, 0 )
+					.multiply( models[ i ] ) );
+		}
+
+		return buffer;
+	}
+
+	@Benchmark
+	public Matrix4FBuffer multiplyInPlace( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			buffer.multiply( i, viewProjection, models[ i ] );
+		}
+
+		return buffer;
+	}
+
+	@Benchmark
+	public Matrix4FBuffer recreateThenCopy( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			buffer.set( i, products[ i ].recreateIntoTransformation(
+					translations[ i ], rotations[ i ], scale ) );
+		}
+
+		return buffer;
+	}
+
+	@Benchmark
+	public Matrix4FBuffer recreateInPlace( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			buffer.recreateIntoTransformation( i, translations[ i ],
+					rotations[ i ], scale );
+		}
+
+		return buffer;
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Matrix4FKernel;
+import com.ruleyunruly.simpleworks.math.ScalarMatrix4FKernel;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+import com.ruleyunruly.simpleworks.math.VectorizedMatrix4FKernel;
+
+/**
+ * Benchmarks the scalar and SIMD {@link Matrix4FKernel} implementations
+ * against each other and against looping over {@link Matrix4F#multiply}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" } )
+@State( Scope.Thread )
+public class Matrix4FKernelBenchmark
+{
+	/**
+	 * The kernel to benchmark.
+	 */
+	@Param( { "scalar", "vectorized" } )
+	private String kernelName;
+
+	/**
+	 * The number of matrices or points.
+	 */
+	@Param( { "1000", "10000" } )
+	private int size;
+
+	/**
+	 * The kernel being benchmarked.
+	 */
+	private Matrix4FKernel kernel;
+
+	/**
+	 * The matrix to multiply and transform by.
+	 */
+	private Matrix4F matrix;
+
+	/**
+	 * The matrix to multiply, as an array.
+	 */
+	private float[] left;
+
+	/**
+	 * The matrices to multiply by, as objects.
+	 */
+	private Matrix4F[] rights;
+
+	/**
+	 * The matrices to multiply by, as an array.
+	 */
+	private float[] rightArray;
+
+	/**
+	 * The products, as objects.
+	 */
+	private Matrix4F[] results;
+
+	/**
+	 * The products, as an array.
+	 */
+	private float[] resultArray;
+
+	/**
+	 * The points to transform.
+	 */
+	private Vector3FArray points;
+
+	/**
+	 * The transformed points.
+	 */
+	private Vector3FArray transformedPoints;
+
+	/**
+	 * Sets up the operands.
+	 */
+	@Setup
+	public void setup( )
+	{
+		kernel = kernelName.equals( "scalar" ) ? new ScalarMatrix4FKernel( )
+				: new VectorizedMatrix4FKernel( );
+		matrix = new Matrix4F( ).recreateIntoTransformation(
+				new Vector3F( 1.0F, 2.0F, 3.0F ),
+				new Vector3F( 10.0F, 20.0F, 30.0F ),
+				new Vector3F( 1.0F, 1.0F, 1.0F ) );
+		left = new float[ 16 ];
+		rights = new Matrix4F[ size ];
+		rightArray = new float[ size * 16 ];
+		results = new Matrix4F[ size ];
+		resultArray = new float[ size * 16 ];
+		points = new Vector3FArray( size );
+		transformedPoints = new Vector3FArray( size );
+
+		matrix.store( left, 0 );
+
+		for( int i = 0; i < size; i++ )
+		{
+			rights[ i ] = new Matrix4F( ).recreateIntoTransformation(
+					new Vector3F( i, i, i ), new Vector3F( i, 0.0F, 0.0F ),
+					new Vector3F( 1.0F, 1.0F, 1.0F ) );
+			results[ i ] = new Matrix4F( );
+			rights[ i ].store( rightArray, i * 16 );
+			points.set( i, i, i + 1.0F, i + 2.0F );
+		}
+	}
+
+	@Benchmark
+	public Matrix4F[] multiplyObjects( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			results[ i ].set( left, 0 ).multiply( rights[ i ] );
+		}
+
+		return results;
+	}
+
+	@Benchmark
+	public float[] multiplyKernel( )
+	{
+		kernel.multiply( left, 0, rightArray, 0, resultArray, 0, size );
+
+		return resultArray;
+	}
+
+	@Benchmark
+	public Vector3FArray transformKernel( )
+	{
+		kernel.transform( matrix, points, transformedPoints, 0, size );
+
+		return transformedPoints;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.QuaternionF;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Benchmarks blending bone rotations with {@link QuaternionF} against
+ * rebuilding them as Euler {@link Matrix4F} rotations.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class QuaternionFBenchmark
+{
+	/**
+	 * The number of bones.
+	 */
+	@Param( { "100", "10000" } )
+	private int size;
+
+	/**
+	 * The rotations to blend from, as packed quaternions.
+	 */
+	private float[] sources;
+
+	/**
+	 * The rotations to blend towards, as packed quaternions.
+	 */
+	private float[] targets;
+
+	/**
+	 * The blended rotations, as packed quaternions.
+	 */
+	private float[] result;
+
+	/**
+	 * The rotations to blend from, as Euler angles.
+	 */
+	private Vector3F[] sourceAngles;
+
+	/**
+	 * The rotations to blend towards, as Euler angles.
+	 */
+	private Vector3F[] targetAngles;
+
+	/**
+	 * The blended Euler angles.
+	 */
+	private Vector3F angles;
+
+	/**
+	 * The blended rotation matrices.
+	 */
+	private Matrix4F[] matrices;
+
+	/**
+	 * Sets up the rotations.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 0 );
+		QuaternionF quaternion = new QuaternionF( );
+
+		sources = new float[ size * 4 ];
+		targets = new float[ size * 4 ];
+		result = new float[ size * 4 ];
+		sourceAngles = new Vector3F[ size ];
+		targetAngles = new Vector3F[ size ];
+		angles = new Vector3F( );
+		matrices = new Matrix4F[ size ];
+
+		for( int i = 0; i < size; i++ )
+		{
+			sourceAngles[ i ] = new Vector3F( random.nextFloat( ) * 360.0F,
+					random.nextFloat( ) * 360.0F, random.nextFloat( ) * 360.0F );
+			targetAngles[ i ] = new Vector3F( random.nextFloat( ) * 360.0F,
+					random.nextFloat( ) * 360.0F, random.nextFloat( ) * 360.0F );
+			matrices[ i ] = new Matrix4F( );
+
+			quaternion.recreateIntoRotation( sourceAngles[ i ] );
+			sources[ i * 4 ] = quaternion.x;
+			sources[ i * 4 + 1 ] = quaternion.y;
+			sources[ i * 4 + 2 ] = quaternion.z;
+			sources[ i * 4 + 3 ] = quaternion.w;
+			quaternion.recreateIntoRotation( targetAngles[ i ] );
+			targets[ i * 4 ] = quaternion.x;
+			targets[ i * 4 + 1 ] = quaternion.y;
+			targets[ i * 4 + 2 ] = quaternion.z;
+			targets[ i * 4 + 3 ] = quaternion.w;
+		}
+	}
+
+	@Benchmark
+	public float[] slerp( )
+	{
+		return QuaternionF.slerp( sources, targets, result, 0.5F, 0, size );
+	}
+
+	@Benchmark
+	public float[] nlerp( )
+	{
+		return QuaternionF.nlerp( sources, targets, result, 0.5F, 0, size );
+	}
+
+	@Benchmark
+	public Matrix4F[] eulerMatrices( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			angles.x = ( sourceAngles[ i ].x + targetAngles[ i ].x ) * 0.5F;
+			angles.y = ( sourceAngles[ i ].y + targetAngles[ i ].y ) * 0.5F;
+			angles.z = ( sourceAngles[ i ].z + targetAngles[ i ].z ) * 0.5F;
+			matrices[ i ].recreateIntoRotation( angles );
+		}
+
+		return matrices;
+	}
+}
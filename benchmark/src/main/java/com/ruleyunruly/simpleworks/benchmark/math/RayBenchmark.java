@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Ray;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Benchmarks finding the nearest triangle a {@link Ray} crosses, with
+ * {@link Vector3F} arithmetic that allocates, with the single triangle test,
+ * and with the batch test over structures of arrays.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class RayBenchmark
+{
+	/**
+	 * The number of triangles.
+	 */
+	@Param( { "100000" } )
+	private int size;
+
+	/**
+	 * The ray.
+	 */
+	private Ray ray;
+
+	/**
+	 * The corners of the triangles, as objects.
+	 */
+	private Vector3F[] cornerObjects;
+
+	/**
+	 * The 1st corners of the triangles.
+	 */
+	private Vector3FArray a;
+
+	/**
+	 * The 2nd corners of the triangles.
+	 */
+	private Vector3FArray b;
+
+	/**
+	 * The 3rd corners of the triangles.
+	 */
+	private Vector3FArray c;
+
+	/**
+	 * Sets up a mesh of small triangles scattered through a cube.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+
+		ray = new Ray( new Vector3F( -20.0F, 0.0F, 0.0F ),
+				new Vector3F( 1.0F, 0.01F, 0.02F ).setNormalized( ) );
+		cornerObjects = new Vector3F[ size * 3 ];
+		a = new Vector3FArray( size );
+		b = new Vector3FArray( size );
+		c = new Vector3FArray( size );
+
+		for( int i = 0; i < size; i++ )
+		{
+			float x = random.nextFloat( ) * 40.0F - 20.0F;
+			float y = random.nextFloat( ) * 40.0F - 20.0F;
+			float z = random.nextFloat( ) * 40.0F - 20.0F;
+
+			a.set( i, x, y, z );
+			b.set( i, x + random.nextFloat( ), y + random.nextFloat( ), z );
+			c.set( i, x, y + random.nextFloat( ), z + random.nextFloat( ) );
+			cornerObjects[ i * 3 ] = a.get( i, new Vector3F( ) );
+			cornerObjects[ i * 3 + 1 ] = b.get( i, new Vector3F( ) );
+			cornerObjects[ i * 3 + 2 ] = c.get( i, new Vector3F( ) );
+		}
+	}
+
+	@Benchmark
+	public int nearestAllocating( )
+	{
+		float nearest = Float.MAX_VALUE;
+		int nearestIndex = -1;
+
+		for( int i = 0; i < size; i++ )
+		{
+			Vector3F corner = cornerObjects[ i * 3 ];
+			Vector3F edge1 = new Vector3F( cornerObjects[ i * 3 + 1 ] )
+					.subtract( corner );
+			Vector3F edge2 = new Vector3F( cornerObjects[ i * 3 + 2 ] )
+					.subtract( corner );
+			Vector3F p = ray.direction.getCrossProduct( edge2 );
+			float determinant = edge1.getDotProduct( p );
+
+			if( Math.abs( determinant ) < 1.0E-7F )
+			{
+				continue;
+			}
+
+			Vector3F t = new Vector3F( ray.origin ).subtract( corner );
+			float u = t.getDotProduct( p ) / determinant;
+			Vector3F q = t.getCrossProduct( edge1 );
+			float v = ray.direction.getDotProduct( q ) / determinant;
+			float distance = edge2.getDotProduct( q ) / determinant;
+
+			if( u >= 0.0F && v >= 0.0F && u + v <= 1.0F && distance >= 0.0F
+					&& distance < nearest )
+			{
+				nearest = distance;
+				nearestIndex = i;
+			}
+		}
+
+		return nearestIndex;
+	}
+
+	@Benchmark
+	public int nearestSingle( )
+	{
+		float nearest = Float.MAX_VALUE;
+		int nearestIndex = -1;
+
+		for( int i = 0; i < size; i++ )
+		{
+			float distance = ray.intersectTriangle( a, b, c, i );
+
+			if( distance >= 0.0F && distance < nearest )
+			{
+				nearest = distance;
+				nearestIndex = i;
+			}
+		}
+
+		return nearestIndex;
+	}
+
+	@Benchmark
+	public int nearestBatch( )
+	{
+		return ray.getNearestTriangle( a, b, c, 0, size, Float.MAX_VALUE );
+	}
+}
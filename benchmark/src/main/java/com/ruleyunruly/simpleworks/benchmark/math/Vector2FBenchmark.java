@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Vector2F;
+
+/**
+ * Benchmarks the operations of {@link Vector2F}.
+ * <p>
+ * The operands are chosen so that applying an operation in place over and
+ * over keeps the vector finite and out of the denormal range.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class Vector2FBenchmark
+{
+	/**
+	 * The vector being operated on.
+	 */
+	private Vector2F vector;
+
+	/**
+	 * The vector to add or subtract.
+	 */
+	private Vector2F zero;
+
+	/**
+	 * The vector to multiply or divide by.
+	 */
+	private Vector2F one;
+
+	/**
+	 * The float to operate by.
+	 */
+	private float value;
+
+	/**
+	 * The float buffer to store in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up the operands.
+	 */
+	@Setup
+	public void setup( )
+	{
+		vector = new Vector2F( 0.6F, 0.8F );
+		zero = new Vector2F( );
+		one = new Vector2F( 1.0F, 1.0F );
+		value = 1.0F;
+		floatBuffer = ByteBuffer.allocateDirect( 2 * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+	}
+
+	@Benchmark
+	public float getLength( )
+	{
+		return vector.getLength( );
+	}
+
+	@Benchmark
+	public float getLengthSquared( )
+	{
+		return vector.getLengthSquared( );
+	}
+
+	@Benchmark
+	public float getDotProduct( )
+	{
+		return vector.getDotProduct( one );
+	}
+
+	@Benchmark
+	public Vector2F setZero( )
+	{
+		return vector.setZero( );
+	}
+
+	@Benchmark
+	public Vector2F setNegated( )
+	{
+		return vector.setNegated( );
+	}
+
+	@Benchmark
+	public Vector2F setNormalized( )
+	{
+		return vector.setNormalized( );
+	}
+
+	@Benchmark
+	public Vector2F addFloat( )
+	{
+		return vector.add( value );
+	}
+
+	@Benchmark
+	public Vector2F addVector( )
+	{
+		return vector.add( zero );
+	}
+
+	@Benchmark
+	public Vector2F subtractFloat( )
+	{
+		return vector.subtract( value );
+	}
+
+	@Benchmark
+	public Vector2F subtractVector( )
+	{
+		return vector.subtract( zero );
+	}
+
+	@Benchmark
+	public Vector2F multiplyFloat( )
+	{
+		return vector.multiply( value );
+	}
+
+	@Benchmark
+	public Vector2F multiplyVector( )
+	{
+		return vector.multiply( one );
+	}
+
+	@Benchmark
+	public Vector2F divideFloat( )
+	{
+		return vector.divide( value );
+	}
+
+	@Benchmark
+	public Vector2F divideVector( )
+	{
+		return vector.divide( one );
+	}
+
+	@Benchmark
+	public Vector2F store( )
+	{
+		floatBuffer.clear( );
+
+		return vector.store( floatBuffer );
+	}
+}
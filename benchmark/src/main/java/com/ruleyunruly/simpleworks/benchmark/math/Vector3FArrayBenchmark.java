@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Benchmarks bulk operations on a {@link Vector3FArray} against the same
+ * loops over an array of {@link Vector3F} objects.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class Vector3FArrayBenchmark
+{
+	/**
+	 * The number of vectors.
+	 */
+	@Param( { "1000", "10000", "100000" } )
+	private int size;
+
+	/**
+	 * The positions as objects.
+	 */
+	private Vector3F[] positions;
+
+	/**
+	 * The velocities as objects.
+	 */
+	private Vector3F[] velocities;
+
+	/**
+	 * The positions as lanes.
+	 */
+	private Vector3FArray positionArray;
+
+	/**
+	 * The velocities as lanes.
+	 */
+	private Vector3FArray velocityArray;
+
+	/**
+	 * The dot products.
+	 */
+	private float[] dotProducts;
+
+	/**
+	 * Sets up the vectors.
+	 */
+	@Setup
+	public void setup( )
+	{
+		positions = new Vector3F[ size ];
+		velocities = new Vector3F[ size ];
+		positionArray = new Vector3FArray( size );
+		velocityArray = new Vector3FArray( size );
+		dotProducts = new float[ size ];
+
+		for( int i = 0; i < size; i++ )
+		{
+			positions[ i ] = new Vector3F( i, i + 1.0F, i + 2.0F );
+			velocities[ i ] = new Vector3F( 0.0F, 0.6F, 0.8F );
+			positionArray.set( i, positions[ i ] );
+			velocityArray.set( i, velocities[ i ] );
+		}
+	}
+
+	@Benchmark
+	public Vector3F[] addObjects( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			positions[ i ].add( velocities[ i ] );
+		}
+
+		return positions;
+	}
+
+	@Benchmark
+	public Vector3FArray addArray( )
+	{
+		return positionArray.add( velocityArray, 0, size );
+	}
+
+	@Benchmark
+	public Vector3F[] setNormalizedObjects( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			velocities[ i ].setNormalized( );
+		}
+
+		return velocities;
+	}
+
+	@Benchmark
+	public Vector3FArray setNormalizedArray( )
+	{
+		return velocityArray.setNormalized( 0, size );
+	}
+
+	@Benchmark
+	public float[] getDotProductObjects( )
+	{
+		for( int i = 0; i < size; i++ )
+		{
+			dotProducts[ i ] = positions[ i ].getDotProduct( velocities[ i ] );
+		}
+
+		return dotProducts;
+	}
+
+	@Benchmark
+	public float[] getDotProductArray( )
+	{
+		return positionArray.getDotProduct( velocityArray, dotProducts, 0,
+				size );
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.particle;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.particle.ConstantForce;
+import com.ruleyunruly.simpleworks.particle.DragForce;
+import com.ruleyunruly.simpleworks.particle.ParticleBuffer;
+import com.ruleyunruly.simpleworks.particle.ParticleEmitter;
+import com.ruleyunruly.simpleworks.particle.ParticleSystem;
+
+/**
+ * Benchmarks one 60 Hz step of a full particle system, including storing the
+ * particles for rendering, with a particle object each, with
+ * {@link ParticleSystem} on one thread, and across a {@link JobSystem}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class ParticleSystemBenchmark
+{
+	/**
+	 * The time step of one update.
+	 */
+	private static final float DELTA_TIME = 1.0F / 60.0F;
+
+	/**
+	 * The average lifetime of a particle, in seconds.
+	 */
+	private static final float LIFETIME = 2.0F;
+
+	/**
+	 * The maximum number of particles.
+	 */
+	@Param( { "100000", "1000000" } )
+	private int size;
+
+	/**
+	 * The job system for the parallel updates.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * The particle system.
+	 */
+	private ParticleSystem particleSystem;
+
+	/**
+	 * The gravity.
+	 */
+	private Vector3F gravity;
+
+	/**
+	 * The particles, as objects.
+	 */
+	private List<ParticleObject> particles;
+
+	/**
+	 * The fraction of a particle object owed from previous steps.
+	 */
+	private float pending;
+
+	/**
+	 * Used for varying the particle objects.
+	 */
+	private Random random;
+
+	/**
+	 * The float buffer to store the particles in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Sets up both systems full of particles of every age, with an emitter
+	 * replacing them as fast as they expire.
+	 */
+	@Setup
+	public void setup( )
+	{
+		ParticleEmitter emitter = new ParticleEmitter( size / LIFETIME,
+				LIFETIME / 2.0F, LIFETIME * 1.5F, new Random( 1 ) );
+
+		jobSystem = new JobSystem( );
+		particleSystem = new ParticleSystem( size );
+		gravity = new Vector3F( 0.0F, -9.8F, 0.0F );
+		particles = new ArrayList<>( size );
+		random = new Random( 1 );
+		floatBuffer = ByteBuffer
+				.allocateDirect( size * ParticleBuffer.STRIDE * Float.BYTES )
+				.order( ByteOrder.nativeOrder( ) ).asFloatBuffer( );
+		emitter.velocity.set( 0.0F, 10.0F, 0.0F );
+		emitter.velocitySpread = 2.0F;
+
+		particleSystem.addEmitter( emitter ).addForce( new ConstantForce(
+				gravity ) ).addForce( new DragForce( 0.5F ) );
+
+		for( int i = 0; i < size; i++ )
+		{
+			float lifetime = LIFETIME / 2.0F + random.nextFloat( ) * LIFETIME;
+			float age = random.nextFloat( ) * lifetime;
+			int index = particleSystem.particles.add( 0.0F, 0.0F, 0.0F, 0.0F,
+					10.0F, 0.0F, lifetime, 1.0F );
+
+			particleSystem.particles.ages[ index ] = age;
+			particles.add( new ParticleObject( new Vector3F( ),
+					new Vector3F( 0.0F, 10.0F, 0.0F ), lifetime ) );
+			particles.get( i ).age = age;
+		}
+	}
+
+	/**
+	 * Stops the job system.
+	 */
+	@TearDown
+	public void tearDown( )
+	{
+		jobSystem.shutdown( );
+	}
+
+	@Benchmark
+	public FloatBuffer objects( )
+	{
+		float drag = Math.max( 1.0F - 0.5F * DELTA_TIME, 0.0F );
+		int i = 0;
+
+		pending += size / LIFETIME * DELTA_TIME;
+
+		for( ; pending >= 1.0F && particles.size( ) < size; pending -= 1.0F )
+		{
+			particles.add( new ParticleObject( new Vector3F( ), new Vector3F(
+					( random.nextFloat( ) * 2.0F - 1.0F ) * 2.0F,
+					10.0F + ( random.nextFloat( ) * 2.0F - 1.0F ) * 2.0F,
+					( random.nextFloat( ) * 2.0F - 1.0F ) * 2.0F ),
+					LIFETIME / 2.0F + random.nextFloat( ) * LIFETIME ) );
+		}
+
+		pending -= ( int ) pending;
+
+		for( ParticleObject particle : particles )
+		{
+			particle.velocity.add( new Vector3F( gravity ).multiply(
+					DELTA_TIME ) ).multiply( drag );
+			particle.position.add( new Vector3F( particle.velocity ).multiply(
+					DELTA_TIME ) );
+			particle.age += DELTA_TIME;
+		}
+
+		while( i < particles.size( ) )
+		{
+			if( particles.get( i ).age >= particles.get( i ).lifetime )
+			{
+				particles.set( i, particles.get( particles.size( ) - 1 ) );
+				particles.remove( particles.size( ) - 1 );
+			}
+			else
+			{
+				i++ ;
+			}
+		}
+
+		for( int j = 0; j < particles.size( ); j++ )
+		{
+			ParticleObject particle = particles.get( j );
+
+			particle.position.storeAt( floatBuffer, j * ParticleBuffer.STRIDE );
+			floatBuffer.put( j * ParticleBuffer.STRIDE + 3, particle.size );
+			floatBuffer.put( j * ParticleBuffer.STRIDE + 4,
+					particle.age / particle.lifetime );
+		}
+
+		return floatBuffer;
+	}
+
+	@Benchmark
+	public FloatBuffer single( )
+	{
+		particleSystem.update( DELTA_TIME );
+
+		return particleSystem.storeAt( floatBuffer, 0 );
+	}
+
+	@Benchmark
+	public FloatBuffer parallel( )
+	{
+		particleSystem.update( DELTA_TIME, jobSystem );
+
+		return particleSystem.storeAt( floatBuffer, 0, jobSystem );
+	}
+
+	/**
+	 * Holds a particle that owns its own vectors.
+	 */
+	public static class ParticleObject
+	{
+		/**
+		 * The position.
+		 */
+		private final Vector3F position;
+
+		/**
+		 * The velocity, in units per second.
+		 */
+		private final Vector3F velocity;
+
+		/**
+		 * The number of seconds lived.
+		 */
+		private float age;
+
+		/**
+		 * The number of seconds to live.
+		 */
+		private final float lifetime;
+
+		/**
+		 * The size.
+		 */
+		private final float size;
+
+		/**
+		 * Initializes this particle.
+		 * 
+		 * @param position The position.
+		 * @param velocity The velocity, in units per second.
+		 * @param lifetime The number of seconds to live.
+		 */
+		public ParticleObject( Vector3F position, Vector3F velocity,
+				float lifetime )
+		{
+			this.position = position;
+			this.velocity = velocity;
+			this.lifetime = lifetime;
+
+			size = 1.0F;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.scene;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.scene.SceneGraph;
+import com.ruleyunruly.simpleworks.scene.Transform;
+
+/**
+ * Benchmarks propagating a moved root through a hierarchy, with linked
+ * {@link Transform} objects and with a {@link SceneGraph} on one thread and
+ * across a {@link JobSystem}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" } )
+@State( Scope.Thread )
+public class SceneGraphBenchmark
+{
+	/**
+	 * The number of nodes.
+	 */
+	@Param( { "100000" } )
+	private int size;
+
+	/**
+	 * The job system for the parallel update.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * The scene graph.
+	 */
+	private SceneGraph sceneGraph;
+
+	/**
+	 * The handle of the root node.
+	 */
+	private int root;
+
+	/**
+	 * The transforms, in creation order.
+	 */
+	private Transform[] transforms;
+
+	/**
+	 * The local matrix of the root.
+	 */
+	private Matrix4F rootMatrix;
+
+	/**
+	 * The translation the root moves by.
+	 */
+	private Vector3F step;
+
+	/**
+	 * Sets up a random hierarchy under one root.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+		int[] handles = new int[ size ];
+		Matrix4F matrix = new Matrix4F( );
+
+		jobSystem = new JobSystem( );
+		sceneGraph = new SceneGraph( size );
+		transforms = new Transform[ size ];
+		rootMatrix = new Matrix4F( ).setIdentity( );
+		step = new Vector3F( 0.01F, 0.0F, 0.0F );
+
+		for( int i = 0; i < size; i++ )
+		{
+			int parent = i == 0 ? -1 : random.nextInt( i );
+
+			matrix.setIdentity( ).translate( random.nextFloat( ), 0.0F, 0.0F )
+					.rotateY( random.nextFloat( ) * 360.0F );
+
+			handles[ i ] = sceneGraph.addNode( parent < 0 ? -1
+					: handles[ parent ] );
+			transforms[ i ] = new Transform( ).setParent( parent < 0 ? null
+					: transforms[ parent ] ).setTranslation(
+							matrix.element30, 0.0F, 0.0F );
+
+			sceneGraph.setLocalMatrix( handles[ i ], matrix );
+		}
+
+		root = handles[ 0 ];
+
+		sceneGraph.update( );
+	}
+
+	/**
+	 * Stops the job system.
+	 */
+	@TearDown
+	public void tearDown( )
+	{
+		jobSystem.shutdown( );
+	}
+
+	@Benchmark
+	public Matrix4F transforms( )
+	{
+		Matrix4F worldMatrix = null;
+
+		transforms[ 0 ].translate( step );
+
+		for( int i = 0; i < size; i++ )
+		{
+			worldMatrix = transforms[ i ].getWorldMatrix( );
+		}
+
+		return worldMatrix;
+	}
+
+	@Benchmark
+	public float[] sceneGraph( )
+	{
+		sceneGraph.setLocalMatrix( root, rootMatrix.translate( step ) );
+		sceneGraph.update( );
+
+		return sceneGraph.getWorldMatrices( );
+	}
+
+	@Benchmark
+	public float[] sceneGraphParallel( )
+	{
+		sceneGraph.setLocalMatrix( root, rootMatrix.translate( step ) );
+		sceneGraph.update( jobSystem );
+
+		return sceneGraph.getWorldMatrices( );
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.scene;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.scene.Transform;
+
+/**
+ * Benchmarks a frame of world matrices for a mostly static scene, rebuilt from
+ * scratch against cached by {@link Transform}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class TransformBenchmark
+{
+	/**
+	 * The number of objects, each the child of one root.
+	 */
+	@Param( { "10000" } )
+	private int size;
+
+	/**
+	 * The percentage of objects moving every frame.
+	 */
+	@Param( { "5", "100" } )
+	private int movingPercentage;
+
+	/**
+	 * The root transform.
+	 */
+	private Transform root;
+
+	/**
+	 * The object transforms.
+	 */
+	private Transform[] transforms;
+
+	/**
+	 * The object translations, rotations, and scales, for rebuilding.
+	 */
+	private Vector3F[] translations;
+
+	/**
+	 * The object rotations, for rebuilding.
+	 */
+	private Vector3F[] rotations;
+
+	/**
+	 * The object scales, for rebuilding.
+	 */
+	private Vector3F[] scales;
+
+	/**
+	 * The rebuilt local matrices.
+	 */
+	private Matrix4F[] localMatrices;
+
+	/**
+	 * The rebuilt world matrices.
+	 */
+	private Matrix4F[] worldMatrices;
+
+	/**
+	 * The rebuilt root matrix.
+	 */
+	private Matrix4F rootMatrix;
+
+	/**
+	 * The translation the moving objects move by.
+	 */
+	private Vector3F step;
+
+	/**
+	 * Sets up the scene.
+	 */
+	@Setup
+	public void setup( )
+	{
+		root = new Transform( ).setTranslation( 1.0F, 2.0F, 3.0F );
+		transforms = new Transform[ size ];
+		translations = new Vector3F[ size ];
+		rotations = new Vector3F[ size ];
+		scales = new Vector3F[ size ];
+		localMatrices = new Matrix4F[ size ];
+		worldMatrices = new Matrix4F[ size ];
+		rootMatrix = new Matrix4F( );
+		step = new Vector3F( 0.01F, 0.0F, 0.0F );
+
+		for( int i = 0; i < size; i++ )
+		{
+			transforms[ i ] = new Transform( ).setParent( root )
+					.setTranslation( i, 0.0F, 0.0F )
+					.setRotation( 0.0F, i, 0.0F );
+			translations[ i ] = new Vector3F( i, 0.0F, 0.0F );
+			rotations[ i ] = new Vector3F( 0.0F, i, 0.0F );
+			scales[ i ] = new Vector3F( 1.0F, 1.0F, 1.0F );
+			localMatrices[ i ] = new Matrix4F( );
+			worldMatrices[ i ] = new Matrix4F( );
+		}
+	}
+
+	@Benchmark
+	public Matrix4F[] rebuildAll( )
+	{
+		int movingCount = size * movingPercentage / 100;
+
+		for( int i = 0; i < movingCount; i++ )
+		{
+			translations[ i ].add( step );
+		}
+
+		rootMatrix.recreateIntoTransformation( root.getTranslation( ),
+				root.getRotation( ), root.getScale( ) );
+
+		for( int i = 0; i < size; i++ )
+		{
+			localMatrices[ i ].recreateIntoTransformation( translations[ i ],
+					rotations[ i ], scales[ i ] );
+			worldMatrices[ i ].set( rootMatrix ).multiply( localMatrices[ i ] );
+		}
+
+		return worldMatrices;
+	}
+
+	@Benchmark
+	public Matrix4F cached( )
+	{
+		int movingCount = size * movingPercentage / 100;
+		Matrix4F worldMatrix = null;
+
+		for( int i = 0; i < movingCount; i++ )
+		{
+			transforms[ i ].translate( step );
+		}
+
+		for( int i = 0; i < size; i++ )
+		{
+			worldMatrix = transforms[ i ].getWorldMatrix( );
+		}
+
+		return worldMatrix;
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.spatial;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.AABB;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.spatial.DynamicBVH;
+import com.ruleyunruly.simpleworks.spatial.PairCallback;
+import com.ruleyunruly.simpleworks.spatial.ProxyCallback;
+
+/**
+ * Benchmarks box queries and moving boxes in a {@link DynamicBVH} against
+ * testing every box.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class DynamicBVHBenchmark
+{
+	/**
+	 * The number of boxes.
+	 */
+	@Param( { "10000" } )
+	private int size;
+
+	/**
+	 * The tree.
+	 */
+	private DynamicBVH tree;
+
+	/**
+	 * The boxes.
+	 */
+	private AABB[] boxes;
+
+	/**
+	 * The proxies of the boxes.
+	 */
+	private int[] proxies;
+
+	/**
+	 * The boxes to query with.
+	 */
+	private AABB[] queries;
+
+	/**
+	 * The distances the boxes move each step.
+	 */
+	private Vector3F[] velocities;
+
+	/**
+	 * Counts the proxies found.
+	 */
+	private ProxyCallback proxyCounter;
+
+	/**
+	 * Counts the pairs found.
+	 */
+	private PairCallback pairCounter;
+
+	/**
+	 * The number of proxies or pairs found.
+	 */
+	private int found;
+
+	/**
+	 * Sets up boxes scattered through a cube.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+
+		tree = new DynamicBVH( );
+		boxes = new AABB[ size ];
+		proxies = new int[ size ];
+		queries = new AABB[ 256 ];
+		velocities = new Vector3F[ size ];
+		proxyCounter = proxy ->
+		{
+			found++ ;
+
+			return true;
+		};
+		pairCounter = ( proxyA, proxyB ) -> found++ ;
+
+		for( int i = 0; i < size; i++ )
+		{
+			boxes[ i ] = createBox( random, 1.0F );
+			proxies[ i ] = tree.insert( boxes[ i ], i );
+			velocities[ i ] = new Vector3F( random.nextFloat( ) - 0.5F,
+					random.nextFloat( ) - 0.5F, random.nextFloat( ) - 0.5F )
+							.multiply( 0.05F );
+		}
+
+		for( int i = 0; i < queries.length; i++ )
+		{
+			queries[ i ] = createBox( random, 5.0F );
+		}
+
+		tree.updatePairs( pairCounter );
+	}
+
+	@Benchmark
+	public int queryLinear( )
+	{
+		found = 0;
+
+		for( AABB query : queries )
+		{
+			for( int i = 0; i < size; i++ )
+			{
+				if( boxes[ i ].intersects( query ) )
+				{
+					found++ ;
+				}
+			}
+		}
+
+		return found;
+	}
+
+	@Benchmark
+	public int queryTree( )
+	{
+		found = 0;
+
+		for( AABB query : queries )
+		{
+			tree.queryBox( query, proxyCounter );
+		}
+
+		return found;
+	}
+
+	@Benchmark
+	public int moveAndUpdatePairs( )
+	{
+		found = 0;
+
+		for( int i = 0; i < size; i++ )
+		{
+			boxes[ i ].translate( velocities[ i ] );
+			tree.move( proxies[ i ], boxes[ i ], velocities[ i ] );
+		}
+
+		tree.updatePairs( pairCounter );
+
+		return found;
+	}
+
+	/**
+	 * @param random The random number generator.
+	 * @param size The largest half size of the box.
+	 * @return A box somewhere in the cube.
+	 */
+	private static AABB createBox( Random random, float size )
+	{
+		return new AABB( ).setCentered( new Vector3F(
+				random.nextFloat( ) * 200.0F - 100.0F,
+				random.nextFloat( ) * 200.0F - 100.0F,
+				random.nextFloat( ) * 200.0F - 100.0F ), new Vector3F(
+						random.nextFloat( ) * size, random.nextFloat( ) * size,
+						random.nextFloat( ) * size ) );
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.spatial;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.math.Frustum;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+import com.ruleyunruly.simpleworks.spatial.FrustumCuller;
+
+/**
+ * Benchmarks culling spheres and boxes one object at a time, in batches with
+ * {@link Frustum}, and across a {@link JobSystem} with {@link FrustumCuller}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" } )
+@State( Scope.Thread )
+public class FrustumCullerBenchmark
+{
+	/**
+	 * The number of shapes.
+	 */
+	@Param( { "100000" } )
+	private int size;
+
+	/**
+	 * The job system for the parallel culls.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * The parallel culler.
+	 */
+	private FrustumCuller culler;
+
+	/**
+	 * The frustum to cull against.
+	 */
+	private Frustum frustum;
+
+	/**
+	 * The centers of the shapes, as objects.
+	 */
+	private Vector3F[] centerObjects;
+
+	/**
+	 * The centers of the shapes, as arrays.
+	 */
+	private Vector3FArray centers;
+
+	/**
+	 * The radii of the spheres.
+	 */
+	private float[] radii;
+
+	/**
+	 * The half sizes of the boxes.
+	 */
+	private Vector3FArray extents;
+
+	/**
+	 * The indices of the visible shapes.
+	 */
+	private int[] visibleIndices;
+
+	/**
+	 * Sets up a camera and shapes scattered around it.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+		Matrix4F viewProjection = new Matrix4F( ).recreateIntoPerspective( 1280,
+				720, 60.0F, 0.1F, 500.0F ).multiply( new Matrix4F( )
+						.recreateIntoView( new Vector3F( ), new Vector3F( ) ) );
+
+		jobSystem = new JobSystem( );
+		culler = new FrustumCuller( jobSystem );
+		frustum = new Frustum( viewProjection );
+		centerObjects = new Vector3F[ size ];
+		centers = new Vector3FArray( size );
+		radii = new float[ size ];
+		extents = new Vector3FArray( size );
+		visibleIndices = new int[ size ];
+
+		for( int i = 0; i < size; i++ )
+		{
+			float x = random.nextFloat( ) * 1000.0F - 500.0F;
+			float y = random.nextFloat( ) * 1000.0F - 500.0F;
+			float z = random.nextFloat( ) * 1000.0F - 500.0F;
+
+			centerObjects[ i ] = new Vector3F( x, y, z );
+			centers.set( i, x, y, z );
+			radii[ i ] = random.nextFloat( ) * 4.0F;
+			extents.set( i, radii[ i ], radii[ i ], radii[ i ] );
+		}
+	}
+
+	/**
+	 * Stops the job system.
+	 */
+	@TearDown
+	public void tearDown( )
+	{
+		jobSystem.shutdown( );
+	}
+
+	@Benchmark
+	public int spheresSingle( )
+	{
+		int count = 0;
+
+		for( int i = 0; i < size; i++ )
+		{
+			if( frustum.isSphereVisible( centerObjects[ i ], radii[ i ] ) )
+			{
+				visibleIndices[ count++ ] = i;
+			}
+		}
+
+		return count;
+	}
+
+	@Benchmark
+	public int spheresBatch( )
+	{
+		return frustum.cullSpheres( centers, radii, 0, size, visibleIndices,
+				0 );
+	}
+
+	@Benchmark
+	public int spheresParallel( )
+	{
+		return culler.cullSpheres( frustum, centers, radii, 0, size,
+				visibleIndices, 0 );
+	}
+
+	@Benchmark
+	public int boxesBatch( )
+	{
+		return frustum.cullBoxes( centers, extents, 0, size, visibleIndices,
+				0 );
+	}
+
+	@Benchmark
+	public int boxesParallel( )
+	{
+		return culler.cullBoxes( frustum, centers, extents, 0, size,
+				visibleIndices, 0 );
+	}
+}
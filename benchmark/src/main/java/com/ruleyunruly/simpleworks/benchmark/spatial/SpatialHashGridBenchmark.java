@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.benchmark.spatial;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+import com.ruleyunruly.simpleworks.spatial.SpatialHashGrid;
+
+/**
+ * Benchmarks rebuilding a {@link SpatialHashGrid} and finding the neighbors
+ * of every point with it, against testing every pair of points.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class SpatialHashGridBenchmark
+{
+	/**
+	 * The radius neighbors are found within.
+	 */
+	private static final float RADIUS = 2.0F;
+
+	/**
+	 * The number of points.
+	 */
+	@Param( { "10000" } )
+	private int size;
+
+	/**
+	 * The grid.
+	 */
+	private SpatialHashGrid grid;
+
+	/**
+	 * The positions of the points.
+	 */
+	private Vector3FArray positions;
+
+	/**
+	 * The indices of the neighbors found.
+	 */
+	private int[] neighbors;
+
+	/**
+	 * Sets up points scattered through a cube.
+	 */
+	@Setup
+	public void setup( )
+	{
+		Random random = new Random( 1 );
+
+		grid = new SpatialHashGrid( RADIUS, size );
+		positions = new Vector3FArray( size );
+		neighbors = new int[ 256 ];
+
+		for( int i = 0; i < size; i++ )
+		{
+			positions.set( i, random.nextFloat( ) * 50.0F,
+					random.nextFloat( ) * 50.0F, random.nextFloat( ) * 50.0F );
+		}
+	}
+
+	@Benchmark
+	public int rebuild( )
+	{
+		return grid.rebuild( positions, size ).getCellCount( );
+	}
+
+	@Benchmark
+	public int neighborsGrid( )
+	{
+		int found = 0;
+
+		grid.rebuild( positions, size );
+
+		for( int i = 0; i < size; i++ )
+		{
+			found += grid.queryNeighbors( i, RADIUS, neighbors, 0 );
+		}
+
+		return found;
+	}
+
+	@Benchmark
+	public int neighborsLinear( )
+	{
+		float radiusSquared = RADIUS * RADIUS;
+		int found = 0;
+
+		for( int i = 0; i < size; i++ )
+		{
+			int count = 0;
+
+			for( int j = 0; j < size; j++ )
+			{
+				float dx = positions.x[ j ] - positions.x[ i ];
+				float dy = positions.y[ j ] - positions.y[ i ];
+				float dz = positions.z[ j ] - positions.z[ i ];
+
+				if( j != i && dx * dx + dy * dy + dz * dz <= radiusSquared
+						&& count < neighbors.length )
+				{
+					neighbors[ count++ ] = j;
+				}
+			}
+
+			found += count;
+		}
+
+		return found;
+	}
+}
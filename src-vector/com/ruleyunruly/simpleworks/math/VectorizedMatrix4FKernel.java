@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implements bulk 4x4 matrix operations with the SIMD instructions exposed by
+ * the {@code jdk.incubator.vector} module.
+ * <p>
+ * Matrix products keep one column per 4-lane vector, and point transforms
+ * process as many points per instruction as the preferred vector width allows.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class VectorizedMatrix4FKernel extends Matrix4FKernel
+{
+	/**
+	 * The species holding one matrix column.
+	 */
+	private static final VectorSpecies<Float> COLUMN = FloatVector.SPECIES_128;
+
+	/**
+	 * The widest species supported by the hardware.
+	 */
+	private static final VectorSpecies<Float> PREFERRED = FloatVector.SPECIES_PREFERRED;
+
+	/**
+	 * Initializes this kernel.
+	 * 
+	 * @throws UnsupportedOperationException If the hardware cannot hold a
+	 *         matrix column in one vector.
+	 */
+	public VectorizedMatrix4FKernel( )
+	{
+		if( PREFERRED.vectorBitSize( ) < COLUMN.vectorBitSize( ) )
+		{
+			throw new UnsupportedOperationException(
+					"SIMD vectors are narrower than a matrix column" );
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void multiply( float[] left, int leftOffset, float[] right,
+			int rightOffset, float[] result, int resultOffset )
+	{
+		FloatVector column0 = FloatVector.fromArray( COLUMN, left, leftOffset );
+		FloatVector column1 = FloatVector.fromArray( COLUMN, left,
+				leftOffset + 4 );
+		FloatVector column2 = FloatVector.fromArray( COLUMN, left,
+				leftOffset + 8 );
+		FloatVector column3 = FloatVector.fromArray( COLUMN, left,
+				leftOffset + 12 );
+
+		multiplyColumns( column0, column1, column2, column3, right,
+				rightOffset, result, resultOffset );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void multiply( float[] left, int leftOffset, float[] rights,
+			int rightsOffset, float[] results, int resultsOffset, int count )
+	{
+		FloatVector column0 = FloatVector.fromArray( COLUMN, left, leftOffset );
+		FloatVector column1 = FloatVector.fromArray( COLUMN, left,
+				leftOffset + 4 );
+		FloatVector column2 = FloatVector.fromArray( COLUMN, left,
+				leftOffset + 8 );
+		FloatVector column3 = FloatVector.fromArray( COLUMN, left,
+				leftOffset + 12 );
+
+		for( int i = 0; i < count; i++ )
+		{
+			multiplyColumns( column0, column1, column2, column3, rights,
+					rightsOffset + i * 16, results, resultsOffset + i * 16 );
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void transform( Matrix4F matrix, Vector3FArray points,
+			Vector3FArray result, int fromIndex, int toIndex )
+	{
+		FloatVector element00 = FloatVector.broadcast( PREFERRED,
+				matrix.element00 );
+		FloatVector element01 = FloatVector.broadcast( PREFERRED,
+				matrix.element01 );
+		FloatVector element02 = FloatVector.broadcast( PREFERRED,
+				matrix.element02 );
+		FloatVector element10 = FloatVector.broadcast( PREFERRED,
+				matrix.element10 );
+		FloatVector element11 = FloatVector.broadcast( PREFERRED,
+				matrix.element11 );
+		FloatVector element12 = FloatVector.broadcast( PREFERRED,
+				matrix.element12 );
+		FloatVector element20 = FloatVector.broadcast( PREFERRED,
+				matrix.element20 );
+		FloatVector element21 = FloatVector.broadcast( PREFERRED,
+				matrix.element21 );
+		FloatVector element22 = FloatVector.broadcast( PREFERRED,
+				matrix.element22 );
+		FloatVector element30 = FloatVector.broadcast( PREFERRED,
+				matrix.element30 );
+		FloatVector element31 = FloatVector.broadcast( PREFERRED,
+				matrix.element31 );
+		FloatVector element32 = FloatVector.broadcast( PREFERRED,
+				matrix.element32 );
+		int bound = fromIndex + PREFERRED.loopBound( toIndex - fromIndex );
+		int i = fromIndex;
+
+		for( ; i < bound; i += PREFERRED.length( ) )
+		{
+			FloatVector x = FloatVector.fromArray( PREFERRED, points.x, i );
+			FloatVector y = FloatVector.fromArray( PREFERRED, points.y, i );
+			FloatVector z = FloatVector.fromArray( PREFERRED, points.z, i );
+
+			element00.mul( x ).add( element10.mul( y ) )
+					.add( element20.mul( z ) ).add( element30 )
+					.intoArray( result.x, i );
+			element01.mul( x ).add( element11.mul( y ) )
+					.add( element21.mul( z ) ).add( element31 )
+					.intoArray( result.y, i );
+			element02.mul( x ).add( element12.mul( y ) )
+					.add( element22.mul( z ) ).add( element32 )
+					.intoArray( result.z, i );
+		}
+
+		for( ; i < toIndex; i++ )
+		{
+			float x = points.x[ i ];
+			float y = points.y[ i ];
+			float z = points.z[ i ];
+
+			result.x[ i ] = matrix.element00 * x + matrix.element10 * y
+					+ matrix.element20 * z + matrix.element30;
+			result.y[ i ] = matrix.element01 * x + matrix.element11 * y
+					+ matrix.element21 * z + matrix.element31;
+			result.z[ i ] = matrix.element02 * x + matrix.element12 * y
+					+ matrix.element22 * z + matrix.element32;
+		}
+	}
+
+	/**
+	 * Multiplies the columns of a matrix by another matrix. Each column of
+	 * the product is the sum of the columns scaled by one column of the other
+	 * matrix.
+	 * 
+	 * @param column0 The 1st column of the matrix to multiply.
+	 * @param column1 The 2nd column of the matrix to multiply.
+	 * @param column2 The 3rd column of the matrix to multiply.
+	 * @param column3 The 4th column of the matrix to multiply.
+	 * @param right The array holding the matrix to multiply by.
+	 * @param rightOffset The offset of the matrix to multiply by.
+	 * @param result The array to store the product in.
+	 * @param resultOffset The offset to store the product at.
+	 */
+	private static void multiplyColumns( FloatVector column0,
+			FloatVector column1, FloatVector column2, FloatVector column3,
+			float[] right, int rightOffset, float[] result, int resultOffset )
+	{
+		for( int column = 0; column < 16; column += 4 )
+		{
+			column0.mul( right[ rightOffset + column ] )
+					.add( column1.mul( right[ rightOffset + column + 1 ] ) )
+					.add( column2.mul( right[ rightOffset + column + 2 ] ) )
+					.add( column3.mul( right[ rightOffset + column + 3 ] ) )
+					.intoArray( result, resultOffset + column );
+		}
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.animation;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+
+/**
+ * Holds the skinning matrices of a skeleton in one primitive array, one
+ * matrix per bone, in the same column order as {@link Matrix4F#store}.
+ * <p>
+ * A full palette stores 16 floats per bone. An affine palette drops the last
+ * row, which is always 0, 0, 0, 1 for bones, and stores 12 floats per bone:
+ * three per column. Affine palettes are a quarter smaller, so more of them
+ * stay in the cache while skinning.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class BonePalette
+{
+	/**
+	 * Holds the matrices, one after another.
+	 */
+	public final float[] values;
+
+	/**
+	 * Represents the number of floats per column: 3 if affine, otherwise 4.
+	 */
+	private final int columnStride;
+
+	/**
+	 * Initializes this palette by setting every matrix to the identity.
+	 * 
+	 * @param boneCount The number of bones.
+	 * @param affine Whether to drop the last row of every matrix.
+	 */
+	public BonePalette( int boneCount, boolean affine )
+	{
+		Matrix4F identity = new Matrix4F( );
+
+		columnStride = affine ? 3 : 4;
+		values = new float[ boneCount * columnStride * 4 ];
+
+		for( int i = 0; i < boneCount; i++ )
+		{
+			set( i, identity );
+		}
+	}
+
+	/**
+	 * @return The number of bones.
+	 */
+	public int getBoneCount( )
+	{
+		return values.length / getStride( );
+	}
+
+	/**
+	 * @return The number of floats per bone: 12 if affine, otherwise 16.
+	 */
+	public int getStride( )
+	{
+		return columnStride * 4;
+	}
+
+	/**
+	 * @return Whether the last row of every matrix is dropped.
+	 */
+	public boolean isAffine( )
+	{
+		return columnStride == 3;
+	}
+
+	/**
+	 * Sets the matrix of a bone.
+	 * 
+	 * @param bone The index of the bone.
+	 * @param matrix The matrix to copy.
+	 * @return This palette.
+	 */
+	public BonePalette set( int bone, Matrix4F matrix )
+	{
+		int offset = bone * getStride( );
+
+		setColumn( offset, matrix.element00, matrix.element01,
+				matrix.element02, matrix.element03 );
+		setColumn( offset + columnStride, matrix.element10, matrix.element11,
+				matrix.element12, matrix.element13 );
+		setColumn( offset + columnStride * 2, matrix.element20,
+				matrix.element21, matrix.element22, matrix.element23 );
+		setColumn( offset + columnStride * 3, matrix.element30,
+				matrix.element31, matrix.element32, matrix.element33 );
+
+		return this;
+	}
+
+	/**
+	 * Sets the matrix of a bone to the product of its transformation and its
+	 * inverse bind transformation, without allocating. The product takes a
+	 * vertex from the bind pose to where the bone has moved it.
+	 * 
+	 * @param bone The index of the bone.
+	 * @param transformation The transformation of the bone.
+	 * @param inverseBindTransformation The inverse of the transformation of
+	 *        the bone in the bind pose.
+	 * @return This palette.
+	 */
+	public BonePalette set( int bone, Matrix4F transformation,
+			Matrix4F inverseBindTransformation )
+	{
+		int offset = bone * getStride( );
+
+		setProductColumn( offset, transformation,
+				inverseBindTransformation.element00,
+				inverseBindTransformation.element01,
+				inverseBindTransformation.element02,
+				inverseBindTransformation.element03 );
+		setProductColumn( offset + columnStride, transformation,
+				inverseBindTransformation.element10,
+				inverseBindTransformation.element11,
+				inverseBindTransformation.element12,
+				inverseBindTransformation.element13 );
+		setProductColumn( offset + columnStride * 2, transformation,
+				inverseBindTransformation.element20,
+				inverseBindTransformation.element21,
+				inverseBindTransformation.element22,
+				inverseBindTransformation.element23 );
+		setProductColumn( offset + columnStride * 3, transformation,
+				inverseBindTransformation.element30,
+				inverseBindTransformation.element31,
+				inverseBindTransformation.element32,
+				inverseBindTransformation.element33 );
+
+		return this;
+	}
+
+	/**
+	 * Sets the matrices of a range of bones to the products of their
+	 * transformations and inverse bind transformations.
+	 * 
+	 * @param transformations The transformations of the bones.
+	 * @param inverseBindTransformations The inverse bind transformations of
+	 *        the bones.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This palette.
+	 */
+	public BonePalette set( Matrix4F[] transformations,
+			Matrix4F[] inverseBindTransformations, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			set( i, transformations[ i ], inverseBindTransformations[ i ] );
+		}
+
+		return this;
+	}
+
+	/**
+	 * Gets the matrix of a bone.
+	 * 
+	 * @param bone The index of the bone.
+	 * @param destination The matrix to store the matrix of the bone in.
+	 * @return The destination matrix.
+	 */
+	public Matrix4F get( int bone, Matrix4F destination )
+	{
+		int offset = bone * getStride( );
+		boolean affine = isAffine( );
+
+		destination.element00 = values[ offset ];
+		destination.element01 = values[ offset + 1 ];
+		destination.element02 = values[ offset + 2 ];
+		destination.element03 = affine ? 0.0F : values[ offset + 3 ];
+		offset += columnStride;
+		destination.element10 = values[ offset ];
+		destination.element11 = values[ offset + 1 ];
+		destination.element12 = values[ offset + 2 ];
+		destination.element13 = affine ? 0.0F : values[ offset + 3 ];
+		offset += columnStride;
+		destination.element20 = values[ offset ];
+		destination.element21 = values[ offset + 1 ];
+		destination.element22 = values[ offset + 2 ];
+		destination.element23 = affine ? 0.0F : values[ offset + 3 ];
+		offset += columnStride;
+		destination.element30 = values[ offset ];
+		destination.element31 = values[ offset + 1 ];
+		destination.element32 = values[ offset + 2 ];
+		destination.element33 = affine ? 1.0F : values[ offset + 3 ];
+
+		return destination;
+	}
+
+	/**
+	 * Sets a column, dropping its last element if this palette is affine.
+	 * 
+	 * @param offset The index of the first float of the column.
+	 * @param x The 1st element.
+	 * @param y The 2nd element.
+	 * @param z The 3rd element.
+	 * @param w The 4th element.
+	 */
+	private void setColumn( int offset, float x, float y, float z, float w )
+	{
+		values[ offset ] = x;
+		values[ offset + 1 ] = y;
+		values[ offset + 2 ] = z;
+
+		if( columnStride == 4 )
+		{
+			values[ offset + 3 ] = w;
+		}
+	}
+
+	/**
+	 * Sets a column to a matrix times a column of another matrix.
+	 * 
+	 * @param offset The index of the first float of the column.
+	 * @param matrix The matrix to multiply.
+	 * @param x The 1st element of the column to multiply by.
+	 * @param y The 2nd element of the column to multiply by.
+	 * @param z The 3rd element of the column to multiply by.
+	 * @param w The 4th element of the column to multiply by.
+	 */
+	private void setProductColumn( int offset, Matrix4F matrix, float x,
+			float y, float z, float w )
+	{
+		setColumn( offset,
+				matrix.element00 * x + matrix.element10 * y
+						+ matrix.element20 * z + matrix.element30 * w,
+				matrix.element01 * x + matrix.element11 * y
+						+ matrix.element21 * z + matrix.element31 * w,
+				matrix.element02 * x + matrix.element12 * y
+						+ matrix.element22 * z + matrix.element32 * w,
+				matrix.element03 * x + matrix.element13 * y
+						+ matrix.element23 * z + matrix.element33 * w );
+	}
+}
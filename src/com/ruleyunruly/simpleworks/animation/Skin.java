@@ -0,0 +1,290 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.animation;
+
+import static java.lang.Math.*;
+
+import java.nio.FloatBuffer;
+
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Holds the vertices of a skinned mesh in its bind pose, with up to 4 bones
+ * influencing each vertex, and skins them with a {@link BonePalette}.
+ * <p>
+ * Positions and normals are stored as one primitive array per element, and
+ * every vertex has 4 bone indices and weights, so the skinning loop has no
+ * branches and no objects. Unused influences have a weight of zero. Each
+ * vertex blends the matrices of its bones by their weights and is then
+ * transformed by the blended matrix. The last row of every matrix is taken to
+ * be 0, 0, 0, 1, as it is for any combination of translation, rotation, and
+ * scale. Normals are transformed by the inverse transpose of the blended
+ * matrix, found from its cofactors, so that they stay perpendicular to the
+ * surface under non-uniform scale.
+ * <p>
+ * Skinned vertices are stored interleaved as a position and, if this skin has
+ * normals, a unit normal. A vertex whose weights are all zero collapses to the
+ * origin with a zero normal.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Skin
+{
+	/**
+	 * The number of bones that can influence a vertex.
+	 */
+	public static final int MAX_INFLUENCES = 4;
+
+	/**
+	 * Holds the positions of the vertices in the bind pose.
+	 */
+	public final Vector3FArray positions;
+
+	/**
+	 * Holds the normals of the vertices in the bind pose, or null.
+	 */
+	public final Vector3FArray normals;
+
+	/**
+	 * Holds the bones influencing each vertex, {@link #MAX_INFLUENCES} per
+	 * vertex.
+	 */
+	public final int[] boneIndices;
+
+	/**
+	 * Holds the weights of the bones influencing each vertex,
+	 * {@link #MAX_INFLUENCES} per vertex.
+	 */
+	public final float[] boneWeights;
+
+	/**
+	 * Initializes this skin with every vertex at the origin and without
+	 * influences.
+	 * 
+	 * @param vertexCount The number of vertices.
+	 * @param hasNormals Whether the vertices have normals.
+	 */
+	public Skin( int vertexCount, boolean hasNormals )
+	{
+		positions = new Vector3FArray( vertexCount );
+		normals = hasNormals ? new Vector3FArray( vertexCount ) : null;
+		boneIndices = new int[ vertexCount * MAX_INFLUENCES ];
+		boneWeights = new float[ vertexCount * MAX_INFLUENCES ];
+	}
+
+	/**
+	 * @return The number of vertices.
+	 */
+	public int getVertexCount( )
+	{
+		return positions.getCapacity( );
+	}
+
+	/**
+	 * @return Whether the vertices have normals.
+	 */
+	public boolean hasNormals( )
+	{
+		return normals != null;
+	}
+
+	/**
+	 * @return The number of floats stored per skinned vertex: 6 with normals,
+	 *         otherwise 3.
+	 */
+	public int getStride( )
+	{
+		return normals != null ? 6 : 3;
+	}
+
+	/**
+	 * Sets one of the influences of a vertex.
+	 * 
+	 * @param vertex The index of the vertex.
+	 * @param slot The index of the influence, less than
+	 *        {@link #MAX_INFLUENCES}.
+	 * @param bone The index of the bone.
+	 * @param weight The weight of the bone.
+	 * @return This skin.
+	 */
+	public Skin setInfluence( int vertex, int slot, int bone, float weight )
+	{
+		boneIndices[ vertex * MAX_INFLUENCES + slot ] = bone;
+		boneWeights[ vertex * MAX_INFLUENCES + slot ] = weight;
+
+		return this;
+	}
+
+	/**
+	 * Scales the weights of a range of vertices so that they add up to one.
+	 * Vertices without weights are left alone.
+	 * 
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This skin.
+	 */
+	public Skin setNormalizedWeights( int fromIndex, int toIndex )
+	{
+		int end = toIndex * MAX_INFLUENCES;
+
+		for( int i = fromIndex * MAX_INFLUENCES; i < end; i += MAX_INFLUENCES )
+		{
+			float total = boneWeights[ i ] + boneWeights[ i + 1 ]
+					+ boneWeights[ i + 2 ] + boneWeights[ i + 3 ];
+
+			if( total > 0.0F )
+			{
+				boneWeights[ i ] /= total;
+				boneWeights[ i + 1 ] /= total;
+				boneWeights[ i + 2 ] /= total;
+				boneWeights[ i + 3 ] /= total;
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Skins a range of vertices and stores them contiguously in a float
+	 * buffer at an offset, without changing the position of the buffer or
+	 * flipping it. Every float is written with an absolute put, so different
+	 * ranges can be skinned into the same buffer at once.
+	 * 
+	 * @param palette The matrices of the bones.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param floatBuffer The float buffer to store the vertices in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public FloatBuffer skin( BonePalette palette, int fromIndex, int toIndex,
+			FloatBuffer floatBuffer, int offset )
+	{
+		float[] matrices = palette.values;
+		int matrixStride = palette.getStride( );
+		int columnStride = matrixStride / 4;
+		int stride = getStride( );
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float element00 = 0.0F;
+			float element01 = 0.0F;
+			float element02 = 0.0F;
+			float element10 = 0.0F;
+			float element11 = 0.0F;
+			float element12 = 0.0F;
+			float element20 = 0.0F;
+			float element21 = 0.0F;
+			float element22 = 0.0F;
+			float element30 = 0.0F;
+			float element31 = 0.0F;
+			float element32 = 0.0F;
+			int first = i * MAX_INFLUENCES;
+
+			for( int j = first; j < first + MAX_INFLUENCES; j++ )
+			{
+				float weight = boneWeights[ j ];
+				int column0 = boneIndices[ j ] * matrixStride;
+				int column1 = column0 + columnStride;
+				int column2 = column1 + columnStride;
+				int column3 = column2 + columnStride;
+
+				element00 += weight * matrices[ column0 ];
+				element01 += weight * matrices[ column0 + 1 ];
+				element02 += weight * matrices[ column0 + 2 ];
+				element10 += weight * matrices[ column1 ];
+				element11 += weight * matrices[ column1 + 1 ];
+				element12 += weight * matrices[ column1 + 2 ];
+				element20 += weight * matrices[ column2 ];
+				element21 += weight * matrices[ column2 + 1 ];
+				element22 += weight * matrices[ column2 + 2 ];
+				element30 += weight * matrices[ column3 ];
+				element31 += weight * matrices[ column3 + 1 ];
+				element32 += weight * matrices[ column3 + 2 ];
+			}
+
+			int index = offset + ( i - fromIndex ) * stride;
+			float x = positions.x[ i ];
+			float y = positions.y[ i ];
+			float z = positions.z[ i ];
+
+			floatBuffer.put( index, element00 * x + element10 * y
+					+ element20 * z + element30 );
+			floatBuffer.put( index + 1, element01 * x + element11 * y
+					+ element21 * z + element31 );
+			floatBuffer.put( index + 2, element02 * x + element12 * y
+					+ element22 * z + element32 );
+
+			if( normals != null )
+			{
+				x = normals.x[ i ];
+				y = normals.y[ i ];
+				z = normals.z[ i ];
+
+				float cofactor00 = element11 * element22
+						- element12 * element21;
+				float cofactor01 = element12 * element20
+						- element10 * element22;
+				float cofactor02 = element10 * element21
+						- element11 * element20;
+				float cofactor10 = element21 * element02
+						- element22 * element01;
+				float cofactor11 = element22 * element00
+						- element20 * element02;
+				float cofactor12 = element20 * element01
+						- element21 * element00;
+				float cofactor20 = element01 * element12
+						- element02 * element11;
+				float cofactor21 = element02 * element10
+						- element00 * element12;
+				float cofactor22 = element00 * element11
+						- element01 * element10;
+				float determinant = element00 * cofactor00
+						+ element01 * cofactor01 + element02 * cofactor02;
+				float normalX = cofactor00 * x + cofactor10 * y
+						+ cofactor20 * z;
+				float normalY = cofactor01 * x + cofactor11 * y
+						+ cofactor21 * z;
+				float normalZ = cofactor02 * x + cofactor12 * y
+						+ cofactor22 * z;
+				float lengthSquared = normalX * normalX + normalY * normalY
+						+ normalZ * normalZ;
+				float scale = 0.0F;
+
+				if( lengthSquared > 0.0F )
+				{
+					scale = copySign( ( float ) ( 1.0 / sqrt( lengthSquared ) ),
+							determinant );
+				}
+
+				floatBuffer.put( index + 3, normalX * scale );
+				floatBuffer.put( index + 4, normalY * scale );
+				floatBuffer.put( index + 5, normalZ * scale );
+			}
+		}
+
+		return floatBuffer;
+	}
+}
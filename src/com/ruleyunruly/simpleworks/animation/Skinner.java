@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.animation;
+
+import java.nio.FloatBuffer;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.core.RangeTask;
+
+/**
+ * Skins large batches of vertices with a {@link Skin} across a
+ * {@link JobSystem}.
+ * <p>
+ * The range is cut into chunks, and each chunk stores its vertices in its own
+ * part of the float buffer with absolute puts, where no other chunk writes.
+ * The output is the same as {@link Skin#skin} writes on one thread. A skinner
+ * keeps its state between calls, so it must only be used by one thread at a
+ * time.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Skinner
+{
+	/**
+	 * The job system to spread the chunks across.
+	 */
+	private final JobSystem jobSystem;
+
+	/**
+	 * The number of vertices in a chunk.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * Skins ranges of chunks.
+	 */
+	private final RangeTask chunkTask;
+
+	/**
+	 * Holds the skin being skinned.
+	 */
+	private Skin skin;
+
+	/**
+	 * Holds the matrices of the bones.
+	 */
+	private BonePalette palette;
+
+	/**
+	 * Holds the first index being skinned.
+	 */
+	private int fromIndex;
+
+	/**
+	 * Holds the index after the last being skinned.
+	 */
+	private int toIndex;
+
+	/**
+	 * Holds the float buffer the vertices are stored in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Holds the index the first float is stored at.
+	 */
+	private int offset;
+
+	/**
+	 * Initializes this skinner with chunks of 1024 vertices.
+	 * 
+	 * @param jobSystem The job system to spread the chunks across.
+	 */
+	public Skinner( JobSystem jobSystem )
+	{
+		this( jobSystem, 1024 );
+	}
+
+	/**
+	 * Initializes this skinner.
+	 * 
+	 * @param jobSystem The job system to spread the chunks across.
+	 * @param chunkSize The number of vertices in a chunk.
+	 */
+	public Skinner( JobSystem jobSystem, int chunkSize )
+	{
+		this.jobSystem = jobSystem;
+		this.chunkSize = Math.max( chunkSize, 1 );
+
+		chunkTask = this::skinChunks;
+	}
+
+	/**
+	 * Skins a range of vertices in parallel, like {@link Skin#skin}, and
+	 * stores them contiguously in a float buffer at an offset, without
+	 * changing the position of the buffer or flipping it.
+	 * 
+	 * @param skin The vertices to skin.
+	 * @param palette The matrices of the bones.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param floatBuffer The float buffer to store the vertices in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public FloatBuffer skin( Skin skin, BonePalette palette, int fromIndex,
+			int toIndex, FloatBuffer floatBuffer, int offset )
+	{
+		int chunkCount = ( toIndex - fromIndex + chunkSize - 1 ) / chunkSize;
+
+		this.skin = skin;
+		this.palette = palette;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.floatBuffer = floatBuffer;
+		this.offset = offset;
+
+		jobSystem.parallelFor( 0, chunkCount, 1, chunkTask );
+
+		this.skin = null;
+		this.palette = null;
+		this.floatBuffer = null;
+
+		return floatBuffer;
+	}
+
+	/**
+	 * Skins a range of chunks, each into its own part of the output.
+	 * 
+	 * @param fromChunk The first chunk.
+	 * @param toChunk The chunk after the last.
+	 */
+	private void skinChunks( int fromChunk, int toChunk )
+	{
+		int stride = skin.getStride( );
+
+		for( int i = fromChunk; i < toChunk; i++ )
+		{
+			int start = fromIndex + i * chunkSize;
+			int end = Math.min( start + chunkSize, toIndex );
+
+			skin.skin( palette, start, end, floatBuffer,
+					offset + i * chunkSize * stride );
+		}
+	}
+}
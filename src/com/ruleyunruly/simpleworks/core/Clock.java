@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tells the time and waits for a time to come.
+ * <p>
+ * Waiting sleeps for most of the time left and spins for the last part, so the
+ * core is idle while waiting and the time is still met. The spin time is
+ * calibrated from how far each sleep overshoots.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public abstract class Clock
+{
+	/**
+	 * How quickly (from 0 to 1) the oversleep estimate follows new samples.
+	 */
+	private static final double CALIBRATION_RATE = 0.1;
+
+	/**
+	 * How many mean deviations of oversleep are added to the spin time.
+	 */
+	private static final double DEVIATION_MARGIN = 2.0;
+
+	/**
+	 * Holds the mean time (in seconds) the OS sleeps past the time asked for.
+	 */
+	private double oversleepMean;
+
+	/**
+	 * Holds the mean deviation (in seconds) of oversleep.
+	 */
+	private double oversleepDeviation;
+
+	/**
+	 * Initializes this clock.
+	 */
+	public Clock( )
+	{
+		oversleepMean = 0.001;
+		oversleepDeviation = 0.0;
+	}
+
+	/**
+	 * @return The current time in seconds.
+	 */
+	public abstract double getTime( );
+
+	/**
+	 * @return The time (in seconds) left to spin after sleeping, calibrated
+	 *         from how far the OS oversleeps.
+	 */
+	public double getSpinTime( )
+	{
+		return oversleepMean + DEVIATION_MARGIN * oversleepDeviation;
+	}
+
+	/**
+	 * Waits until a time.
+	 * 
+	 * @param time The time (in seconds) to wait until.
+	 */
+	public void waitUntil( double time )
+	{
+		double currentTime = getTime( );
+
+		while( time - currentTime > getSpinTime( ) )
+		{
+			double sleepTime = time - currentTime - getSpinTime( );
+
+			LockSupport.parkNanos( ( long ) ( sleepTime * 1.0E9 ) );
+
+			double wakeTime = getTime( );
+
+			calibrate( wakeTime - currentTime - sleepTime );
+
+			currentTime = wakeTime;
+		}
+
+		while( currentTime < time )
+		{
+			Thread.onSpinWait( );
+
+			currentTime = getTime( );
+		}
+	}
+
+	/**
+	 * Calibrates the spin time with a sample of oversleep.
+	 * 
+	 * @param oversleep The time (in seconds) a sleep took past the time asked
+	 *        for.
+	 */
+	private void calibrate( double oversleep )
+	{
+		double error = Math.max( oversleep, 0.0 ) - oversleepMean;
+
+		oversleepMean += error * CALIBRATION_RATE;
+		oversleepDeviation += ( Math.abs( error ) - oversleepDeviation )
+				* CALIBRATION_RATE;
+	}
+}
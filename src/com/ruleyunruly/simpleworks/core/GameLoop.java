@@ -0,0 +1,333 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+/**
+ * Runs updates at a fixed step and renders as often as the timer allows.
+ * <p>
+ * Elapsed time is collected in an accumulator and spent in fixed steps, so the
+ * simulation is deterministic no matter how fast frames are. The number of
+ * steps per frame is capped, so a slow frame cannot cause a spiral of ever
+ * more catch-up steps; the steps over the cap are dropped and counted as
+ * skipped. Rendering is passed how far the accumulator is into the next step,
+ * so it can interpolate between the last two updates.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public abstract class GameLoop
+{
+	/**
+	 * How many times longer than the sync interval a frame may take before it
+	 * is counted as late.
+	 */
+	private static final float LATE_FRAME_FACTOR = 1.5F;
+
+	/**
+	 * Paces the frames and counts the UPS and FPS.
+	 */
+	private final Timer timer;
+
+	/**
+	 * The time (in seconds) of one update step.
+	 */
+	private final float stepTime;
+
+	/**
+	 * The most update steps run in one frame.
+	 */
+	private final int maxStepsPerFrame;
+
+	/**
+	 * Holds the job system joined after each phase, or null.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * Holds the profiler marking frames, or null.
+	 */
+	private Profiler profiler;
+
+	/**
+	 * Holds the zone id of update steps.
+	 */
+	private int updateZone;
+
+	/**
+	 * Holds the zone id of rendering.
+	 */
+	private int renderZone;
+
+	/**
+	 * Holds the time (in seconds) not yet spent on update steps.
+	 */
+	private float accumulator;
+
+	/**
+	 * Whether the loop keeps running.
+	 */
+	private volatile boolean running;
+
+	/**
+	 * Holds the number of update steps dropped by the cap.
+	 */
+	private long skippedSteps;
+
+	/**
+	 * Holds the number of frames that took too long.
+	 */
+	private long lateFrames;
+
+	/**
+	 * Initializes this game loop.
+	 * 
+	 * @param timer The timer to pace frames and count the UPS and FPS with.
+	 * @param updateRate The number of update steps per second.
+	 * @param maxStepsPerFrame The most update steps run in one frame.
+	 */
+	public GameLoop( Timer timer, int updateRate, int maxStepsPerFrame )
+	{
+		this.timer = timer;
+		this.maxStepsPerFrame = maxStepsPerFrame;
+
+		stepTime = 1.0F / updateRate;
+		jobSystem = null;
+		profiler = null;
+		accumulator = 0.0F;
+		running = false;
+		skippedSteps = 0;
+		lateFrames = 0;
+	}
+
+	/**
+	 * @return The timer.
+	 */
+	public Timer getTimer( )
+	{
+		return timer;
+	}
+
+	/**
+	 * @return The time (in seconds) of one update step.
+	 */
+	public float getStepTime( )
+	{
+		return stepTime;
+	}
+
+	/**
+	 * @return The most update steps run in one frame.
+	 */
+	public int getMaxStepsPerFrame( )
+	{
+		return maxStepsPerFrame;
+	}
+
+	/**
+	 * @return The job system joined after each phase, or null.
+	 */
+	public JobSystem getJobSystem( )
+	{
+		return jobSystem;
+	}
+
+	/**
+	 * @return The profiler marking frames, or null.
+	 */
+	public Profiler getProfiler( )
+	{
+		return profiler;
+	}
+
+	/**
+	 * @return Whether the loop is running.
+	 */
+	public boolean isRunning( )
+	{
+		return running;
+	}
+
+	/**
+	 * @return The number of update steps dropped because a frame needed more
+	 *         than the most steps per frame.
+	 */
+	public long getSkippedSteps( )
+	{
+		return skippedSteps;
+	}
+
+	/**
+	 * @return The number of frames that took longer than 1.5 times the sync
+	 *         interval.
+	 */
+	public long getLateFrames( )
+	{
+		return lateFrames;
+	}
+
+	/**
+	 * Sets the job system to join after each update step and after rendering,
+	 * so jobs submitted in a phase are done before the next phase begins.
+	 * 
+	 * @param jobSystem The job system, or null for none.
+	 */
+	public void setJobSystem( JobSystem jobSystem )
+	{
+		this.jobSystem = jobSystem;
+	}
+
+	/**
+	 * Sets the profiler to mark frames with and to record update steps and
+	 * rendering as zones in.
+	 * 
+	 * @param profiler The profiler, or null for none.
+	 */
+	public void setProfiler( Profiler profiler )
+	{
+		this.profiler = profiler;
+
+		if( profiler != null )
+		{
+			updateZone = profiler.registerZone( "update" );
+			renderZone = profiler.registerZone( "render" );
+		}
+	}
+
+	/**
+	 * Runs frames until the loop is stopped.
+	 */
+	public void run( )
+	{
+		running = true;
+
+		timer.resetTime( );
+
+		while( running )
+		{
+			runFrame( );
+		}
+	}
+
+	/**
+	 * Stops the loop after the current frame.
+	 */
+	public void stop( )
+	{
+		running = false;
+	}
+
+	/**
+	 * Runs one frame: spends the elapsed time on update steps, renders, and
+	 * waits for the next frame. This is public for callers that drive their
+	 * own loop.
+	 */
+	public void runFrame( )
+	{
+		float deltaTime = timer.getDeltaTime( );
+		int steps = 0;
+
+		if( profiler != null )
+		{
+			profiler.markFrame( );
+		}
+
+		if( deltaTime > LATE_FRAME_FACTOR / timer.getSyncInterval( ) )
+		{
+			lateFrames++ ;
+		}
+
+		accumulator += deltaTime;
+
+		while( accumulator >= stepTime && steps < maxStepsPerFrame )
+		{
+			double updateTime = timer.getCurrentTime( );
+
+			if( profiler != null )
+			{
+				profiler.begin( updateZone );
+				update( stepTime );
+				profiler.end( updateZone );
+			}
+			else
+			{
+				update( stepTime );
+			}
+
+			if( jobSystem != null )
+			{
+				jobSystem.join( );
+			}
+
+			timer.recordUpdateTime(
+					( float ) ( timer.getCurrentTime( ) - updateTime ) );
+			timer.updateCountForUPS( );
+
+			accumulator -= stepTime;
+			steps++ ;
+		}
+
+		if( accumulator >= stepTime )
+		{
+			int droppedSteps = ( int ) ( accumulator / stepTime );
+
+			skippedSteps += droppedSteps;
+			accumulator -= droppedSteps * stepTime;
+		}
+
+		if( profiler != null )
+		{
+			profiler.begin( renderZone );
+			render( accumulator / stepTime );
+			profiler.end( renderZone );
+		}
+		else
+		{
+			render( accumulator / stepTime );
+		}
+
+		if( jobSystem != null )
+		{
+			jobSystem.join( );
+		}
+
+		timer.updateCountForFPS( );
+		timer.update( );
+		timer.sync( );
+	}
+
+	/**
+	 * Updates the simulation by one fixed step.
+	 * 
+	 * @param deltaTime The time (in seconds) of the step.
+	 */
+	protected abstract void update( float deltaTime );
+
+	/**
+	 * Renders a frame.
+	 * 
+	 * @param alpha How far (from 0 to 1) the time is between the last update
+	 *        and the next one, for interpolating.
+	 */
+	protected abstract void render( float alpha );
+}
@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+/**
+ * Counts times in log-linear buckets, in fixed memory and without allocating.
+ * <p>
+ * Times are counted in microseconds. Below 32 microseconds every value has its
+ * own bucket; above, each power of two is split into 32 buckets, so a bucket is
+ * never wider than about 3% of its values. Times past about 67 seconds are
+ * counted in the last bucket. The count, total, and maximum are exact.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Histogram
+{
+	/**
+	 * The number of bits of a value kept in its bucket.
+	 */
+	private static final int SUB_BUCKET_BITS = 5;
+
+	/**
+	 * The number of buckets per power of two.
+	 */
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * The number of bits of the largest value with its own bucket.
+	 */
+	private static final int MAX_VALUE_BITS = 26;
+
+	/**
+	 * The number of buckets.
+	 */
+	private static final int BUCKETS = ( MAX_VALUE_BITS - SUB_BUCKET_BITS + 1 )
+			* SUB_BUCKETS;
+
+	/**
+	 * Holds the count of each bucket.
+	 */
+	private final long[] counts;
+
+	/**
+	 * Holds the number of times counted.
+	 */
+	private long count;
+
+	/**
+	 * Holds the sum (in microseconds) of the times counted.
+	 */
+	private long total;
+
+	/**
+	 * Holds the largest time (in microseconds) counted.
+	 */
+	private long max;
+
+	/**
+	 * Initializes this histogram.
+	 */
+	public Histogram( )
+	{
+		counts = new long[ BUCKETS ];
+		count = 0;
+		total = 0;
+		max = 0;
+	}
+
+	/**
+	 * @return The number of times counted.
+	 */
+	public long getCount( )
+	{
+		return count;
+	}
+
+	/**
+	 * @return The largest time (in seconds) counted.
+	 */
+	public float getMax( )
+	{
+		return max / 1.0E6F;
+	}
+
+	/**
+	 * @return The mean time (in seconds) counted.
+	 */
+	public float getMean( )
+	{
+		return count > 0 ? total / ( count * 1.0E6F ) : 0.0F;
+	}
+
+	/**
+	 * @param percentile The percentile (from 0 to 100).
+	 * @return The time (in seconds) that the percentile of times are at or
+	 *         below, rounded up to the end of its bucket.
+	 */
+	public float getPercentile( float percentile )
+	{
+		long rank = ( long ) Math.ceil( percentile / 100.0 * count );
+		long cumulativeCount = 0;
+
+		if( rank < 1 )
+		{
+			rank = 1;
+		}
+
+		for( int i = 0; i < BUCKETS; i++ )
+		{
+			cumulativeCount += counts[ i ];
+
+			if( cumulativeCount >= rank )
+			{
+				return Math.min( getUpperBound( i ), max ) / 1.0E6F;
+			}
+		}
+
+		return max / 1.0E6F;
+	}
+
+	/**
+	 * @param time The time in seconds.
+	 * @return The number of times counted above the time, give or take the
+	 *         bucket holding the time.
+	 */
+	public long getCountAbove( float time )
+	{
+		long countAbove = 0;
+
+		for( int i = getIndex( toMicroseconds( time ) ) + 1; i < BUCKETS; i++ )
+		{
+			countAbove += counts[ i ];
+		}
+
+		return countAbove;
+	}
+
+	/**
+	 * Counts a time.
+	 * 
+	 * @param time The time in seconds.
+	 * @return This histogram.
+	 */
+	public Histogram record( float time )
+	{
+		long value = toMicroseconds( time );
+
+		counts[ getIndex( value ) ]++ ;
+		count++ ;
+		total += value;
+
+		if( value > max )
+		{
+			max = value;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Clears every count.
+	 * 
+	 * @return This histogram.
+	 */
+	public Histogram reset( )
+	{
+		for( int i = 0; i < BUCKETS; i++ )
+		{
+			counts[ i ] = 0;
+		}
+
+		count = 0;
+		total = 0;
+		max = 0;
+
+		return this;
+	}
+
+	/**
+	 * @param time The time in seconds.
+	 * @return The time in microseconds, no less than zero.
+	 */
+	private static long toMicroseconds( float time )
+	{
+		return time > 0.0F ? ( long ) ( time * 1.0E6 ) : 0;
+	}
+
+	/**
+	 * @param value The value in microseconds.
+	 * @return The index of the bucket counting the value.
+	 */
+	private static int getIndex( long value )
+	{
+		if( value < SUB_BUCKETS )
+		{
+			return ( int ) value;
+		}
+
+		int bits = 64 - Long.numberOfLeadingZeros( value );
+
+		if( bits > MAX_VALUE_BITS )
+		{
+			return BUCKETS - 1;
+		}
+
+		int group = bits - SUB_BUCKET_BITS;
+
+		return group * SUB_BUCKETS
+				+ ( int ) ( ( value >> ( group - 1 ) ) & ( SUB_BUCKETS - 1 ) );
+	}
+
+	/**
+	 * @param index The index of a bucket.
+	 * @return The largest value (in microseconds) counted by the bucket.
+	 */
+	private static long getUpperBound( int index )
+	{
+		if( index < SUB_BUCKETS )
+		{
+			return index;
+		}
+
+		if( index == BUCKETS - 1 )
+		{
+			return Long.MAX_VALUE;
+		}
+
+		int shift = index / SUB_BUCKETS - 1;
+		long lowerBound = ( long ) ( SUB_BUCKETS + index % SUB_BUCKETS ) << shift;
+
+		return lowerBound + ( 1L << shift ) - 1;
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A unit of work run by a {@link JobSystem}, after the jobs it depends on.
+ * <p>
+ * Dependencies are added with {@link #dependOn(Job)} before the job is
+ * submitted. A job is run once its dependencies are done and it has been
+ * submitted, and {@link #reset()} readies it to be submitted again, so jobs can
+ * be reused every frame.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public abstract class Job
+{
+	/**
+	 * Runs this job in the pool.
+	 */
+	private final RecursiveAction task;
+
+	/**
+	 * Holds the number of dependencies not done, plus one until submitted.
+	 */
+	private final AtomicInteger pendingCount;
+
+	/**
+	 * Holds the jobs that depend on this job.
+	 */
+	private Job[] dependents;
+
+	/**
+	 * Holds the number of jobs that depend on this job.
+	 */
+	private int dependentCount;
+
+	/**
+	 * Holds the job system this job was submitted to.
+	 */
+	private JobSystem jobSystem;
+
+	/**
+	 * Whether this job is done.
+	 */
+	private volatile boolean done;
+
+	/**
+	 * Initializes this job.
+	 */
+	public Job( )
+	{
+		task = new RecursiveAction( )
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void compute( )
+			{
+				run( );
+			}
+		};
+		pendingCount = new AtomicInteger( 1 );
+		dependents = new Job[ 4 ];
+		dependentCount = 0;
+		jobSystem = null;
+		done = false;
+	}
+
+	/**
+	 * @return Whether this job is done.
+	 */
+	public boolean isDone( )
+	{
+		return done;
+	}
+
+	/**
+	 * Makes this job wait for another job. Must be called before this job is
+	 * submitted.
+	 * 
+	 * @param dependency The job to wait for.
+	 * @return This job.
+	 */
+	public Job dependOn( Job dependency )
+	{
+		synchronized( dependency )
+		{
+			if( !dependency.done )
+			{
+				if( dependency.dependentCount == dependency.dependents.length )
+				{
+					dependency.dependents = Arrays.copyOf(
+							dependency.dependents, dependency.dependentCount * 2 );
+				}
+
+				dependency.dependents[ dependency.dependentCount++ ] = this;
+				pendingCount.incrementAndGet( );
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Readies this job to be submitted again, clearing its dependencies.
+	 * 
+	 * @return This job.
+	 */
+	public synchronized Job reset( )
+	{
+		for( int i = 0; i < dependentCount; i++ )
+		{
+			dependents[ i ] = null;
+		}
+
+		task.reinitialize( );
+		pendingCount.set( 1 );
+		dependentCount = 0;
+		jobSystem = null;
+		done = false;
+
+		return this;
+	}
+
+	/**
+	 * Does the work of this job.
+	 */
+	protected abstract void execute( );
+
+	/**
+	 * Submits this job, running it once its dependencies are done.
+	 * 
+	 * @param jobSystem The job system to run in.
+	 */
+	void submit( JobSystem jobSystem )
+	{
+		this.jobSystem = jobSystem;
+
+		release( );
+	}
+
+	/**
+	 * @return The task running this job in the pool.
+	 */
+	RecursiveAction getTask( )
+	{
+		return task;
+	}
+
+	/**
+	 * Releases one dependency or the submission, scheduling this job when none
+	 * are left.
+	 */
+	private void release( )
+	{
+		if( pendingCount.decrementAndGet( ) == 0 )
+		{
+			jobSystem.schedule( this );
+		}
+	}
+
+	/**
+	 * Runs this job and releases the jobs that depend on it.
+	 */
+	private void run( )
+	{
+		JobSystem jobSystem = this.jobSystem;
+		Job[] dependents;
+		int count;
+
+		try
+		{
+			execute( );
+		}
+		catch( Throwable throwable )
+		{
+			jobSystem.fail( throwable );
+		}
+
+		synchronized( this )
+		{
+			done = true;
+			dependents = this.dependents;
+			count = dependentCount;
+		}
+
+		for( int i = 0; i < count; i++ )
+		{
+			dependents[ i ].release( );
+		}
+
+		jobSystem.finish( );
+	}
+}
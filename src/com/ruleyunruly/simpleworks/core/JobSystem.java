@@ -0,0 +1,331 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs jobs on a pool of work-stealing worker threads.
+ * <p>
+ * {@link #submit(Job)} starts a job once its dependencies are done, and
+ * {@link #join()} is the main thread's join point: it helps run jobs until
+ * every submitted job is done. {@link #parallelFor(int, int, int, RangeTask)}
+ * splits a range of indices across the workers and returns once the whole
+ * range is done. While waiting, the calling thread runs jobs too, so no core
+ * sits idle.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class JobSystem
+{
+	/**
+	 * The time (in nanoseconds) a waiting thread looks for work before it
+	 * checks again whether to stop waiting.
+	 */
+	private static final long HELP_TIME = 10000;
+
+	/**
+	 * Runs the jobs.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Holds the number of jobs submitted and not done.
+	 */
+	private final AtomicInteger outstandingCount;
+
+	/**
+	 * Holds the first failure of a job since the last join.
+	 */
+	private volatile Throwable failure;
+
+	/**
+	 * Initializes this job system with a worker for every core but the one
+	 * running the main thread.
+	 */
+	public JobSystem( )
+	{
+		this( Math.max( Runtime.getRuntime( ).availableProcessors( ) - 1, 1 ) );
+	}
+
+	/**
+	 * Initializes this job system.
+	 * 
+	 * @param workerCount The number of worker threads.
+	 */
+	public JobSystem( int workerCount )
+	{
+		pool = new ForkJoinPool( workerCount, pool ->
+		{
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+					.newThread( pool );
+
+			thread.setName( "JobSystem-worker-" + thread.getPoolIndex( ) );
+
+			return thread;
+		}, null, false );
+		outstandingCount = new AtomicInteger( 0 );
+		failure = null;
+	}
+
+	/**
+	 * @return The number of worker threads.
+	 */
+	public int getWorkerCount( )
+	{
+		return pool.getParallelism( );
+	}
+
+	/**
+	 * @return The number of jobs submitted and not done.
+	 */
+	public int getOutstandingCount( )
+	{
+		return outstandingCount.get( );
+	}
+
+	/**
+	 * Submits a job, running it once its dependencies are done.
+	 * 
+	 * @param job The job.
+	 * @return The job.
+	 */
+	public Job submit( Job job )
+	{
+		outstandingCount.incrementAndGet( );
+		job.submit( this );
+
+		return job;
+	}
+
+	/**
+	 * Helps run jobs until a job is done.
+	 * 
+	 * @param job The job, which must have been submitted.
+	 * @throws IllegalStateException If a job failed.
+	 */
+	public void await( Job job )
+	{
+		while( !job.isDone( ) )
+		{
+			help( );
+		}
+
+		rethrowFailure( );
+	}
+
+	/**
+	 * Helps run jobs until every submitted job is done. The jobs must not
+	 * depend on jobs that were never submitted.
+	 * 
+	 * @throws IllegalStateException If a job failed.
+	 */
+	public void join( )
+	{
+		while( outstandingCount.get( ) > 0 )
+		{
+			help( );
+		}
+
+		rethrowFailure( );
+	}
+
+	/**
+	 * Does work over a range of indices in parallel, splitting it in halves
+	 * until the parts are no larger than the grain size.
+	 * 
+	 * @param fromIndex The first index (inclusive).
+	 * @param toIndex The last index (exclusive).
+	 * @param grainSize The most indices done as one part.
+	 * @param task The work to do.
+	 */
+	public void parallelFor( int fromIndex, int toIndex, int grainSize,
+			RangeTask task )
+	{
+		RangeAction action = new RangeAction( fromIndex, toIndex,
+				Math.max( grainSize, 1 ), task );
+
+		if( ForkJoinTask.getPool( ) == pool )
+		{
+			action.invoke( );
+		}
+		else
+		{
+			pool.execute( action );
+
+			while( !action.isDone( ) )
+			{
+				help( );
+			}
+
+			action.join( );
+		}
+	}
+
+	/**
+	 * Stops the workers once the jobs running are done.
+	 */
+	public void shutdown( )
+	{
+		pool.shutdown( );
+	}
+
+	/**
+	 * Schedules a job whose dependencies are done.
+	 * 
+	 * @param job The job.
+	 */
+	void schedule( Job job )
+	{
+		if( ForkJoinTask.getPool( ) == pool )
+		{
+			job.getTask( ).fork( );
+		}
+		else
+		{
+			pool.execute( job.getTask( ) );
+		}
+	}
+
+	/**
+	 * Records that a job failed. This must happen before the job is marked
+	 * done, so that whoever sees it done also sees the failure.
+	 * 
+	 * @param failure What the job threw.
+	 */
+	void fail( Throwable failure )
+	{
+		if( this.failure == null )
+		{
+			this.failure = failure;
+		}
+	}
+
+	/**
+	 * Records that a job is done.
+	 */
+	void finish( )
+	{
+		outstandingCount.decrementAndGet( );
+	}
+
+	/**
+	 * Runs queued jobs for a short time, or waits if there are none.
+	 */
+	private void help( )
+	{
+		if( ForkJoinTask.getPool( ) == pool )
+		{
+			ForkJoinTask.helpQuiesce( );
+		}
+		else
+		{
+			pool.awaitQuiescence( HELP_TIME, TimeUnit.NANOSECONDS );
+		}
+	}
+
+	/**
+	 * Throws the first failure of a job since the last time, if any.
+	 * 
+	 * @throws IllegalStateException If a job failed.
+	 */
+	private void rethrowFailure( )
+	{
+		Throwable failure = this.failure;
+
+		if( failure != null )
+		{
+			this.failure = null;
+
+			throw new IllegalStateException( "A job failed", failure );
+		}
+	}
+
+	/**
+	 * Does work over a range of indices, splitting it in halves.
+	 */
+	private static final class RangeAction extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The first index (inclusive).
+		 */
+		private final int fromIndex;
+
+		/**
+		 * The last index (exclusive).
+		 */
+		private final int toIndex;
+
+		/**
+		 * The most indices done as one part.
+		 */
+		private final int grainSize;
+
+		/**
+		 * The work to do.
+		 */
+		private final RangeTask task;
+
+		/**
+		 * Initializes this action.
+		 * 
+		 * @param fromIndex The first index (inclusive).
+		 * @param toIndex The last index (exclusive).
+		 * @param grainSize The most indices done as one part.
+		 * @param task The work to do.
+		 */
+		RangeAction( int fromIndex, int toIndex, int grainSize, RangeTask task )
+		{
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.grainSize = grainSize;
+			this.task = task;
+		}
+
+		@Override
+		protected void compute( )
+		{
+			if( toIndex - fromIndex <= grainSize )
+			{
+				task.execute( fromIndex, toIndex );
+			}
+			else
+			{
+				int middleIndex = ( fromIndex + toIndex ) >>> 1;
+
+				invokeAll( new RangeAction( fromIndex, middleIndex, grainSize,
+						task ), new RangeAction( middleIndex, toIndex,
+								grainSize, task ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+/**
+ * Tells a time that only changes when it is advanced, for deterministic
+ * simulation and tests. Waiting jumps straight to the time waited for.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ManualClock extends Clock
+{
+	/**
+	 * Holds the current time in seconds.
+	 */
+	private double time;
+
+	/**
+	 * Initializes this clock, starting at time zero.
+	 */
+	public ManualClock( )
+	{
+		time = 0.0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getTime( )
+	{
+		return time;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getSpinTime( )
+	{
+		return 0.0;
+	}
+
+	/**
+	 * Sets the current time.
+	 * 
+	 * @param time The new time in seconds.
+	 * @return This clock.
+	 */
+	public ManualClock setTime( double time )
+	{
+		this.time = time;
+
+		return this;
+	}
+
+	/**
+	 * Advances the current time.
+	 * 
+	 * @param deltaTime The time (in seconds) to advance by.
+	 * @return This clock.
+	 */
+	public ManualClock advance( double deltaTime )
+	{
+		time += deltaTime;
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void waitUntil( double time )
+	{
+		if( this.time < time )
+		{
+			this.time = time;
+		}
+	}
+}
@@ -0,0 +1,458 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Records where frame time goes in nestable zones, cheaply enough to leave on.
+ * <p>
+ * Zones are registered once up front, and their ids are passed to
+ * {@link #begin(int)} and {@link #end(int)} around the code to measure,
+ * usually in a {@code try}/{@code finally}. Each thread records into its own
+ * ring buffer of primitive arrays, so recording takes no lock and allocates
+ * nothing; only the newest events are kept. {@link #markFrame()} marks where
+ * frames begin, {@link #collectFrame(ProfilerFrame)} builds the zone trees of
+ * the last whole frame, and {@link #writeChromeTrace(Appendable)} exports every
+ * kept event in the Chrome {@code trace_event} format.
+ * <p>
+ * Collecting and exporting read other threads' buffers without waiting for
+ * them, so they should be done between frames, while other threads are idle.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Profiler
+{
+	/**
+	 * The event of a frame marker.
+	 */
+	static final int FRAME = Integer.MIN_VALUE;
+
+	/**
+	 * The time (in nanoseconds) exported traces start at.
+	 */
+	private final long origin;
+
+	/**
+	 * The number of events kept per thread.
+	 */
+	private final int capacity;
+
+	/**
+	 * Holds the track of each thread.
+	 */
+	private final ThreadLocal<ProfilerTrack> track;
+
+	/**
+	 * Whether zones and frames are recorded.
+	 */
+	private volatile boolean enabled;
+
+	/**
+	 * Holds the name of each zone.
+	 */
+	private volatile String[] zoneNames;
+
+	/**
+	 * Holds the tracks of all threads.
+	 */
+	private volatile ProfilerTrack[] tracks;
+
+	/**
+	 * Holds the track frames were last marked on.
+	 */
+	private volatile ProfilerTrack frameTrack;
+
+	/**
+	 * Used for building zone trees.
+	 */
+	private int[] stack;
+
+	/**
+	 * Initializes this profiler, keeping 65536 events per thread.
+	 */
+	public Profiler( )
+	{
+		this( 1 << 16 );
+	}
+
+	/**
+	 * Initializes this profiler.
+	 * 
+	 * @param capacity The number of events kept per thread, rounded up to a
+	 *        power of two.
+	 */
+	public Profiler( int capacity )
+	{
+		int powerOfTwo = Integer.highestOneBit( capacity );
+
+		this.capacity = powerOfTwo < capacity ? powerOfTwo << 1 : powerOfTwo;
+
+		origin = System.nanoTime( );
+		track = ThreadLocal.withInitial( this::createTrack );
+		enabled = true;
+		zoneNames = new String[ 0 ];
+		tracks = new ProfilerTrack[ 0 ];
+		frameTrack = null;
+		stack = new int[ 64 ];
+	}
+
+	/**
+	 * @return Whether zones and frames are recorded.
+	 */
+	public boolean isEnabled( )
+	{
+		return enabled;
+	}
+
+	/**
+	 * @return The number of events kept per thread.
+	 */
+	public int getCapacity( )
+	{
+		return capacity;
+	}
+
+	/**
+	 * @return The number of zones registered.
+	 */
+	public int getZoneCount( )
+	{
+		return zoneNames.length;
+	}
+
+	/**
+	 * @param zone The zone id.
+	 * @return The name of the zone.
+	 */
+	public String getZoneName( int zone )
+	{
+		return zoneNames[ zone ];
+	}
+
+	/**
+	 * @return The number of threads that recorded.
+	 */
+	public int getThreadCount( )
+	{
+		return tracks.length;
+	}
+
+	/**
+	 * @param thread The index of the thread.
+	 * @return The name of the thread.
+	 */
+	public String getThreadName( int thread )
+	{
+		return tracks[ thread ].name;
+	}
+
+	/**
+	 * Sets whether zones and frames are recorded.
+	 * 
+	 * @param enabled Whether to record.
+	 */
+	public void setEnabled( boolean enabled )
+	{
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Registers a zone.
+	 * 
+	 * @param name The name of the zone.
+	 * @return The zone id.
+	 */
+	public synchronized int registerZone( String name )
+	{
+		String[] names = Arrays.copyOf( zoneNames, zoneNames.length + 1 );
+
+		names[ zoneNames.length ] = name;
+		zoneNames = names;
+
+		return names.length - 1;
+	}
+
+	/**
+	 * Begins a zone on the current thread.
+	 * 
+	 * @param zone The zone id.
+	 */
+	public void begin( int zone )
+	{
+		if( enabled )
+		{
+			track.get( ).record( zone, System.nanoTime( ) );
+		}
+	}
+
+	/**
+	 * Ends the innermost zone on the current thread.
+	 * 
+	 * @param zone The zone id, which must match the zone begun.
+	 */
+	public void end( int zone )
+	{
+		if( enabled )
+		{
+			track.get( ).record( ~zone, System.nanoTime( ) );
+		}
+	}
+
+	/**
+	 * Marks the beginning of a frame on the current thread.
+	 */
+	public void markFrame( )
+	{
+		if( enabled )
+		{
+			ProfilerTrack frameTrack = track.get( );
+
+			frameTrack.record( FRAME, System.nanoTime( ) );
+
+			this.frameTrack = frameTrack;
+		}
+	}
+
+	/**
+	 * Collects the zone trees of every thread in the last whole frame: the
+	 * zones that began between the last two frame markers.
+	 * 
+	 * @param frame The frame to collect into.
+	 * @return Whether there was a whole frame to collect.
+	 */
+	public boolean collectFrame( ProfilerFrame frame )
+	{
+		ProfilerTrack frameTrack = this.frameTrack;
+		long startTime = -1;
+		long endTime = -1;
+
+		if( frameTrack == null )
+		{
+			return false;
+		}
+
+		for( long e = frameTrack.count - 1; e >= Math.max(
+				frameTrack.count - capacity, 0 ); e-- )
+		{
+			int i = ( int ) e & frameTrack.mask;
+
+			if( frameTrack.events[ i ] == FRAME )
+			{
+				if( endTime < 0 )
+				{
+					endTime = frameTrack.times[ i ];
+				}
+				else
+				{
+					startTime = frameTrack.times[ i ];
+
+					break;
+				}
+			}
+		}
+
+		if( startTime < 0 )
+		{
+			return false;
+		}
+
+		frame.reset( startTime, endTime );
+
+		for( ProfilerTrack track : tracks )
+		{
+			collectTrack( track, frame );
+		}
+
+		return true;
+	}
+
+	/**
+	 * Writes every kept event in the Chrome {@code trace_event} JSON format,
+	 * which {@code chrome://tracing} and Perfetto can open.
+	 * 
+	 * @param out Where to write.
+	 * @throws IOException If writing fails.
+	 */
+	public void writeChromeTrace( Appendable out ) throws IOException
+	{
+		String separator = "";
+
+		out.append( "{\"traceEvents\":[" );
+
+		for( ProfilerTrack track : tracks )
+		{
+			long count = track.count;
+
+			out.append( separator );
+			out.append( "{\"name\":\"thread_name\",\"ph\":\"M\","
+					+ "\"pid\":1,\"tid\":" );
+			out.append( Integer.toString( track.index ) );
+			out.append( ",\"args\":{\"name\":" );
+			appendString( out, track.name );
+			out.append( "}}" );
+
+			separator = ",\n";
+
+			for( long e = Math.max( count - capacity, 0 ); e < count; e++ )
+			{
+				int i = ( int ) e & track.mask;
+				int event = track.events[ i ];
+
+				out.append( separator );
+				out.append( "{\"name\":" );
+
+				if( event == FRAME )
+				{
+					out.append( "\"frame\",\"ph\":\"i\",\"s\":\"g\"" );
+				}
+				else
+				{
+					appendString( out,
+							zoneNames[ event < 0 ? ~event : event ] );
+					out.append( event < 0 ? ",\"ph\":\"E\"" : ",\"ph\":\"B\"" );
+				}
+
+				out.append( ",\"pid\":1,\"tid\":" );
+				out.append( Integer.toString( track.index ) );
+				out.append( ",\"ts\":" );
+				out.append( Double.toString(
+						( track.times[ i ] - origin ) / 1.0E3 ) );
+				out.append( '}' );
+			}
+		}
+
+		out.append( "]}" );
+	}
+
+	/**
+	 * Collects the zones of one thread that began in a frame.
+	 * 
+	 * @param track The track of the thread.
+	 * @param frame The frame to collect into.
+	 */
+	private void collectTrack( ProfilerTrack track, ProfilerFrame frame )
+	{
+		long count = track.count;
+		int depth = 0;
+
+		for( long e = Math.max( count - capacity, 0 ); e < count; e++ )
+		{
+			int i = ( int ) e & track.mask;
+			int event = track.events[ i ];
+			long time = track.times[ i ];
+
+			if( time >= frame.getEndTime( ) )
+			{
+				break;
+			}
+
+			if( event == FRAME )
+			{
+				continue;
+			}
+
+			if( event >= 0 )
+			{
+				int index = -1;
+
+				if( time >= frame.getStartTime( ) )
+				{
+					index = frame.add( event, track.index,
+							depth > 0 ? stack[ depth - 1 ] : -1, time );
+				}
+
+				if( depth == stack.length )
+				{
+					stack = Arrays.copyOf( stack, depth * 2 );
+				}
+
+				stack[ depth++ ] = index;
+			}
+			else if( depth > 0 )
+			{
+				int index = stack[ --depth ];
+
+				if( index >= 0 )
+				{
+					frame.end( index, time );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates and registers the track of the current thread.
+	 * 
+	 * @return The track.
+	 */
+	private synchronized ProfilerTrack createTrack( )
+	{
+		ProfilerTrack[] tracks = Arrays.copyOf( this.tracks,
+				this.tracks.length + 1 );
+		ProfilerTrack track = new ProfilerTrack(
+				Thread.currentThread( ).getName( ), tracks.length - 1,
+				capacity );
+
+		tracks[ tracks.length - 1 ] = track;
+		this.tracks = tracks;
+
+		return track;
+	}
+
+	/**
+	 * Writes a string as a JSON string.
+	 * 
+	 * @param out Where to write.
+	 * @param string The string.
+	 * @throws IOException If writing fails.
+	 */
+	private static void appendString( Appendable out, String string )
+			throws IOException
+	{
+		out.append( '"' );
+
+		for( int i = 0; i < string.length( ); i++ )
+		{
+			char c = string.charAt( i );
+
+			if( c == '"' || c == '\\' )
+			{
+				out.append( '\\' ).append( c );
+			}
+			else if( c < ' ' )
+			{
+				out.append( String.format( "\\u%04x", ( int ) c ) );
+			}
+			else
+			{
+				out.append( c );
+			}
+		}
+
+		out.append( '"' );
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+import java.util.Arrays;
+
+/**
+ * Holds the zone trees of one frame, collected by
+ * {@link Profiler#collectFrame(ProfilerFrame)}.
+ * <p>
+ * Zones are listed in the order they began on each thread, so a zone is
+ * always listed after its parent, and are read by index from 0 to
+ * {@link #getCount()}. Only the profiler writes a frame; to everyone else it
+ * is a read-only snapshot. Its arrays grow as needed and are reused when the
+ * frame is collected again.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ProfilerFrame
+{
+	/**
+	 * Holds the number of zones.
+	 */
+	private int count;
+
+	/**
+	 * Holds the time (in nanoseconds) the frame began.
+	 */
+	private long startTime;
+
+	/**
+	 * Holds the time (in nanoseconds) the frame ended.
+	 */
+	private long endTime;
+
+	/**
+	 * Holds the zone id of each zone.
+	 */
+	private int[] zones;
+
+	/**
+	 * Holds the index of the thread of each zone.
+	 */
+	private int[] threads;
+
+	/**
+	 * Holds the index of the parent of each zone, or -1 for a root.
+	 */
+	private int[] parents;
+
+	/**
+	 * Holds the nesting depth of each zone, 0 for a root.
+	 */
+	private int[] depths;
+
+	/**
+	 * Holds the time (in nanoseconds) each zone began.
+	 */
+	private long[] startTimes;
+
+	/**
+	 * Holds the time (in nanoseconds) each zone took, up to the end of the
+	 * frame if it had not ended.
+	 */
+	private long[] durations;
+
+	/**
+	 * Initializes this frame with no zones.
+	 */
+	public ProfilerFrame( )
+	{
+		count = 0;
+		startTime = 0;
+		endTime = 0;
+		zones = new int[ 64 ];
+		threads = new int[ 64 ];
+		parents = new int[ 64 ];
+		depths = new int[ 64 ];
+		startTimes = new long[ 64 ];
+		durations = new long[ 64 ];
+	}
+
+	/**
+	 * @return The number of zones.
+	 */
+	public int getCount( )
+	{
+		return count;
+	}
+
+	/**
+	 * @return The time (in nanoseconds) the frame began.
+	 */
+	public long getStartTime( )
+	{
+		return startTime;
+	}
+
+	/**
+	 * @return The time (in nanoseconds) the frame ended.
+	 */
+	public long getEndTime( )
+	{
+		return endTime;
+	}
+
+	/**
+	 * @return The time (in nanoseconds) the frame took.
+	 */
+	public long getDuration( )
+	{
+		return endTime - startTime;
+	}
+
+	/**
+	 * @param index The index of the zone.
+	 * @return The zone id of the zone.
+	 */
+	public int getZone( int index )
+	{
+		return zones[ index ];
+	}
+
+	/**
+	 * @param index The index of the zone.
+	 * @return The index of the thread of the zone.
+	 */
+	public int getThread( int index )
+	{
+		return threads[ index ];
+	}
+
+	/**
+	 * @param index The index of the zone.
+	 * @return The index of the parent of the zone, or -1 for a root.
+	 */
+	public int getParent( int index )
+	{
+		return parents[ index ];
+	}
+
+	/**
+	 * @param index The index of the zone.
+	 * @return The nesting depth of the zone, 0 for a root.
+	 */
+	public int getDepth( int index )
+	{
+		return depths[ index ];
+	}
+
+	/**
+	 * @param index The index of the zone.
+	 * @return The time (in nanoseconds) the zone began.
+	 */
+	public long getStartTime( int index )
+	{
+		return startTimes[ index ];
+	}
+
+	/**
+	 * @param index The index of the zone.
+	 * @return The time (in nanoseconds) the zone took, up to the end of the
+	 *         frame if it had not ended.
+	 */
+	public long getDuration( int index )
+	{
+		return durations[ index ];
+	}
+
+	/**
+	 * Removes every zone and sets the times of the frame.
+	 * 
+	 * @param startTime The time (in nanoseconds) the frame began.
+	 * @param endTime The time (in nanoseconds) the frame ended.
+	 */
+	void reset( long startTime, long endTime )
+	{
+		this.count = 0;
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	/**
+	 * Adds a zone.
+	 * 
+	 * @param zone The zone id.
+	 * @param thread The index of the thread.
+	 * @param parent The index of the parent, or -1 for a root.
+	 * @param startTime The time (in nanoseconds) the zone began.
+	 * @return The index of the zone.
+	 */
+	int add( int zone, int thread, int parent, long startTime )
+	{
+		if( count == zones.length )
+		{
+			int capacity = count * 2;
+
+			zones = Arrays.copyOf( zones, capacity );
+			threads = Arrays.copyOf( threads, capacity );
+			parents = Arrays.copyOf( parents, capacity );
+			depths = Arrays.copyOf( depths, capacity );
+			startTimes = Arrays.copyOf( startTimes, capacity );
+			durations = Arrays.copyOf( durations, capacity );
+		}
+
+		zones[ count ] = zone;
+		threads[ count ] = thread;
+		parents[ count ] = parent;
+		depths[ count ] = parent < 0 ? 0 : depths[ parent ] + 1;
+		startTimes[ count ] = startTime;
+		durations[ count ] = endTime - startTime;
+
+		return count++ ;
+	}
+
+	/**
+	 * Ends a zone.
+	 * 
+	 * @param index The index of the zone.
+	 * @param endTime The time (in nanoseconds) the zone ended.
+	 */
+	void end( int index, long endTime )
+	{
+		durations[ index ] = endTime - startTimes[ index ];
+	}
+}
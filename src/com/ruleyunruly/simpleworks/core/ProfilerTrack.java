@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+/**
+ * Holds the events one thread recorded for a {@link Profiler}, in a ring
+ * buffer of primitive arrays.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+final class ProfilerTrack
+{
+	/**
+	 * The name of the thread.
+	 */
+	final String name;
+
+	/**
+	 * The index of this track in its profiler.
+	 */
+	final int index;
+
+	/**
+	 * Holds the time (in nanoseconds) of each event.
+	 */
+	final long[] times;
+
+	/**
+	 * Holds each event: a zone id when it began, the complement of a zone id
+	 * when it ended, or {@link Profiler#FRAME} for a frame marker.
+	 */
+	final int[] events;
+
+	/**
+	 * The mask wrapping event counts into the buffer.
+	 */
+	final int mask;
+
+	/**
+	 * Holds the number of events ever recorded.
+	 */
+	long count;
+
+	/**
+	 * Initializes this track.
+	 * 
+	 * @param name The name of the thread.
+	 * @param index The index of this track in its profiler.
+	 * @param capacity The number of events kept, a power of two.
+	 */
+	ProfilerTrack( String name, int index, int capacity )
+	{
+		this.name = name;
+		this.index = index;
+
+		times = new long[ capacity ];
+		events = new int[ capacity ];
+		mask = capacity - 1;
+		count = 0;
+	}
+
+	/**
+	 * Records an event.
+	 * 
+	 * @param event The event.
+	 * @param time The time of the event in nanoseconds.
+	 */
+	void record( int event, long time )
+	{
+		int i = ( int ) count & mask;
+
+		times[ i ] = time;
+		events[ i ] = event;
+		count++ ;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.core;
+
+/**
+ * Tells the time with {@link System#nanoTime()}, which is monotonic and needs
+ * no native library, so it works headless.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class SystemClock extends Clock
+{
+	/**
+	 * The value of {@link System#nanoTime()} at time zero.
+	 */
+	private final long origin;
+
+	/**
+	 * Initializes this clock, starting at time zero.
+	 */
+	public SystemClock( )
+	{
+		origin = System.nanoTime( );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getTime( )
+	{
+		return ( System.nanoTime( ) - origin ) / 1.0E9;
+	}
+}
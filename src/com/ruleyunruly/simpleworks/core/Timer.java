@@ -23,17 +23,33 @@
  */
 package com.ruleyunruly.simpleworks.core;
 
-import static java.lang.Thread.*;
-import static org.lwjgl.glfw.GLFW.*;
+import com.ruleyunruly.simpleworks.math.FrameArena;
 
 /**
- * Calculates the UPS, FPS, and delta.
+ * Calculates the UPS, FPS, and delta, and counts frame and update times over
+ * one second windows.
  * 
  * @version 1.0 20200205
  * @author Christopher R. Ruley
  */
 public class Timer
 {
+	/**
+	 * How quickly (from 0 to 1) the average pacing error follows new samples.
+	 */
+	private static final float AVERAGING_RATE = 0.1F;
+
+	/**
+	 * How many times longer than the sync interval a frame may take before it
+	 * is counted as jank.
+	 */
+	private static final float JANK_FACTOR = 2.0F;
+
+	/**
+	 * Tells the time and waits.
+	 */
+	private final Clock clock;
+
 	/**
 	 * Limits the UPS and FPS.
 	 */
@@ -70,13 +86,65 @@ public class Timer
 	private double lastTime;
 
 	/**
-	 * Initializes this timer.
+	 * Holds the time (in seconds) sync returned after the target time.
+	 */
+	private float pacingError;
+
+	/**
+	 * Holds the moving average of the pacing error.
+	 */
+	private float averagePacingError;
+
+	/**
+	 * Counts the frame times of the current window.
+	 */
+	private Histogram frameHistogram;
+
+	/**
+	 * Holds the frame times of the last window.
+	 */
+	private Histogram currentFrameHistogram;
+
+	/**
+	 * Counts the update times of the current window.
+	 */
+	private Histogram updateHistogram;
+
+	/**
+	 * Holds the update times of the last window.
+	 */
+	private Histogram currentUpdateHistogram;
+
+	/**
+	 * Holds the jank count of the last window.
+	 */
+	private int currentJankCount;
+
+	/**
+	 * Used for jank count calculation.
+	 */
+	private int countForJank;
+
+	/**
+	 * Initializes this timer with a {@link GLFWClock}.
 	 * 
 	 * @param syncInterval The sync interval.
 	 */
 	public Timer( int syncInterval )
+	{
+		this( syncInterval, new GLFWClock( ) );
+	}
+
+	/**
+	 * Initializes this timer.
+	 * 
+	 * @param syncInterval The sync interval.
+	 * @param clock The clock to tell the time and wait with.
+	 */
+	public Timer( int syncInterval, Clock clock )
 	{
 		this.syncInterval = syncInterval;
+		this.clock = clock;
 
 		currentUPS = 0;
 		currentFPS = 0;
@@ -84,6 +152,22 @@ public class Timer
 		countForFPS = 0;
 		countForTime = 0.0F;
 		lastTime = getCurrentTime( );
+		pacingError = 0.0F;
+		averagePacingError = 0.0F;
+		frameHistogram = new Histogram( );
+		currentFrameHistogram = new Histogram( );
+		updateHistogram = new Histogram( );
+		currentUpdateHistogram = new Histogram( );
+		currentJankCount = 0;
+		countForJank = 0;
+	}
+
+	/**
+	 * @return The clock.
+	 */
+	public Clock getClock( )
+	{
+		return clock;
 	}
 
 	/**
@@ -110,6 +194,33 @@ public class Timer
 		return currentFPS > 0 ? currentFPS : countForFPS;
 	}
 
+	/**
+	 * @return The frame times of the last whole second, read with
+	 *         {@link Histogram#getPercentile(float)} and
+	 *         {@link Histogram#getMax()}.
+	 */
+	public Histogram getCurrentFrameHistogram( )
+	{
+		return currentFrameHistogram;
+	}
+
+	/**
+	 * @return The update times of the last whole second.
+	 */
+	public Histogram getCurrentUpdateHistogram( )
+	{
+		return currentUpdateHistogram;
+	}
+
+	/**
+	 * @return The number of frames in the last whole second that took longer
+	 *         than twice the sync interval.
+	 */
+	public int getCurrentJankCount( )
+	{
+		return currentJankCount;
+	}
+
 	/** 
 	 * @return The count for UPS.
 	 */
@@ -142,12 +253,38 @@ public class Timer
 		return lastTime;
 	}
 
+	/**
+	 * @return The time (in seconds) left to spin after sleeping, calibrated
+	 *         from how far the OS oversleeps.
+	 */
+	public double getSpinTime( )
+	{
+		return clock.getSpinTime( );
+	}
+
+	/**
+	 * @return The time (in seconds) the last waiting sync returned after the
+	 *         target time.
+	 */
+	public float getPacingError( )
+	{
+		return pacingError;
+	}
+
+	/**
+	 * @return The moving average of the pacing error in seconds.
+	 */
+	public float getAveragePacingError( )
+	{
+		return averagePacingError;
+	}
+
 	/** 
 	 * @return The current time in seconds.
 	 */
 	public double getCurrentTime( )
 	{
-		return glfwGetTime( );
+		return clock.getTime( );
 	}
 
 	/**
@@ -161,9 +298,25 @@ public class Timer
 		lastTime = currentTime;
 		countForTime += deltaTime;
 
+		frameHistogram.record( deltaTime );
+
+		if( deltaTime > JANK_FACTOR / syncInterval )
+		{
+			countForJank++ ;
+		}
+
 		return deltaTime;
 	}
 
+	/**
+	 * Starts the next delta time from now, without recording the time since
+	 * the last one, such as before the first frame after loading.
+	 */
+	public void resetTime( )
+	{
+		lastTime = getCurrentTime( );
+	}
+
 	/**
 	 * Sets the sync interval.
 	 * 
@@ -182,6 +335,16 @@ public class Timer
 		countForUPS++ ;
 	}
 
+	/**
+	 * Records how long an update took.
+	 * 
+	 * @param updateTime The update time in seconds.
+	 */
+	public void recordUpdateTime( float updateTime )
+	{
+		updateHistogram.record( updateTime );
+	}
+
 	/**
 	 * Updates the count for FPS by incrementing.
 	 */
@@ -191,26 +354,31 @@ public class Timer
 	}
 
 	/**
-	 * Syncs the UPS and FPS.
+	 * Syncs the UPS and FPS by waiting on the clock.
 	 */
 	public void sync( )
 	{
-		double currentTime = getCurrentTime( );
-		float targetTime = 1.0F / syncInterval;
+		double targetTime = lastTime + 1.0 / syncInterval;
 
-		while( currentTime - lastTime < targetTime )
+		if( getCurrentTime( ) >= targetTime )
 		{
-			yield( );
-
-			currentTime = getCurrentTime( );
+			return;
 		}
+
+		clock.waitUntil( targetTime );
+
+		pacingError = ( float ) ( getCurrentTime( ) - targetTime );
+		averagePacingError += ( pacingError - averagePacingError )
+				* AVERAGING_RATE;
 	}
 
 	/**
-	 * Updates the timer.
+	 * Updates the timer, and starts a new frame for every {@link FrameArena}.
 	 */
 	public void update( )
 	{
+		FrameArena.nextFrame( );
+
 		if( countForTime > 1.0F )
 		{
 			currentUPS = countForUPS;
@@ -218,6 +386,16 @@ public class Timer
 			currentFPS = countForFPS;
 			countForFPS = 0;
 			countForTime -= 1.0F;
+			currentJankCount = countForJank;
+			countForJank = 0;
+
+			Histogram histogram = currentFrameHistogram;
+
+			currentFrameHistogram = frameHistogram;
+			frameHistogram = histogram.reset( );
+			histogram = currentUpdateHistogram;
+			currentUpdateHistogram = updateHistogram;
+			updateHistogram = histogram.reset( );
 		}
 	}
 }
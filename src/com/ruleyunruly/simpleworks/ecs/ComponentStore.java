@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Holds one kind of component for the entities of a {@link World}, as a
+ * sparse set.
+ * <p>
+ * The components are packed into dense columns with no gaps, in the order of
+ * {@link #getEntity(int)}, and a sparse array maps each entity's slot to its
+ * index in the columns. Adding, removing, and finding a component take
+ * constant time, and a removed component is replaced by the last one. If the
+ * store is owned by a {@link Group}, the entities of the group come first.
+ * <p>
+ * Subclasses hold the columns, and only need to grow, copy, swap, and clear
+ * entries in them.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public abstract class ComponentStore
+{
+	/**
+	 * Holds the index in the columns of each entity slot.
+	 */
+	private int[] sparse;
+
+	/**
+	 * Holds the entity at each index in the columns.
+	 */
+	private int[] entities;
+
+	/**
+	 * Holds the number of components.
+	 */
+	private int size;
+
+	/**
+	 * Holds the group owning this store, or null.
+	 */
+	Group group;
+
+	/**
+	 * Initializes this store and adds it to a world. Subclasses make room
+	 * for the given number of components in their columns.
+	 * 
+	 * @param world The world holding the entities.
+	 * @param capacity The number of components to make room for.
+	 */
+	protected ComponentStore( World world, int capacity )
+	{
+		sparse = new int[ Math.max( capacity, 1 ) ];
+		entities = new int[ Math.max( capacity, 1 ) ];
+
+		world.addStore( this );
+	}
+
+	/**
+	 * @return The number of components.
+	 */
+	public int size( )
+	{
+		return size;
+	}
+
+	/**
+	 * @param index The index in the columns.
+	 * @return The entity whose component is at the index.
+	 */
+	public int getEntity( int index )
+	{
+		return entities[ index ];
+	}
+
+	/**
+	 * @param entity The entity.
+	 * @return Whether the entity has a component in this store.
+	 */
+	public boolean has( int entity )
+	{
+		int slot = entity & World.INDEX_MASK;
+
+		if( slot >= sparse.length )
+		{
+			return false;
+		}
+
+		int index = sparse[ slot ];
+
+		return index < size && entities[ index ] == entity;
+	}
+
+	/**
+	 * @param entity The entity, which must have a component in this store.
+	 * @return The index of the entity's component in the columns.
+	 */
+	public int getIndex( int entity )
+	{
+		return sparse[ entity & World.INDEX_MASK ];
+	}
+
+	/**
+	 * Adds a cleared component for an entity, unless it has one already.
+	 * 
+	 * @param entity The entity.
+	 * @return The index of the entity's component in the columns.
+	 */
+	public int add( int entity )
+	{
+		int slot = entity & World.INDEX_MASK;
+
+		if( has( entity ) )
+		{
+			return sparse[ slot ];
+		}
+
+		if( size == entities.length )
+		{
+			entities = Arrays.copyOf( entities, size * 2 );
+
+			grow( size * 2 );
+		}
+
+		if( slot >= sparse.length )
+		{
+			sparse = Arrays.copyOf( sparse,
+					Math.max( slot + 1, sparse.length * 2 ) );
+		}
+
+		sparse[ slot ] = size;
+		entities[ size ] = entity;
+
+		clear( size );
+
+		size++ ;
+
+		if( group != null )
+		{
+			group.onAdd( entity );
+		}
+
+		return sparse[ slot ];
+	}
+
+	/**
+	 * Removes the component of an entity, if it has one.
+	 * 
+	 * @param entity The entity.
+	 */
+	public void remove( int entity )
+	{
+		if( !has( entity ) )
+		{
+			return;
+		}
+
+		if( group != null )
+		{
+			group.onRemove( entity );
+		}
+
+		int index = sparse[ entity & World.INDEX_MASK ];
+		int last = --size;
+
+		if( index != last )
+		{
+			copy( last, index );
+
+			entities[ index ] = entities[ last ];
+			sparse[ entities[ index ] & World.INDEX_MASK ] = index;
+		}
+	}
+
+	/**
+	 * Swaps two components, and their entities.
+	 * 
+	 * @param index1 The index of the first component.
+	 * @param index2 The index of the second component.
+	 */
+	void swapEntries( int index1, int index2 )
+	{
+		if( index1 == index2 )
+		{
+			return;
+		}
+
+		int entity1 = entities[ index1 ];
+		int entity2 = entities[ index2 ];
+
+		swap( index1, index2 );
+
+		entities[ index1 ] = entity2;
+		entities[ index2 ] = entity1;
+		sparse[ entity1 & World.INDEX_MASK ] = index2;
+		sparse[ entity2 & World.INDEX_MASK ] = index1;
+	}
+
+	/**
+	 * Grows the columns, keeping their entries.
+	 * 
+	 * @param capacity The number of components to make room for.
+	 */
+	protected abstract void grow( int capacity );
+
+	/**
+	 * Copies an entry of the columns over another.
+	 * 
+	 * @param fromIndex The index to copy from.
+	 * @param toIndex The index to copy to.
+	 */
+	protected abstract void copy( int fromIndex, int toIndex );
+
+	/**
+	 * Swaps two entries of the columns.
+	 * 
+	 * @param index1 The index of the first entry.
+	 * @param index2 The index of the second entry.
+	 */
+	protected abstract void swap( int index1, int index2 );
+
+	/**
+	 * Clears an entry of the columns.
+	 * 
+	 * @param index The index of the entry.
+	 */
+	protected abstract void clear( int index );
+}
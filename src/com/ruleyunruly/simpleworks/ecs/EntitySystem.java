@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.core.RangeTask;
+
+/**
+ * Updates the entities of a {@link Group} once per step, in chunks of
+ * indices into the group's columns.
+ * <p>
+ * A system is given the time step by the game loop, usually the delta from
+ * {@link com.ruleyunruly.simpleworks.core.Timer#getDeltaTime()} or the fixed
+ * step of {@link com.ruleyunruly.simpleworks.core.GameLoop#update(float)},
+ * and either updates every entity on the calling thread or spreads the
+ * chunks across a {@link JobSystem}. Chunks never overlap, so a system that
+ * only writes the entries at its own indices needs no locking.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public abstract class EntitySystem
+{
+	/**
+	 * Holds the group of entities to update.
+	 */
+	protected final Group group;
+
+	/**
+	 * Holds the number of entities in a chunk.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * Updates ranges of entities with the current time step.
+	 */
+	private final RangeTask chunkTask;
+
+	/**
+	 * Holds the current time step.
+	 */
+	private float deltaTime;
+
+	/**
+	 * Initializes this system with chunks of 1024 entities.
+	 * 
+	 * @param group The group of entities to update.
+	 */
+	public EntitySystem( Group group )
+	{
+		this( group, 1024 );
+	}
+
+	/**
+	 * Initializes this system.
+	 * 
+	 * @param group The group of entities to update.
+	 * @param chunkSize The number of entities in a chunk.
+	 */
+	public EntitySystem( Group group, int chunkSize )
+	{
+		this.group = group;
+		this.chunkSize = Math.max( chunkSize, 1 );
+
+		chunkTask = ( fromIndex, toIndex ) -> update( fromIndex, toIndex,
+				deltaTime );
+	}
+
+	/**
+	 * Updates every entity on the calling thread.
+	 * 
+	 * @param deltaTime The time step, in seconds.
+	 */
+	public void update( float deltaTime )
+	{
+		update( 0, group.size( ), deltaTime );
+	}
+
+	/**
+	 * Updates every entity, spreading the chunks across a job system, and
+	 * returns once all are done.
+	 * 
+	 * @param deltaTime The time step, in seconds.
+	 * @param jobSystem The job system.
+	 * @throws RuntimeException What a chunk threw, if one failed; unlike
+	 *         {@link JobSystem#join()}, it is not wrapped.
+	 */
+	public void update( float deltaTime, JobSystem jobSystem )
+	{
+		this.deltaTime = deltaTime;
+
+		jobSystem.parallelFor( 0, group.size( ), chunkSize, chunkTask );
+	}
+
+	/**
+	 * Updates a range of entities, whose components are at the same indices
+	 * in every store of the group.
+	 * 
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param deltaTime The time step, in seconds.
+	 */
+	protected abstract void update( int fromIndex, int toIndex,
+			float deltaTime );
+}
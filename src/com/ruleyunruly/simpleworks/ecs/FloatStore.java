@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Holds a float component, such as a mass or a lifetime, in a float column.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class FloatStore extends ComponentStore
+{
+	/**
+	 * Represents the column of floats. It is replaced when the store grows,
+	 * so it must be read again after adding components.
+	 */
+	public float[] values;
+
+	/**
+	 * Initializes this store with room for 1024 components.
+	 * 
+	 * @param world The world holding the entities.
+	 */
+	public FloatStore( World world )
+	{
+		this( world, 1024 );
+	}
+
+	/**
+	 * Initializes this store.
+	 * 
+	 * @param world The world holding the entities.
+	 * @param capacity The number of components to make room for.
+	 */
+	public FloatStore( World world, int capacity )
+	{
+		super( world, capacity );
+
+		values = new float[ Math.max( capacity, 1 ) ];
+	}
+
+	/**
+	 * @param entity The entity, which must have a component in this store.
+	 * @return The component of the entity.
+	 */
+	public float get( int entity )
+	{
+		return values[ getIndex( entity ) ];
+	}
+
+	/**
+	 * Sets the component of an entity, adding it if the entity has none.
+	 * 
+	 * @param entity The entity.
+	 * @param value The new value.
+	 * @return This store.
+	 */
+	public FloatStore set( int entity, float value )
+	{
+		int index = add( entity );
+
+		values[ index ] = value;
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void grow( int capacity )
+	{
+		values = Arrays.copyOf( values, capacity );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void copy( int fromIndex, int toIndex )
+	{
+		values[ toIndex ] = values[ fromIndex ];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void swap( int index1, int index2 )
+	{
+		float value = values[ index1 ];
+
+		values[ index1 ] = values[ index2 ];
+		values[ index2 ] = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void clear( int index )
+	{
+		values[ index ] = 0.0F;
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+/**
+ * Owns a set of component stores and keeps the entities having a component in
+ * all of them at the start of every store, in the same order.
+ * <p>
+ * The components of the entities in the group are then at the same indices,
+ * from 0 to {@link #size()}, in every column, so systems read the columns
+ * straight through with no lookups, and ranges of the indices can be handed
+ * to different threads. Entities are swapped into and out of the front of
+ * the stores as their components are added and removed. A store can only be
+ * owned by one group.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Group
+{
+	/**
+	 * Holds the stores owned by this group.
+	 */
+	private final ComponentStore[] stores;
+
+	/**
+	 * Holds the number of entities in this group.
+	 */
+	private int size;
+
+	/**
+	 * Initializes this group, gathering the entities already in the stores.
+	 * 
+	 * @param stores The stores to own.
+	 * @throws IllegalStateException If a store is owned by another group.
+	 */
+	public Group( ComponentStore... stores )
+	{
+		this.stores = stores.clone( );
+
+		for( ComponentStore store : stores )
+		{
+			if( store.group != null )
+			{
+				throw new IllegalStateException(
+						"A store can only be owned by one group" );
+			}
+		}
+
+		for( ComponentStore store : stores )
+		{
+			store.group = this;
+		}
+
+		for( int i = 0; i < stores[ 0 ].size( ); i++ )
+		{
+			onAdd( stores[ 0 ].getEntity( i ) );
+		}
+	}
+
+	/**
+	 * @return The number of entities in this group, whose components are
+	 *         at the indices before this in every store.
+	 */
+	public int size( )
+	{
+		return size;
+	}
+
+	/**
+	 * @param index The index in the stores, before {@link #size()}.
+	 * @return The entity at the index.
+	 */
+	public int getEntity( int index )
+	{
+		return stores[ 0 ].getEntity( index );
+	}
+
+	/**
+	 * @param entity The entity.
+	 * @return Whether the entity has a component in every store.
+	 */
+	public boolean contains( int entity )
+	{
+		for( ComponentStore store : stores )
+		{
+			if( !store.has( entity ) )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Moves an entity into this group if it now has every component.
+	 * 
+	 * @param entity The entity a component was added for.
+	 */
+	void onAdd( int entity )
+	{
+		if( !contains( entity ) || stores[ 0 ].getIndex( entity ) < size )
+		{
+			return;
+		}
+
+		for( ComponentStore store : stores )
+		{
+			store.swapEntries( store.getIndex( entity ), size );
+		}
+
+		size++ ;
+	}
+
+	/**
+	 * Moves an entity out of this group before one of its components is
+	 * removed.
+	 * 
+	 * @param entity The entity a component is being removed for.
+	 */
+	void onRemove( int entity )
+	{
+		if( !contains( entity ) || stores[ 0 ].getIndex( entity ) >= size )
+		{
+			return;
+		}
+
+		size-- ;
+
+		for( ComponentStore store : stores )
+		{
+			store.swapEntries( store.getIndex( entity ), size );
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+import java.util.Arrays;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+
+/**
+ * Holds a {@link Matrix4F} component, such as a transformation, in a float
+ * column with 16 floats per matrix, in the order of
+ * {@link Matrix4F#store(float[], int)}. Cleared components are identity
+ * matrices.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Matrix4FStore extends ComponentStore
+{
+	/**
+	 * Represents the column of matrices. It is replaced when the store grows,
+	 * so it must be read again after adding components.
+	 */
+	public float[] values;
+
+	/**
+	 * Initializes this store with room for 1024 components.
+	 * 
+	 * @param world The world holding the entities.
+	 */
+	public Matrix4FStore( World world )
+	{
+		this( world, 1024 );
+	}
+
+	/**
+	 * Initializes this store.
+	 * 
+	 * @param world The world holding the entities.
+	 * @param capacity The number of components to make room for.
+	 */
+	public Matrix4FStore( World world, int capacity )
+	{
+		super( world, capacity );
+
+		values = new float[ Math.max( capacity, 1 ) * 16 ];
+	}
+
+	/**
+	 * Gets the component of an entity.
+	 * 
+	 * @param entity The entity, which must have a component in this store.
+	 * @param destination The matrix to store the component in.
+	 * @return The destination matrix.
+	 */
+	public Matrix4F get( int entity, Matrix4F destination )
+	{
+		return destination.set( values, getIndex( entity ) * 16 );
+	}
+
+	/**
+	 * Sets the component of an entity, adding it if the entity has none.
+	 * 
+	 * @param entity The entity.
+	 * @param matrix The new value.
+	 * @return This store.
+	 */
+	public Matrix4FStore set( int entity, Matrix4F matrix )
+	{
+		int index = add( entity );
+
+		matrix.store( values, index * 16 );
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void grow( int capacity )
+	{
+		values = Arrays.copyOf( values, capacity * 16 );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void copy( int fromIndex, int toIndex )
+	{
+		System.arraycopy( values, fromIndex * 16, values, toIndex * 16, 16 );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void swap( int index1, int index2 )
+	{
+		int offset1 = index1 * 16;
+		int offset2 = index2 * 16;
+
+		for( int i = 0; i < 16; i++ )
+		{
+			float value = values[ offset1 + i ];
+
+			values[ offset1 + i ] = values[ offset2 + i ];
+			values[ offset2 + i ] = value;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void clear( int index )
+	{
+		int offset = index * 16;
+
+		Arrays.fill( values, offset, offset + 16, 0.0F );
+
+		values[ offset ] = 1.0F;
+		values[ offset + 5 ] = 1.0F;
+		values[ offset + 10 ] = 1.0F;
+		values[ offset + 15 ] = 1.0F;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Holds a {@link Vector3F} component, such as a position or a velocity, in
+ * a {@link Vector3FArray} column.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Vector3FStore extends ComponentStore
+{
+	/**
+	 * Represents the column of vectors. It is replaced when the store grows,
+	 * so it must be read again after adding components.
+	 */
+	public Vector3FArray values;
+
+	/**
+	 * Initializes this store with room for 1024 components.
+	 * 
+	 * @param world The world holding the entities.
+	 */
+	public Vector3FStore( World world )
+	{
+		this( world, 1024 );
+	}
+
+	/**
+	 * Initializes this store.
+	 * 
+	 * @param world The world holding the entities.
+	 * @param capacity The number of components to make room for.
+	 */
+	public Vector3FStore( World world, int capacity )
+	{
+		super( world, capacity );
+
+		values = new Vector3FArray( Math.max( capacity, 1 ) );
+	}
+
+	/**
+	 * Gets the component of an entity.
+	 * 
+	 * @param entity The entity, which must have a component in this store.
+	 * @param destination The vector to store the component in.
+	 * @return The destination vector.
+	 */
+	public Vector3F get( int entity, Vector3F destination )
+	{
+		return values.get( getIndex( entity ), destination );
+	}
+
+	/**
+	 * Sets the component of an entity, adding it if the entity has none.
+	 * 
+	 * @param entity The entity.
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @return This store.
+	 */
+	public Vector3FStore set( int entity, float x, float y, float z )
+	{
+		int index = add( entity );
+
+		values.set( index, x, y, z );
+
+		return this;
+	}
+
+	/**
+	 * Sets the component of an entity, adding it if the entity has none.
+	 * 
+	 * @param entity The entity.
+	 * @param vector The new value.
+	 * @return This store.
+	 */
+	public Vector3FStore set( int entity, Vector3F vector )
+	{
+		return set( entity, vector.x, vector.y, vector.z );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void grow( int capacity )
+	{
+		Vector3FArray values = new Vector3FArray( capacity );
+
+		System.arraycopy( this.values.x, 0, values.x, 0, this.values.x.length );
+		System.arraycopy( this.values.y, 0, values.y, 0, this.values.y.length );
+		System.arraycopy( this.values.z, 0, values.z, 0, this.values.z.length );
+
+		this.values = values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void copy( int fromIndex, int toIndex )
+	{
+		values.x[ toIndex ] = values.x[ fromIndex ];
+		values.y[ toIndex ] = values.y[ fromIndex ];
+		values.z[ toIndex ] = values.z[ fromIndex ];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void swap( int index1, int index2 )
+	{
+		float x = values.x[ index1 ];
+		float y = values.y[ index1 ];
+		float z = values.z[ index1 ];
+
+		copy( index2, index1 );
+
+		values.x[ index2 ] = x;
+		values.y[ index2 ] = y;
+		values.z[ index2 ] = z;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void clear( int index )
+	{
+		values.x[ index ] = 0.0F;
+		values.y[ index ] = 0.0F;
+		values.z[ index ] = 0.0F;
+	}
+}
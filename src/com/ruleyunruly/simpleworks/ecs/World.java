@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates and destroys entities, and keeps the component stores holding
+ * their components.
+ * <p>
+ * An entity is an int: the low bits index the entity's slot, and the high
+ * bits count how many times the slot has been reused, so an entity that was
+ * destroyed is never mistaken for the one that took its slot.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class World
+{
+	/**
+	 * The number of bits of an entity holding its slot.
+	 */
+	public static final int INDEX_BITS = 20;
+
+	/**
+	 * The mask of the bits of an entity holding its slot.
+	 */
+	public static final int INDEX_MASK = ( 1 << INDEX_BITS ) - 1;
+
+	/**
+	 * The mask of a generation once shifted out of an entity.
+	 */
+	private static final int GENERATION_MASK = ( 1 << ( 32 - INDEX_BITS ) ) - 1;
+
+	/**
+	 * Holds the component stores.
+	 */
+	private final List<ComponentStore> stores;
+
+	/**
+	 * Holds the number of times each slot has been reused.
+	 */
+	private int[] generations;
+
+	/**
+	 * Holds the slots of destroyed entities.
+	 */
+	private int[] freeSlots;
+
+	/**
+	 * Holds the number of slots of destroyed entities.
+	 */
+	private int freeCount;
+
+	/**
+	 * Holds the number of slots ever used.
+	 */
+	private int slotCount;
+
+	/**
+	 * Holds the number of living entities.
+	 */
+	private int entityCount;
+
+	/**
+	 * Initializes this world with room for 1024 entities.
+	 */
+	public World( )
+	{
+		this( 1024 );
+	}
+
+	/**
+	 * Initializes this world.
+	 * 
+	 * @param capacity The number of entities to make room for.
+	 */
+	public World( int capacity )
+	{
+		stores = new ArrayList<>( );
+		generations = new int[ Math.max( capacity, 1 ) ];
+		freeSlots = new int[ Math.max( capacity, 1 ) ];
+	}
+
+	/**
+	 * @return The number of living entities.
+	 */
+	public int getEntityCount( )
+	{
+		return entityCount;
+	}
+
+	/**
+	 * @param entity The entity.
+	 * @return Whether the entity has been created and not destroyed.
+	 */
+	public boolean isAlive( int entity )
+	{
+		int slot = entity & INDEX_MASK;
+
+		return slot < slotCount && generations[ slot ] == entity >>> INDEX_BITS;
+	}
+
+	/**
+	 * Creates an entity with no components.
+	 * 
+	 * @return The entity.
+	 * @throws IllegalStateException If every slot is in use.
+	 */
+	public int createEntity( )
+	{
+		int slot;
+
+		if( freeCount > 0 )
+		{
+			slot = freeSlots[ --freeCount ];
+		}
+		else
+		{
+			if( slotCount > INDEX_MASK )
+			{
+				throw new IllegalStateException( "Too many entities" );
+			}
+
+			if( slotCount == generations.length )
+			{
+				generations = Arrays.copyOf( generations, slotCount * 2 );
+				freeSlots = Arrays.copyOf( freeSlots, slotCount * 2 );
+			}
+
+			slot = slotCount++ ;
+		}
+
+		entityCount++ ;
+
+		return generations[ slot ] << INDEX_BITS | slot;
+	}
+
+	/**
+	 * Destroys an entity, removing its components from every store.
+	 * Destroying an entity that is not alive does nothing.
+	 * 
+	 * @param entity The entity.
+	 */
+	public void destroyEntity( int entity )
+	{
+		int slot = entity & INDEX_MASK;
+
+		if( !isAlive( entity ) )
+		{
+			return;
+		}
+
+		for( int i = 0; i < stores.size( ); i++ )
+		{
+			stores.get( i ).remove( entity );
+		}
+
+		generations[ slot ] = ( generations[ slot ] + 1 ) & GENERATION_MASK;
+		freeSlots[ freeCount++ ] = slot;
+		entityCount-- ;
+	}
+
+	/**
+	 * Keeps a store, so destroyed entities are removed from it.
+	 * 
+	 * @param store The store.
+	 */
+	void addStore( ComponentStore store )
+	{
+		stores.add( store );
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+/**
+ * Holds an axis-aligned bounding box, as the corners with the smallest and
+ * largest coordinates.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class AABB
+{
+	/**
+	 * Represents the corner with the smallest coordinates.
+	 */
+	public final Vector3F min;
+
+	/**
+	 * Represents the corner with the largest coordinates.
+	 */
+	public final Vector3F max;
+
+	/**
+	 * Initializes this box at the origin with no size.
+	 */
+	public AABB( )
+	{
+		min = new Vector3F( );
+		max = new Vector3F( );
+	}
+
+	/**
+	 * Initializes this box.
+	 * 
+	 * @param min The corner with the smallest coordinates.
+	 * @param max The corner with the largest coordinates.
+	 */
+	public AABB( Vector3F min, Vector3F max )
+	{
+		this.min = new Vector3F( min );
+		this.max = new Vector3F( max );
+	}
+
+	/**
+	 * Initializes this box by copying another box.
+	 * 
+	 * @param other The box to copy.
+	 */
+	public AABB( AABB other )
+	{
+		this( other.min, other.max );
+	}
+
+	/**
+	 * @return The center of this box.
+	 */
+	public Vector3F getCenter( )
+	{
+		return new Vector3F( ( min.x + max.x ) * 0.5F,
+				( min.y + max.y ) * 0.5F, ( min.z + max.z ) * 0.5F );
+	}
+
+	/**
+	 * @return The half sizes of this box along each axis.
+	 */
+	public Vector3F getExtents( )
+	{
+		return new Vector3F( ( max.x - min.x ) * 0.5F,
+				( max.y - min.y ) * 0.5F, ( max.z - min.z ) * 0.5F );
+	}
+
+	/**
+	 * @return The surface area of this box.
+	 */
+	public float getSurfaceArea( )
+	{
+		float width = max.x - min.x;
+		float height = max.y - min.y;
+		float depth = max.z - min.z;
+
+		return 2.0F * ( width * height + height * depth + depth * width );
+	}
+
+	/**
+	 * @param point The point to test.
+	 * @return Whether the point is inside this box or on its surface.
+	 */
+	public boolean contains( Vector3F point )
+	{
+		return point.x >= min.x && point.x <= max.x && point.y >= min.y
+				&& point.y <= max.y && point.z >= min.z && point.z <= max.z;
+	}
+
+	/**
+	 * @param other The box to test.
+	 * @return Whether the other box is wholly inside this box.
+	 */
+	public boolean contains( AABB other )
+	{
+		return other.min.x >= min.x && other.max.x <= max.x
+				&& other.min.y >= min.y && other.max.y <= max.y
+				&& other.min.z >= min.z && other.max.z <= max.z;
+	}
+
+	/**
+	 * @param other The box to test.
+	 * @return Whether this box and the other box overlap or touch.
+	 */
+	public boolean intersects( AABB other )
+	{
+		return other.min.x <= max.x && other.max.x >= min.x
+				&& other.min.y <= max.y && other.max.y >= min.y
+				&& other.min.z <= max.z && other.max.z >= min.z;
+	}
+
+	/**
+	 * Sets this box to the given corners.
+	 * 
+	 * @param min The corner with the smallest coordinates.
+	 * @param max The corner with the largest coordinates.
+	 * @return This box.
+	 */
+	public AABB set( Vector3F min, Vector3F max )
+	{
+		this.min.x = min.x;
+		this.min.y = min.y;
+		this.min.z = min.z;
+		this.max.x = max.x;
+		this.max.y = max.y;
+		this.max.z = max.z;
+
+		return this;
+	}
+
+	/**
+	 * Sets this box to another box.
+	 * 
+	 * @param other The box to copy.
+	 * @return This box.
+	 */
+	public AABB set( AABB other )
+	{
+		return set( other.min, other.max );
+	}
+
+	/**
+	 * Sets this box to the given center and half sizes.
+	 * 
+	 * @param center The center of the box.
+	 * @param extents The half sizes of the box along each axis.
+	 * @return This box.
+	 */
+	public AABB setCentered( Vector3F center, Vector3F extents )
+	{
+		min.x = center.x - extents.x;
+		min.y = center.y - extents.y;
+		min.z = center.z - extents.z;
+		max.x = center.x + extents.x;
+		max.y = center.y + extents.y;
+		max.z = center.z + extents.z;
+
+		return this;
+	}
+
+	/**
+	 * Grows this box to hold a point.
+	 * 
+	 * @param point The point to hold.
+	 * @return This box.
+	 */
+	public AABB include( Vector3F point )
+	{
+		min.x = min( min.x, point.x );
+		min.y = min( min.y, point.y );
+		min.z = min( min.z, point.z );
+		max.x = max( max.x, point.x );
+		max.y = max( max.y, point.y );
+		max.z = max( max.z, point.z );
+
+		return this;
+	}
+
+	/**
+	 * Grows this box to hold another box.
+	 * 
+	 * @param other The box to hold.
+	 * @return This box.
+	 */
+	public AABB include( AABB other )
+	{
+		min.x = min( min.x, other.min.x );
+		min.y = min( min.y, other.min.y );
+		min.z = min( min.z, other.min.z );
+		max.x = max( max.x, other.max.x );
+		max.y = max( max.y, other.max.y );
+		max.z = max( max.z, other.max.z );
+
+		return this;
+	}
+
+	/**
+	 * Grows this box by a margin on every side.
+	 * 
+	 * @param margin The margin to grow by.
+	 * @return This box.
+	 */
+	public AABB expand( float margin )
+	{
+		min.x -= margin;
+		min.y -= margin;
+		min.z -= margin;
+		max.x += margin;
+		max.y += margin;
+		max.z += margin;
+
+		return this;
+	}
+
+	/**
+	 * Moves this box.
+	 * 
+	 * @param translation The translation to move by.
+	 * @return This box.
+	 */
+	public AABB translate( Vector3F translation )
+	{
+		min.add( translation );
+		max.add( translation );
+
+		return this;
+	}
+}
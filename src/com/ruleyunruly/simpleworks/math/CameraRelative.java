@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Converts double precision positions and transformations into float ones
+ * relative to a camera, for rendering worlds too large for floats.
+ * <p>
+ * Far from the origin, a float cannot hold a position precisely, but near the
+ * camera it can. Subtracting the position of the camera in double precision
+ * first, and only then rounding to floats, keeps everything near the camera
+ * precise. The view matrix then only holds the rotation of the camera; see
+ * {@link #getView}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class CameraRelative
+{
+	/**
+	 * The number of matrices packed per bulk put when storing many at once.
+	 */
+	private static final int STORE_BATCH = 64;
+
+	/**
+	 * Holds the array each thread packs matrices into for bulk puts.
+	 */
+	private static final ThreadLocal<float[]> STORE_BATCHES = ThreadLocal
+			.withInitial( ( ) -> new float[ STORE_BATCH * 16 ] );
+
+	/**
+	 * Holds the position of the camera, which becomes the origin.
+	 */
+	public final Vector3D origin;
+
+	/**
+	 * Initializes this helper with the camera at the origin.
+	 */
+	public CameraRelative( )
+	{
+		origin = new Vector3D( );
+	}
+
+	/**
+	 * Initializes this helper.
+	 * 
+	 * @param origin The position of the camera.
+	 */
+	public CameraRelative( Vector3D origin )
+	{
+		this.origin = new Vector3D( origin );
+	}
+
+	/**
+	 * Sets the position of the camera, usually once per frame.
+	 * 
+	 * @param origin The position of the camera.
+	 * @return This helper.
+	 */
+	public CameraRelative setOrigin( Vector3D origin )
+	{
+		this.origin.set( origin );
+
+		return this;
+	}
+
+	/**
+	 * Calculates a position relative to the camera.
+	 * 
+	 * @param position The position to convert.
+	 * @param destination The vector to store the relative position in.
+	 * @return The destination vector.
+	 */
+	public Vector3F getRelative( Vector3D position, Vector3F destination )
+	{
+		return destination.set( ( float ) ( position.x - origin.x ),
+				( float ) ( position.y - origin.y ),
+				( float ) ( position.z - origin.z ) );
+	}
+
+	/**
+	 * Calculates a transformation relative to the camera. The transformation
+	 * is assumed to be affine: that its last row is 0, 0, 0, 1, as for any
+	 * combination of translation, rotation, and scale. Only its translation
+	 * is changed.
+	 * 
+	 * @param transformation The transformation to convert.
+	 * @param destination The matrix to store the relative transformation in.
+	 * @return The destination matrix.
+	 */
+	public Matrix4F getRelative( Matrix4D transformation, Matrix4F destination )
+	{
+		destination.element00 = ( float ) transformation.element00;
+		destination.element01 = ( float ) transformation.element01;
+		destination.element02 = ( float ) transformation.element02;
+		destination.element03 = ( float ) transformation.element03;
+		destination.element10 = ( float ) transformation.element10;
+		destination.element11 = ( float ) transformation.element11;
+		destination.element12 = ( float ) transformation.element12;
+		destination.element13 = ( float ) transformation.element13;
+		destination.element20 = ( float ) transformation.element20;
+		destination.element21 = ( float ) transformation.element21;
+		destination.element22 = ( float ) transformation.element22;
+		destination.element23 = ( float ) transformation.element23;
+		destination.element30 = ( float ) ( transformation.element30
+				- origin.x );
+		destination.element31 = ( float ) ( transformation.element31
+				- origin.y );
+		destination.element32 = ( float ) ( transformation.element32
+				- origin.z );
+		destination.element33 = ( float ) transformation.element33;
+
+		return destination;
+	}
+
+	/**
+	 * Recreates a matrix into the view matrix of the camera. Everything is
+	 * already relative to the camera, so the view matrix only rotates.
+	 * 
+	 * @param rotation The vector (in degrees) the camera is rotated by.
+	 * @param destination The matrix to store the view matrix in.
+	 * @return The destination matrix.
+	 */
+	public Matrix4F getView( Vector3F rotation, Matrix4F destination )
+	{
+		return destination.recreateIntoRotation( rotation );
+	}
+
+	/**
+	 * Stores a transformation relative to the camera in a float buffer, and
+	 * flips the buffer. The transformation is assumed to be affine, as in
+	 * {@link #getRelative(Matrix4D, Matrix4F)}.
+	 * 
+	 * @param transformation The transformation to store.
+	 * @param floatBuffer The float buffer to store the transformation in.
+	 * @return This helper.
+	 */
+	public CameraRelative store( Matrix4D transformation,
+			FloatBuffer floatBuffer )
+	{
+		int position = floatBuffer.position( );
+
+		storeAt( transformation, floatBuffer, position );
+		floatBuffer.position( position + 16 );
+		floatBuffer.flip( );
+
+		return this;
+	}
+
+	/**
+	 * Stores a transformation relative to the camera in a float buffer at an
+	 * offset, without changing the position of the buffer or flipping it. The
+	 * transformation is assumed to be affine, as in
+	 * {@link #getRelative(Matrix4D, Matrix4F)}.
+	 * 
+	 * @param transformation The transformation to store.
+	 * @param floatBuffer The float buffer to store the transformation in.
+	 * @param offset The index to store the first float at.
+	 * @return This helper.
+	 */
+	public CameraRelative storeAt( Matrix4D transformation,
+			FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, ( float ) transformation.element00 );
+		floatBuffer.put( offset + 1, ( float ) transformation.element01 );
+		floatBuffer.put( offset + 2, ( float ) transformation.element02 );
+		floatBuffer.put( offset + 3, ( float ) transformation.element03 );
+		floatBuffer.put( offset + 4, ( float ) transformation.element10 );
+		floatBuffer.put( offset + 5, ( float ) transformation.element11 );
+		floatBuffer.put( offset + 6, ( float ) transformation.element12 );
+		floatBuffer.put( offset + 7, ( float ) transformation.element13 );
+		floatBuffer.put( offset + 8, ( float ) transformation.element20 );
+		floatBuffer.put( offset + 9, ( float ) transformation.element21 );
+		floatBuffer.put( offset + 10, ( float ) transformation.element22 );
+		floatBuffer.put( offset + 11, ( float ) transformation.element23 );
+		floatBuffer.put( offset + 12, ( float ) ( transformation.element30
+				- origin.x ) );
+		floatBuffer.put( offset + 13, ( float ) ( transformation.element31
+				- origin.y ) );
+		floatBuffer.put( offset + 14, ( float ) ( transformation.element32
+				- origin.z ) );
+		floatBuffer.put( offset + 15, ( float ) transformation.element33 );
+
+		return this;
+	}
+
+	/**
+	 * Stores a range of transformations relative to the camera contiguously
+	 * in a float buffer at an offset, without changing the position of the
+	 * buffer or flipping it. The transformations are packed into a reusable
+	 * array of the calling thread and written with bulk puts.
+	 * 
+	 * @param transformations The transformations to store.
+	 * @param fromIndex The index of the first transformation.
+	 * @param toIndex The index after the last transformation.
+	 * @param floatBuffer The float buffer to store the transformations in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public FloatBuffer storeAt( Matrix4D[] transformations, int fromIndex,
+			int toIndex, FloatBuffer floatBuffer, int offset )
+	{
+		float[] batch = STORE_BATCHES.get( );
+
+		for( int i = fromIndex; i < toIndex; i += STORE_BATCH )
+		{
+			int count = min( toIndex - i, STORE_BATCH );
+
+			for( int j = 0; j < count; j++ )
+			{
+				store( transformations[ i + j ], batch, j * 16 );
+			}
+
+			floatBuffer.put( offset, batch, 0, count * 16 );
+			offset += count * 16;
+		}
+
+		return floatBuffer;
+	}
+
+	/**
+	 * Stores a transformation relative to the camera in a float array, in the
+	 * same order as a float buffer.
+	 * 
+	 * @param transformation The transformation to store.
+	 * @param array The array to store the transformation in.
+	 * @param offset The index to store the first float at.
+	 */
+	private void store( Matrix4D transformation, float[] array, int offset )
+	{
+		transformation.store( array, offset );
+
+		array[ offset + 12 ] = ( float ) ( transformation.element30
+				- origin.x );
+		array[ offset + 13 ] = ( float ) ( transformation.element31
+				- origin.y );
+		array[ offset + 14 ] = ( float ) ( transformation.element32
+				- origin.z );
+	}
+}
@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Hands out temporary vectors and matrices that live until the end of the
+ * frame, so per-frame math does not create garbage.
+ * <p>
+ * Each thread has its own arena, found with {@link #get()}, holding a pool of
+ * each type. Taking an object from a pool is an index increment, and the
+ * pools only grow, so once they have reached the most any frame needs,
+ * nothing more is allocated. {@link #nextFrame()}, called by
+ * {@link com.ruleyunruly.simpleworks.core.Timer#update()} once per frame,
+ * starts a new frame; each arena notices on its next use and takes objects
+ * from the start of its pools again. An object from an arena must therefore
+ * not be kept past the frame, or handed to another thread.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public final class FrameArena
+{
+	/**
+	 * Holds the arena of each thread.
+	 */
+	private static final ThreadLocal<FrameArena> ARENAS = ThreadLocal
+			.withInitial( FrameArena::new );
+
+	/**
+	 * Holds the current frame. Only the thread calling {@link #nextFrame()}
+	 * writes it.
+	 */
+	private static volatile long currentFrame;
+
+	/**
+	 * Holds the frame the pools were last reset for.
+	 */
+	private long frame;
+
+	/**
+	 * Holds the 2-tuple vectors.
+	 */
+	private final Pool<Vector2F> vector2Fs;
+
+	/**
+	 * Holds the 3-tuple vectors.
+	 */
+	private final Pool<Vector3F> vector3Fs;
+
+	/**
+	 * Holds the 4-tuple vectors.
+	 */
+	private final Pool<Vector4F> vector4Fs;
+
+	/**
+	 * Holds the 2x2 matrices.
+	 */
+	private final Pool<Matrix2F> matrix2Fs;
+
+	/**
+	 * Holds the 3x3 matrices.
+	 */
+	private final Pool<Matrix3F> matrix3Fs;
+
+	/**
+	 * Holds the 4x4 matrices.
+	 */
+	private final Pool<Matrix4F> matrix4Fs;
+
+	/**
+	 * Initializes this arena with empty pools.
+	 */
+	private FrameArena( )
+	{
+		frame = currentFrame;
+		vector2Fs = new Pool<>( Vector2F::new );
+		vector3Fs = new Pool<>( Vector3F::new );
+		vector4Fs = new Pool<>( Vector4F::new );
+		matrix2Fs = new Pool<>( Matrix2F::new );
+		matrix3Fs = new Pool<>( Matrix3F::new );
+		matrix4Fs = new Pool<>( Matrix4F::new );
+	}
+
+	/**
+	 * @return The arena of the calling thread.
+	 */
+	public static FrameArena get( )
+	{
+		return ARENAS.get( );
+	}
+
+	/**
+	 * Starts a new frame, making the objects of every arena free again.
+	 * Only one thread should call this.
+	 */
+	public static void nextFrame( )
+	{
+		currentFrame = currentFrame + 1;
+	}
+
+	/**
+	 * @return The current frame, counted from 0.
+	 */
+	public static long getFrame( )
+	{
+		return currentFrame;
+	}
+
+	/**
+	 * @return A vector set to zero.
+	 */
+	public Vector2F getVector2F( )
+	{
+		return take( vector2Fs ).setZero( );
+	}
+
+	/**
+	 * @param other The vector to copy.
+	 * @return A copy of the vector.
+	 */
+	public Vector2F getVector2F( Vector2F other )
+	{
+		return take( vector2Fs ).set( other );
+	}
+
+	/**
+	 * @return A vector set to zero.
+	 */
+	public Vector3F getVector3F( )
+	{
+		return take( vector3Fs ).setZero( );
+	}
+
+	/**
+	 * @param other The vector to copy.
+	 * @return A copy of the vector.
+	 */
+	public Vector3F getVector3F( Vector3F other )
+	{
+		return take( vector3Fs ).set( other );
+	}
+
+	/**
+	 * @return A vector set to zero.
+	 */
+	public Vector4F getVector4F( )
+	{
+		return take( vector4Fs ).setZero( );
+	}
+
+	/**
+	 * @param other The vector to copy.
+	 * @return A copy of the vector.
+	 */
+	public Vector4F getVector4F( Vector4F other )
+	{
+		return take( vector4Fs ).set( other );
+	}
+
+	/**
+	 * @return An identity matrix.
+	 */
+	public Matrix2F getMatrix2F( )
+	{
+		return take( matrix2Fs ).setIdentity( );
+	}
+
+	/**
+	 * @param other The matrix to copy.
+	 * @return A copy of the matrix.
+	 */
+	public Matrix2F getMatrix2F( Matrix2F other )
+	{
+		return take( matrix2Fs ).set( other );
+	}
+
+	/**
+	 * @return An identity matrix.
+	 */
+	public Matrix3F getMatrix3F( )
+	{
+		return take( matrix3Fs ).setIdentity( );
+	}
+
+	/**
+	 * @param other The matrix to copy.
+	 * @return A copy of the matrix.
+	 */
+	public Matrix3F getMatrix3F( Matrix3F other )
+	{
+		return take( matrix3Fs ).set( other );
+	}
+
+	/**
+	 * @return An identity matrix.
+	 */
+	public Matrix4F getMatrix4F( )
+	{
+		return take( matrix4Fs ).setIdentity( );
+	}
+
+	/**
+	 * @param other The matrix to copy.
+	 * @return A copy of the matrix.
+	 */
+	public Matrix4F getMatrix4F( Matrix4F other )
+	{
+		return take( matrix4Fs ).set( other );
+	}
+
+	/**
+	 * Makes every object of this arena free again before the frame ends, for
+	 * threads that do many separate pieces of work in one frame. Objects
+	 * taken before must no longer be used.
+	 */
+	public void reset( )
+	{
+		vector2Fs.count = 0;
+		vector3Fs.count = 0;
+		vector4Fs.count = 0;
+		matrix2Fs.count = 0;
+		matrix3Fs.count = 0;
+		matrix4Fs.count = 0;
+	}
+
+	/**
+	 * Takes the next object from a pool, first resetting the pools if a new
+	 * frame has started.
+	 * 
+	 * @param <T> The type of the objects.
+	 * @param pool The pool.
+	 * @return The object.
+	 */
+	private <T> T take( Pool<T> pool )
+	{
+		long frame = currentFrame;
+
+		if( frame != this.frame )
+		{
+			this.frame = frame;
+
+			reset( );
+		}
+
+		return pool.take( );
+	}
+
+	/**
+	 * Holds the objects of one type, growing when all are taken.
+	 * 
+	 * @param <T> The type of the objects.
+	 */
+	private static final class Pool<T>
+	{
+		/**
+		 * Creates new objects.
+		 */
+		private final Supplier<T> factory;
+
+		/**
+		 * Holds the objects.
+		 */
+		private Object[] objects;
+
+		/**
+		 * Holds the number of objects taken.
+		 */
+		private int count;
+
+		/**
+		 * Initializes this pool with 64 objects.
+		 * 
+		 * @param factory Creates new objects.
+		 */
+		private Pool( Supplier<T> factory )
+		{
+			this.factory = factory;
+
+			objects = new Object[ 0 ];
+
+			grow( 64 );
+		}
+
+		/**
+		 * @return The next object.
+		 */
+		@SuppressWarnings( "unchecked" )
+		private T take( )
+		{
+			if( count == objects.length )
+			{
+				grow( count * 2 );
+			}
+
+			return ( T ) objects[ count++ ];
+		}
+
+		/**
+		 * Grows this pool, filling it with new objects.
+		 * 
+		 * @param capacity The number of objects to hold.
+		 */
+		private void grow( int capacity )
+		{
+			int oldCapacity = objects.length;
+
+			objects = Arrays.copyOf( objects, capacity );
+
+			for( int i = oldCapacity; i < capacity; i++ )
+			{
+				objects[ i ] = factory.get( );
+			}
+		}
+	}
+}
@@ -0,0 +1,400 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+/**
+ * Holds the six planes bounding what a camera can see, and tests spheres and
+ * boxes against them.
+ * <p>
+ * The planes are taken from a view-projection matrix, with normals pointing
+ * inward and normalized, so the distance from a plane to a point is
+ * {@code x * plane.x + y * plane.y + z * plane.z + plane.w}. The tests are
+ * conservative: a shape is only culled when it is wholly outside one plane,
+ * so shapes near the corners may be kept. The batch tests take shapes as
+ * structures of arrays and write the indices of the visible ones, in order,
+ * to a compact list.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Frustum
+{
+	/**
+	 * The index of the left plane.
+	 */
+	public static final int LEFT = 0;
+
+	/**
+	 * The index of the right plane.
+	 */
+	public static final int RIGHT = 1;
+
+	/**
+	 * The index of the bottom plane.
+	 */
+	public static final int BOTTOM = 2;
+
+	/**
+	 * The index of the top plane.
+	 */
+	public static final int TOP = 3;
+
+	/**
+	 * The index of the near plane.
+	 */
+	public static final int NEAR = 4;
+
+	/**
+	 * The index of the far plane.
+	 */
+	public static final int FAR = 5;
+
+	/**
+	 * Represents the planes, with the normal in x, y, and z and the distance
+	 * from the origin in w.
+	 */
+	public final Vector4F[] planes;
+
+	/**
+	 * Initializes this frustum with every plane zero, so nothing is culled.
+	 */
+	public Frustum( )
+	{
+		planes = new Vector4F[ 6 ];
+
+		for( int i = 0; i < 6; i++ )
+		{
+			planes[ i ] = new Vector4F( 0.0F, 0.0F, 0.0F, 0.0F );
+		}
+	}
+
+	/**
+	 * Initializes this frustum from a view-projection matrix.
+	 * 
+	 * @param matrix The view-projection matrix.
+	 */
+	public Frustum( Matrix4F matrix )
+	{
+		this( );
+
+		recreateFromMatrix( matrix );
+	}
+
+	/**
+	 * Recreates this frustum from a view-projection matrix, such as a
+	 * perspective matrix multiplied by a view matrix. Each plane is the sum or
+	 * difference of the last row and another row of the matrix.
+	 * 
+	 * @param matrix The view-projection matrix.
+	 * @return This frustum.
+	 */
+	public Frustum recreateFromMatrix( Matrix4F matrix )
+	{
+		setPlane( LEFT, matrix.element03 + matrix.element00,
+				matrix.element13 + matrix.element10,
+				matrix.element23 + matrix.element20,
+				matrix.element33 + matrix.element30 );
+		setPlane( RIGHT, matrix.element03 - matrix.element00,
+				matrix.element13 - matrix.element10,
+				matrix.element23 - matrix.element20,
+				matrix.element33 - matrix.element30 );
+		setPlane( BOTTOM, matrix.element03 + matrix.element01,
+				matrix.element13 + matrix.element11,
+				matrix.element23 + matrix.element21,
+				matrix.element33 + matrix.element31 );
+		setPlane( TOP, matrix.element03 - matrix.element01,
+				matrix.element13 - matrix.element11,
+				matrix.element23 - matrix.element21,
+				matrix.element33 - matrix.element31 );
+		setPlane( NEAR, matrix.element03 + matrix.element02,
+				matrix.element13 + matrix.element12,
+				matrix.element23 + matrix.element22,
+				matrix.element33 + matrix.element32 );
+		setPlane( FAR, matrix.element03 - matrix.element02,
+				matrix.element13 - matrix.element12,
+				matrix.element23 - matrix.element22,
+				matrix.element33 - matrix.element32 );
+
+		return this;
+	}
+
+	/**
+	 * @param center The center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * @return Whether any of the sphere may be visible.
+	 */
+	public boolean isSphereVisible( Vector3F center, float radius )
+	{
+		for( int i = 0; i < 6; i++ )
+		{
+			Vector4F plane = planes[ i ];
+
+			if( plane.x * center.x + plane.y * center.y + plane.z * center.z
+					+ plane.w < -radius )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param min The corner of the box with the smallest coordinates.
+	 * @param max The corner of the box with the largest coordinates.
+	 * @return Whether any of the box may be visible.
+	 */
+	public boolean isBoxVisible( Vector3F min, Vector3F max )
+	{
+		for( int i = 0; i < 6; i++ )
+		{
+			Vector4F plane = planes[ i ];
+			float x = plane.x > 0.0F ? max.x : min.x;
+			float y = plane.y > 0.0F ? max.y : min.y;
+			float z = plane.z > 0.0F ? max.z : min.z;
+
+			if( plane.x * x + plane.y * y + plane.z * z + plane.w < 0.0F )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param box The box.
+	 * @return Whether any of the box may be visible.
+	 */
+	public boolean isBoxVisible( AABB box )
+	{
+		return isBoxVisible( box.min, box.max );
+	}
+
+	/**
+	 * Culls a range of spheres, writing the indices of the ones that may be
+	 * visible in order.
+	 * 
+	 * @param centers The centers of the spheres.
+	 * @param radii The radii of the spheres.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param visibleIndices The array to write the indices to, with room for
+	 *        every index in the range after the offset.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int cullSpheres( Vector3FArray centers, float[] radii,
+			int fromIndex, int toIndex, int[] visibleIndices, int offset )
+	{
+		Vector4F leftPlane = planes[ LEFT ];
+		Vector4F rightPlane = planes[ RIGHT ];
+		Vector4F bottomPlane = planes[ BOTTOM ];
+		Vector4F topPlane = planes[ TOP ];
+		Vector4F nearPlane = planes[ NEAR ];
+		Vector4F farPlane = planes[ FAR ];
+		float leftX = leftPlane.x;
+		float leftY = leftPlane.y;
+		float leftZ = leftPlane.z;
+		float leftW = leftPlane.w;
+		float rightX = rightPlane.x;
+		float rightY = rightPlane.y;
+		float rightZ = rightPlane.z;
+		float rightW = rightPlane.w;
+		float bottomX = bottomPlane.x;
+		float bottomY = bottomPlane.y;
+		float bottomZ = bottomPlane.z;
+		float bottomW = bottomPlane.w;
+		float topX = topPlane.x;
+		float topY = topPlane.y;
+		float topZ = topPlane.z;
+		float topW = topPlane.w;
+		float nearX = nearPlane.x;
+		float nearY = nearPlane.y;
+		float nearZ = nearPlane.z;
+		float nearW = nearPlane.w;
+		float farX = farPlane.x;
+		float farY = farPlane.y;
+		float farZ = farPlane.z;
+		float farW = farPlane.w;
+		float[] x = centers.x;
+		float[] y = centers.y;
+		float[] z = centers.z;
+		int count = offset;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float centerX = x[ i ];
+			float centerY = y[ i ];
+			float centerZ = z[ i ];
+			float minimumDistance = -radii[ i ];
+			boolean visible = leftX * centerX + leftY * centerY
+					+ leftZ * centerZ + leftW >= minimumDistance
+					& rightX * centerX + rightY * centerY + rightZ * centerZ
+					+ rightW >= minimumDistance
+					& bottomX * centerX + bottomY * centerY + bottomZ * centerZ
+					+ bottomW >= minimumDistance
+					& topX * centerX + topY * centerY + topZ * centerZ
+					+ topW >= minimumDistance
+					& nearX * centerX + nearY * centerY + nearZ * centerZ
+					+ nearW >= minimumDistance
+					& farX * centerX + farY * centerY + farZ * centerZ
+					+ farW >= minimumDistance;
+
+			visibleIndices[ count ] = i;
+			count += visible ? 1 : 0;
+		}
+
+		return count - offset;
+	}
+
+	/**
+	 * Culls a range of boxes, writing the indices of the ones that may be
+	 * visible in order.
+	 * 
+	 * @param centers The centers of the boxes.
+	 * @param extents The half sizes of the boxes along each axis.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param visibleIndices The array to write the indices to, with room for
+	 *        every index in the range after the offset.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int cullBoxes( Vector3FArray centers, Vector3FArray extents,
+			int fromIndex, int toIndex, int[] visibleIndices, int offset )
+	{
+		Vector4F leftPlane = planes[ LEFT ];
+		Vector4F rightPlane = planes[ RIGHT ];
+		Vector4F bottomPlane = planes[ BOTTOM ];
+		Vector4F topPlane = planes[ TOP ];
+		Vector4F nearPlane = planes[ NEAR ];
+		Vector4F farPlane = planes[ FAR ];
+		float leftX = leftPlane.x;
+		float leftY = leftPlane.y;
+		float leftZ = leftPlane.z;
+		float leftW = leftPlane.w;
+		float rightX = rightPlane.x;
+		float rightY = rightPlane.y;
+		float rightZ = rightPlane.z;
+		float rightW = rightPlane.w;
+		float bottomX = bottomPlane.x;
+		float bottomY = bottomPlane.y;
+		float bottomZ = bottomPlane.z;
+		float bottomW = bottomPlane.w;
+		float topX = topPlane.x;
+		float topY = topPlane.y;
+		float topZ = topPlane.z;
+		float topW = topPlane.w;
+		float nearX = nearPlane.x;
+		float nearY = nearPlane.y;
+		float nearZ = nearPlane.z;
+		float nearW = nearPlane.w;
+		float farX = farPlane.x;
+		float farY = farPlane.y;
+		float farZ = farPlane.z;
+		float farW = farPlane.w;
+		float leftAbsX = abs( leftX );
+		float leftAbsY = abs( leftY );
+		float leftAbsZ = abs( leftZ );
+		float rightAbsX = abs( rightX );
+		float rightAbsY = abs( rightY );
+		float rightAbsZ = abs( rightZ );
+		float bottomAbsX = abs( bottomX );
+		float bottomAbsY = abs( bottomY );
+		float bottomAbsZ = abs( bottomZ );
+		float topAbsX = abs( topX );
+		float topAbsY = abs( topY );
+		float topAbsZ = abs( topZ );
+		float nearAbsX = abs( nearX );
+		float nearAbsY = abs( nearY );
+		float nearAbsZ = abs( nearZ );
+		float farAbsX = abs( farX );
+		float farAbsY = abs( farY );
+		float farAbsZ = abs( farZ );
+		int count = offset;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float centerX = centers.x[ i ];
+			float centerY = centers.y[ i ];
+			float centerZ = centers.z[ i ];
+			float extentX = extents.x[ i ];
+			float extentY = extents.y[ i ];
+			float extentZ = extents.z[ i ];
+			boolean visible = leftX * centerX + leftY * centerY
+					+ leftZ * centerZ + leftW
+					+ leftAbsX * extentX + leftAbsY * extentY
+					+ leftAbsZ * extentZ >= 0.0F
+					& rightX * centerX + rightY * centerY
+					+ rightZ * centerZ + rightW
+					+ rightAbsX * extentX + rightAbsY * extentY
+					+ rightAbsZ * extentZ >= 0.0F
+					& bottomX * centerX + bottomY * centerY
+					+ bottomZ * centerZ + bottomW
+					+ bottomAbsX * extentX + bottomAbsY * extentY
+					+ bottomAbsZ * extentZ >= 0.0F
+					& topX * centerX + topY * centerY
+					+ topZ * centerZ + topW
+					+ topAbsX * extentX + topAbsY * extentY
+					+ topAbsZ * extentZ >= 0.0F
+					& nearX * centerX + nearY * centerY
+					+ nearZ * centerZ + nearW
+					+ nearAbsX * extentX + nearAbsY * extentY
+					+ nearAbsZ * extentZ >= 0.0F
+					& farX * centerX + farY * centerY
+					+ farZ * centerZ + farW
+					+ farAbsX * extentX + farAbsY * extentY
+					+ farAbsZ * extentZ >= 0.0F;
+
+			visibleIndices[ count ] = i;
+			count += visible ? 1 : 0;
+		}
+
+		return count - offset;
+	}
+
+	/**
+	 * Sets a plane, normalizing it.
+	 * 
+	 * @param index The index of the plane.
+	 * @param x The x coordinate of the normal.
+	 * @param y The y coordinate of the normal.
+	 * @param z The z coordinate of the normal.
+	 * @param w The distance from the origin.
+	 */
+	private void setPlane( int index, float x, float y, float z, float w )
+	{
+		Vector4F plane = planes[ index ];
+		float inverseLength = ( float ) ( 1.0
+				/ sqrt( x * x + y * y + z * z ) );
+
+		plane.x = x * inverseLength;
+		plane.y = y * inverseLength;
+		plane.z = z * inverseLength;
+		plane.w = w * inverseLength;
+	}
+}
@@ -41,6 +41,11 @@ public abstract class Matrix
 		setIdentity( );
 	}
 
+	/**
+	 * @return The determinant of this matrix.
+	 */
+	public abstract float getDeterminant( );
+
 	/**
 	 * Sets this matrix to zero.
 	 * 
@@ -69,6 +74,14 @@ public abstract class Matrix
 	 */
 	public abstract Matrix setTransposed( );
 
+	/**
+	 * Sets this matrix to its inverse. A matrix with a determinant of zero has
+	 * no inverse and becomes infinite or NaN.
+	 * 
+	 * @return This matrix.
+	 */
+	public abstract Matrix setInverted( );
+
 	/**
 	 * Stores this matrix in a float buffer.
 	 * 
@@ -76,4 +89,15 @@ public abstract class Matrix
 	 * @return This matrix.
 	 */
 	public abstract Matrix store( FloatBuffer floatBuffer );
+
+	/**
+	 * Stores this matrix in a float buffer at an offset, without changing the
+	 * position of the buffer or flipping it, so that many matrices can be
+	 * packed into one buffer.
+	 * 
+	 * @param floatBuffer The float buffer to store this matrix in.
+	 * @param offset The index to store the first float at.
+	 * @return This matrix.
+	 */
+	public abstract Matrix storeAt( FloatBuffer floatBuffer, int offset );
 }
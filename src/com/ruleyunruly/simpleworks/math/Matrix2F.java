@@ -89,6 +89,22 @@ public class Matrix2F extends Matrix
 				other.element11 );
 	}
 
+	/**
+	 * Sets this matrix by copying another matrix.
+	 * 
+	 * @param other The matrix to copy.
+	 * @return This matrix.
+	 */
+	public Matrix2F set( Matrix2F other )
+	{
+		element00 = other.element00;
+		element01 = other.element01;
+		element10 = other.element10;
+		element11 = other.element11;
+
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -137,11 +153,40 @@ public class Matrix2F extends Matrix
 	@Override
 	public Matrix2F setTransposed( )
 	{
-		float element01 = element10;
-		float element10 = element01;
+		float element01 = this.element10;
+		float element10 = this.element01;
+
+		this.element01 = element01;
+		this.element10 = element10;
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float getDeterminant( )
+	{
+		return element00 * element11 - element01 * element10;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Matrix2F setInverted( )
+	{
+		float inverseDeterminant = 1.0F / getDeterminant( );
+		float element00 = this.element11 * inverseDeterminant;
+		float element01 = -this.element01 * inverseDeterminant;
+		float element10 = -this.element10 * inverseDeterminant;
+		float element11 = this.element00 * inverseDeterminant;
 
+		this.element00 = element00;
 		this.element01 = element01;
 		this.element10 = element10;
+		this.element11 = element11;
 
 		return this;
 	}
@@ -217,4 +262,18 @@ public class Matrix2F extends Matrix
 
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Matrix2F storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, element00 );
+		floatBuffer.put( offset + 1, element01 );
+		floatBuffer.put( offset + 2, element10 );
+		floatBuffer.put( offset + 3, element11 );
+
+		return this;
+	}
 }
@@ -126,6 +126,27 @@ public class Matrix3F extends Matrix
 				other.element20, other.element21, other.element22 );
 	}
 
+	/**
+	 * Sets this matrix by copying another matrix.
+	 * 
+	 * @param other The matrix to copy.
+	 * @return This matrix.
+	 */
+	public Matrix3F set( Matrix3F other )
+	{
+		element00 = other.element00;
+		element01 = other.element01;
+		element02 = other.element02;
+		element10 = other.element10;
+		element11 = other.element11;
+		element12 = other.element12;
+		element20 = other.element20;
+		element21 = other.element21;
+		element22 = other.element22;
+
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -212,6 +233,57 @@ public class Matrix3F extends Matrix
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float getDeterminant( )
+	{
+		return element00 * ( element11 * element22 - element12 * element21 )
+				+ element01 * ( element12 * element20 - element10 * element22 )
+				+ element02 * ( element10 * element21 - element11 * element20 );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Matrix3F setInverted( )
+	{
+		float cofactor00 = this.element11 * this.element22
+				- this.element12 * this.element21;
+		float cofactor01 = this.element12 * this.element20
+				- this.element10 * this.element22;
+		float cofactor02 = this.element10 * this.element21
+				- this.element11 * this.element20;
+		float inverseDeterminant = 1.0F / ( this.element00 * cofactor00
+				+ this.element01 * cofactor01 + this.element02 * cofactor02 );
+		float element01 = ( this.element02 * this.element21
+				- this.element01 * this.element22 ) * inverseDeterminant;
+		float element02 = ( this.element01 * this.element12
+				- this.element02 * this.element11 ) * inverseDeterminant;
+		float element11 = ( this.element00 * this.element22
+				- this.element02 * this.element20 ) * inverseDeterminant;
+		float element12 = ( this.element02 * this.element10
+				- this.element00 * this.element12 ) * inverseDeterminant;
+		float element21 = ( this.element01 * this.element20
+				- this.element00 * this.element21 ) * inverseDeterminant;
+		float element22 = ( this.element00 * this.element11
+				- this.element01 * this.element10 ) * inverseDeterminant;
+
+		this.element00 = cofactor00 * inverseDeterminant;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element10 = cofactor01 * inverseDeterminant;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element20 = cofactor02 * inverseDeterminant;
+		this.element21 = element21;
+		this.element22 = element22;
+
+		return this;
+	}
+
 	/**
 	 * Adds another matrix to this matrix.
 	 * 
@@ -303,6 +375,76 @@ public class Matrix3F extends Matrix
 		return this;
 	}
 
+	/**
+	 * Recreates this matrix into a rotation matrix.
+	 * 
+	 * @param quaternion The unit quaternion to rotate by.
+	 * @return The current matrix.
+	 */
+	public Matrix3F recreateIntoRotation( QuaternionF quaternion )
+	{
+		float xx = quaternion.x * quaternion.x;
+		float yy = quaternion.y * quaternion.y;
+		float zz = quaternion.z * quaternion.z;
+		float xy = quaternion.x * quaternion.y;
+		float xz = quaternion.x * quaternion.z;
+		float yz = quaternion.y * quaternion.z;
+		float wx = quaternion.w * quaternion.x;
+		float wy = quaternion.w * quaternion.y;
+		float wz = quaternion.w * quaternion.z;
+
+		element00 = 1.0F - 2.0F * ( yy + zz );
+		element01 = 2.0F * ( xy + wz );
+		element02 = 2.0F * ( xz - wy );
+		element10 = 2.0F * ( xy - wz );
+		element11 = 1.0F - 2.0F * ( xx + zz );
+		element12 = 2.0F * ( yz + wx );
+		element20 = 2.0F * ( xz + wy );
+		element21 = 2.0F * ( yz - wx );
+		element22 = 1.0F - 2.0F * ( xx + yy );
+
+		return this;
+	}
+
+	/**
+	 * Recreates this matrix into the normal matrix of a transformation matrix:
+	 * the inverse transpose of its upper 3x3 part, which transforms normals so
+	 * that they stay perpendicular to surfaces under non-uniform scale.
+	 * 
+	 * @param matrix The transformation matrix.
+	 * @return This matrix.
+	 */
+	public Matrix3F recreateIntoNormal( Matrix4F matrix )
+	{
+		float cofactor00 = matrix.element11 * matrix.element22
+				- matrix.element12 * matrix.element21;
+		float cofactor01 = matrix.element12 * matrix.element20
+				- matrix.element10 * matrix.element22;
+		float cofactor02 = matrix.element10 * matrix.element21
+				- matrix.element11 * matrix.element20;
+		float inverseDeterminant = 1.0F / ( matrix.element00 * cofactor00
+				+ matrix.element01 * cofactor01
+				+ matrix.element02 * cofactor02 );
+
+		element00 = cofactor00 * inverseDeterminant;
+		element01 = cofactor01 * inverseDeterminant;
+		element02 = cofactor02 * inverseDeterminant;
+		element10 = ( matrix.element02 * matrix.element21
+				- matrix.element01 * matrix.element22 ) * inverseDeterminant;
+		element11 = ( matrix.element00 * matrix.element22
+				- matrix.element02 * matrix.element20 ) * inverseDeterminant;
+		element12 = ( matrix.element01 * matrix.element20
+				- matrix.element00 * matrix.element21 ) * inverseDeterminant;
+		element20 = ( matrix.element01 * matrix.element12
+				- matrix.element02 * matrix.element11 ) * inverseDeterminant;
+		element21 = ( matrix.element02 * matrix.element10
+				- matrix.element00 * matrix.element12 ) * inverseDeterminant;
+		element22 = ( matrix.element00 * matrix.element11
+				- matrix.element01 * matrix.element10 ) * inverseDeterminant;
+
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -322,4 +464,23 @@ public class Matrix3F extends Matrix
 
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Matrix3F storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, element00 );
+		floatBuffer.put( offset + 1, element01 );
+		floatBuffer.put( offset + 2, element02 );
+		floatBuffer.put( offset + 3, element10 );
+		floatBuffer.put( offset + 4, element11 );
+		floatBuffer.put( offset + 5, element12 );
+		floatBuffer.put( offset + 6, element20 );
+		floatBuffer.put( offset + 7, element21 );
+		floatBuffer.put( offset + 8, element22 );
+
+		return this;
+	}
 }
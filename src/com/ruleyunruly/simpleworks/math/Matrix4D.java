@@ -0,0 +1,1220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Holds a 4x4 matrix of floats.
+ * 
+ * @version 1.0 20200131
+ * @author Christopher R. Ruley
+ */
+public class Matrix4D
+{
+	/**
+	 * The number of matrices packed per bulk put when storing many at once.
+	 */
+	private static final int STORE_BATCH = 64;
+
+	/**
+	 * Holds the array each thread rounds matrices into for bulk puts.
+	 */
+	private static final ThreadLocal<float[]> STORE_BATCHES = ThreadLocal
+			.withInitial( ( ) -> new float[ STORE_BATCH * 16 ] );
+
+	/**
+	 * Represents the 1st element.
+	 */
+	public double element00;
+
+	/**
+	 * Represents the 2nd element.
+	 */
+	public double element01;
+
+	/**
+	 * Represents the 3rd element.
+	 */
+	public double element02;
+
+	/**
+	 * Represents the 4th element.
+	 */
+	public double element03;
+
+	/**
+	 * Represents the 5th element.
+	 */
+	public double element10;
+
+	/**
+	 * Represents the 6th element.
+	 */
+	public double element11;
+
+	/**
+	 * Represents the 7th element.
+	 */
+	public double element12;
+
+	/**
+	 * Represents the 8th element.
+	 */
+	public double element13;
+
+	/**
+	 * Represents the 9th element.
+	 */
+	public double element20;
+
+	/**
+	 * Represents the 10th element.
+	 */
+	public double element21;
+
+	/**
+	 * Represents the 11th element.
+	 */
+	public double element22;
+
+	/**
+	 * Represents the 12th element.
+	 */
+	public double element23;
+
+	/**
+	 * Represents the 13th element.
+	 */
+	public double element30;
+
+	/**
+	 * Represents the 14th element.
+	 */
+	public double element31;
+
+	/**
+	 * Represents the 15th element.
+	 */
+	public double element32;
+
+	/**
+	 * Represents the 16th element.
+	 */
+	public double element33;
+
+	/**
+	 * Initializes this matrix by setting it to the identity.
+	 */
+	public Matrix4D( )
+	{
+		setIdentity( );
+	}
+
+	/**
+	 * Initializes this matrix.
+	 * 
+	 * @param element00 The new element00 value.
+	 * @param element01 The new element01 value.
+	 * @param element02 The new element02 value.
+	 * @param element03 The new element03 value.
+	 * @param element10 The new element10 value.
+	 * @param element11 The new element11 value.
+	 * @param element12 The new element12 value.
+	 * @param element13 The new element13 value.
+	 * @param element20 The new element20 value.
+	 * @param element21 The new element21 value.
+	 * @param element22 The new element22 value.
+	 * @param element23 The new element23 value.
+	 * @param element30 The new element30 value.
+	 * @param element31 The new element31 value.
+	 * @param element32 The new element32 value.
+	 * @param element33 The new element33 value.
+	 */
+	public Matrix4D( double element00, double element01, double element02,
+			double element03, double element10, double element11,
+			double element12, double element13, double element20,
+			double element21, double element22, double element23,
+			double element30, double element31, double element32,
+			double element33 )
+	{
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+		this.element30 = element30;
+		this.element31 = element31;
+		this.element32 = element32;
+		this.element33 = element33;
+	}
+
+	/**
+	 * Initializes this matrix by copying another matrix.
+	 * 
+	 * @param other The matrix to copy.
+	 */
+	public Matrix4D( Matrix4D other )
+	{
+		this( other.element00, other.element01, other.element02,
+				other.element03, other.element10, other.element11,
+				other.element12, other.element13, other.element20,
+				other.element21, other.element22, other.element23,
+				other.element30, other.element31, other.element32,
+				other.element33 );
+	}
+
+	/**
+	 * Sets this matrix by copying another matrix.
+	 * 
+	 * @param other The matrix to copy.
+	 * @return This matrix.
+	 */
+	public Matrix4D set( Matrix4D other )
+	{
+		element00 = other.element00;
+		element01 = other.element01;
+		element02 = other.element02;
+		element03 = other.element03;
+		element10 = other.element10;
+		element11 = other.element11;
+		element12 = other.element12;
+		element13 = other.element13;
+		element20 = other.element20;
+		element21 = other.element21;
+		element22 = other.element22;
+		element23 = other.element23;
+		element30 = other.element30;
+		element31 = other.element31;
+		element32 = other.element32;
+		element33 = other.element33;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix by copying a float matrix.
+	 * 
+	 * @param other The matrix to copy.
+	 * @return This matrix.
+	 */
+	public Matrix4D set( Matrix4F other )
+	{
+		element00 = other.element00;
+		element01 = other.element01;
+		element02 = other.element02;
+		element03 = other.element03;
+		element10 = other.element10;
+		element11 = other.element11;
+		element12 = other.element12;
+		element13 = other.element13;
+		element20 = other.element20;
+		element21 = other.element21;
+		element22 = other.element22;
+		element23 = other.element23;
+		element30 = other.element30;
+		element31 = other.element31;
+		element32 = other.element32;
+		element33 = other.element33;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix by copying 16 doubles, in storage order, from an array.
+	 * 
+	 * @param array The array to copy from.
+	 * @param offset The index of the first double.
+	 * @return This matrix.
+	 */
+	public Matrix4D set( double[] array, int offset )
+	{
+		element00 = array[ offset ];
+		element01 = array[ offset + 1 ];
+		element02 = array[ offset + 2 ];
+		element03 = array[ offset + 3 ];
+		element10 = array[ offset + 4 ];
+		element11 = array[ offset + 5 ];
+		element12 = array[ offset + 6 ];
+		element13 = array[ offset + 7 ];
+		element20 = array[ offset + 8 ];
+		element21 = array[ offset + 9 ];
+		element22 = array[ offset + 10 ];
+		element23 = array[ offset + 11 ];
+		element30 = array[ offset + 12 ];
+		element31 = array[ offset + 13 ];
+		element32 = array[ offset + 14 ];
+		element33 = array[ offset + 15 ];
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to zero.
+	 * 
+	 * @return This matrix.
+	 */
+	public Matrix4D setZero( )
+	{
+		element00 = 0.0;
+		element01 = 0.0;
+		element02 = 0.0;
+		element03 = 0.0;
+		element10 = 0.0;
+		element11 = 0.0;
+		element12 = 0.0;
+		element13 = 0.0;
+		element20 = 0.0;
+		element21 = 0.0;
+		element22 = 0.0;
+		element23 = 0.0;
+		element30 = 0.0;
+		element31 = 0.0;
+		element32 = 0.0;
+		element33 = 0.0;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to its negated value.
+	 * 
+	 * @return This matrix.
+	 */
+	public Matrix4D setNegated( )
+	{
+		element00 = -element00;
+		element01 = -element01;
+		element02 = -element02;
+		element03 = -element03;
+		element10 = -element10;
+		element11 = -element11;
+		element12 = -element12;
+		element13 = -element13;
+		element20 = -element20;
+		element21 = -element21;
+		element22 = -element22;
+		element23 = -element23;
+		element30 = -element30;
+		element31 = -element31;
+		element32 = -element32;
+		element33 = -element33;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to the identity.
+	 * 
+	 * @return This matrix.
+	 */
+	public Matrix4D setIdentity( )
+	{
+		element00 = 1.0;
+		element01 = 0.0;
+		element02 = 0.0;
+		element03 = 0.0;
+		element10 = 0.0;
+		element11 = 1.0;
+		element12 = 0.0;
+		element13 = 0.0;
+		element20 = 0.0;
+		element21 = 0.0;
+		element22 = 1.0;
+		element23 = 0.0;
+		element30 = 0.0;
+		element31 = 0.0;
+		element32 = 0.0;
+		element33 = 1.0;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to its transposed order.
+	 * 
+	 * @return This matrix.
+	 */
+	public Matrix4D setTransposed( )
+	{
+		double element00 = this.element00;
+		double element01 = this.element10;
+		double element02 = this.element20;
+		double element03 = this.element30;
+		double element10 = this.element01;
+		double element11 = this.element11;
+		double element12 = this.element21;
+		double element13 = this.element31;
+		double element20 = this.element02;
+		double element21 = this.element12;
+		double element22 = this.element22;
+		double element23 = this.element32;
+		double element30 = this.element03;
+		double element31 = this.element13;
+		double element32 = this.element23;
+		double element33 = this.element33;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+		this.element30 = element30;
+		this.element31 = element31;
+		this.element32 = element32;
+		this.element33 = element33;
+
+		return this;
+	}
+
+	/**
+	 * @return The determinant of this matrix.
+	 */
+	public double getDeterminant( )
+	{
+		double s0 = element00 * element11 - element10 * element01;
+		double s1 = element00 * element12 - element10 * element02;
+		double s2 = element00 * element13 - element10 * element03;
+		double s3 = element01 * element12 - element11 * element02;
+		double s4 = element01 * element13 - element11 * element03;
+		double s5 = element02 * element13 - element12 * element03;
+		double c0 = element20 * element31 - element30 * element21;
+		double c1 = element20 * element32 - element30 * element22;
+		double c2 = element20 * element33 - element30 * element23;
+		double c3 = element21 * element32 - element31 * element22;
+		double c4 = element21 * element33 - element31 * element23;
+		double c5 = element22 * element33 - element32 * element23;
+
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/**
+	 * Sets this matrix to its inverse. A matrix with a determinant of zero has
+	 * no inverse and becomes infinite or NaN.
+	 * <p>
+	 * The 2x2 determinants of the first and last two columns are computed
+	 * first and shared by all 16 cofactors.
+	 */
+	public Matrix4D setInverted( )
+	{
+		double s0 = this.element00 * this.element11
+				- this.element10 * this.element01;
+		double s1 = this.element00 * this.element12
+				- this.element10 * this.element02;
+		double s2 = this.element00 * this.element13
+				- this.element10 * this.element03;
+		double s3 = this.element01 * this.element12
+				- this.element11 * this.element02;
+		double s4 = this.element01 * this.element13
+				- this.element11 * this.element03;
+		double s5 = this.element02 * this.element13
+				- this.element12 * this.element03;
+		double c0 = this.element20 * this.element31
+				- this.element30 * this.element21;
+		double c1 = this.element20 * this.element32
+				- this.element30 * this.element22;
+		double c2 = this.element20 * this.element33
+				- this.element30 * this.element23;
+		double c3 = this.element21 * this.element32
+				- this.element31 * this.element22;
+		double c4 = this.element21 * this.element33
+				- this.element31 * this.element23;
+		double c5 = this.element22 * this.element33
+				- this.element32 * this.element23;
+		double inverseDeterminant = 1.0 / ( s0 * c5 - s1 * c4 + s2 * c3
+				+ s3 * c2 - s4 * c1 + s5 * c0 );
+		double element00 = ( this.element11 * c5 - this.element12 * c4
+				+ this.element13 * c3 ) * inverseDeterminant;
+		double element01 = ( -this.element01 * c5 + this.element02 * c4
+				- this.element03 * c3 ) * inverseDeterminant;
+		double element02 = ( this.element31 * s5 - this.element32 * s4
+				+ this.element33 * s3 ) * inverseDeterminant;
+		double element03 = ( -this.element21 * s5 + this.element22 * s4
+				- this.element23 * s3 ) * inverseDeterminant;
+		double element10 = ( -this.element10 * c5 + this.element12 * c2
+				- this.element13 * c1 ) * inverseDeterminant;
+		double element11 = ( this.element00 * c5 - this.element02 * c2
+				+ this.element03 * c1 ) * inverseDeterminant;
+		double element12 = ( -this.element30 * s5 + this.element32 * s2
+				- this.element33 * s1 ) * inverseDeterminant;
+		double element13 = ( this.element20 * s5 - this.element22 * s2
+				+ this.element23 * s1 ) * inverseDeterminant;
+		double element20 = ( this.element10 * c4 - this.element11 * c2
+				+ this.element13 * c0 ) * inverseDeterminant;
+		double element21 = ( -this.element00 * c4 + this.element01 * c2
+				- this.element03 * c0 ) * inverseDeterminant;
+		double element22 = ( this.element30 * s4 - this.element31 * s2
+				+ this.element33 * s0 ) * inverseDeterminant;
+		double element23 = ( -this.element20 * s4 + this.element21 * s2
+				- this.element23 * s0 ) * inverseDeterminant;
+		double element30 = ( -this.element10 * c3 + this.element11 * c1
+				- this.element12 * c0 ) * inverseDeterminant;
+		double element31 = ( this.element00 * c3 - this.element01 * c1
+				+ this.element02 * c0 ) * inverseDeterminant;
+		double element32 = ( -this.element30 * s3 + this.element31 * s1
+				- this.element32 * s0 ) * inverseDeterminant;
+		double element33 = ( this.element20 * s3 - this.element21 * s1
+				+ this.element22 * s0 ) * inverseDeterminant;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+		this.element30 = element30;
+		this.element31 = element31;
+		this.element32 = element32;
+		this.element33 = element33;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to its inverse, assuming it is affine: that its last
+	 * row is 0, 0, 0, 1, as for any combination of translation, rotation, and
+	 * scale. This only inverts the upper 3x3 part and the translation, so it
+	 * is much cheaper than {@link #setInverted()}.
+	 * 
+	 * @return This matrix.
+	 */
+	public Matrix4D setInvertedAffine( )
+	{
+		double cofactor00 = this.element11 * this.element22
+				- this.element12 * this.element21;
+		double cofactor01 = this.element12 * this.element20
+				- this.element10 * this.element22;
+		double cofactor02 = this.element10 * this.element21
+				- this.element11 * this.element20;
+		double inverseDeterminant = 1.0 / ( this.element00 * cofactor00
+				+ this.element01 * cofactor01 + this.element02 * cofactor02 );
+		double element00 = cofactor00 * inverseDeterminant;
+		double element01 = ( this.element02 * this.element21
+				- this.element01 * this.element22 ) * inverseDeterminant;
+		double element02 = ( this.element01 * this.element12
+				- this.element02 * this.element11 ) * inverseDeterminant;
+		double element10 = cofactor01 * inverseDeterminant;
+		double element11 = ( this.element00 * this.element22
+				- this.element02 * this.element20 ) * inverseDeterminant;
+		double element12 = ( this.element02 * this.element10
+				- this.element00 * this.element12 ) * inverseDeterminant;
+		double element20 = cofactor02 * inverseDeterminant;
+		double element21 = ( this.element01 * this.element20
+				- this.element00 * this.element21 ) * inverseDeterminant;
+		double element22 = ( this.element00 * this.element11
+				- this.element01 * this.element10 ) * inverseDeterminant;
+		double x = this.element30;
+		double y = this.element31;
+		double z = this.element32;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = 0.0;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = 0.0;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = 0.0;
+		this.element30 = -( element00 * x + element10 * y + element20 * z );
+		this.element31 = -( element01 * x + element11 * y + element21 * z );
+		this.element32 = -( element02 * x + element12 * y + element22 * z );
+		this.element33 = 1.0;
+
+		return this;
+	}
+
+	/**
+	 * Adds another matrix to this matrix.
+	 * 
+	 * @param other The matrix to add.
+	 * @return This matrix.
+	 */
+	public Matrix4D add( Matrix4D other )
+	{
+		element00 += other.element00;
+		element01 += other.element01;
+		element02 += other.element02;
+		element03 += other.element03;
+		element10 += other.element10;
+		element11 += other.element11;
+		element12 += other.element12;
+		element13 += other.element13;
+		element20 += other.element20;
+		element21 += other.element21;
+		element22 += other.element22;
+		element23 += other.element23;
+		element30 += other.element30;
+		element31 += other.element31;
+		element32 += other.element32;
+		element33 += other.element33;
+
+		return this;
+	}
+
+	/**
+	 * Subtracts another matrix from this matrix.
+	 * 
+	 * @param other The matrix to subtract.
+	 * @return This matrix.
+	 */
+	public Matrix4D subtract( Matrix4D other )
+	{
+		element00 -= other.element00;
+		element01 -= other.element01;
+		element02 -= other.element02;
+		element03 -= other.element03;
+		element10 -= other.element10;
+		element11 -= other.element11;
+		element12 -= other.element12;
+		element13 -= other.element13;
+		element20 -= other.element20;
+		element21 -= other.element21;
+		element22 -= other.element22;
+		element23 -= other.element23;
+		element30 -= other.element30;
+		element31 -= other.element31;
+		element32 -= other.element32;
+		element33 -= other.element33;
+
+		return this;
+	}
+
+	/**
+	 * Multiplies this matrix by another matrix.
+	 * 
+	 * @param other The matrix to multiply by.
+	 * @return This matrix.
+	 */
+	public Matrix4D multiply( Matrix4D other )
+	{
+		double element00 = this.element00 * other.element00
+				+ this.element10 * other.element01
+				+ this.element20 * other.element02
+				+ this.element30 * other.element03;
+		double element01 = this.element01 * other.element00
+				+ this.element11 * other.element01
+				+ this.element21 * other.element02
+				+ this.element31 * other.element03;
+		double element02 = this.element02 * other.element00
+				+ this.element12 * other.element01
+				+ this.element22 * other.element02
+				+ this.element32 * other.element03;
+		double element03 = this.element03 * other.element00
+				+ this.element13 * other.element01
+				+ this.element23 * other.element02
+				+ this.element33 * other.element03;
+		double element10 = this.element00 * other.element10
+				+ this.element10 * other.element11
+				+ this.element20 * other.element12
+				+ this.element30 * other.element13;
+		double element11 = this.element01 * other.element10
+				+ this.element11 * other.element11
+				+ this.element21 * other.element12
+				+ this.element31 * other.element13;
+		double element12 = this.element02 * other.element10
+				+ this.element12 * other.element11
+				+ this.element22 * other.element12
+				+ this.element32 * other.element13;
+		double element13 = this.element03 * other.element10
+				+ this.element13 * other.element11
+				+ this.element23 * other.element12
+				+ this.element33 * other.element13;
+		double element20 = this.element00 * other.element20
+				+ this.element10 * other.element21
+				+ this.element20 * other.element22
+				+ this.element30 * other.element23;
+		double element21 = this.element01 * other.element20
+				+ this.element11 * other.element21
+				+ this.element21 * other.element22
+				+ this.element31 * other.element23;
+		double element22 = this.element02 * other.element20
+				+ this.element12 * other.element21
+				+ this.element22 * other.element22
+				+ this.element32 * other.element23;
+		double element23 = this.element03 * other.element20
+				+ this.element13 * other.element21
+				+ this.element23 * other.element22
+				+ this.element33 * other.element23;
+		double element30 = this.element00 * other.element30
+				+ this.element10 * other.element31
+				+ this.element20 * other.element32
+				+ this.element30 * other.element33;
+		double element31 = this.element01 * other.element30
+				+ this.element11 * other.element31
+				+ this.element21 * other.element32
+				+ this.element31 * other.element33;
+		double element32 = this.element02 * other.element30
+				+ this.element12 * other.element31
+				+ this.element22 * other.element32
+				+ this.element32 * other.element33;
+		double element33 = this.element03 * other.element30
+				+ this.element13 * other.element31
+				+ this.element23 * other.element32
+				+ this.element33 * other.element33;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+		this.element30 = element30;
+		this.element31 = element31;
+		this.element32 = element32;
+		this.element33 = element33;
+
+		return this;
+	}
+
+	/**
+	 * Translates this matrix.
+	 * 
+	 * @param translation The vector to translate by.
+	 * @return This matrix.
+	 */
+	public Matrix4D translate( Vector3D translation )
+	{
+		return translate( translation.x, translation.y, translation.z );
+	}
+
+	/**
+	 * Translates this matrix.
+	 * 
+	 * @param x The x value to translate by.
+	 * @param y The y value to translate by.
+	 * @param z The z value to translate by.
+	 * @return This matrix.
+	 */
+	public Matrix4D translate( double x, double y, double z )
+	{
+		element30 += element00 * x + element10 * y + element20 * z;
+		element31 += element01 * x + element11 * y + element21 * z;
+		element32 += element02 * x + element12 * y + element22 * z;
+		element33 += element03 * x + element13 * y + element23 * z;
+
+		return this;
+	}
+
+	/**
+	 * Rotates this matrix.
+	 * 
+	 * @param angle The double (in degrees) to rotate.
+	 * @param axis The vector to rotate by.
+	 * @return This matrix.
+	 */
+	public Matrix4D rotate( double angle, Vector3D axis )
+	{
+		double cosine = cos( toRadians( angle ) );
+		double sine = sin( toRadians( angle ) );
+		double oneMinusCosine = 1.0 - cosine;
+		double xy = axis.x * axis.y;
+		double yz = axis.y * axis.z;
+		double xz = axis.x * axis.z;
+		double xs = axis.x * sine;
+		double ys = axis.y * sine;
+		double zs = axis.z * sine;
+		double factor00 = axis.x * axis.x * oneMinusCosine + cosine;
+		double factor01 = xy * oneMinusCosine + zs;
+		double factor02 = xz * oneMinusCosine - ys;
+		double factor10 = xy * oneMinusCosine - zs;
+		double factor11 = axis.y * axis.y * oneMinusCosine + cosine;
+		double factor12 = yz * oneMinusCosine + xs;
+		double factor20 = xz * oneMinusCosine + ys;
+		double factor21 = yz * oneMinusCosine - xs;
+		double factor22 = axis.z * axis.z * oneMinusCosine + cosine;
+		double element00 = this.element00 * factor00 + this.element10 * factor01
+				+ this.element20 * factor02;
+		double element01 = this.element01 * factor00 + this.element11 * factor01
+				+ this.element21 * factor02;
+		double element02 = this.element02 * factor00 + this.element12 * factor01
+				+ this.element22 * factor02;
+		double element03 = this.element03 * factor00 + this.element13 * factor01
+				+ this.element23 * factor02;
+		double element10 = this.element00 * factor10 + this.element10 * factor11
+				+ this.element20 * factor12;
+		double element11 = this.element01 * factor10 + this.element11 * factor11
+				+ this.element21 * factor12;
+		double element12 = this.element02 * factor10 + this.element12 * factor11
+				+ this.element22 * factor12;
+		double element13 = this.element03 * factor10 + this.element13 * factor11
+				+ this.element23 * factor12;
+		double element20 = this.element00 * factor20 + this.element10 * factor21
+				+ this.element20 * factor22;
+		double element21 = this.element01 * factor20 + this.element11 * factor21
+				+ this.element21 * factor22;
+		double element22 = this.element02 * factor20 + this.element12 * factor21
+				+ this.element22 * factor22;
+		double element23 = this.element03 * factor20 + this.element13 * factor21
+				+ this.element23 * factor22;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+
+		return this;
+	}
+
+	/**
+	 * Rotates this matrix around the x axis.
+	 * 
+	 * @param angle The double (in degrees) to rotate.
+	 * @return This matrix.
+	 */
+	public Matrix4D rotateX( double angle )
+	{
+		double radians = toRadians( angle );
+		double cosine = cos( radians );
+		double sine = sin( radians );
+		double element10 = this.element10 * cosine + this.element20 * sine;
+		double element11 = this.element11 * cosine + this.element21 * sine;
+		double element12 = this.element12 * cosine + this.element22 * sine;
+		double element13 = this.element13 * cosine + this.element23 * sine;
+		double element20 = this.element20 * cosine - this.element10 * sine;
+		double element21 = this.element21 * cosine - this.element11 * sine;
+		double element22 = this.element22 * cosine - this.element12 * sine;
+		double element23 = this.element23 * cosine - this.element13 * sine;
+
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+
+		return this;
+	}
+
+	/**
+	 * Rotates this matrix around the y axis.
+	 * 
+	 * @param angle The double (in degrees) to rotate.
+	 * @return This matrix.
+	 */
+	public Matrix4D rotateY( double angle )
+	{
+		double radians = toRadians( angle );
+		double cosine = cos( radians );
+		double sine = sin( radians );
+		double element00 = this.element00 * cosine - this.element20 * sine;
+		double element01 = this.element01 * cosine - this.element21 * sine;
+		double element02 = this.element02 * cosine - this.element22 * sine;
+		double element03 = this.element03 * cosine - this.element23 * sine;
+		double element20 = this.element00 * sine + this.element20 * cosine;
+		double element21 = this.element01 * sine + this.element21 * cosine;
+		double element22 = this.element02 * sine + this.element22 * cosine;
+		double element23 = this.element03 * sine + this.element23 * cosine;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+
+		return this;
+	}
+
+	/**
+	 * Rotates this matrix around the z axis.
+	 * 
+	 * @param angle The double (in degrees) to rotate.
+	 * @return This matrix.
+	 */
+	public Matrix4D rotateZ( double angle )
+	{
+		double radians = toRadians( angle );
+		double cosine = cos( radians );
+		double sine = sin( radians );
+		double element00 = this.element00 * cosine + this.element10 * sine;
+		double element01 = this.element01 * cosine + this.element11 * sine;
+		double element02 = this.element02 * cosine + this.element12 * sine;
+		double element03 = this.element03 * cosine + this.element13 * sine;
+		double element10 = this.element10 * cosine - this.element00 * sine;
+		double element11 = this.element11 * cosine - this.element01 * sine;
+		double element12 = this.element12 * cosine - this.element02 * sine;
+		double element13 = this.element13 * cosine - this.element03 * sine;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+
+		return this;
+	}
+
+	/**
+	 * Scales this matrix.
+	 * 
+	 * @param scale The vector to scale by.
+	 * @return This matrix.
+	 */
+	public Matrix4D scale( Vector3D scale )
+	{
+		element00 *= scale.x;
+		element01 *= scale.x;
+		element02 *= scale.x;
+		element03 *= scale.x;
+		element10 *= scale.y;
+		element11 *= scale.y;
+		element12 *= scale.y;
+		element13 *= scale.y;
+		element20 *= scale.z;
+		element21 *= scale.z;
+		element22 *= scale.z;
+		element23 *= scale.z;
+
+		return this;
+	}
+
+	/**
+	 * Recreates this matrix into a rotation matrix. The rotation is the same
+	 * as rotating the identity around the x, y, and then z axis.
+	 * 
+	 * @param rotation The vector (in degrees) to rotate by.
+	 * @return The current matrix.
+	 */
+	public Matrix4D recreateIntoRotation( Vector3D rotation )
+	{
+		double radiansX = toRadians( rotation.x );
+		double radiansY = toRadians( rotation.y );
+		double radiansZ = toRadians( rotation.z );
+		double cosineX = cos( radiansX );
+		double sineX = sin( radiansX );
+		double cosineY = cos( radiansY );
+		double sineY = sin( radiansY );
+		double cosineZ = cos( radiansZ );
+		double sineZ = sin( radiansZ );
+		double sineXSineY = sineX * sineY;
+		double cosineXSineY = cosineX * sineY;
+
+		element00 = cosineY * cosineZ;
+		element01 = sineXSineY * cosineZ + cosineX * sineZ;
+		element02 = sineX * sineZ - cosineXSineY * cosineZ;
+		element03 = 0.0;
+		element10 = -cosineY * sineZ;
+		element11 = cosineX * cosineZ - sineXSineY * sineZ;
+		element12 = cosineXSineY * sineZ + sineX * cosineZ;
+		element13 = 0.0;
+		element20 = sineY;
+		element21 = -sineX * cosineY;
+		element22 = cosineX * cosineY;
+		element23 = 0.0;
+		element30 = 0.0;
+		element31 = 0.0;
+		element32 = 0.0;
+		element33 = 1.0;
+
+		return this;
+	}
+
+	/**
+	 * Recreates this matrix into a rotation matrix.
+	 * 
+	 * @param quaternion The unit quaternion to rotate by.
+	 * @return The current matrix.
+	 */
+	public Matrix4D recreateIntoRotation( QuaternionF quaternion )
+	{
+		double xx = quaternion.x * quaternion.x;
+		double yy = quaternion.y * quaternion.y;
+		double zz = quaternion.z * quaternion.z;
+		double xy = quaternion.x * quaternion.y;
+		double xz = quaternion.x * quaternion.z;
+		double yz = quaternion.y * quaternion.z;
+		double wx = quaternion.w * quaternion.x;
+		double wy = quaternion.w * quaternion.y;
+		double wz = quaternion.w * quaternion.z;
+
+		element00 = 1.0 - 2.0 * ( yy + zz );
+		element01 = 2.0 * ( xy + wz );
+		element02 = 2.0 * ( xz - wy );
+		element03 = 0.0;
+		element10 = 2.0 * ( xy - wz );
+		element11 = 1.0 - 2.0 * ( xx + zz );
+		element12 = 2.0 * ( yz + wx );
+		element13 = 0.0;
+		element20 = 2.0 * ( xz + wy );
+		element21 = 2.0 * ( yz - wx );
+		element22 = 1.0 - 2.0 * ( xx + yy );
+		element23 = 0.0;
+		element30 = 0.0;
+		element31 = 0.0;
+		element32 = 0.0;
+		element33 = 1.0;
+
+		return this;
+	}
+
+	/**
+	 * Recreates this matrix into a transformation matrix.
+	 * 
+	 * @param translation The vector to translate by.
+	 * @param rotation The vector to rotate by.
+	 * @param scale The vector to scale by.
+	 * @return The current matrix.
+	 */
+	public Matrix4D recreateIntoTransformation( Vector3D translation,
+			Vector3D rotation, Vector3D scale )
+	{
+		recreateIntoRotation( rotation );
+
+		element00 *= scale.x;
+		element01 *= scale.x;
+		element02 *= scale.x;
+		element10 *= scale.y;
+		element11 *= scale.y;
+		element12 *= scale.y;
+		element20 *= scale.z;
+		element21 *= scale.z;
+		element22 *= scale.z;
+		element30 = translation.x;
+		element31 = translation.y;
+		element32 = translation.z;
+
+		return this;
+	}
+
+	/**
+	 * Recreates this matrix into a view matrix.
+	 * 
+	 * @param translation The vector to translate by.
+	 * @param rotation The vector to rotate by.
+	 * @return The current matrix.
+	 */
+	public Matrix4D recreateIntoView( Vector3D translation, Vector3D rotation )
+	{
+		recreateIntoRotation( rotation );
+
+		element30 = -( element00 * translation.x + element10 * translation.y
+				+ element20 * translation.z );
+		element31 = -( element01 * translation.x + element11 * translation.y
+				+ element21 * translation.z );
+		element32 = -( element02 * translation.x + element12 * translation.y
+				+ element22 * translation.z );
+
+		return this;
+	}
+
+	/**
+	 * Stores this matrix in a float buffer, rounding each element to a float.
+	 * 
+	 * @param floatBuffer The float buffer to store this matrix in.
+	 * @return This matrix.
+	 */
+	public Matrix4D store( FloatBuffer floatBuffer )
+	{
+		floatBuffer.put( ( float ) element00 );
+		floatBuffer.put( ( float ) element01 );
+		floatBuffer.put( ( float ) element02 );
+		floatBuffer.put( ( float ) element03 );
+		floatBuffer.put( ( float ) element10 );
+		floatBuffer.put( ( float ) element11 );
+		floatBuffer.put( ( float ) element12 );
+		floatBuffer.put( ( float ) element13 );
+		floatBuffer.put( ( float ) element20 );
+		floatBuffer.put( ( float ) element21 );
+		floatBuffer.put( ( float ) element22 );
+		floatBuffer.put( ( float ) element23 );
+		floatBuffer.put( ( float ) element30 );
+		floatBuffer.put( ( float ) element31 );
+		floatBuffer.put( ( float ) element32 );
+		floatBuffer.put( ( float ) element33 );
+		floatBuffer.flip( );
+
+		return this;
+	}
+
+	/**
+	 * Stores this matrix in a float buffer at an offset, rounding each element
+	 * to a float, without changing the position of the buffer or flipping it,
+	 * so that many matrices can be packed into one buffer.
+	 * 
+	 * @param floatBuffer The float buffer to store this matrix in.
+	 * @param offset The index to store the first float at.
+	 * @return This matrix.
+	 */
+	public Matrix4D storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, ( float ) element00 );
+		floatBuffer.put( offset + 1, ( float ) element01 );
+		floatBuffer.put( offset + 2, ( float ) element02 );
+		floatBuffer.put( offset + 3, ( float ) element03 );
+		floatBuffer.put( offset + 4, ( float ) element10 );
+		floatBuffer.put( offset + 5, ( float ) element11 );
+		floatBuffer.put( offset + 6, ( float ) element12 );
+		floatBuffer.put( offset + 7, ( float ) element13 );
+		floatBuffer.put( offset + 8, ( float ) element20 );
+		floatBuffer.put( offset + 9, ( float ) element21 );
+		floatBuffer.put( offset + 10, ( float ) element22 );
+		floatBuffer.put( offset + 11, ( float ) element23 );
+		floatBuffer.put( offset + 12, ( float ) element30 );
+		floatBuffer.put( offset + 13, ( float ) element31 );
+		floatBuffer.put( offset + 14, ( float ) element32 );
+		floatBuffer.put( offset + 15, ( float ) element33 );
+
+		return this;
+	}
+
+	/**
+	 * Stores this matrix in an array, in the same order as a float buffer.
+	 * 
+	 * @param array The array to store this matrix in.
+	 * @param offset The index to store the first double at.
+	 * @return This matrix.
+	 */
+	public Matrix4D store( double[] array, int offset )
+	{
+		array[ offset ] = element00;
+		array[ offset + 1 ] = element01;
+		array[ offset + 2 ] = element02;
+		array[ offset + 3 ] = element03;
+		array[ offset + 4 ] = element10;
+		array[ offset + 5 ] = element11;
+		array[ offset + 6 ] = element12;
+		array[ offset + 7 ] = element13;
+		array[ offset + 8 ] = element20;
+		array[ offset + 9 ] = element21;
+		array[ offset + 10 ] = element22;
+		array[ offset + 11 ] = element23;
+		array[ offset + 12 ] = element30;
+		array[ offset + 13 ] = element31;
+		array[ offset + 14 ] = element32;
+		array[ offset + 15 ] = element33;
+
+		return this;
+	}
+
+	/**
+	 * Stores this matrix in a float array, in the same order as a float
+	 * buffer, rounding each element to a float.
+	 * 
+	 * @param array The array to store this matrix in.
+	 * @param offset The index to store the first float at.
+	 * @return This matrix.
+	 */
+	public Matrix4D store( float[] array, int offset )
+	{
+		array[ offset ] = ( float ) element00;
+		array[ offset + 1 ] = ( float ) element01;
+		array[ offset + 2 ] = ( float ) element02;
+		array[ offset + 3 ] = ( float ) element03;
+		array[ offset + 4 ] = ( float ) element10;
+		array[ offset + 5 ] = ( float ) element11;
+		array[ offset + 6 ] = ( float ) element12;
+		array[ offset + 7 ] = ( float ) element13;
+		array[ offset + 8 ] = ( float ) element20;
+		array[ offset + 9 ] = ( float ) element21;
+		array[ offset + 10 ] = ( float ) element22;
+		array[ offset + 11 ] = ( float ) element23;
+		array[ offset + 12 ] = ( float ) element30;
+		array[ offset + 13 ] = ( float ) element31;
+		array[ offset + 14 ] = ( float ) element32;
+		array[ offset + 15 ] = ( float ) element33;
+
+		return this;
+	}
+
+	/**
+	 * Stores a range of matrices contiguously in a float buffer at an offset,
+	 * without changing the position of the buffer or flipping it. The matrices
+	 * are rounded into a reusable float array of the calling thread and
+	 * written with bulk puts.
+	 * 
+	 * @param matrices The matrices to store.
+	 * @param fromIndex The index of the first matrix.
+	 * @param toIndex The index after the last matrix.
+	 * @param floatBuffer The float buffer to store the matrices in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public static FloatBuffer storeAt( Matrix4D[] matrices, int fromIndex,
+			int toIndex, FloatBuffer floatBuffer, int offset )
+	{
+		float[] batch = STORE_BATCHES.get( );
+
+		for( int i = fromIndex; i < toIndex; i += STORE_BATCH )
+		{
+			int count = min( toIndex - i, STORE_BATCH );
+
+			for( int j = 0; j < count; j++ )
+			{
+				matrices[ i + j ].store( batch, j * 16 );
+			}
+
+			floatBuffer.put( offset, batch, 0, count * 16 );
+			offset += count * 16;
+		}
+
+		return floatBuffer;
+	}
+}
@@ -33,8 +33,19 @@ import java.nio.FloatBuffer;
  * @version 1.0 20200131
  * @author Christopher R. Ruley
  */
-public class Matrix4F extends Matrix
+public class Matrix4F extends Matrix implements Matrix4FWriter
 {
+	/**
+	 * The number of matrices packed per bulk put when storing many at once.
+	 */
+	private static final int STORE_BATCH = 64;
+
+	/**
+	 * Holds the array each thread packs matrices into for bulk puts.
+	 */
+	private static final ThreadLocal<float[]> STORE_BATCHES = ThreadLocal
+			.withInitial( ( ) -> new float[ STORE_BATCH * 16 ] );
+
 	/**
 	 * Represents the 1st element.
 	 */
@@ -182,6 +193,112 @@ public class Matrix4F extends Matrix
 				other.element33 );
 	}
 
+	/**
+	 * Sets this matrix by copying another matrix.
+	 * 
+	 * @param other The matrix to copy.
+	 * @return This matrix.
+	 */
+	public Matrix4F set( Matrix4F other )
+	{
+		element00 = other.element00;
+		element01 = other.element01;
+		element02 = other.element02;
+		element03 = other.element03;
+		element10 = other.element10;
+		element11 = other.element11;
+		element12 = other.element12;
+		element13 = other.element13;
+		element20 = other.element20;
+		element21 = other.element21;
+		element22 = other.element22;
+		element23 = other.element23;
+		element30 = other.element30;
+		element31 = other.element31;
+		element32 = other.element32;
+		element33 = other.element33;
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix by copying 16 floats, in storage order, from an array.
+	 * 
+	 * @param array The array to copy from.
+	 * @param offset The index of the first float.
+	 * @return This matrix.
+	 */
+	public Matrix4F set( float[] array, int offset )
+	{
+		element00 = array[ offset ];
+		element01 = array[ offset + 1 ];
+		element02 = array[ offset + 2 ];
+		element03 = array[ offset + 3 ];
+		element10 = array[ offset + 4 ];
+		element11 = array[ offset + 5 ];
+		element12 = array[ offset + 6 ];
+		element13 = array[ offset + 7 ];
+		element20 = array[ offset + 8 ];
+		element21 = array[ offset + 9 ];
+		element22 = array[ offset + 10 ];
+		element23 = array[ offset + 11 ];
+		element30 = array[ offset + 12 ];
+		element31 = array[ offset + 13 ];
+		element32 = array[ offset + 14 ];
+		element33 = array[ offset + 15 ];
+
+		return this;
+	}
+
+	/**
+	 * Sets a column of this matrix.
+	 * 
+	 * @param offset The offset of the first element of the column, in the
+	 *        order {@link #store(float[], int)} writes the elements: 0, 4, 8,
+	 *        or 12.
+	 * @param x The new 1st element.
+	 * @param y The new 2nd element.
+	 * @param z The new 3rd element.
+	 * @param w The new 4th element.
+	 * @throws IndexOutOfBoundsException If the offset is not one of these.
+	 */
+	@Override
+	public void setColumn( int offset, float x, float y, float z, float w )
+	{
+		if( offset == 0 )
+		{
+			element00 = x;
+			element01 = y;
+			element02 = z;
+			element03 = w;
+		}
+		else if( offset == 4 )
+		{
+			element10 = x;
+			element11 = y;
+			element12 = z;
+			element13 = w;
+		}
+		else if( offset == 8 )
+		{
+			element20 = x;
+			element21 = y;
+			element22 = z;
+			element23 = w;
+		}
+		else if( offset == 12 )
+		{
+			element30 = x;
+			element31 = y;
+			element32 = z;
+			element33 = w;
+		}
+		else
+		{
+			throw new IndexOutOfBoundsException( "No column at " + offset );
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -303,6 +420,62 @@ public class Matrix4F extends Matrix
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float getDeterminant( )
+	{
+		float s0 = element00 * element11 - element10 * element01;
+		float s1 = element00 * element12 - element10 * element02;
+		float s2 = element00 * element13 - element10 * element03;
+		float s3 = element01 * element12 - element11 * element02;
+		float s4 = element01 * element13 - element11 * element03;
+		float s5 = element02 * element13 - element12 * element03;
+		float c0 = element20 * element31 - element30 * element21;
+		float c1 = element20 * element32 - element30 * element22;
+		float c2 = element20 * element33 - element30 * element23;
+		float c3 = element21 * element32 - element31 * element22;
+		float c4 = element21 * element33 - element31 * element23;
+		float c5 = element22 * element33 - element32 * element23;
+
+		return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The 2x2 determinants of the first and last two columns are computed
+	 * first and shared by all 16 cofactors.
+	 */
+	@Override
+	public Matrix4F setInverted( )
+	{
+		writeInverse( element00, element01, element02, element03, element10,
+				element11, element12, element13, element20, element21,
+				element22, element23, element30, element31, element32,
+				element33, this, 0 );
+
+		return this;
+	}
+
+	/**
+	 * Sets this matrix to its inverse, assuming it is affine: that its last
+	 * row is 0, 0, 0, 1, as for any combination of translation, rotation, and
+	 * scale. This only inverts the upper 3x3 part and the translation, so it
+	 * is much cheaper than {@link #setInverted()}.
+	 * 
+	 * @return This matrix.
+	 */
+	public Matrix4F setInvertedAffine( )
+	{
+		writeInverseAffine( element00, element01, element02, element10,
+				element11, element12, element20, element21, element22,
+				element30, element31, element32, this, 0 );
+
+		return this;
+	}
+
 	/**
 	 * Adds another matrix to this matrix.
 	 * 
@@ -460,14 +633,23 @@ public class Matrix4F extends Matrix
 	 */
 	public Matrix4F translate( Vector3F translation )
 	{
-		element30 += element00 * translation.x + element10 * translation.y
-				+ element20 * translation.z;
-		element31 += element01 * translation.x + element11 * translation.y
-				+ element21 * translation.z;
-		element32 += element02 * translation.x + element12 * translation.y
-				+ element22 * translation.z;
-		element33 += element03 * translation.x + element13 * translation.y
-				+ element23 * translation.z;
+		return translate( translation.x, translation.y, translation.z );
+	}
+
+	/**
+	 * Translates this matrix.
+	 * 
+	 * @param x The x value to translate by.
+	 * @param y The y value to translate by.
+	 * @param z The z value to translate by.
+	 * @return This matrix.
+	 */
+	public Matrix4F translate( float x, float y, float z )
+	{
+		element30 += element00 * x + element10 * y + element20 * z;
+		element31 += element01 * x + element11 * y + element21 * z;
+		element32 += element02 * x + element12 * y + element22 * z;
+		element33 += element03 * x + element13 * y + element23 * z;
 
 		return this;
 	}
@@ -481,53 +663,33 @@ public class Matrix4F extends Matrix
 	 */
 	public Matrix4F rotate( float angle, Vector3F axis )
 	{
-		float cosine = ( float ) cos( toRadians( angle ) );
-		float sine = ( float ) sin( toRadians( angle ) );
-		float oneMinusCosine = 1.0F - cosine;
-		float xy = axis.x * axis.y;
-		float yz = axis.y * axis.z;
-		float xz = axis.x * axis.z;
-		float xs = axis.x * sine;
-		float ys = axis.y * sine;
-		float zs = axis.z * sine;
-		float factor00 = axis.x * axis.x * oneMinusCosine + cosine;
-		float factor01 = xy * oneMinusCosine + zs;
-		float factor02 = xz * oneMinusCosine - ys;
-		float factor10 = xy * oneMinusCosine - zs;
-		float factor11 = axis.y * axis.y * oneMinusCosine + cosine;
-		float factor12 = yz * oneMinusCosine + xs;
-		float factor20 = xz * oneMinusCosine + ys;
-		float factor21 = yz * oneMinusCosine - xs;
-		float factor22 = axis.z * axis.z * oneMinusCosine + cosine;
-		float element00 = this.element00 * factor00 + this.element10 * factor01
-				+ this.element20 * factor02;
-		float element01 = this.element01 * factor00 + this.element11 * factor01
-				+ this.element21 * factor02;
-		float element02 = this.element02 * factor00 + this.element12 * factor01
-				+ this.element22 * factor02;
-		float element03 = this.element03 * factor00 + this.element13 * factor01
-				+ this.element23 * factor02;
-		float element10 = this.element00 * factor10 + this.element10 * factor11
-				+ this.element20 * factor12;
-		float element11 = this.element01 * factor10 + this.element11 * factor11
-				+ this.element21 * factor12;
-		float element12 = this.element02 * factor10 + this.element12 * factor11
-				+ this.element22 * factor12;
-		float element13 = this.element03 * factor10 + this.element13 * factor11
-				+ this.element23 * factor12;
-		float element20 = this.element00 * factor20 + this.element10 * factor21
-				+ this.element20 * factor22;
-		float element21 = this.element01 * factor20 + this.element11 * factor21
-				+ this.element21 * factor22;
-		float element22 = this.element02 * factor20 + this.element12 * factor21
-				+ this.element22 * factor22;
-		float element23 = this.element03 * factor20 + this.element13 * factor21
-				+ this.element23 * factor22;
+		writeRotated( angle, axis, element00, element01, element02, element03,
+				element10, element11, element12, element13, element20,
+				element21, element22, element23, this, 0 );
+
+		return this;
+	}
+
+	/**
+	 * Rotates this matrix around the x axis.
+	 * 
+	 * @param angle The float (in degrees) to rotate.
+	 * @return This matrix.
+	 */
+	public Matrix4F rotateX( float angle )
+	{
+		float radians = ( float ) toRadians( angle );
+		float cosine = ( float ) cos( radians );
+		float sine = ( float ) sin( radians );
+		float element10 = this.element10 * cosine + this.element20 * sine;
+		float element11 = this.element11 * cosine + this.element21 * sine;
+		float element12 = this.element12 * cosine + this.element22 * sine;
+		float element13 = this.element13 * cosine + this.element23 * sine;
+		float element20 = this.element20 * cosine - this.element10 * sine;
+		float element21 = this.element21 * cosine - this.element11 * sine;
+		float element22 = this.element22 * cosine - this.element12 * sine;
+		float element23 = this.element23 * cosine - this.element13 * sine;
 
-		this.element00 = element00;
-		this.element01 = element01;
-		this.element02 = element02;
-		this.element03 = element03;
 		this.element10 = element10;
 		this.element11 = element11;
 		this.element12 = element12;
@@ -540,6 +702,70 @@ public class Matrix4F extends Matrix
 		return this;
 	}
 
+	/**
+	 * Rotates this matrix around the y axis.
+	 * 
+	 * @param angle The float (in degrees) to rotate.
+	 * @return This matrix.
+	 */
+	public Matrix4F rotateY( float angle )
+	{
+		float radians = ( float ) toRadians( angle );
+		float cosine = ( float ) cos( radians );
+		float sine = ( float ) sin( radians );
+		float element00 = this.element00 * cosine - this.element20 * sine;
+		float element01 = this.element01 * cosine - this.element21 * sine;
+		float element02 = this.element02 * cosine - this.element22 * sine;
+		float element03 = this.element03 * cosine - this.element23 * sine;
+		float element20 = this.element00 * sine + this.element20 * cosine;
+		float element21 = this.element01 * sine + this.element21 * cosine;
+		float element22 = this.element02 * sine + this.element22 * cosine;
+		float element23 = this.element03 * sine + this.element23 * cosine;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element20 = element20;
+		this.element21 = element21;
+		this.element22 = element22;
+		this.element23 = element23;
+
+		return this;
+	}
+
+	/**
+	 * Rotates this matrix around the z axis.
+	 * 
+	 * @param angle The float (in degrees) to rotate.
+	 * @return This matrix.
+	 */
+	public Matrix4F rotateZ( float angle )
+	{
+		float radians = ( float ) toRadians( angle );
+		float cosine = ( float ) cos( radians );
+		float sine = ( float ) sin( radians );
+		float element00 = this.element00 * cosine + this.element10 * sine;
+		float element01 = this.element01 * cosine + this.element11 * sine;
+		float element02 = this.element02 * cosine + this.element12 * sine;
+		float element03 = this.element03 * cosine + this.element13 * sine;
+		float element10 = this.element10 * cosine - this.element00 * sine;
+		float element11 = this.element11 * cosine - this.element01 * sine;
+		float element12 = this.element12 * cosine - this.element02 * sine;
+		float element13 = this.element13 * cosine - this.element03 * sine;
+
+		this.element00 = element00;
+		this.element01 = element01;
+		this.element02 = element02;
+		this.element03 = element03;
+		this.element10 = element10;
+		this.element11 = element11;
+		this.element12 = element12;
+		this.element13 = element13;
+
+		return this;
+	}
+
 	/**
 	 * Scales this matrix.
 	 * 
@@ -564,6 +790,59 @@ public class Matrix4F extends Matrix
 		return this;
 	}
 
+	/**
+	 * Recreates this matrix into a rotation matrix. The rotation is the same
+	 * as rotating the identity around the x, y, and then z axis.
+	 * 
+	 * @param rotation The vector (in degrees) to rotate by.
+	 * @return The current matrix.
+	 */
+	public Matrix4F recreateIntoRotation( Vector3F rotation )
+	{
+		writeTransformation( 0.0F, 0.0F, 0.0F, rotation, 1.0F, 1.0F, 1.0F,
+				false, this, 0 );
+
+		return this;
+	}
+
+	/**
+	 * Recreates this matrix into a rotation matrix.
+	 * 
+	 * @param quaternion The unit quaternion to rotate by.
+	 * @return The current matrix.
+	 */
+	public Matrix4F recreateIntoRotation( QuaternionF quaternion )
+	{
+		float xx = quaternion.x * quaternion.x;
+		float yy = quaternion.y * quaternion.y;
+		float zz = quaternion.z * quaternion.z;
+		float xy = quaternion.x * quaternion.y;
+		float xz = quaternion.x * quaternion.z;
+		float yz = quaternion.y * quaternion.z;
+		float wx = quaternion.w * quaternion.x;
+		float wy = quaternion.w * quaternion.y;
+		float wz = quaternion.w * quaternion.z;
+
+		element00 = 1.0F - 2.0F * ( yy + zz );
+		element01 = 2.0F * ( xy + wz );
+		element02 = 2.0F * ( xz - wy );
+		element03 = 0.0F;
+		element10 = 2.0F * ( xy - wz );
+		element11 = 1.0F - 2.0F * ( xx + zz );
+		element12 = 2.0F * ( yz + wx );
+		element13 = 0.0F;
+		element20 = 2.0F * ( xz + wy );
+		element21 = 2.0F * ( yz - wx );
+		element22 = 1.0F - 2.0F * ( xx + yy );
+		element23 = 0.0F;
+		element30 = 0.0F;
+		element31 = 0.0F;
+		element32 = 0.0F;
+		element33 = 1.0F;
+
+		return this;
+	}
+
 	/**
 	 * Recreates this matrix into a transformation matrix.
 	 * 
@@ -575,12 +854,8 @@ public class Matrix4F extends Matrix
 	public Matrix4F recreateIntoTransformation( Vector3F translation,
 			Vector3F rotation, Vector3F scale )
 	{
-		setIdentity( );
-		translate( translation );
-		rotate( rotation.x, new Vector3F( 1.0F, 0.0F, 0.0F ) );
-		rotate( rotation.y, new Vector3F( 0.0F, 1.0F, 0.0F ) );
-		rotate( rotation.z, new Vector3F( 0.0F, 0.0F, 1.0F ) );
-		scale( scale );
+		writeTransformation( translation.x, translation.y, translation.z,
+				rotation, scale.x, scale.y, scale.z, false, this, 0 );
 
 		return this;
 	}
@@ -594,11 +869,8 @@ public class Matrix4F extends Matrix
 	 */
 	public Matrix4F recreateIntoView( Vector3F translation, Vector3F rotation )
 	{
-		setIdentity( );
-		rotate( rotation.x, new Vector3F( 1.0F, 0.0F, 0.0F ) );
-		rotate( rotation.y, new Vector3F( 0.0F, 1.0F, 0.0F ) );
-		rotate( rotation.z, new Vector3F( 0.0F, 0.0F, 1.0F ) );
-		translate( new Vector3F( translation ).setNegated( ) );
+		writeTransformation( translation.x, translation.y, translation.z,
+				rotation, 1.0F, 1.0F, 1.0F, true, this, 0 );
 
 		return this;
 	}
@@ -660,4 +932,388 @@ public class Matrix4F extends Matrix
 
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Matrix4F storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, element00 );
+		floatBuffer.put( offset + 1, element01 );
+		floatBuffer.put( offset + 2, element02 );
+		floatBuffer.put( offset + 3, element03 );
+		floatBuffer.put( offset + 4, element10 );
+		floatBuffer.put( offset + 5, element11 );
+		floatBuffer.put( offset + 6, element12 );
+		floatBuffer.put( offset + 7, element13 );
+		floatBuffer.put( offset + 8, element20 );
+		floatBuffer.put( offset + 9, element21 );
+		floatBuffer.put( offset + 10, element22 );
+		floatBuffer.put( offset + 11, element23 );
+		floatBuffer.put( offset + 12, element30 );
+		floatBuffer.put( offset + 13, element31 );
+		floatBuffer.put( offset + 14, element32 );
+		floatBuffer.put( offset + 15, element33 );
+
+		return this;
+	}
+
+	/**
+	 * Stores this matrix in an array, in the same order as a float buffer.
+	 * 
+	 * @param array The array to store this matrix in.
+	 * @param offset The index to store the first float at.
+	 * @return This matrix.
+	 */
+	public Matrix4F store( float[] array, int offset )
+	{
+		array[ offset ] = element00;
+		array[ offset + 1 ] = element01;
+		array[ offset + 2 ] = element02;
+		array[ offset + 3 ] = element03;
+		array[ offset + 4 ] = element10;
+		array[ offset + 5 ] = element11;
+		array[ offset + 6 ] = element12;
+		array[ offset + 7 ] = element13;
+		array[ offset + 8 ] = element20;
+		array[ offset + 9 ] = element21;
+		array[ offset + 10 ] = element22;
+		array[ offset + 11 ] = element23;
+		array[ offset + 12 ] = element30;
+		array[ offset + 13 ] = element31;
+		array[ offset + 14 ] = element32;
+		array[ offset + 15 ] = element33;
+
+		return this;
+	}
+
+	/**
+	 * Stores a range of matrices contiguously in a float buffer at an offset,
+	 * without changing the position of the buffer or flipping it. The matrices
+	 * are packed into a reusable array of the calling thread and written with
+	 * bulk puts.
+	 * 
+	 * @param matrices The matrices to store.
+	 * @param fromIndex The index of the first matrix.
+	 * @param toIndex The index after the last matrix.
+	 * @param floatBuffer The float buffer to store the matrices in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public static FloatBuffer storeAt( Matrix4F[] matrices, int fromIndex,
+			int toIndex, FloatBuffer floatBuffer, int offset )
+	{
+		float[] batch = STORE_BATCHES.get( );
+
+		for( int i = fromIndex; i < toIndex; i += STORE_BATCH )
+		{
+			int count = min( toIndex - i, STORE_BATCH );
+
+			for( int j = 0; j < count; j++ )
+			{
+				matrices[ i + j ].store( batch, j * 16 );
+			}
+
+			floatBuffer.put( offset, batch, 0, count * 16 );
+			offset += count * 16;
+		}
+
+		return floatBuffer;
+	}
+
+	/**
+	 * Writes the inverse of a matrix.
+	 * 
+	 * @param element00 The element in column 0, row 0.
+	 * @param element01 The element in column 0, row 1.
+	 * @param element02 The element in column 0, row 2.
+	 * @param element03 The element in column 0, row 3.
+	 * @param element10 The element in column 1, row 0.
+	 * @param element11 The element in column 1, row 1.
+	 * @param element12 The element in column 1, row 2.
+	 * @param element13 The element in column 1, row 3.
+	 * @param element20 The element in column 2, row 0.
+	 * @param element21 The element in column 2, row 1.
+	 * @param element22 The element in column 2, row 2.
+	 * @param element23 The element in column 2, row 3.
+	 * @param element30 The element in column 3, row 0.
+	 * @param element31 The element in column 3, row 1.
+	 * @param element32 The element in column 3, row 2.
+	 * @param element33 The element in column 3, row 3.
+	 * @param destination The matrix to write to.
+	 * @param offset The offset of the matrix in the destination.
+	 * @see #setInverted()
+	 */
+	static void writeInverse( float element00, float element01,
+			float element02, float element03, float element10,
+			float element11, float element12, float element13,
+			float element20, float element21, float element22,
+			float element23, float element30, float element31,
+			float element32, float element33, Matrix4FWriter destination,
+			int offset )
+	{
+		float s0 = element00 * element11 - element10 * element01;
+		float s1 = element00 * element12 - element10 * element02;
+		float s2 = element00 * element13 - element10 * element03;
+		float s3 = element01 * element12 - element11 * element02;
+		float s4 = element01 * element13 - element11 * element03;
+		float s5 = element02 * element13 - element12 * element03;
+		float c0 = element20 * element31 - element30 * element21;
+		float c1 = element20 * element32 - element30 * element22;
+		float c2 = element20 * element33 - element30 * element23;
+		float c3 = element21 * element32 - element31 * element22;
+		float c4 = element21 * element33 - element31 * element23;
+		float c5 = element22 * element33 - element32 * element23;
+		float inverseDeterminant = 1.0F / ( s0 * c5 - s1 * c4 + s2 * c3
+				+ s3 * c2 - s4 * c1 + s5 * c0 );
+		float inverse00 = ( element11 * c5 - element12 * c4
+				+ element13 * c3 ) * inverseDeterminant;
+		float inverse01 = ( -element01 * c5 + element02 * c4
+				- element03 * c3 ) * inverseDeterminant;
+		float inverse02 = ( element31 * s5 - element32 * s4
+				+ element33 * s3 ) * inverseDeterminant;
+		float inverse03 = ( -element21 * s5 + element22 * s4
+				- element23 * s3 ) * inverseDeterminant;
+		float inverse10 = ( -element10 * c5 + element12 * c2
+				- element13 * c1 ) * inverseDeterminant;
+		float inverse11 = ( element00 * c5 - element02 * c2
+				+ element03 * c1 ) * inverseDeterminant;
+		float inverse12 = ( -element30 * s5 + element32 * s2
+				- element33 * s1 ) * inverseDeterminant;
+		float inverse13 = ( element20 * s5 - element22 * s2
+				+ element23 * s1 ) * inverseDeterminant;
+		float inverse20 = ( element10 * c4 - element11 * c2
+				+ element13 * c0 ) * inverseDeterminant;
+		float inverse21 = ( -element00 * c4 + element01 * c2
+				- element03 * c0 ) * inverseDeterminant;
+		float inverse22 = ( element30 * s4 - element31 * s2
+				+ element33 * s0 ) * inverseDeterminant;
+		float inverse23 = ( -element20 * s4 + element21 * s2
+				- element23 * s0 ) * inverseDeterminant;
+		float inverse30 = ( -element10 * c3 + element11 * c1
+				- element12 * c0 ) * inverseDeterminant;
+		float inverse31 = ( element00 * c3 - element01 * c1
+				+ element02 * c0 ) * inverseDeterminant;
+		float inverse32 = ( -element30 * s3 + element31 * s1
+				- element32 * s0 ) * inverseDeterminant;
+		float inverse33 = ( element20 * s3 - element21 * s1
+				+ element22 * s0 ) * inverseDeterminant;
+
+		destination.setColumn( offset, inverse00, inverse01, inverse02,
+				inverse03 );
+		destination.setColumn( offset + 4, inverse10, inverse11, inverse12,
+				inverse13 );
+		destination.setColumn( offset + 8, inverse20, inverse21, inverse22,
+				inverse23 );
+		destination.setColumn( offset + 12, inverse30, inverse31, inverse32,
+				inverse33 );
+	}
+
+	/**
+	 * Writes the inverse of an affine matrix, whose last row is 0, 0, 0, 1.
+	 * 
+	 * @param element00 The element in column 0, row 0.
+	 * @param element01 The element in column 0, row 1.
+	 * @param element02 The element in column 0, row 2.
+	 * @param element10 The element in column 1, row 0.
+	 * @param element11 The element in column 1, row 1.
+	 * @param element12 The element in column 1, row 2.
+	 * @param element20 The element in column 2, row 0.
+	 * @param element21 The element in column 2, row 1.
+	 * @param element22 The element in column 2, row 2.
+	 * @param element30 The element in column 3, row 0.
+	 * @param element31 The element in column 3, row 1.
+	 * @param element32 The element in column 3, row 2.
+	 * @param destination The matrix to write to.
+	 * @param offset The offset of the matrix in the destination.
+	 * @see #setInvertedAffine()
+	 */
+	static void writeInverseAffine( float element00, float element01,
+			float element02, float element10, float element11,
+			float element12, float element20, float element21,
+			float element22, float element30, float element31,
+			float element32, Matrix4FWriter destination, int offset )
+	{
+		float cofactor00 = element11 * element22 - element12 * element21;
+		float cofactor01 = element12 * element20 - element10 * element22;
+		float cofactor02 = element10 * element21 - element11 * element20;
+		float inverseDeterminant = 1.0F / ( element00 * cofactor00
+				+ element01 * cofactor01 + element02 * cofactor02 );
+		float inverse00 = cofactor00 * inverseDeterminant;
+		float inverse01 = ( element02 * element21
+				- element01 * element22 ) * inverseDeterminant;
+		float inverse02 = ( element01 * element12
+				- element02 * element11 ) * inverseDeterminant;
+		float inverse10 = cofactor01 * inverseDeterminant;
+		float inverse11 = ( element00 * element22
+				- element02 * element20 ) * inverseDeterminant;
+		float inverse12 = ( element02 * element10
+				- element00 * element12 ) * inverseDeterminant;
+		float inverse20 = cofactor02 * inverseDeterminant;
+		float inverse21 = ( element01 * element20
+				- element00 * element21 ) * inverseDeterminant;
+		float inverse22 = ( element00 * element11
+				- element01 * element10 ) * inverseDeterminant;
+
+		destination.setColumn( offset, inverse00, inverse01, inverse02,
+				0.0F );
+		destination.setColumn( offset + 4, inverse10, inverse11, inverse12,
+				0.0F );
+		destination.setColumn( offset + 8, inverse20, inverse21, inverse22,
+				0.0F );
+		destination.setColumn( offset + 12, -( inverse00 * element30
+				+ inverse10 * element31 + inverse20 * element32 ),
+				-( inverse01 * element30 + inverse11 * element31
+						+ inverse21 * element32 ),
+				-( inverse02 * element30 + inverse12 * element31
+						+ inverse22 * element32 ), 1.0F );
+	}
+
+	/**
+	 * Writes the first three columns of a matrix rotated around an axis. The
+	 * last column does not change.
+	 * 
+	 * @param angle The float (in degrees) to rotate.
+	 * @param axis The vector to rotate by.
+	 * @param element00 The element in column 0, row 0.
+	 * @param element01 The element in column 0, row 1.
+	 * @param element02 The element in column 0, row 2.
+	 * @param element03 The element in column 0, row 3.
+	 * @param element10 The element in column 1, row 0.
+	 * @param element11 The element in column 1, row 1.
+	 * @param element12 The element in column 1, row 2.
+	 * @param element13 The element in column 1, row 3.
+	 * @param element20 The element in column 2, row 0.
+	 * @param element21 The element in column 2, row 1.
+	 * @param element22 The element in column 2, row 2.
+	 * @param element23 The element in column 2, row 3.
+	 * @param destination The matrix to write to.
+	 * @param offset The offset of the matrix in the destination.
+	 * @see #rotate(float, Vector3F)
+	 */
+	static void writeRotated( float angle, Vector3F axis, float element00,
+			float element01, float element02, float element03,
+			float element10, float element11, float element12,
+			float element13, float element20, float element21,
+			float element22, float element23, Matrix4FWriter destination,
+			int offset )
+	{
+		float cosine = ( float ) cos( toRadians( angle ) );
+		float sine = ( float ) sin( toRadians( angle ) );
+		float oneMinusCosine = 1.0F - cosine;
+		float xy = axis.x * axis.y;
+		float yz = axis.y * axis.z;
+		float xz = axis.x * axis.z;
+		float xs = axis.x * sine;
+		float ys = axis.y * sine;
+		float zs = axis.z * sine;
+		float factor00 = axis.x * axis.x * oneMinusCosine + cosine;
+		float factor01 = xy * oneMinusCosine + zs;
+		float factor02 = xz * oneMinusCosine - ys;
+		float factor10 = xy * oneMinusCosine - zs;
+		float factor11 = axis.y * axis.y * oneMinusCosine + cosine;
+		float factor12 = yz * oneMinusCosine + xs;
+		float factor20 = xz * oneMinusCosine + ys;
+		float factor21 = yz * oneMinusCosine - xs;
+		float factor22 = axis.z * axis.z * oneMinusCosine + cosine;
+		float rotated00 = element00 * factor00 + element10 * factor01
+				+ element20 * factor02;
+		float rotated01 = element01 * factor00 + element11 * factor01
+				+ element21 * factor02;
+		float rotated02 = element02 * factor00 + element12 * factor01
+				+ element22 * factor02;
+		float rotated03 = element03 * factor00 + element13 * factor01
+				+ element23 * factor02;
+		float rotated10 = element00 * factor10 + element10 * factor11
+				+ element20 * factor12;
+		float rotated11 = element01 * factor10 + element11 * factor11
+				+ element21 * factor12;
+		float rotated12 = element02 * factor10 + element12 * factor11
+				+ element22 * factor12;
+		float rotated13 = element03 * factor10 + element13 * factor11
+				+ element23 * factor12;
+		float rotated20 = element00 * factor20 + element10 * factor21
+				+ element20 * factor22;
+		float rotated21 = element01 * factor20 + element11 * factor21
+				+ element21 * factor22;
+		float rotated22 = element02 * factor20 + element12 * factor21
+				+ element22 * factor22;
+		float rotated23 = element03 * factor20 + element13 * factor21
+				+ element23 * factor22;
+
+		destination.setColumn( offset, rotated00, rotated01, rotated02,
+				rotated03 );
+		destination.setColumn( offset + 4, rotated10, rotated11, rotated12,
+				rotated13 );
+		destination.setColumn( offset + 8, rotated20, rotated21, rotated22,
+				rotated23 );
+	}
+
+	/**
+	 * Writes a transformation or view matrix. The rotation is the same as
+	 * rotating the identity around the x, y, and then z axis, and each of the
+	 * first three columns is then scaled.
+	 * 
+	 * @param translationX The x value to translate by.
+	 * @param translationY The y value to translate by.
+	 * @param translationZ The z value to translate by.
+	 * @param rotation The vector (in degrees) to rotate by.
+	 * @param scaleX The float to scale the first column by.
+	 * @param scaleY The float to scale the second column by.
+	 * @param scaleZ The float to scale the third column by.
+	 * @param view Whether to translate by the inverse of the translation in
+	 *        rotated space, as a view matrix does.
+	 * @param destination The matrix to write to.
+	 * @param offset The offset of the matrix in the destination.
+	 * @see #recreateIntoTransformation(Vector3F, Vector3F, Vector3F)
+	 * @see #recreateIntoView(Vector3F, Vector3F)
+	 */
+	static void writeTransformation( float translationX, float translationY,
+			float translationZ, Vector3F rotation, float scaleX, float scaleY,
+			float scaleZ, boolean view, Matrix4FWriter destination,
+			int offset )
+	{
+		float radiansX = ( float ) toRadians( rotation.x );
+		float radiansY = ( float ) toRadians( rotation.y );
+		float radiansZ = ( float ) toRadians( rotation.z );
+		float cosineX = ( float ) cos( radiansX );
+		float sineX = ( float ) sin( radiansX );
+		float cosineY = ( float ) cos( radiansY );
+		float sineY = ( float ) sin( radiansY );
+		float cosineZ = ( float ) cos( radiansZ );
+		float sineZ = ( float ) sin( radiansZ );
+		float sineXSineY = sineX * sineY;
+		float cosineXSineY = cosineX * sineY;
+		float element00 = cosineY * cosineZ * scaleX;
+		float element01 = ( sineXSineY * cosineZ + cosineX * sineZ ) * scaleX;
+		float element02 = ( sineX * sineZ - cosineXSineY * cosineZ ) * scaleX;
+		float element10 = -cosineY * sineZ * scaleY;
+		float element11 = ( cosineX * cosineZ - sineXSineY * sineZ ) * scaleY;
+		float element12 = ( cosineXSineY * sineZ + sineX * cosineZ ) * scaleY;
+		float element20 = sineY * scaleZ;
+		float element21 = -sineX * cosineY * scaleZ;
+		float element22 = cosineX * cosineY * scaleZ;
+		float element30 = translationX;
+		float element31 = translationY;
+		float element32 = translationZ;
+
+		if( view )
+		{
+			element30 = -( element00 * translationX + element10 * translationY
+					+ element20 * translationZ );
+			element31 = -( element01 * translationX + element11 * translationY
+					+ element21 * translationZ );
+			element32 = -( element02 * translationX + element12 * translationY
+					+ element22 * translationZ );
+		}
+
+		destination.setColumn( offset, element00, element01, element02, 0.0F );
+		destination.setColumn( offset + 4, element10, element11, element12,
+				0.0F );
+		destination.setColumn( offset + 8, element20, element21, element22,
+				0.0F );
+		destination.setColumn( offset + 12, element30, element31, element32,
+				1.0F );
+	}
 }
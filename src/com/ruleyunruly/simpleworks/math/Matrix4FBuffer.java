@@ -0,0 +1,444 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Holds an array of 4x4 matrices of floats in off-heap memory, laid out the
+ * same way {@link Matrix4F#store(FloatBuffer)} writes them.
+ * <p>
+ * Operations write their results straight into the buffer with absolute puts,
+ * so different threads may fill different matrices at once and the buffer can
+ * be handed to a native upload (such as a uniform or instance buffer) without
+ * copying it first. The position and limit of the buffers are never touched.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Matrix4FBuffer implements Matrix4FWriter
+{
+	/**
+	 * The number of floats in a matrix.
+	 */
+	public static final int FLOATS = 16;
+
+	/**
+	 * The number of bytes in a matrix.
+	 */
+	public static final int BYTES = FLOATS * Float.BYTES;
+
+	/**
+	 * Holds the matrices as bytes, in native order.
+	 */
+	private final ByteBuffer byteBuffer;
+
+	/**
+	 * Holds the matrices as floats.
+	 */
+	private final FloatBuffer floatBuffer;
+
+	/**
+	 * Initializes this buffer by setting every matrix to zero.
+	 * 
+	 * @param capacity The number of matrices.
+	 */
+	public Matrix4FBuffer( int capacity )
+	{
+		byteBuffer = ByteBuffer.allocateDirect( capacity * BYTES )
+				.order( ByteOrder.nativeOrder( ) );
+		floatBuffer = byteBuffer.asFloatBuffer( );
+	}
+
+	/**
+	 * @return The number of matrices.
+	 */
+	public int getCapacity( )
+	{
+		return floatBuffer.capacity( ) / FLOATS;
+	}
+
+	/**
+	 * @return The matrices as bytes, for native uploads.
+	 */
+	public ByteBuffer getByteBuffer( )
+	{
+		return byteBuffer;
+	}
+
+	/**
+	 * @return The matrices as floats.
+	 */
+	public FloatBuffer getFloatBuffer( )
+	{
+		return floatBuffer;
+	}
+
+	/**
+	 * Copies a matrix out of this buffer.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param destination The matrix to copy into.
+	 * @return The destination matrix.
+	 */
+	public Matrix4F get( int index, Matrix4F destination )
+	{
+		int offset = index * FLOATS;
+
+		destination.element00 = floatBuffer.get( offset );
+		destination.element01 = floatBuffer.get( offset + 1 );
+		destination.element02 = floatBuffer.get( offset + 2 );
+		destination.element03 = floatBuffer.get( offset + 3 );
+		destination.element10 = floatBuffer.get( offset + 4 );
+		destination.element11 = floatBuffer.get( offset + 5 );
+		destination.element12 = floatBuffer.get( offset + 6 );
+		destination.element13 = floatBuffer.get( offset + 7 );
+		destination.element20 = floatBuffer.get( offset + 8 );
+		destination.element21 = floatBuffer.get( offset + 9 );
+		destination.element22 = floatBuffer.get( offset + 10 );
+		destination.element23 = floatBuffer.get( offset + 11 );
+		destination.element30 = floatBuffer.get( offset + 12 );
+		destination.element31 = floatBuffer.get( offset + 13 );
+		destination.element32 = floatBuffer.get( offset + 14 );
+		destination.element33 = floatBuffer.get( offset + 15 );
+
+		return destination;
+	}
+
+	/**
+	 * Sets a matrix in this buffer by copying another matrix.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param other The matrix to copy.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer set( int index, Matrix4F other )
+	{
+		other.storeAt( floatBuffer, index * FLOATS );
+
+		return this;
+	}
+
+	/**
+	 * Sets a column of a matrix in this buffer.
+	 * 
+	 * @param offset The offset of the first element of the column, counted in
+	 *        floats from the start of this buffer.
+	 * @param x The new 1st element.
+	 * @param y The new 2nd element.
+	 * @param z The new 3rd element.
+	 * @param w The new 4th element.
+	 */
+	@Override
+	public void setColumn( int offset, float x, float y, float z, float w )
+	{
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+		floatBuffer.put( offset + 2, z );
+		floatBuffer.put( offset + 3, w );
+	}
+
+	/**
+	 * Sets a matrix in this buffer to the identity.
+	 * 
+	 * @param index The index of the matrix.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer setIdentity( int index )
+	{
+		int offset = index * FLOATS;
+
+		for( int i = 0; i < FLOATS; i++ )
+		{
+			floatBuffer.put( offset + i, i % 5 == 0 ? 1.0F : 0.0F );
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets a matrix in this buffer to the product of two matrices, such as a
+	 * view-projection matrix and a model matrix.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param left The matrix to multiply.
+	 * @param right The matrix to multiply by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer multiply( int index, Matrix4F left, Matrix4F right )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, left.element00 * right.element00
+				+ left.element10 * right.element01
+				+ left.element20 * right.element02
+				+ left.element30 * right.element03 );
+		floatBuffer.put( offset + 1, left.element01 * right.element00
+				+ left.element11 * right.element01
+				+ left.element21 * right.element02
+				+ left.element31 * right.element03 );
+		floatBuffer.put( offset + 2, left.element02 * right.element00
+				+ left.element12 * right.element01
+				+ left.element22 * right.element02
+				+ left.element32 * right.element03 );
+		floatBuffer.put( offset + 3, left.element03 * right.element00
+				+ left.element13 * right.element01
+				+ left.element23 * right.element02
+				+ left.element33 * right.element03 );
+		floatBuffer.put( offset + 4, left.element00 * right.element10
+				+ left.element10 * right.element11
+				+ left.element20 * right.element12
+				+ left.element30 * right.element13 );
+		floatBuffer.put( offset + 5, left.element01 * right.element10
+				+ left.element11 * right.element11
+				+ left.element21 * right.element12
+				+ left.element31 * right.element13 );
+		floatBuffer.put( offset + 6, left.element02 * right.element10
+				+ left.element12 * right.element11
+				+ left.element22 * right.element12
+				+ left.element32 * right.element13 );
+		floatBuffer.put( offset + 7, left.element03 * right.element10
+				+ left.element13 * right.element11
+				+ left.element23 * right.element12
+				+ left.element33 * right.element13 );
+		floatBuffer.put( offset + 8, left.element00 * right.element20
+				+ left.element10 * right.element21
+				+ left.element20 * right.element22
+				+ left.element30 * right.element23 );
+		floatBuffer.put( offset + 9, left.element01 * right.element20
+				+ left.element11 * right.element21
+				+ left.element21 * right.element22
+				+ left.element31 * right.element23 );
+		floatBuffer.put( offset + 10, left.element02 * right.element20
+				+ left.element12 * right.element21
+				+ left.element22 * right.element22
+				+ left.element32 * right.element23 );
+		floatBuffer.put( offset + 11, left.element03 * right.element20
+				+ left.element13 * right.element21
+				+ left.element23 * right.element22
+				+ left.element33 * right.element23 );
+		floatBuffer.put( offset + 12, left.element00 * right.element30
+				+ left.element10 * right.element31
+				+ left.element20 * right.element32
+				+ left.element30 * right.element33 );
+		floatBuffer.put( offset + 13, left.element01 * right.element30
+				+ left.element11 * right.element31
+				+ left.element21 * right.element32
+				+ left.element31 * right.element33 );
+		floatBuffer.put( offset + 14, left.element02 * right.element30
+				+ left.element12 * right.element31
+				+ left.element22 * right.element32
+				+ left.element32 * right.element33 );
+		floatBuffer.put( offset + 15, left.element03 * right.element30
+				+ left.element13 * right.element31
+				+ left.element23 * right.element32
+				+ left.element33 * right.element33 );
+
+		return this;
+	}
+
+	/**
+	 * Sets a matrix in this buffer to the inverse of itself.
+	 * 
+	 * @param index The index of the matrix.
+	 * @return This buffer.
+	 * @see Matrix4F#setInverted()
+	 */
+	public Matrix4FBuffer setInverted( int index )
+	{
+		int offset = index * FLOATS;
+
+		Matrix4F.writeInverse( floatBuffer.get( offset ),
+				floatBuffer.get( offset + 1 ), floatBuffer.get( offset + 2 ),
+				floatBuffer.get( offset + 3 ), floatBuffer.get( offset + 4 ),
+				floatBuffer.get( offset + 5 ), floatBuffer.get( offset + 6 ),
+				floatBuffer.get( offset + 7 ), floatBuffer.get( offset + 8 ),
+				floatBuffer.get( offset + 9 ), floatBuffer.get( offset + 10 ),
+				floatBuffer.get( offset + 11 ), floatBuffer.get( offset + 12 ),
+				floatBuffer.get( offset + 13 ), floatBuffer.get( offset + 14 ),
+				floatBuffer.get( offset + 15 ), this, offset );
+
+		return this;
+	}
+
+	/**
+	 * Sets a matrix in this buffer to the inverse of itself, assuming it is
+	 * affine.
+	 * 
+	 * @param index The index of the matrix.
+	 * @return This buffer.
+	 * @see Matrix4F#setInvertedAffine()
+	 */
+	public Matrix4FBuffer setInvertedAffine( int index )
+	{
+		int offset = index * FLOATS;
+
+		Matrix4F.writeInverseAffine( floatBuffer.get( offset ),
+				floatBuffer.get( offset + 1 ), floatBuffer.get( offset + 2 ),
+				floatBuffer.get( offset + 4 ), floatBuffer.get( offset + 5 ),
+				floatBuffer.get( offset + 6 ), floatBuffer.get( offset + 8 ),
+				floatBuffer.get( offset + 9 ), floatBuffer.get( offset + 10 ),
+				floatBuffer.get( offset + 12 ), floatBuffer.get( offset + 13 ),
+				floatBuffer.get( offset + 14 ), this, offset );
+
+		return this;
+	}
+
+	/**
+	 * Translates a matrix in this buffer.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param translation The vector to translate by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer translate( int index, Vector3F translation )
+	{
+		return translate( index, translation.x, translation.y, translation.z );
+	}
+
+	/**
+	 * Translates a matrix in this buffer.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param x The x value to translate by.
+	 * @param y The y value to translate by.
+	 * @param z The z value to translate by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer translate( int index, float x, float y, float z )
+	{
+		int offset = index * FLOATS;
+
+		for( int row = offset; row < offset + 4; row++ )
+		{
+			floatBuffer.put( row + 12, floatBuffer.get( row ) * x
+					+ floatBuffer.get( row + 4 ) * y
+					+ floatBuffer.get( row + 8 ) * z
+					+ floatBuffer.get( row + 12 ) );
+		}
+
+		return this;
+	}
+
+	/**
+	 * Rotates a matrix in this buffer.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param angle The float (in degrees) to rotate.
+	 * @param axis The vector to rotate by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer rotate( int index, float angle, Vector3F axis )
+	{
+		int offset = index * FLOATS;
+
+		Matrix4F.writeRotated( angle, axis, floatBuffer.get( offset ),
+				floatBuffer.get( offset + 1 ), floatBuffer.get( offset + 2 ),
+				floatBuffer.get( offset + 3 ), floatBuffer.get( offset + 4 ),
+				floatBuffer.get( offset + 5 ), floatBuffer.get( offset + 6 ),
+				floatBuffer.get( offset + 7 ), floatBuffer.get( offset + 8 ),
+				floatBuffer.get( offset + 9 ), floatBuffer.get( offset + 10 ),
+				floatBuffer.get( offset + 11 ), this, offset );
+
+		return this;
+	}
+
+	/**
+	 * Scales a matrix in this buffer.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param scale The vector to scale by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer scale( int index, Vector3F scale )
+	{
+		int offset = index * FLOATS;
+
+		for( int row = offset; row < offset + 4; row++ )
+		{
+			floatBuffer.put( row, floatBuffer.get( row ) * scale.x );
+			floatBuffer.put( row + 4, floatBuffer.get( row + 4 ) * scale.y );
+			floatBuffer.put( row + 8, floatBuffer.get( row + 8 ) * scale.z );
+		}
+
+		return this;
+	}
+
+	/**
+	 * Recreates a matrix in this buffer into a rotation matrix. The rotation
+	 * is the same as rotating the identity around the x, y, and then z axis.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param rotation The vector (in degrees) to rotate by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer recreateIntoRotation( int index, Vector3F rotation )
+	{
+		Matrix4F.writeTransformation( 0.0F, 0.0F, 0.0F, rotation, 1.0F, 1.0F,
+				1.0F, false, this, index * FLOATS );
+
+		return this;
+	}
+
+	/**
+	 * Recreates a matrix in this buffer into a transformation matrix.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param translation The vector to translate by.
+	 * @param rotation The vector to rotate by.
+	 * @param scale The vector to scale by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer recreateIntoTransformation( int index,
+			Vector3F translation, Vector3F rotation, Vector3F scale )
+	{
+		Matrix4F.writeTransformation( translation.x, translation.y,
+				translation.z, rotation, scale.x, scale.y, scale.z, false, this,
+				index * FLOATS );
+
+		return this;
+	}
+
+	/**
+	 * Recreates a matrix in this buffer into a view matrix.
+	 * 
+	 * @param index The index of the matrix.
+	 * @param translation The vector to translate by.
+	 * @param rotation The vector to rotate by.
+	 * @return This buffer.
+	 */
+	public Matrix4FBuffer recreateIntoView( int index, Vector3F translation,
+			Vector3F rotation )
+	{
+		Matrix4F.writeTransformation( translation.x, translation.y,
+				translation.z, rotation, 1.0F, 1.0F, 1.0F, true, this,
+				index * FLOATS );
+
+		return this;
+	}
+
+
+}
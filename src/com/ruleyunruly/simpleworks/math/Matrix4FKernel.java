@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+/**
+ * Acts as a base for bulk 4x4 matrix operations over primitive arrays.
+ * <p>
+ * Matrices in arrays are laid out as 16 consecutive floats in the same order
+ * {@link Matrix4F#store(java.nio.FloatBuffer)} writes them. The default
+ * kernel uses the SIMD implementation when it was compiled in from the
+ * {@code src-vector} source root and the {@code jdk.incubator.vector} module
+ * is available (run with {@code --add-modules jdk.incubator.vector}), and
+ * falls back to the scalar implementation otherwise. Setting the
+ * {@code simpleworks.math.scalar} system property forces the scalar
+ * implementation.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public abstract class Matrix4FKernel
+{
+	/**
+	 * Holds the kernel chosen at startup.
+	 */
+	private static final Matrix4FKernel DEFAULT = createDefault( );
+
+	/**
+	 * @return The kernel chosen at startup.
+	 */
+	public static Matrix4FKernel getDefault( )
+	{
+		return DEFAULT;
+	}
+
+	/**
+	 * @return The SIMD kernel if it is supported, otherwise the scalar kernel.
+	 */
+	private static Matrix4FKernel createDefault( )
+	{
+		if( !Boolean.getBoolean( "simpleworks.math.scalar" ) )
+		{
+			try
+			{
+				return ( Matrix4FKernel ) Class
+						.forName( "com.ruleyunruly.simpleworks.math.VectorizedMatrix4FKernel" )
+						.getConstructor( ).newInstance( );
+			}
+			catch( ReflectiveOperationException | LinkageError exception )
+			{
+				// The SIMD kernel or vector module is missing, so fall back.
+			}
+		}
+
+		return new ScalarMatrix4FKernel( );
+	}
+
+	/**
+	 * Multiplies a matrix by another matrix. The result may overlap either
+	 * input.
+	 * 
+	 * @param left The array holding the matrix to multiply.
+	 * @param leftOffset The offset of the matrix to multiply.
+	 * @param right The array holding the matrix to multiply by.
+	 * @param rightOffset The offset of the matrix to multiply by.
+	 * @param result The array to store the product in.
+	 * @param resultOffset The offset to store the product at.
+	 */
+	public abstract void multiply( float[] left, int leftOffset, float[] right,
+			int rightOffset, float[] result, int resultOffset );
+
+	/**
+	 * Multiplies one matrix by many consecutive matrices, such as a
+	 * view-projection matrix by per-instance model matrices.
+	 * 
+	 * @param left The array holding the matrix to multiply.
+	 * @param leftOffset The offset of the matrix to multiply.
+	 * @param rights The array holding the matrices to multiply by.
+	 * @param rightsOffset The offset of the first matrix to multiply by.
+	 * @param results The array to store the products in.
+	 * @param resultsOffset The offset to store the first product at.
+	 * @param count The number of matrices to multiply by.
+	 */
+	public abstract void multiply( float[] left, int leftOffset,
+			float[] rights, int rightsOffset, float[] results,
+			int resultsOffset, int count );
+
+	/**
+	 * Transforms a range of points by a matrix. The points have an implied w
+	 * of 1, and the last row of the matrix is ignored. The result may be the
+	 * points array.
+	 * 
+	 * @param matrix The matrix to transform by.
+	 * @param points The points to transform.
+	 * @param result The array to store the transformed points in.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 */
+	public abstract void transform( Matrix4F matrix, Vector3FArray points,
+			Vector3FArray result, int fromIndex, int toIndex );
+}
@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+/**
+ * Receives the columns of a 4x4 matrix of floats, so that the math shared by
+ * {@link Matrix4F} and {@link Matrix4FBuffer} is written once and stores its
+ * results straight into either.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+interface Matrix4FWriter
+{
+	/**
+	 * Sets a column of a matrix.
+	 * 
+	 * @param offset The offset of the first element of the column, in the
+	 *        order {@link Matrix4F#store(float[], int)} writes the elements.
+	 * @param x The new 1st element.
+	 * @param y The new 2nd element.
+	 * @param z The new 3rd element.
+	 * @param w The new 4th element.
+	 */
+	void setColumn( int offset, float x, float y, float z, float w );
+}
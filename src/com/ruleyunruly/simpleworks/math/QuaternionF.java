@@ -0,0 +1,571 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Holds a quaternion of floats, used to represent rotations.
+ * <p>
+ * Quaternions rotate the same way as {@link Matrix4F#rotate(float, Vector3F)},
+ * and multiplying two quaternions composes their rotations in the same order
+ * as multiplying their matrices.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class QuaternionF extends Vector
+{
+	/**
+	 * The dot product above which slerp falls back to nlerp, as the angle is
+	 * too small to divide by its sine.
+	 */
+	private static final float SLERP_THRESHOLD = 0.9995F;
+
+	/**
+	 * Represents the 1st element.
+	 */
+	public float x;
+
+	/**
+	 * Represents the 2nd element.
+	 */
+	public float y;
+
+	/**
+	 * Represents the 3rd element.
+	 */
+	public float z;
+
+	/**
+	 * Represents the 4th element.
+	 */
+	public float w;
+
+	/**
+	 * Initializes this quaternion by setting it to the identity.
+	 */
+	public QuaternionF( )
+	{
+		super( );
+
+		setIdentity( );
+	}
+
+	/**
+	 * Initializes this quaternion.
+	 * 
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @param w The new w value.
+	 */
+	public QuaternionF( float x, float y, float z, float w )
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+	}
+
+	/**
+	 * Initializes this quaternion by copying another quaternion.
+	 * 
+	 * @param other The quaternion to copy.
+	 */
+	public QuaternionF( QuaternionF other )
+	{
+		this( other.x, other.y, other.z, other.w );
+	}
+
+	/**
+	 * @param other The quaternion to calculate by.
+	 * @return The dot product of this quaternion and another quaternion.
+	 */
+	public float getDotProduct( QuaternionF other )
+	{
+		return x * other.x + y * other.y + z * other.z + w * other.w;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float getLengthSquared( )
+	{
+		return x * x + y * y + z * z + w * w;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public QuaternionF setZero( )
+	{
+		x = 0.0F;
+		y = 0.0F;
+		z = 0.0F;
+		w = 0.0F;
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public QuaternionF setNegated( )
+	{
+		x = -x;
+		y = -y;
+		z = -z;
+		w = -w;
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public QuaternionF setNormalized( )
+	{
+		float length = getLength( );
+
+		x /= length;
+		y /= length;
+		z /= length;
+		w /= length;
+
+		return this;
+	}
+
+	/**
+	 * Sets this quaternion to the identity.
+	 * 
+	 * @return This quaternion.
+	 */
+	public QuaternionF setIdentity( )
+	{
+		x = 0.0F;
+		y = 0.0F;
+		z = 0.0F;
+		w = 1.0F;
+
+		return this;
+	}
+
+	/**
+	 * Sets this quaternion to its conjugated value, which is its inverse
+	 * when it is normalized.
+	 * 
+	 * @return This quaternion.
+	 */
+	public QuaternionF setConjugated( )
+	{
+		x = -x;
+		y = -y;
+		z = -z;
+
+		return this;
+	}
+
+	/**
+	 * Sets this quaternion to its inverted value.
+	 * 
+	 * @return This quaternion.
+	 */
+	public QuaternionF setInverted( )
+	{
+		float lengthSquared = getLengthSquared( );
+
+		x = -x / lengthSquared;
+		y = -y / lengthSquared;
+		z = -z / lengthSquared;
+		w /= lengthSquared;
+
+		return this;
+	}
+
+	/**
+	 * Multiplies this quaternion by another quaternion, so that the other
+	 * rotation is applied first.
+	 * 
+	 * @param other The quaternion to multiply by.
+	 * @return This quaternion.
+	 */
+	public QuaternionF multiply( QuaternionF other )
+	{
+		float x = this.w * other.x + this.x * other.w + this.y * other.z
+				- this.z * other.y;
+		float y = this.w * other.y - this.x * other.z + this.y * other.w
+				+ this.z * other.x;
+		float z = this.w * other.z + this.x * other.y - this.y * other.x
+				+ this.z * other.w;
+		float w = this.w * other.w - this.x * other.x - this.y * other.y
+				- this.z * other.z;
+
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+
+		return this;
+	}
+
+	/**
+	 * Spherically interpolates this quaternion towards another quaternion
+	 * along the shortest path.
+	 * 
+	 * @param other The quaternion to interpolate towards.
+	 * @param alpha The float (from 0 to 1) to interpolate by.
+	 * @return This quaternion.
+	 */
+	public QuaternionF slerp( QuaternionF other, float alpha )
+	{
+		float dotProduct = getDotProduct( other );
+		float sign = dotProduct < 0.0F ? -1.0F : 1.0F;
+		float factor = 1.0F - alpha;
+		float otherFactor = alpha * sign;
+
+		dotProduct *= sign;
+
+		if( dotProduct < SLERP_THRESHOLD )
+		{
+			float angle = ( float ) acos( dotProduct );
+			float sine = ( float ) sin( angle );
+
+			factor = ( float ) sin( factor * angle ) / sine;
+			otherFactor = ( float ) sin( alpha * angle ) / sine * sign;
+		}
+
+		x = x * factor + other.x * otherFactor;
+		y = y * factor + other.y * otherFactor;
+		z = z * factor + other.z * otherFactor;
+		w = w * factor + other.w * otherFactor;
+
+		return dotProduct < SLERP_THRESHOLD ? this : setNormalized( );
+	}
+
+	/**
+	 * Linearly interpolates this quaternion towards another quaternion along
+	 * the shortest path and normalizes it. This is cheaper than slerp, but
+	 * does not rotate at a constant speed.
+	 * 
+	 * @param other The quaternion to interpolate towards.
+	 * @param alpha The float (from 0 to 1) to interpolate by.
+	 * @return This quaternion.
+	 */
+	public QuaternionF nlerp( QuaternionF other, float alpha )
+	{
+		float factor = 1.0F - alpha;
+		float otherFactor = getDotProduct( other ) < 0.0F ? -alpha : alpha;
+
+		x = x * factor + other.x * otherFactor;
+		y = y * factor + other.y * otherFactor;
+		z = z * factor + other.z * otherFactor;
+		w = w * factor + other.w * otherFactor;
+
+		return setNormalized( );
+	}
+
+	/**
+	 * Recreates this quaternion into a rotation around an axis.
+	 * 
+	 * @param angle The float (in degrees) to rotate.
+	 * @param axis The unit vector to rotate around.
+	 * @return This quaternion.
+	 */
+	public QuaternionF recreateIntoRotation( float angle, Vector3F axis )
+	{
+		float halfAngle = ( float ) toRadians( angle ) * 0.5F;
+		float sine = ( float ) sin( halfAngle );
+
+		x = axis.x * sine;
+		y = axis.y * sine;
+		z = axis.z * sine;
+		w = ( float ) cos( halfAngle );
+
+		return this;
+	}
+
+	/**
+	 * Recreates this quaternion into the same rotation as
+	 * {@link Matrix4F#recreateIntoRotation(Vector3F)}.
+	 * 
+	 * @param rotation The vector (in degrees) to rotate by.
+	 * @return This quaternion.
+	 */
+	public QuaternionF recreateIntoRotation( Vector3F rotation )
+	{
+		float halfX = ( float ) toRadians( rotation.x ) * 0.5F;
+		float halfY = ( float ) toRadians( rotation.y ) * 0.5F;
+		float halfZ = ( float ) toRadians( rotation.z ) * 0.5F;
+		float cosineX = ( float ) cos( halfX );
+		float sineX = ( float ) sin( halfX );
+		float cosineY = ( float ) cos( halfY );
+		float sineY = ( float ) sin( halfY );
+		float cosineZ = ( float ) cos( halfZ );
+		float sineZ = ( float ) sin( halfZ );
+
+		x = sineX * cosineY * cosineZ + cosineX * sineY * sineZ;
+		y = cosineX * sineY * cosineZ - sineX * cosineY * sineZ;
+		z = cosineX * cosineY * sineZ + sineX * sineY * cosineZ;
+		w = cosineX * cosineY * cosineZ - sineX * sineY * sineZ;
+
+		return this;
+	}
+
+	/**
+	 * Recreates this quaternion from the rotation of a matrix. The matrix
+	 * must not be scaled.
+	 * 
+	 * @param matrix The matrix to take the rotation from.
+	 * @return This quaternion.
+	 */
+	public QuaternionF recreateFromMatrix( Matrix3F matrix )
+	{
+		return recreateFromMatrix( matrix.element00, matrix.element01,
+				matrix.element02, matrix.element10, matrix.element11,
+				matrix.element12, matrix.element20, matrix.element21,
+				matrix.element22 );
+	}
+
+	/**
+	 * Recreates this quaternion from the rotation of a matrix. The matrix
+	 * must not be scaled, and its translation is ignored.
+	 * 
+	 * @param matrix The matrix to take the rotation from.
+	 * @return This quaternion.
+	 */
+	public QuaternionF recreateFromMatrix( Matrix4F matrix )
+	{
+		return recreateFromMatrix( matrix.element00, matrix.element01,
+				matrix.element02, matrix.element10, matrix.element11,
+				matrix.element12, matrix.element20, matrix.element21,
+				matrix.element22 );
+	}
+
+	/**
+	 * Recreates this quaternion from the elements of a rotation matrix,
+	 * starting from the largest diagonal element to stay accurate.
+	 * 
+	 * @param element00 The element00 value.
+	 * @param element01 The element01 value.
+	 * @param element02 The element02 value.
+	 * @param element10 The element10 value.
+	 * @param element11 The element11 value.
+	 * @param element12 The element12 value.
+	 * @param element20 The element20 value.
+	 * @param element21 The element21 value.
+	 * @param element22 The element22 value.
+	 * @return This quaternion.
+	 */
+	private QuaternionF recreateFromMatrix( float element00, float element01,
+			float element02, float element10, float element11, float element12,
+			float element20, float element21, float element22 )
+	{
+		float trace = element00 + element11 + element22;
+
+		if( trace > 0.0F )
+		{
+			float scale = ( float ) sqrt( trace + 1.0F ) * 2.0F;
+
+			x = ( element12 - element21 ) / scale;
+			y = ( element20 - element02 ) / scale;
+			z = ( element01 - element10 ) / scale;
+			w = 0.25F * scale;
+		}
+		else if( element00 > element11 && element00 > element22 )
+		{
+			float scale = ( float ) sqrt(
+					1.0F + element00 - element11 - element22 ) * 2.0F;
+
+			x = 0.25F * scale;
+			y = ( element10 + element01 ) / scale;
+			z = ( element20 + element02 ) / scale;
+			w = ( element12 - element21 ) / scale;
+		}
+		else if( element11 > element22 )
+		{
+			float scale = ( float ) sqrt(
+					1.0F + element11 - element00 - element22 ) * 2.0F;
+
+			x = ( element10 + element01 ) / scale;
+			y = 0.25F * scale;
+			z = ( element21 + element12 ) / scale;
+			w = ( element20 - element02 ) / scale;
+		}
+		else
+		{
+			float scale = ( float ) sqrt(
+					1.0F + element22 - element00 - element11 ) * 2.0F;
+
+			x = ( element20 + element02 ) / scale;
+			y = ( element21 + element12 ) / scale;
+			z = 0.25F * scale;
+			w = ( element01 - element10 ) / scale;
+		}
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public QuaternionF store( FloatBuffer floatBuffer )
+	{
+		floatBuffer.put( x );
+		floatBuffer.put( y );
+		floatBuffer.put( z );
+		floatBuffer.put( w );
+		floatBuffer.flip( );
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public QuaternionF storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+		floatBuffer.put( offset + 2, z );
+		floatBuffer.put( offset + 3, w );
+
+		return this;
+	}
+
+	/**
+	 * Spherically interpolates a range of quaternions towards another range
+	 * along the shortest path. Quaternions are packed as x, y, z, and w in
+	 * consecutive floats, and the result may be either input.
+	 * 
+	 * @param sources The quaternions to interpolate from.
+	 * @param targets The quaternions to interpolate towards.
+	 * @param result The array to store the interpolated quaternions in.
+	 * @param alpha The float (from 0 to 1) to interpolate by.
+	 * @param fromIndex The first quaternion index.
+	 * @param toIndex The quaternion index after the last.
+	 * @return The result array.
+	 */
+	public static float[] slerp( float[] sources, float[] targets,
+			float[] result, float alpha, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex * 4; i < toIndex * 4; i += 4 )
+		{
+			float sourceX = sources[ i ];
+			float sourceY = sources[ i + 1 ];
+			float sourceZ = sources[ i + 2 ];
+			float sourceW = sources[ i + 3 ];
+			float targetX = targets[ i ];
+			float targetY = targets[ i + 1 ];
+			float targetZ = targets[ i + 2 ];
+			float targetW = targets[ i + 3 ];
+			float dotProduct = sourceX * targetX + sourceY * targetY
+					+ sourceZ * targetZ + sourceW * targetW;
+			float sign = dotProduct < 0.0F ? -1.0F : 1.0F;
+			float factor = 1.0F - alpha;
+			float targetFactor = alpha * sign;
+			float scale = 1.0F;
+
+			dotProduct *= sign;
+
+			if( dotProduct < SLERP_THRESHOLD )
+			{
+				float angle = ( float ) acos( dotProduct );
+				float sine = ( float ) sin( angle );
+
+				factor = ( float ) sin( factor * angle ) / sine;
+				targetFactor = ( float ) sin( alpha * angle ) / sine * sign;
+			}
+
+			float x = sourceX * factor + targetX * targetFactor;
+			float y = sourceY * factor + targetY * targetFactor;
+			float z = sourceZ * factor + targetZ * targetFactor;
+			float w = sourceW * factor + targetW * targetFactor;
+
+			if( dotProduct >= SLERP_THRESHOLD )
+			{
+				scale = 1.0F / ( float ) sqrt( x * x + y * y + z * z + w * w );
+			}
+
+			result[ i ] = x * scale;
+			result[ i + 1 ] = y * scale;
+			result[ i + 2 ] = z * scale;
+			result[ i + 3 ] = w * scale;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Linearly interpolates a range of quaternions towards another range
+	 * along the shortest path and normalizes them. Quaternions are packed as
+	 * x, y, z, and w in consecutive floats, and the result may be either
+	 * input.
+	 * 
+	 * @param sources The quaternions to interpolate from.
+	 * @param targets The quaternions to interpolate towards.
+	 * @param result The array to store the interpolated quaternions in.
+	 * @param alpha The float (from 0 to 1) to interpolate by.
+	 * @param fromIndex The first quaternion index.
+	 * @param toIndex The quaternion index after the last.
+	 * @return The result array.
+	 */
+	public static float[] nlerp( float[] sources, float[] targets,
+			float[] result, float alpha, int fromIndex, int toIndex )
+	{
+		float factor = 1.0F - alpha;
+
+		for( int i = fromIndex * 4; i < toIndex * 4; i += 4 )
+		{
+			float dotProduct = sources[ i ] * targets[ i ]
+					+ sources[ i + 1 ] * targets[ i + 1 ]
+					+ sources[ i + 2 ] * targets[ i + 2 ]
+					+ sources[ i + 3 ] * targets[ i + 3 ];
+			float targetFactor = dotProduct < 0.0F ? -alpha : alpha;
+			float x = sources[ i ] * factor + targets[ i ] * targetFactor;
+			float y = sources[ i + 1 ] * factor
+					+ targets[ i + 1 ] * targetFactor;
+			float z = sources[ i + 2 ] * factor
+					+ targets[ i + 2 ] * targetFactor;
+			float w = sources[ i + 3 ] * factor
+					+ targets[ i + 3 ] * targetFactor;
+			float scale = 1.0F / ( float ) sqrt( x * x + y * y + z * z + w * w );
+
+			result[ i ] = x * scale;
+			result[ i + 1 ] = y * scale;
+			result[ i + 2 ] = z * scale;
+			result[ i + 3 ] = w * scale;
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,458 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+/**
+ * Holds a ray, as an origin and a direction, and intersects it with spheres,
+ * planes, boxes, and triangles.
+ * <p>
+ * Distances are measured in multiples of the direction, so they are true
+ * distances when the direction is normalized. Every test returns the
+ * distance to the nearest hit in front of the origin, or {@link #MISS}, and
+ * allocates nothing. The batch triangle tests take triangles as structures of
+ * arrays, one array per corner, and run without branching per triangle.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Ray
+{
+	/**
+	 * The distance returned when the ray misses.
+	 */
+	public static final float MISS = -1.0F;
+
+	/**
+	 * The smallest determinant of a triangle test, below which the ray is
+	 * taken to be parallel to the triangle.
+	 */
+	private static final float EPSILON = 1.0E-7F;
+
+	/**
+	 * Represents the origin.
+	 */
+	public final Vector3F origin;
+
+	/**
+	 * Represents the direction.
+	 */
+	public final Vector3F direction;
+
+	/**
+	 * Initializes this ray at the origin, pointing nowhere.
+	 */
+	public Ray( )
+	{
+		origin = new Vector3F( );
+		direction = new Vector3F( );
+	}
+
+	/**
+	 * Initializes this ray.
+	 * 
+	 * @param origin The origin.
+	 * @param direction The direction.
+	 */
+	public Ray( Vector3F origin, Vector3F direction )
+	{
+		this.origin = new Vector3F( origin );
+		this.direction = new Vector3F( direction );
+	}
+
+	/**
+	 * Initializes this ray by copying another ray.
+	 * 
+	 * @param other The ray to copy.
+	 */
+	public Ray( Ray other )
+	{
+		this( other.origin, other.direction );
+	}
+
+	/**
+	 * Gets a point along this ray.
+	 * 
+	 * @param distance The distance along the ray.
+	 * @param destination The vector to store the point in.
+	 * @return The destination vector.
+	 */
+	public Vector3F getPoint( float distance, Vector3F destination )
+	{
+		destination.x = origin.x + direction.x * distance;
+		destination.y = origin.y + direction.y * distance;
+		destination.z = origin.z + direction.z * distance;
+
+		return destination;
+	}
+
+	/**
+	 * Sets this ray to the given origin and direction.
+	 * 
+	 * @param origin The origin.
+	 * @param direction The direction.
+	 * @return This ray.
+	 */
+	public Ray set( Vector3F origin, Vector3F direction )
+	{
+		this.origin.x = origin.x;
+		this.origin.y = origin.y;
+		this.origin.z = origin.z;
+		this.direction.x = direction.x;
+		this.direction.y = direction.y;
+		this.direction.z = direction.z;
+
+		return this;
+	}
+
+	/**
+	 * Recreates this ray as the one through a point on the screen, from the
+	 * near plane towards the far plane, for picking. The direction is
+	 * normalized.
+	 * 
+	 * @param inverseViewProjection The inverse of the view-projection matrix.
+	 * @param x The x coordinate of the point, from -1 at the left edge to 1
+	 *        at the right edge.
+	 * @param y The y coordinate of the point, from -1 at the bottom edge to 1
+	 *        at the top edge.
+	 * @return This ray.
+	 */
+	public Ray recreateFromScreen( Matrix4F inverseViewProjection, float x,
+			float y )
+	{
+		Matrix4F matrix = inverseViewProjection;
+		float baseX = matrix.element00 * x + matrix.element10 * y
+				+ matrix.element30;
+		float baseY = matrix.element01 * x + matrix.element11 * y
+				+ matrix.element31;
+		float baseZ = matrix.element02 * x + matrix.element12 * y
+				+ matrix.element32;
+		float baseW = matrix.element03 * x + matrix.element13 * y
+				+ matrix.element33;
+		float nearW = 1.0F / ( baseW - matrix.element23 );
+		float farW = 1.0F / ( baseW + matrix.element23 );
+
+		origin.x = ( baseX - matrix.element20 ) * nearW;
+		origin.y = ( baseY - matrix.element21 ) * nearW;
+		origin.z = ( baseZ - matrix.element22 ) * nearW;
+		direction.x = ( baseX + matrix.element20 ) * farW - origin.x;
+		direction.y = ( baseY + matrix.element21 ) * farW - origin.y;
+		direction.z = ( baseZ + matrix.element22 ) * farW - origin.z;
+		direction.setNormalized( );
+
+		return this;
+	}
+
+	/**
+	 * @param center The center of the sphere.
+	 * @param radius The radius of the sphere.
+	 * @return The distance to where this ray enters the sphere, 0 if the
+	 *         origin is inside it, or {@link #MISS}.
+	 */
+	public float intersectSphere( Vector3F center, float radius )
+	{
+		float offsetX = origin.x - center.x;
+		float offsetY = origin.y - center.y;
+		float offsetZ = origin.z - center.z;
+		float a = direction.getLengthSquared( );
+		float b = offsetX * direction.x + offsetY * direction.y
+				+ offsetZ * direction.z;
+		float c = offsetX * offsetX + offsetY * offsetY + offsetZ * offsetZ
+				- radius * radius;
+
+		if( c <= 0.0F )
+		{
+			return 0.0F;
+		}
+
+		float discriminant = b * b - a * c;
+
+		if( b > 0.0F || discriminant < 0.0F )
+		{
+			return MISS;
+		}
+
+		return ( -b - ( float ) sqrt( discriminant ) ) / a;
+	}
+
+	/**
+	 * @param plane The plane, with the normal in x, y, and z and the distance
+	 *        from the origin in w, as in {@link Frustum#planes}.
+	 * @return The distance to where this ray crosses the plane, or
+	 *         {@link #MISS}.
+	 */
+	public float intersectPlane( Vector4F plane )
+	{
+		float denominator = plane.x * direction.x + plane.y * direction.y
+				+ plane.z * direction.z;
+		float distance = -( plane.x * origin.x + plane.y * origin.y
+				+ plane.z * origin.z + plane.w ) / denominator;
+
+		return distance >= 0.0F && abs( denominator ) > EPSILON ? distance
+				: MISS;
+	}
+
+	/**
+	 * @param box The box.
+	 * @return The distance to where this ray enters the box, 0 if the origin
+	 *         is inside it, or {@link #MISS}.
+	 */
+	public float intersectBox( AABB box )
+	{
+		float inverseX = 1.0F / direction.x;
+		float inverseY = 1.0F / direction.y;
+		float inverseZ = 1.0F / direction.z;
+		float x1 = ( box.min.x - origin.x ) * inverseX;
+		float x2 = ( box.max.x - origin.x ) * inverseX;
+		float y1 = ( box.min.y - origin.y ) * inverseY;
+		float y2 = ( box.max.y - origin.y ) * inverseY;
+		float z1 = ( box.min.z - origin.z ) * inverseZ;
+		float z2 = ( box.max.z - origin.z ) * inverseZ;
+		float near = max( max( 0.0F, min( x1, x2 ) ),
+				max( min( y1, y2 ), min( z1, z2 ) ) );
+		float far = min( max( x1, x2 ), min( max( y1, y2 ), max( z1, z2 ) ) );
+
+		return near <= far ? near : MISS;
+	}
+
+	/**
+	 * Intersects this ray with a triangle from either side, with the
+	 * Moller-Trumbore test.
+	 * 
+	 * @param a The 1st corner of the triangle.
+	 * @param b The 2nd corner of the triangle.
+	 * @param c The 3rd corner of the triangle.
+	 * @return The distance to where this ray crosses the triangle, or
+	 *         {@link #MISS}.
+	 */
+	public float intersectTriangle( Vector3F a, Vector3F b, Vector3F c )
+	{
+		return intersectTriangle( a.x, a.y, a.z, b.x, b.y, b.z, c.x, c.y,
+				c.z );
+	}
+
+	/**
+	 * Intersects this ray with one triangle of a batch.
+	 * 
+	 * @param a The 1st corners of the triangles.
+	 * @param b The 2nd corners of the triangles.
+	 * @param c The 3rd corners of the triangles.
+	 * @param index The index of the triangle.
+	 * @return The distance to where this ray crosses the triangle, or
+	 *         {@link #MISS}.
+	 */
+	public float intersectTriangle( Vector3FArray a, Vector3FArray b,
+			Vector3FArray c, int index )
+	{
+		return intersectTriangle( a.x[ index ], a.y[ index ], a.z[ index ],
+				b.x[ index ], b.y[ index ], b.z[ index ], c.x[ index ],
+				c.y[ index ], c.z[ index ] );
+	}
+
+	/**
+	 * Intersects this ray with a range of triangles, writing the distance to
+	 * each triangle, or {@link #MISS}, at the triangle's index.
+	 * 
+	 * @param a The 1st corners of the triangles.
+	 * @param b The 2nd corners of the triangles.
+	 * @param c The 3rd corners of the triangles.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param distances The array to write the distances to.
+	 * @return The number of triangles hit.
+	 */
+	public int intersectTriangles( Vector3FArray a, Vector3FArray b,
+			Vector3FArray c, int fromIndex, int toIndex, float[] distances )
+	{
+		float originX = origin.x;
+		float originY = origin.y;
+		float originZ = origin.z;
+		float directionX = direction.x;
+		float directionY = direction.y;
+		float directionZ = direction.z;
+		int hits = 0;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float ax = a.x[ i ];
+			float ay = a.y[ i ];
+			float az = a.z[ i ];
+			float edge1X = b.x[ i ] - ax;
+			float edge1Y = b.y[ i ] - ay;
+			float edge1Z = b.z[ i ] - az;
+			float edge2X = c.x[ i ] - ax;
+			float edge2Y = c.y[ i ] - ay;
+			float edge2Z = c.z[ i ] - az;
+			float pX = directionY * edge2Z - directionZ * edge2Y;
+			float pY = directionZ * edge2X - directionX * edge2Z;
+			float pZ = directionX * edge2Y - directionY * edge2X;
+			float determinant = edge1X * pX + edge1Y * pY + edge1Z * pZ;
+			float inverse = 1.0F / determinant;
+			float tX = originX - ax;
+			float tY = originY - ay;
+			float tZ = originZ - az;
+			float u = ( tX * pX + tY * pY + tZ * pZ ) * inverse;
+			float qX = tY * edge1Z - tZ * edge1Y;
+			float qY = tZ * edge1X - tX * edge1Z;
+			float qZ = tX * edge1Y - tY * edge1X;
+			float v = ( directionX * qX + directionY * qY + directionZ * qZ )
+					* inverse;
+			float distance = ( edge2X * qX + edge2Y * qY + edge2Z * qZ )
+					* inverse;
+			boolean hit = abs( determinant ) > EPSILON & u >= 0.0F
+					& v >= 0.0F & u + v <= 1.0F & distance >= 0.0F;
+
+			distances[ i ] = hit ? distance : MISS;
+			hits += hit ? 1 : 0;
+		}
+
+		return hits;
+	}
+
+	/**
+	 * Finds the nearest triangle this ray crosses within a distance, for
+	 * picking and hitscan over large meshes. The distance to it can be found
+	 * with {@link #intersectTriangle(Vector3FArray, Vector3FArray,
+	 * Vector3FArray, int)}.
+	 * 
+	 * @param a The 1st corners of the triangles.
+	 * @param b The 2nd corners of the triangles.
+	 * @param c The 3rd corners of the triangles.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param maxDistance The distance to look within.
+	 * @return The index of the nearest triangle, or -1 if none is crossed.
+	 */
+	public int getNearestTriangle( Vector3FArray a, Vector3FArray b,
+			Vector3FArray c, int fromIndex, int toIndex, float maxDistance )
+	{
+		float originX = origin.x;
+		float originY = origin.y;
+		float originZ = origin.z;
+		float directionX = direction.x;
+		float directionY = direction.y;
+		float directionZ = direction.z;
+		float nearest = maxDistance;
+		int nearestIndex = -1;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float ax = a.x[ i ];
+			float ay = a.y[ i ];
+			float az = a.z[ i ];
+			float edge1X = b.x[ i ] - ax;
+			float edge1Y = b.y[ i ] - ay;
+			float edge1Z = b.z[ i ] - az;
+			float edge2X = c.x[ i ] - ax;
+			float edge2Y = c.y[ i ] - ay;
+			float edge2Z = c.z[ i ] - az;
+			float pX = directionY * edge2Z - directionZ * edge2Y;
+			float pY = directionZ * edge2X - directionX * edge2Z;
+			float pZ = directionX * edge2Y - directionY * edge2X;
+			float determinant = edge1X * pX + edge1Y * pY + edge1Z * pZ;
+			float inverse = 1.0F / determinant;
+			float tX = originX - ax;
+			float tY = originY - ay;
+			float tZ = originZ - az;
+			float u = ( tX * pX + tY * pY + tZ * pZ ) * inverse;
+			float qX = tY * edge1Z - tZ * edge1Y;
+			float qY = tZ * edge1X - tX * edge1Z;
+			float qZ = tX * edge1Y - tY * edge1X;
+			float v = ( directionX * qX + directionY * qY + directionZ * qZ )
+					* inverse;
+			float distance = ( edge2X * qX + edge2Y * qY + edge2Z * qZ )
+					* inverse;
+			boolean hit = abs( determinant ) > EPSILON & u >= 0.0F
+					& v >= 0.0F & u + v <= 1.0F & distance >= 0.0F
+					& distance < nearest;
+
+			nearest = hit ? distance : nearest;
+			nearestIndex = hit ? i : nearestIndex;
+		}
+
+		return nearestIndex;
+	}
+
+	/**
+	 * Intersects this ray with a triangle, with the Moller-Trumbore test.
+	 * 
+	 * @param ax The x coordinate of the 1st corner.
+	 * @param ay The y coordinate of the 1st corner.
+	 * @param az The z coordinate of the 1st corner.
+	 * @param bx The x coordinate of the 2nd corner.
+	 * @param by The y coordinate of the 2nd corner.
+	 * @param bz The z coordinate of the 2nd corner.
+	 * @param cx The x coordinate of the 3rd corner.
+	 * @param cy The y coordinate of the 3rd corner.
+	 * @param cz The z coordinate of the 3rd corner.
+	 * @return The distance to where this ray crosses the triangle, or
+	 *         {@link #MISS}.
+	 */
+	private float intersectTriangle( float ax, float ay, float az, float bx,
+			float by, float bz, float cx, float cy, float cz )
+	{
+		float edge1X = bx - ax;
+		float edge1Y = by - ay;
+		float edge1Z = bz - az;
+		float edge2X = cx - ax;
+		float edge2Y = cy - ay;
+		float edge2Z = cz - az;
+		float pX = direction.y * edge2Z - direction.z * edge2Y;
+		float pY = direction.z * edge2X - direction.x * edge2Z;
+		float pZ = direction.x * edge2Y - direction.y * edge2X;
+		float determinant = edge1X * pX + edge1Y * pY + edge1Z * pZ;
+
+		if( abs( determinant ) <= EPSILON )
+		{
+			return MISS;
+		}
+
+		float inverse = 1.0F / determinant;
+		float tX = origin.x - ax;
+		float tY = origin.y - ay;
+		float tZ = origin.z - az;
+		float u = ( tX * pX + tY * pY + tZ * pZ ) * inverse;
+
+		if( u < 0.0F || u > 1.0F )
+		{
+			return MISS;
+		}
+
+		float qX = tY * edge1Z - tZ * edge1Y;
+		float qY = tZ * edge1X - tX * edge1Z;
+		float qZ = tX * edge1Y - tY * edge1X;
+		float v = ( direction.x * qX + direction.y * qY + direction.z * qZ )
+				* inverse;
+
+		if( v < 0.0F || u + v > 1.0F )
+		{
+			return MISS;
+		}
+
+		float distance = ( edge2X * qX + edge2Y * qY + edge2Z * qZ ) * inverse;
+
+		return distance >= 0.0F ? distance : MISS;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+/**
+ * Implements bulk 4x4 matrix operations with plain scalar arithmetic.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ScalarMatrix4FKernel extends Matrix4FKernel
+{
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void multiply( float[] left, int leftOffset, float[] right,
+			int rightOffset, float[] result, int resultOffset )
+	{
+		float left00 = left[ leftOffset ];
+		float left01 = left[ leftOffset + 1 ];
+		float left02 = left[ leftOffset + 2 ];
+		float left03 = left[ leftOffset + 3 ];
+		float left10 = left[ leftOffset + 4 ];
+		float left11 = left[ leftOffset + 5 ];
+		float left12 = left[ leftOffset + 6 ];
+		float left13 = left[ leftOffset + 7 ];
+		float left20 = left[ leftOffset + 8 ];
+		float left21 = left[ leftOffset + 9 ];
+		float left22 = left[ leftOffset + 10 ];
+		float left23 = left[ leftOffset + 11 ];
+		float left30 = left[ leftOffset + 12 ];
+		float left31 = left[ leftOffset + 13 ];
+		float left32 = left[ leftOffset + 14 ];
+		float left33 = left[ leftOffset + 15 ];
+
+		for( int column = 0; column < 16; column += 4 )
+		{
+			float right0 = right[ rightOffset + column ];
+			float right1 = right[ rightOffset + column + 1 ];
+			float right2 = right[ rightOffset + column + 2 ];
+			float right3 = right[ rightOffset + column + 3 ];
+
+			result[ resultOffset + column ] = left00 * right0
+					+ left10 * right1 + left20 * right2 + left30 * right3;
+			result[ resultOffset + column + 1 ] = left01 * right0
+					+ left11 * right1 + left21 * right2 + left31 * right3;
+			result[ resultOffset + column + 2 ] = left02 * right0
+					+ left12 * right1 + left22 * right2 + left32 * right3;
+			result[ resultOffset + column + 3 ] = left03 * right0
+					+ left13 * right1 + left23 * right2 + left33 * right3;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void multiply( float[] left, int leftOffset, float[] rights,
+			int rightsOffset, float[] results, int resultsOffset, int count )
+	{
+		for( int i = 0; i < count; i++ )
+		{
+			multiply( left, leftOffset, rights, rightsOffset + i * 16, results,
+					resultsOffset + i * 16 );
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void transform( Matrix4F matrix, Vector3FArray points,
+			Vector3FArray result, int fromIndex, int toIndex )
+	{
+		float element00 = matrix.element00;
+		float element01 = matrix.element01;
+		float element02 = matrix.element02;
+		float element10 = matrix.element10;
+		float element11 = matrix.element11;
+		float element12 = matrix.element12;
+		float element20 = matrix.element20;
+		float element21 = matrix.element21;
+		float element22 = matrix.element22;
+		float element30 = matrix.element30;
+		float element31 = matrix.element31;
+		float element32 = matrix.element32;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float x = points.x[ i ];
+			float y = points.y[ i ];
+			float z = points.z[ i ];
+
+			result.x[ i ] = element00 * x + element10 * y + element20 * z
+					+ element30;
+			result.y[ i ] = element01 * x + element11 * y + element21 * z
+					+ element31;
+			result.z[ i ] = element02 * x + element12 * y + element22 * z
+					+ element32;
+		}
+	}
+}
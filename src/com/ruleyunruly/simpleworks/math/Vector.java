@@ -84,4 +84,15 @@ public abstract class Vector
 	 * @return This vector.
 	 */
 	public abstract Vector store( FloatBuffer floatBuffer );
+
+	/**
+	 * Stores this vector in a float buffer at an offset, without changing the
+	 * position of the buffer or flipping it, so that many vectors can be
+	 * packed into one buffer.
+	 * 
+	 * @param floatBuffer The float buffer to store this vector in.
+	 * @param offset The index to store the first float at.
+	 * @return This vector.
+	 */
+	public abstract Vector storeAt( FloatBuffer floatBuffer, int offset );
 }
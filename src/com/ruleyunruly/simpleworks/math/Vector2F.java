@@ -73,6 +73,32 @@ public class Vector2F extends Vector
 		this( other.x, other.y );
 	}
 
+	/**
+	 * Sets this vector to the given values.
+	 * 
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @return This vector.
+	 */
+	public Vector2F set( float x, float y )
+	{
+		this.x = x;
+		this.y = y;
+
+		return this;
+	}
+
+	/**
+	 * Sets this vector by copying another vector.
+	 * 
+	 * @param other The vector to copy.
+	 * @return This vector.
+	 */
+	public Vector2F set( Vector2F other )
+	{
+		return set( other.x, other.y );
+	}
+
 	/**
 	 * @param other The vector to calculate by.
 	 * @return The dot product of this vector and another vector.
@@ -253,4 +279,16 @@ public class Vector2F extends Vector
 
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Vector2F storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+
+		return this;
+	}
 }
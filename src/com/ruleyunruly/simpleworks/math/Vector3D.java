@@ -0,0 +1,385 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Holds a 3-tuple vector of doubles, for positions in worlds too large for
+ * {@link Vector3F} to hold precisely. A float only has 24 bits of precision,
+ * so 10 kilometers from the origin it can no longer step by a millimeter.
+ * <p>
+ * This does not extend {@link Vector}, whose lengths are floats; lengths are
+ * doubles here instead. Storing this vector converts it to floats.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Vector3D
+{
+	/**
+	 * Represents the 1st element.
+	 */
+	public double x;
+
+	/**
+	 * Represents the 2nd element.
+	 */
+	public double y;
+
+	/**
+	 * Represents the 3rd element.
+	 */
+	public double z;
+
+	/**
+	 * Initializes this vector.
+	 */
+	public Vector3D( )
+	{
+		setZero( );
+	}
+
+	/**
+	 * Initializes this vector.
+	 * 
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 */
+	public Vector3D( double x, double y, double z )
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+	}
+
+	/**
+	 * Initializes this vector by copying another vector.
+	 * 
+	 * @param other The vector to copy from.
+	 */
+	public Vector3D( Vector3D other )
+	{
+		this( other.x, other.y, other.z );
+	}
+
+	/**
+	 * Initializes this vector by copying a float vector.
+	 * 
+	 * @param other The vector to copy from.
+	 */
+	public Vector3D( Vector3F other )
+	{
+		this( other.x, other.y, other.z );
+	}
+
+	/**
+	 * Sets this vector to the given values.
+	 * 
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @return This vector.
+	 */
+	public Vector3D set( double x, double y, double z )
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+
+		return this;
+	}
+
+	/**
+	 * Sets this vector by copying another vector.
+	 * 
+	 * @param other The vector to copy.
+	 * @return This vector.
+	 */
+	public Vector3D set( Vector3D other )
+	{
+		return set( other.x, other.y, other.z );
+	}
+
+	/**
+	 * Sets this vector by copying a float vector.
+	 * 
+	 * @param other The vector to copy.
+	 * @return This vector.
+	 */
+	public Vector3D set( Vector3F other )
+	{
+		return set( other.x, other.y, other.z );
+	}
+
+	/**
+	 * @param other The vector to calculate by.
+	 * @return The dot product of this vector and another vector.
+	 */
+	public double getDotProduct( Vector3D other )
+	{
+		return x * other.x + y * other.y + z * other.z;
+	}
+
+	/**
+	 * @param other The vector to calculate by.
+	 * @return The cross product of this vector and another vector.
+	 */
+	public Vector3D getCrossProduct( Vector3D other )
+	{
+		return new Vector3D( y * other.z - z * other.y,
+				other.x * z - other.z * x, x * other.y - y * other.x );
+	}
+
+	/**
+	 * Calculates the cross product without allocating. The destination may
+	 * be this vector or the other vector.
+	 * 
+	 * @param other The vector to calculate by.
+	 * @param destination The vector to store the cross product in.
+	 * @return The destination vector.
+	 */
+	public Vector3D getCrossProduct( Vector3D other, Vector3D destination )
+	{
+		return destination.set( y * other.z - z * other.y,
+				other.x * z - other.z * x, x * other.y - y * other.x );
+	}
+
+	/**
+	 * @return The length of this vector.
+	 */
+	public final double getLength( )
+	{
+		return sqrt( getLengthSquared( ) );
+	}
+
+	/**
+	 * @return The length squared of this vector.
+	 */
+	public double getLengthSquared( )
+	{
+		return x * x + y * y + z * z;
+	}
+
+	/**
+	 * Sets this vector to zero.
+	 * 
+	 * @return This vector.
+	 */
+	public Vector3D setZero( )
+	{
+		x = 0.0;
+		y = 0.0;
+		z = 0.0;
+
+		return this;
+	}
+
+	/**
+	 * Sets this vector to its negated value.
+	 * 
+	 * @return This vector.
+	 */
+	public Vector3D setNegated( )
+	{
+		x = -x;
+		y = -y;
+		z = -z;
+
+		return this;
+	}
+
+	/**
+	 * Sets this vector to its normalized value.
+	 * 
+	 * @return This vector.
+	 */
+	public Vector3D setNormalized( )
+	{
+		double length = getLength( );
+
+		x /= length;
+		y /= length;
+		z /= length;
+
+		return this;
+	}
+
+	/**
+	 * Adds a double to this vector.
+	 * 
+	 * @param value The double to add.
+	 * @return This vector.
+	 */
+	public Vector3D add( double value )
+	{
+		x += value;
+		y += value;
+		z += value;
+
+		return this;
+	}
+
+	/**
+	 * Adds another vector to this vector.
+	 * 
+	 * @param other The vector to add.
+	 * @return This vector.
+	 */
+	public Vector3D add( Vector3D other )
+	{
+		x += other.x;
+		y += other.y;
+		z += other.z;
+
+		return this;
+	}
+
+	/**
+	 * Subtracts a double from this vector.
+	 * 
+	 * @param value The double to subtract.
+	 * @return This vector.
+	 */
+	public Vector3D subtract( double value )
+	{
+		x -= value;
+		y -= value;
+		z -= value;
+
+		return this;
+	}
+
+	/**
+	 * Subtracts another vector from this vector.
+	 * 
+	 * @param other The vector to subtract.
+	 * @return This vector.
+	 */
+	public Vector3D subtract( Vector3D other )
+	{
+		x -= other.x;
+		y -= other.y;
+		z -= other.z;
+
+		return this;
+	}
+
+	/**
+	 * Multiplies this vector by a double.
+	 * 
+	 * @param value The double to multiply by.
+	 * @return This vector.
+	 */
+	public Vector3D multiply( double value )
+	{
+		x *= value;
+		y *= value;
+		z *= value;
+
+		return this;
+	}
+
+	/**
+	 * Multiplies this vector by another vector.
+	 * 
+	 * @param other The vector to multiply by.
+	 * @return This vector.
+	 */
+	public Vector3D multiply( Vector3D other )
+	{
+		x *= other.x;
+		y *= other.y;
+		z *= other.z;
+
+		return this;
+	}
+
+	/**
+	 * Divides this vector by a double.
+	 * 
+	 * @param value The double to divide by.
+	 * @return This vector.
+	 */
+	public Vector3D divide( double value )
+	{
+		x /= value;
+		y /= value;
+		z /= value;
+
+		return this;
+	}
+
+	/**
+	 * Divides this vector by another vector.
+	 * 
+	 * @param other The vector to divide by.
+	 * @return This vector.
+	 */
+	public Vector3D divide( Vector3D other )
+	{
+		x /= other.x;
+		y /= other.y;
+		z /= other.z;
+
+		return this;
+	}
+
+	/**
+	 * Stores this vector in a float buffer, rounding each element to a float.
+	 * 
+	 * @param floatBuffer The float buffer to store this vector in.
+	 * @return This vector.
+	 */
+	public Vector3D store( FloatBuffer floatBuffer )
+	{
+		floatBuffer.put( ( float ) x );
+		floatBuffer.put( ( float ) y );
+		floatBuffer.put( ( float ) z );
+		floatBuffer.flip( );
+
+		return this;
+	}
+
+	/**
+	 * Stores this vector in a float buffer at an offset, rounding each element
+	 * to a float, without changing the position of the buffer or flipping it,
+	 * so that many vectors can be packed into one buffer.
+	 * 
+	 * @param floatBuffer The float buffer to store this vector in.
+	 * @param offset The index to store the first float at.
+	 * @return This vector.
+	 */
+	public Vector3D storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, ( float ) x );
+		floatBuffer.put( offset + 1, ( float ) y );
+		floatBuffer.put( offset + 2, ( float ) z );
+
+		return this;
+	}
+}
@@ -23,6 +23,8 @@
  */
 package com.ruleyunruly.simpleworks.math;
 
+import static java.lang.Math.*;
+
 import java.nio.FloatBuffer;
 
 /**
@@ -33,6 +35,17 @@ import java.nio.FloatBuffer;
  */
 public class Vector3F extends Vector
 {
+	/**
+	 * The number of vectors packed per bulk put when storing many at once.
+	 */
+	private static final int STORE_BATCH = 256;
+
+	/**
+	 * Holds the array each thread packs vectors into for bulk puts.
+	 */
+	private static final ThreadLocal<float[]> STORE_BATCHES = ThreadLocal
+			.withInitial( ( ) -> new float[ STORE_BATCH * 3 ] );
+
 	/**
 	 * Represents the 1st element.
 	 */
@@ -80,6 +93,34 @@ public class Vector3F extends Vector
 		this( other.x, other.y, other.z );
 	}
 
+	/**
+	 * Sets this vector to the given values.
+	 * 
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @return This vector.
+	 */
+	public Vector3F set( float x, float y, float z )
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+
+		return this;
+	}
+
+	/**
+	 * Sets this vector by copying another vector.
+	 * 
+	 * @param other The vector to copy.
+	 * @return This vector.
+	 */
+	public Vector3F set( Vector3F other )
+	{
+		return set( other.x, other.y, other.z );
+	}
+
 	/**
 	 * @param other The vector to calculate by.
 	 * @return The dot product of this vector and another vector.
@@ -99,6 +140,20 @@ public class Vector3F extends Vector
 				other.x * z - other.z * x, x * other.y - y * other.x );
 	}
 
+	/**
+	 * Calculates the cross product without allocating. The destination may
+	 * be this vector or the other vector.
+	 * 
+	 * @param other The vector to calculate by.
+	 * @param destination The vector to store the cross product in.
+	 * @return The destination vector.
+	 */
+	public Vector3F getCrossProduct( Vector3F other, Vector3F destination )
+	{
+		return destination.set( y * other.z - z * other.y,
+				other.x * z - other.z * x, x * other.y - y * other.x );
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -144,7 +199,7 @@ public class Vector3F extends Vector
 
 		x /= length;
 		y /= length;
-		y /= length;
+		z /= length;
 
 		return this;
 	}
@@ -282,4 +337,67 @@ public class Vector3F extends Vector
 
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Vector3F storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+		floatBuffer.put( offset + 2, z );
+
+		return this;
+	}
+
+	/**
+	 * Stores this vector in an array, in the same order as a float buffer.
+	 * 
+	 * @param array The array to store this vector in.
+	 * @param offset The index to store the first float at.
+	 * @return This vector.
+	 */
+	public Vector3F store( float[] array, int offset )
+	{
+		array[ offset ] = x;
+		array[ offset + 1 ] = y;
+		array[ offset + 2 ] = z;
+
+		return this;
+	}
+
+	/**
+	 * Stores a range of vectors contiguously in a float buffer at an offset,
+	 * without changing the position of the buffer or flipping it. The vectors
+	 * are packed into a reusable array of the calling thread and written with
+	 * bulk puts.
+	 * 
+	 * @param vectors The vectors to store.
+	 * @param fromIndex The index of the first vector.
+	 * @param toIndex The index after the last vector.
+	 * @param floatBuffer The float buffer to store the vectors in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public static FloatBuffer storeAt( Vector3F[] vectors, int fromIndex,
+			int toIndex, FloatBuffer floatBuffer, int offset )
+	{
+		float[] batch = STORE_BATCHES.get( );
+
+		for( int i = fromIndex; i < toIndex; i += STORE_BATCH )
+		{
+			int count = min( toIndex - i, STORE_BATCH );
+
+			for( int j = 0; j < count; j++ )
+			{
+				vectors[ i + j ].store( batch, j * 3 );
+			}
+
+			floatBuffer.put( offset, batch, 0, count * 3 );
+			offset += count * 3;
+		}
+
+		return floatBuffer;
+	}
 }
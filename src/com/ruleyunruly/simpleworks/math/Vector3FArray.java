@@ -0,0 +1,584 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Holds an array of 3-tuple vectors of floats, stored as one primitive array
+ * per element so that loops over a range of vectors stay cache-friendly and
+ * can be auto-vectorized.
+ * <p>
+ * Every range operation works on the indices from {@code fromIndex}
+ * (inclusive) to {@code toIndex} (exclusive).
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Vector3FArray
+{
+	/**
+	 * The number of vectors interleaved per bulk put when storing.
+	 */
+	private static final int STORE_BATCH = 256;
+
+	/**
+	 * Holds the array each thread interleaves vectors into for bulk puts.
+	 */
+	private static final ThreadLocal<float[]> STORE_BATCHES = ThreadLocal
+			.withInitial( ( ) -> new float[ STORE_BATCH * 3 ] );
+
+	/**
+	 * Represents the 1st elements.
+	 */
+	public final float[] x;
+
+	/**
+	 * Represents the 2nd elements.
+	 */
+	public final float[] y;
+
+	/**
+	 * Represents the 3rd elements.
+	 */
+	public final float[] z;
+
+	/**
+	 * Initializes this array by setting every vector to zero.
+	 * 
+	 * @param capacity The number of vectors.
+	 */
+	public Vector3FArray( int capacity )
+	{
+		x = new float[ capacity ];
+		y = new float[ capacity ];
+		z = new float[ capacity ];
+	}
+
+	/**
+	 * @return The number of vectors.
+	 */
+	public int getCapacity( )
+	{
+		return x.length;
+	}
+
+	/**
+	 * Copies a vector out of this array.
+	 * 
+	 * @param index The index of the vector.
+	 * @param destination The vector to copy into.
+	 * @return The destination vector.
+	 */
+	public Vector3F get( int index, Vector3F destination )
+	{
+		destination.x = x[ index ];
+		destination.y = y[ index ];
+		destination.z = z[ index ];
+
+		return destination;
+	}
+
+	/**
+	 * Sets a vector in this array.
+	 * 
+	 * @param index The index of the vector.
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @return This array.
+	 */
+	public Vector3FArray set( int index, float x, float y, float z )
+	{
+		this.x[ index ] = x;
+		this.y[ index ] = y;
+		this.z[ index ] = z;
+
+		return this;
+	}
+
+	/**
+	 * Sets a vector in this array by copying another vector.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to copy.
+	 * @return This array.
+	 */
+	public Vector3FArray set( int index, Vector3F other )
+	{
+		return set( index, other.x, other.y, other.z );
+	}
+
+	/**
+	 * Calculates the dot products of a range of vectors in this array and
+	 * another array.
+	 * 
+	 * @param other The array to calculate by.
+	 * @param result The array to store the dot products in.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return The result array.
+	 */
+	public float[] getDotProduct( Vector3FArray other, float[] result,
+			int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			result[ i ] = x[ i ] * other.x[ i ] + y[ i ] * other.y[ i ]
+					+ z[ i ] * other.z[ i ];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Calculates the cross products of a range of vectors in this array and
+	 * another array. The result array may be this array.
+	 * 
+	 * @param other The array to calculate by.
+	 * @param result The array to store the cross products in.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return The result array.
+	 */
+	public Vector3FArray getCrossProduct( Vector3FArray other,
+			Vector3FArray result, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float x = this.y[ i ] * other.z[ i ] - this.z[ i ] * other.y[ i ];
+			float y = other.x[ i ] * this.z[ i ] - other.z[ i ] * this.x[ i ];
+			float z = this.x[ i ] * other.y[ i ] - this.y[ i ] * other.x[ i ];
+
+			result.x[ i ] = x;
+			result.y[ i ] = y;
+			result.z[ i ] = z;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Calculates the lengths squared of a range of vectors in this array.
+	 * 
+	 * @param result The array to store the lengths squared in.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return The result array.
+	 */
+	public float[] getLengthSquared( float[] result, int fromIndex,
+			int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			result[ i ] = x[ i ] * x[ i ] + y[ i ] * y[ i ] + z[ i ] * z[ i ];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Sets a range of vectors in this array to zero.
+	 * 
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray setZero( int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] = 0.0F;
+			y[ i ] = 0.0F;
+			z[ i ] = 0.0F;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets a range of vectors in this array to their negated values.
+	 * 
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray setNegated( int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] = -x[ i ];
+			y[ i ] = -y[ i ];
+			z[ i ] = -z[ i ];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Sets a range of vectors in this array to their normalized values.
+	 * 
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray setNormalized( int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			float length = ( float ) sqrt(
+					x[ i ] * x[ i ] + y[ i ] * y[ i ] + z[ i ] * z[ i ] );
+
+			x[ i ] /= length;
+			y[ i ] /= length;
+			z[ i ] /= length;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a float to a range of vectors in this array.
+	 * 
+	 * @param value The float to add.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray add( float value, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] += value;
+			y[ i ] += value;
+			z[ i ] += value;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a vector to a range of vectors in this array.
+	 * 
+	 * @param other The vector to add.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray add( Vector3F other, int fromIndex, int toIndex )
+	{
+		float otherX = other.x;
+		float otherY = other.y;
+		float otherZ = other.z;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] += otherX;
+			y[ i ] += otherY;
+			z[ i ] += otherZ;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a range of vectors in another array to the same range of vectors
+	 * in this array.
+	 * 
+	 * @param other The array to add.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray add( Vector3FArray other, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] += other.x[ i ];
+			y[ i ] += other.y[ i ];
+			z[ i ] += other.z[ i ];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a range of vectors in another array, multiplied by a float, to the
+	 * same range of vectors in this array. This is the usual way to integrate
+	 * positions by velocities.
+	 * 
+	 * @param other The array to add.
+	 * @param value The float to multiply the other vectors by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray addMultiplied( Vector3FArray other, float value,
+			int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] += other.x[ i ] * value;
+			y[ i ] += other.y[ i ] * value;
+			z[ i ] += other.z[ i ] * value;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Subtracts a float from a range of vectors in this array.
+	 * 
+	 * @param value The float to subtract.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray subtract( float value, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] -= value;
+			y[ i ] -= value;
+			z[ i ] -= value;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Subtracts a vector from a range of vectors in this array.
+	 * 
+	 * @param other The vector to subtract.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray subtract( Vector3F other, int fromIndex, int toIndex )
+	{
+		float otherX = other.x;
+		float otherY = other.y;
+		float otherZ = other.z;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] -= otherX;
+			y[ i ] -= otherY;
+			z[ i ] -= otherZ;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Subtracts a range of vectors in another array from the same range of
+	 * vectors in this array.
+	 * 
+	 * @param other The array to subtract.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray subtract( Vector3FArray other, int fromIndex,
+			int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] -= other.x[ i ];
+			y[ i ] -= other.y[ i ];
+			z[ i ] -= other.z[ i ];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Multiplies a range of vectors in this array by a float.
+	 * 
+	 * @param value The float to multiply by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray multiply( float value, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] *= value;
+			y[ i ] *= value;
+			z[ i ] *= value;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Multiplies a range of vectors in this array by a vector.
+	 * 
+	 * @param other The vector to multiply by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray multiply( Vector3F other, int fromIndex, int toIndex )
+	{
+		float otherX = other.x;
+		float otherY = other.y;
+		float otherZ = other.z;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] *= otherX;
+			y[ i ] *= otherY;
+			z[ i ] *= otherZ;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Multiplies a range of vectors in this array by the same range of
+	 * vectors in another array.
+	 * 
+	 * @param other The array to multiply by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray multiply( Vector3FArray other, int fromIndex,
+			int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] *= other.x[ i ];
+			y[ i ] *= other.y[ i ];
+			z[ i ] *= other.z[ i ];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Divides a range of vectors in this array by a float.
+	 * 
+	 * @param value The float to divide by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray divide( float value, int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] /= value;
+			y[ i ] /= value;
+			z[ i ] /= value;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Divides a range of vectors in this array by a vector.
+	 * 
+	 * @param other The vector to divide by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray divide( Vector3F other, int fromIndex, int toIndex )
+	{
+		float otherX = other.x;
+		float otherY = other.y;
+		float otherZ = other.z;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] /= otherX;
+			y[ i ] /= otherY;
+			z[ i ] /= otherZ;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Divides a range of vectors in this array by the same range of vectors
+	 * in another array.
+	 * 
+	 * @param other The array to divide by.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return This array.
+	 */
+	public Vector3FArray divide( Vector3FArray other, int fromIndex,
+			int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			x[ i ] /= other.x[ i ];
+			y[ i ] /= other.y[ i ];
+			z[ i ] /= other.z[ i ];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Stores a range of vectors in this array in a float buffer at an offset,
+	 * interleaved as x, y, and z, without changing the position of the buffer
+	 * or flipping it. The vectors are interleaved into a reusable array of the
+	 * calling thread and written with bulk puts.
+	 * 
+	 * @param floatBuffer The float buffer to store the vectors in.
+	 * @param offset The index to store the first float at.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return The float buffer.
+	 */
+	public FloatBuffer storeAt( FloatBuffer floatBuffer, int offset,
+			int fromIndex, int toIndex )
+	{
+		float[] batch = STORE_BATCHES.get( );
+
+		for( int i = fromIndex; i < toIndex; i += STORE_BATCH )
+		{
+			int count = min( toIndex - i, STORE_BATCH );
+
+			for( int j = 0; j < count; j++ )
+			{
+				batch[ j * 3 ] = x[ i + j ];
+				batch[ j * 3 + 1 ] = y[ i + j ];
+				batch[ j * 3 + 2 ] = z[ i + j ];
+			}
+
+			floatBuffer.put( offset, batch, 0, count * 3 );
+			offset += count * 3;
+		}
+
+		return floatBuffer;
+	}
+}
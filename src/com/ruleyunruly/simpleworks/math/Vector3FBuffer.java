@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Holds an array of 3-tuple vectors of floats in off-heap memory, laid out the
+ * same way {@link Vector3F#store(FloatBuffer)} writes them.
+ * <p>
+ * Like {@link Matrix4FBuffer}, operations write their results straight into
+ * the buffer with absolute puts, and the position and limit of the buffers
+ * are never touched.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Vector3FBuffer
+{
+	/**
+	 * The number of floats in a vector.
+	 */
+	public static final int FLOATS = 3;
+
+	/**
+	 * The number of bytes in a vector.
+	 */
+	public static final int BYTES = FLOATS * Float.BYTES;
+
+	/**
+	 * Holds the vectors as bytes, in native order.
+	 */
+	private final ByteBuffer byteBuffer;
+
+	/**
+	 * Holds the vectors as floats.
+	 */
+	private final FloatBuffer floatBuffer;
+
+	/**
+	 * Initializes this buffer by setting every vector to zero.
+	 * 
+	 * @param capacity The number of vectors.
+	 */
+	public Vector3FBuffer( int capacity )
+	{
+		byteBuffer = ByteBuffer.allocateDirect( capacity * BYTES )
+				.order( ByteOrder.nativeOrder( ) );
+		floatBuffer = byteBuffer.asFloatBuffer( );
+	}
+
+	/**
+	 * @return The number of vectors.
+	 */
+	public int getCapacity( )
+	{
+		return floatBuffer.capacity( ) / FLOATS;
+	}
+
+	/**
+	 * @return The vectors as bytes, for native uploads.
+	 */
+	public ByteBuffer getByteBuffer( )
+	{
+		return byteBuffer;
+	}
+
+	/**
+	 * @return The vectors as floats.
+	 */
+	public FloatBuffer getFloatBuffer( )
+	{
+		return floatBuffer;
+	}
+
+	/**
+	 * Copies a vector out of this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param destination The vector to copy into.
+	 * @return The destination vector.
+	 */
+	public Vector3F get( int index, Vector3F destination )
+	{
+		int offset = index * FLOATS;
+
+		destination.x = floatBuffer.get( offset );
+		destination.y = floatBuffer.get( offset + 1 );
+		destination.z = floatBuffer.get( offset + 2 );
+
+		return destination;
+	}
+
+	/**
+	 * Sets a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer set( int index, float x, float y, float z )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+		floatBuffer.put( offset + 2, z );
+
+		return this;
+	}
+
+	/**
+	 * Sets a vector in this buffer by copying another vector.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to copy.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer set( int index, Vector3F other )
+	{
+		return set( index, other.x, other.y, other.z );
+	}
+
+	/**
+	 * Adds another vector to a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to add.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer add( int index, Vector3F other )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, floatBuffer.get( offset ) + other.x );
+		floatBuffer.put( offset + 1, floatBuffer.get( offset + 1 ) + other.y );
+		floatBuffer.put( offset + 2, floatBuffer.get( offset + 2 ) + other.z );
+
+		return this;
+	}
+
+	/**
+	 * Subtracts another vector from a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to subtract.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer subtract( int index, Vector3F other )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, floatBuffer.get( offset ) - other.x );
+		floatBuffer.put( offset + 1, floatBuffer.get( offset + 1 ) - other.y );
+		floatBuffer.put( offset + 2, floatBuffer.get( offset + 2 ) - other.z );
+
+		return this;
+	}
+
+	/**
+	 * Multiplies a vector in this buffer by a float.
+	 * 
+	 * @param index The index of the vector.
+	 * @param value The float to multiply by.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer multiply( int index, float value )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, floatBuffer.get( offset ) * value );
+		floatBuffer.put( offset + 1, floatBuffer.get( offset + 1 ) * value );
+		floatBuffer.put( offset + 2, floatBuffer.get( offset + 2 ) * value );
+
+		return this;
+	}
+
+	/**
+	 * Normalizes a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer setNormalized( int index )
+	{
+		int offset = index * FLOATS;
+		float x = floatBuffer.get( offset );
+		float y = floatBuffer.get( offset + 1 );
+		float z = floatBuffer.get( offset + 2 );
+		float length = ( float ) sqrt( x * x + y * y + z * z );
+
+		floatBuffer.put( offset, x / length );
+		floatBuffer.put( offset + 1, y / length );
+		floatBuffer.put( offset + 2, z / length );
+
+		return this;
+	}
+
+	/**
+	 * Sets a vector in this buffer to a point transformed by a matrix. The
+	 * point has an implied w of 1, and the last row of the matrix is ignored.
+	 * 
+	 * @param index The index of the vector.
+	 * @param matrix The matrix to transform by.
+	 * @param point The point to transform.
+	 * @return This buffer.
+	 */
+	public Vector3FBuffer transform( int index, Matrix4F matrix,
+			Vector3F point )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, matrix.element00 * point.x
+				+ matrix.element10 * point.y + matrix.element20 * point.z
+				+ matrix.element30 );
+		floatBuffer.put( offset + 1, matrix.element01 * point.x
+				+ matrix.element11 * point.y + matrix.element21 * point.z
+				+ matrix.element31 );
+		floatBuffer.put( offset + 2, matrix.element02 * point.x
+				+ matrix.element12 * point.y + matrix.element22 * point.z
+				+ matrix.element32 );
+
+		return this;
+	}
+}
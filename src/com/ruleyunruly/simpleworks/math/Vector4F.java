@@ -87,6 +87,36 @@ public class Vector4F extends Vector
 		this( other.x, other.y, other.z, other.w );
 	}
 
+	/**
+	 * Sets this vector to the given values.
+	 * 
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @param w The new w value.
+	 * @return This vector.
+	 */
+	public Vector4F set( float x, float y, float z, float w )
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+
+		return this;
+	}
+
+	/**
+	 * Sets this vector by copying another vector.
+	 * 
+	 * @param other The vector to copy.
+	 * @return This vector.
+	 */
+	public Vector4F set( Vector4F other )
+	{
+		return set( other.x, other.y, other.z, other.w );
+	}
+
 	/** 
 	 * @param other The vector to calculate by.
 	 * @return The dot product of this vector and another vector.
@@ -291,4 +321,18 @@ public class Vector4F extends Vector
 
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Vector4F storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+		floatBuffer.put( offset + 2, z );
+		floatBuffer.put( offset + 3, w );
+
+		return this;
+	}
 }
@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.math;
+
+import static java.lang.Math.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Holds an array of 4-tuple vectors of floats in off-heap memory, laid out the
+ * same way {@link Vector4F#store(FloatBuffer)} writes them.
+ * <p>
+ * Like {@link Matrix4FBuffer}, operations write their results straight into
+ * the buffer with absolute puts, and the position and limit of the buffers
+ * are never touched.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Vector4FBuffer
+{
+	/**
+	 * The number of floats in a vector.
+	 */
+	public static final int FLOATS = 4;
+
+	/**
+	 * The number of bytes in a vector.
+	 */
+	public static final int BYTES = FLOATS * Float.BYTES;
+
+	/**
+	 * Holds the vectors as bytes, in native order.
+	 */
+	private final ByteBuffer byteBuffer;
+
+	/**
+	 * Holds the vectors as floats.
+	 */
+	private final FloatBuffer floatBuffer;
+
+	/**
+	 * Initializes this buffer by setting every vector to zero.
+	 * 
+	 * @param capacity The number of vectors.
+	 */
+	public Vector4FBuffer( int capacity )
+	{
+		byteBuffer = ByteBuffer.allocateDirect( capacity * BYTES )
+				.order( ByteOrder.nativeOrder( ) );
+		floatBuffer = byteBuffer.asFloatBuffer( );
+	}
+
+	/**
+	 * @return The number of vectors.
+	 */
+	public int getCapacity( )
+	{
+		return floatBuffer.capacity( ) / FLOATS;
+	}
+
+	/**
+	 * @return The vectors as bytes, for native uploads.
+	 */
+	public ByteBuffer getByteBuffer( )
+	{
+		return byteBuffer;
+	}
+
+	/**
+	 * @return The vectors as floats.
+	 */
+	public FloatBuffer getFloatBuffer( )
+	{
+		return floatBuffer;
+	}
+
+	/**
+	 * Copies a vector out of this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param destination The vector to copy into.
+	 * @return The destination vector.
+	 */
+	public Vector4F get( int index, Vector4F destination )
+	{
+		int offset = index * FLOATS;
+
+		destination.x = floatBuffer.get( offset );
+		destination.y = floatBuffer.get( offset + 1 );
+		destination.z = floatBuffer.get( offset + 2 );
+		destination.w = floatBuffer.get( offset + 3 );
+
+		return destination;
+	}
+
+	/**
+	 * Sets a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param x The new x value.
+	 * @param y The new y value.
+	 * @param z The new z value.
+	 * @param w The new w value.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer set( int index, float x, float y, float z, float w )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, x );
+		floatBuffer.put( offset + 1, y );
+		floatBuffer.put( offset + 2, z );
+		floatBuffer.put( offset + 3, w );
+
+		return this;
+	}
+
+	/**
+	 * Sets a vector in this buffer by copying another vector.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to copy.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer set( int index, Vector4F other )
+	{
+		return set( index, other.x, other.y, other.z, other.w );
+	}
+
+	/**
+	 * Adds another vector to a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to add.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer add( int index, Vector4F other )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, floatBuffer.get( offset ) + other.x );
+		floatBuffer.put( offset + 1, floatBuffer.get( offset + 1 ) + other.y );
+		floatBuffer.put( offset + 2, floatBuffer.get( offset + 2 ) + other.z );
+		floatBuffer.put( offset + 3, floatBuffer.get( offset + 3 ) + other.w );
+
+		return this;
+	}
+
+	/**
+	 * Subtracts another vector from a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @param other The vector to subtract.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer subtract( int index, Vector4F other )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, floatBuffer.get( offset ) - other.x );
+		floatBuffer.put( offset + 1, floatBuffer.get( offset + 1 ) - other.y );
+		floatBuffer.put( offset + 2, floatBuffer.get( offset + 2 ) - other.z );
+		floatBuffer.put( offset + 3, floatBuffer.get( offset + 3 ) - other.w );
+
+		return this;
+	}
+
+	/**
+	 * Multiplies a vector in this buffer by a float.
+	 * 
+	 * @param index The index of the vector.
+	 * @param value The float to multiply by.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer multiply( int index, float value )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, floatBuffer.get( offset ) * value );
+		floatBuffer.put( offset + 1, floatBuffer.get( offset + 1 ) * value );
+		floatBuffer.put( offset + 2, floatBuffer.get( offset + 2 ) * value );
+		floatBuffer.put( offset + 3, floatBuffer.get( offset + 3 ) * value );
+
+		return this;
+	}
+
+	/**
+	 * Normalizes a vector in this buffer.
+	 * 
+	 * @param index The index of the vector.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer setNormalized( int index )
+	{
+		int offset = index * FLOATS;
+		float x = floatBuffer.get( offset );
+		float y = floatBuffer.get( offset + 1 );
+		float z = floatBuffer.get( offset + 2 );
+		float w = floatBuffer.get( offset + 3 );
+		float length = ( float ) sqrt( x * x + y * y + z * z + w * w );
+
+		floatBuffer.put( offset, x / length );
+		floatBuffer.put( offset + 1, y / length );
+		floatBuffer.put( offset + 2, z / length );
+		floatBuffer.put( offset + 3, w / length );
+
+		return this;
+	}
+
+	/**
+	 * Sets a vector in this buffer to a vector transformed by a matrix.
+	 * 
+	 * @param index The index of the vector.
+	 * @param matrix The matrix to transform by.
+	 * @param vector The vector to transform.
+	 * @return This buffer.
+	 */
+	public Vector4FBuffer transform( int index, Matrix4F matrix,
+			Vector4F vector )
+	{
+		int offset = index * FLOATS;
+
+		floatBuffer.put( offset, matrix.element00 * vector.x
+				+ matrix.element10 * vector.y + matrix.element20 * vector.z
+				+ matrix.element30 * vector.w );
+		floatBuffer.put( offset + 1, matrix.element01 * vector.x
+				+ matrix.element11 * vector.y + matrix.element21 * vector.z
+				+ matrix.element31 * vector.w );
+		floatBuffer.put( offset + 2, matrix.element02 * vector.x
+				+ matrix.element12 * vector.y + matrix.element22 * vector.z
+				+ matrix.element32 * vector.w );
+		floatBuffer.put( offset + 3, matrix.element03 * vector.x
+				+ matrix.element13 * vector.y + matrix.element23 * vector.z
+				+ matrix.element33 * vector.w );
+
+		return this;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.particle;
+
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Accelerates every particle the same way, such as gravity or wind.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ConstantForce extends ParticleForce
+{
+	/**
+	 * Holds the acceleration, in units per second squared.
+	 */
+	public final Vector3F acceleration;
+
+	/**
+	 * Initializes this force.
+	 * 
+	 * @param acceleration The acceleration, in units per second squared.
+	 */
+	public ConstantForce( Vector3F acceleration )
+	{
+		this.acceleration = new Vector3F( acceleration );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void apply( ParticleBuffer particles, int fromIndex, int toIndex,
+			float deltaTime )
+	{
+		float x = acceleration.x * deltaTime;
+		float y = acceleration.y * deltaTime;
+		float z = acceleration.z * deltaTime;
+		float[] velocitiesX = particles.velocities.x;
+		float[] velocitiesY = particles.velocities.y;
+		float[] velocitiesZ = particles.velocities.z;
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			velocitiesX[ i ] += x;
+			velocitiesY[ i ] += y;
+			velocitiesZ[ i ] += z;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.particle;
+
+/**
+ * Slows every particle down in proportion to its velocity, such as air
+ * resistance.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class DragForce extends ParticleForce
+{
+	/**
+	 * Holds the fraction of velocity lost per second.
+	 */
+	public float drag;
+
+	/**
+	 * Initializes this force.
+	 * 
+	 * @param drag The fraction of velocity lost per second.
+	 */
+	public DragForce( float drag )
+	{
+		this.drag = drag;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void apply( ParticleBuffer particles, int fromIndex, int toIndex,
+			float deltaTime )
+	{
+		float scale = Math.max( 1.0F - drag * deltaTime, 0.0F );
+
+		particles.velocities.multiply( scale, fromIndex, toIndex );
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.particle;
+
+import java.nio.FloatBuffer;
+
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Holds a fixed number of particles, stored as one primitive array per
+ * attribute so that updating them is a few tight loops over arrays.
+ * <p>
+ * The live particles are always packed at the front: a removed particle is
+ * replaced by the last one, so removing is constant time but does not keep
+ * the order.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ParticleBuffer
+{
+	/**
+	 * The number of floats stored per particle: the position, the size, and
+	 * the fraction of its lifetime that has passed.
+	 */
+	public static final int STRIDE = 5;
+
+	/**
+	 * Holds the positions of the particles.
+	 */
+	public final Vector3FArray positions;
+
+	/**
+	 * Holds the velocities of the particles, in units per second.
+	 */
+	public final Vector3FArray velocities;
+
+	/**
+	 * Holds the number of seconds each particle has lived.
+	 */
+	public final float[] ages;
+
+	/**
+	 * Holds the number of seconds each particle lives.
+	 */
+	public final float[] lifetimes;
+
+	/**
+	 * Holds the sizes of the particles.
+	 */
+	public final float[] sizes;
+
+	/**
+	 * Holds the number of live particles.
+	 */
+	private int count;
+
+	/**
+	 * Initializes this buffer without particles.
+	 * 
+	 * @param capacity The maximum number of particles.
+	 */
+	public ParticleBuffer( int capacity )
+	{
+		positions = new Vector3FArray( capacity );
+		velocities = new Vector3FArray( capacity );
+		ages = new float[ capacity ];
+		lifetimes = new float[ capacity ];
+		sizes = new float[ capacity ];
+	}
+
+	/**
+	 * @return The maximum number of particles.
+	 */
+	public int getCapacity( )
+	{
+		return ages.length;
+	}
+
+	/**
+	 * @return The number of live particles.
+	 */
+	public int getCount( )
+	{
+		return count;
+	}
+
+	/**
+	 * @return Whether no more particles can be added.
+	 */
+	public boolean isFull( )
+	{
+		return count == ages.length;
+	}
+
+	/**
+	 * Adds a particle, unless this buffer is full.
+	 * 
+	 * @param x The x position.
+	 * @param y The y position.
+	 * @param z The z position.
+	 * @param velocityX The x velocity, in units per second.
+	 * @param velocityY The y velocity, in units per second.
+	 * @param velocityZ The z velocity, in units per second.
+	 * @param lifetime The number of seconds the particle lives.
+	 * @param size The size of the particle.
+	 * @return The index of the particle, or -1 if this buffer is full.
+	 */
+	public int add( float x, float y, float z, float velocityX,
+			float velocityY, float velocityZ, float lifetime, float size )
+	{
+		if( count == ages.length )
+		{
+			return -1;
+		}
+
+		int index = count++ ;
+
+		positions.set( index, x, y, z );
+		velocities.set( index, velocityX, velocityY, velocityZ );
+		ages[ index ] = 0.0F;
+		lifetimes[ index ] = lifetime;
+		sizes[ index ] = size;
+
+		return index;
+	}
+
+	/**
+	 * Removes a particle by moving the last particle into its place.
+	 * 
+	 * @param index The index of the particle.
+	 * @return This buffer.
+	 */
+	public ParticleBuffer remove( int index )
+	{
+		int last = --count;
+
+		positions.x[ index ] = positions.x[ last ];
+		positions.y[ index ] = positions.y[ last ];
+		positions.z[ index ] = positions.z[ last ];
+		velocities.x[ index ] = velocities.x[ last ];
+		velocities.y[ index ] = velocities.y[ last ];
+		velocities.z[ index ] = velocities.z[ last ];
+		ages[ index ] = ages[ last ];
+		lifetimes[ index ] = lifetimes[ last ];
+		sizes[ index ] = sizes[ last ];
+
+		return this;
+	}
+
+	/**
+	 * Removes every particle that has outlived its lifetime.
+	 * 
+	 * @return The number of particles removed.
+	 */
+	public int removeExpired( )
+	{
+		int previousCount = count;
+		int i = 0;
+
+		while( i < count )
+		{
+			if( ages[ i ] >= lifetimes[ i ] )
+			{
+				remove( i );
+			}
+			else
+			{
+				i++ ;
+			}
+		}
+
+		return previousCount - count;
+	}
+
+	/**
+	 * Removes every particle.
+	 * 
+	 * @return This buffer.
+	 */
+	public ParticleBuffer clear( )
+	{
+		count = 0;
+
+		return this;
+	}
+
+	/**
+	 * Stores a range of particles in a float buffer at an offset, interleaved
+	 * as {@link #STRIDE} floats each, without changing the position of the
+	 * buffer or flipping it. Every float is written with an absolute put, so
+	 * different ranges can be stored into the same buffer at once.
+	 * 
+	 * @param floatBuffer The float buffer to store the particles in.
+	 * @param offset The index to store the first float at.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @return The float buffer.
+	 */
+	public FloatBuffer storeAt( FloatBuffer floatBuffer, int offset,
+			int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			int index = offset + ( i - fromIndex ) * STRIDE;
+
+			floatBuffer.put( index, positions.x[ i ] );
+			floatBuffer.put( index + 1, positions.y[ i ] );
+			floatBuffer.put( index + 2, positions.z[ i ] );
+			floatBuffer.put( index + 3, sizes[ i ] );
+			floatBuffer.put( index + 4, ages[ i ] / lifetimes[ i ] );
+		}
+
+		return floatBuffer;
+	}
+}
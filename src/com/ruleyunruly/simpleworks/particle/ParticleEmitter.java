@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.particle;
+
+import java.util.Random;
+
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Spawns particles at a steady rate from a point, with velocities and
+ * lifetimes varied at random.
+ * <p>
+ * Fractions of a particle are carried over between steps, so the rate holds
+ * for any time step.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ParticleEmitter
+{
+	/**
+	 * Holds the point particles are spawned at.
+	 */
+	public final Vector3F position;
+
+	/**
+	 * Holds the average velocity of spawned particles, in units per second.
+	 */
+	public final Vector3F velocity;
+
+	/**
+	 * Holds the most each element of a velocity may differ from the average.
+	 */
+	public float velocitySpread;
+
+	/**
+	 * Holds the number of particles spawned per second.
+	 */
+	public float rate;
+
+	/**
+	 * Holds the shortest lifetime of spawned particles, in seconds.
+	 */
+	public float minimumLifetime;
+
+	/**
+	 * Holds the longest lifetime of spawned particles, in seconds.
+	 */
+	public float maximumLifetime;
+
+	/**
+	 * Holds the size of spawned particles.
+	 */
+	public float size;
+
+	/**
+	 * Whether this emitter spawns particles.
+	 */
+	public boolean enabled;
+
+	/**
+	 * Used for varying the spawned particles.
+	 */
+	private final Random random;
+
+	/**
+	 * Holds the fraction of a particle owed from previous steps.
+	 */
+	private float pending;
+
+	/**
+	 * Initializes this emitter at the origin, spawning particles at rest
+	 * with a size of one.
+	 * 
+	 * @param rate The number of particles spawned per second.
+	 * @param minimumLifetime The shortest lifetime, in seconds.
+	 * @param maximumLifetime The longest lifetime, in seconds.
+	 */
+	public ParticleEmitter( float rate, float minimumLifetime,
+			float maximumLifetime )
+	{
+		this( rate, minimumLifetime, maximumLifetime, new Random( ) );
+	}
+
+	/**
+	 * Initializes this emitter at the origin, spawning particles at rest
+	 * with a size of one.
+	 * 
+	 * @param rate The number of particles spawned per second.
+	 * @param minimumLifetime The shortest lifetime, in seconds.
+	 * @param maximumLifetime The longest lifetime, in seconds.
+	 * @param random The random number generator, for repeatable effects.
+	 */
+	public ParticleEmitter( float rate, float minimumLifetime,
+			float maximumLifetime, Random random )
+	{
+		this.rate = rate;
+		this.minimumLifetime = minimumLifetime;
+		this.maximumLifetime = maximumLifetime;
+		this.random = random;
+
+		position = new Vector3F( );
+		velocity = new Vector3F( );
+		size = 1.0F;
+		enabled = true;
+	}
+
+	/**
+	 * Spawns the particles owed for a time step, until the buffer is full.
+	 * 
+	 * @param particles The buffer to spawn the particles in.
+	 * @param deltaTime The time step, in seconds.
+	 * @return The number of particles spawned.
+	 */
+	public int emit( ParticleBuffer particles, float deltaTime )
+	{
+		if( !enabled )
+		{
+			return 0;
+		}
+
+		pending += rate * deltaTime;
+
+		int spawnCount = Math.min( ( int ) pending,
+				particles.getCapacity( ) - particles.getCount( ) );
+
+		pending -= ( int ) pending;
+
+		for( int i = 0; i < spawnCount; i++ )
+		{
+			particles.add( position.x, position.y, position.z,
+					velocity.x + getSpread( ), velocity.y + getSpread( ),
+					velocity.z + getSpread( ),
+					minimumLifetime + random.nextFloat( )
+							* ( maximumLifetime - minimumLifetime ),
+					size );
+		}
+
+		return spawnCount;
+	}
+
+	/**
+	 * @return A random amount from -{@link #velocitySpread} to
+	 *         {@link #velocitySpread}.
+	 */
+	private float getSpread( )
+	{
+		return ( random.nextFloat( ) * 2.0F - 1.0F ) * velocitySpread;
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.particle;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.core.RangeTask;
+
+/**
+ * Steps a {@link ParticleBuffer}: spawns particles from its emitters, applies
+ * its forces, moves and ages every particle, and removes the expired ones.
+ * <p>
+ * The game loop gives the time step, usually the delta from
+ * {@link com.ruleyunruly.simpleworks.core.Timer#getDeltaTime()}. Spawning and
+ * removing run on the calling thread. Forces and movement either run there
+ * too or are spread in chunks across a {@link JobSystem}; every force and
+ * the movement run over one chunk before the next, so the chunk stays in the
+ * cache. A system keeps its state between calls, so it must only be used by
+ * one thread at a time.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class ParticleSystem
+{
+	/**
+	 * Holds the particles.
+	 */
+	public final ParticleBuffer particles;
+
+	/**
+	 * Holds the emitters spawning particles.
+	 */
+	private final List<ParticleEmitter> emitters;
+
+	/**
+	 * Holds the forces applied to the particles.
+	 */
+	private final List<ParticleForce> forces;
+
+	/**
+	 * Holds the number of particles in a chunk.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * Simulates ranges of particles with the current time step.
+	 */
+	private final RangeTask simulateTask;
+
+	/**
+	 * Stores ranges of particles in the current float buffer.
+	 */
+	private final RangeTask storeTask;
+
+	/**
+	 * Holds the forces as an array, for the chunks to share.
+	 */
+	private ParticleForce[] forceArray;
+
+	/**
+	 * Holds the current time step.
+	 */
+	private float deltaTime;
+
+	/**
+	 * Holds the float buffer the particles are being stored in.
+	 */
+	private FloatBuffer floatBuffer;
+
+	/**
+	 * Holds the index the first float is being stored at.
+	 */
+	private int offset;
+
+	/**
+	 * Initializes this system with chunks of 16384 particles.
+	 * 
+	 * @param capacity The maximum number of particles.
+	 */
+	public ParticleSystem( int capacity )
+	{
+		this( capacity, 16384 );
+	}
+
+	/**
+	 * Initializes this system.
+	 * 
+	 * @param capacity The maximum number of particles.
+	 * @param chunkSize The number of particles in a chunk.
+	 */
+	public ParticleSystem( int capacity, int chunkSize )
+	{
+		this.chunkSize = Math.max( chunkSize, 1 );
+
+		particles = new ParticleBuffer( capacity );
+		emitters = new ArrayList<>( );
+		forces = new ArrayList<>( );
+		forceArray = new ParticleForce[ 0 ];
+		simulateTask = ( fromIndex, toIndex ) -> simulate( fromIndex, toIndex,
+				deltaTime );
+		storeTask = ( fromIndex, toIndex ) -> particles.storeAt( floatBuffer,
+				offset + fromIndex * ParticleBuffer.STRIDE, fromIndex,
+				toIndex );
+	}
+
+	/**
+	 * Adds an emitter.
+	 * 
+	 * @param emitter The emitter to add.
+	 * @return This system.
+	 */
+	public ParticleSystem addEmitter( ParticleEmitter emitter )
+	{
+		emitters.add( emitter );
+
+		return this;
+	}
+
+	/**
+	 * Removes an emitter. Its particles live on.
+	 * 
+	 * @param emitter The emitter to remove.
+	 * @return This system.
+	 */
+	public ParticleSystem removeEmitter( ParticleEmitter emitter )
+	{
+		emitters.remove( emitter );
+
+		return this;
+	}
+
+	/**
+	 * Adds a force, applied after the forces added before it.
+	 * 
+	 * @param force The force to add.
+	 * @return This system.
+	 */
+	public ParticleSystem addForce( ParticleForce force )
+	{
+		forces.add( force );
+		forceArray = forces.toArray( new ParticleForce[ forces.size( ) ] );
+
+		return this;
+	}
+
+	/**
+	 * Removes a force.
+	 * 
+	 * @param force The force to remove.
+	 * @return This system.
+	 */
+	public ParticleSystem removeForce( ParticleForce force )
+	{
+		forces.remove( force );
+		forceArray = forces.toArray( new ParticleForce[ forces.size( ) ] );
+
+		return this;
+	}
+
+	/**
+	 * Steps every particle on the calling thread.
+	 * 
+	 * @param deltaTime The time step, in seconds.
+	 */
+	public void update( float deltaTime )
+	{
+		emit( deltaTime );
+		simulate( 0, particles.getCount( ), deltaTime );
+		particles.removeExpired( );
+	}
+
+	/**
+	 * Steps every particle, spreading the forces and movement across a job
+	 * system, and returns once all are done.
+	 * 
+	 * @param deltaTime The time step, in seconds.
+	 * @param jobSystem The job system.
+	 * @throws RuntimeException What a chunk threw, if one failed; unlike
+	 *         {@link JobSystem#join()}, it is not wrapped.
+	 */
+	public void update( float deltaTime, JobSystem jobSystem )
+	{
+		emit( deltaTime );
+
+		this.deltaTime = deltaTime;
+
+		jobSystem.parallelFor( 0, particles.getCount( ), chunkSize,
+				simulateTask );
+		particles.removeExpired( );
+	}
+
+	/**
+	 * Stores every particle in a float buffer at an offset, as
+	 * {@link ParticleBuffer#storeAt} does, on the calling thread.
+	 * 
+	 * @param floatBuffer The float buffer to store the particles in.
+	 * @param offset The index to store the first float at.
+	 * @return The float buffer.
+	 */
+	public FloatBuffer storeAt( FloatBuffer floatBuffer, int offset )
+	{
+		return particles.storeAt( floatBuffer, offset, 0,
+				particles.getCount( ) );
+	}
+
+	/**
+	 * Stores every particle in a float buffer at an offset, as
+	 * {@link ParticleBuffer#storeAt} does, spreading the chunks across a job
+	 * system.
+	 * 
+	 * @param floatBuffer The float buffer to store the particles in.
+	 * @param offset The index to store the first float at.
+	 * @param jobSystem The job system.
+	 * @return The float buffer.
+	 * @throws RuntimeException What a chunk threw, if one failed; unlike
+	 *         {@link JobSystem#join()}, it is not wrapped.
+	 */
+	public FloatBuffer storeAt( FloatBuffer floatBuffer, int offset,
+			JobSystem jobSystem )
+	{
+		this.floatBuffer = floatBuffer;
+		this.offset = offset;
+
+		jobSystem.parallelFor( 0, particles.getCount( ), chunkSize,
+				storeTask );
+
+		this.floatBuffer = null;
+
+		return floatBuffer;
+	}
+
+	/**
+	 * Spawns the particles every emitter owes for a time step.
+	 * 
+	 * @param deltaTime The time step, in seconds.
+	 */
+	private void emit( float deltaTime )
+	{
+		for( int i = 0; i < emitters.size( ); i++ )
+		{
+			emitters.get( i ).emit( particles, deltaTime );
+		}
+	}
+
+	/**
+	 * Applies every force to a range of particles, then moves and ages them.
+	 * 
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param deltaTime The time step, in seconds.
+	 */
+	private void simulate( int fromIndex, int toIndex, float deltaTime )
+	{
+		float[] positionsX = particles.positions.x;
+		float[] positionsY = particles.positions.y;
+		float[] positionsZ = particles.positions.z;
+		float[] velocitiesX = particles.velocities.x;
+		float[] velocitiesY = particles.velocities.y;
+		float[] velocitiesZ = particles.velocities.z;
+		float[] ages = particles.ages;
+
+		for( ParticleForce force : forceArray )
+		{
+			force.apply( particles, fromIndex, toIndex, deltaTime );
+		}
+
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			positionsX[ i ] += velocitiesX[ i ] * deltaTime;
+			positionsY[ i ] += velocitiesY[ i ] * deltaTime;
+			positionsZ[ i ] += velocitiesZ[ i ] * deltaTime;
+			ages[ i ] += deltaTime;
+		}
+	}
+}
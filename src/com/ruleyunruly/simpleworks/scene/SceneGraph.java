@@ -0,0 +1,773 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.scene;
+
+import java.util.Arrays;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.core.RangeTask;
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Matrix4FKernel;
+
+/**
+ * Holds a hierarchy of nodes and their local and world matrices in flat
+ * primitive arrays, ordered depth first.
+ * <p>
+ * Nodes are referred to by handles, which stay the same while the nodes move
+ * around in the arrays. Each node is stored before its descendants, and its
+ * descendants right after it, so world matrices are updated in one linear
+ * pass: a node's world matrix is rebuilt when its local matrix was set or its
+ * parent's world matrix was rebuilt earlier in the same pass. Changes to the
+ * hierarchy only link handles; the arrays are reordered at the next update.
+ * <p>
+ * The parallel update cuts the arrays into ranges of whole subtrees, which do
+ * not depend on each other. The nodes above those subtrees are updated first
+ * on the calling thread, then the ranges are spread across a
+ * {@link JobSystem}.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class SceneGraph
+{
+	/**
+	 * The most nodes in one range of the parallel update.
+	 */
+	private static final int GRAIN_SIZE = 4096;
+
+	/**
+	 * Multiplies the world and local matrices.
+	 */
+	private final Matrix4FKernel kernel;
+
+	/**
+	 * Updates ranges of the parallel update.
+	 */
+	private final RangeTask rangeTask;
+
+	/**
+	 * Holds the slot of each handle, or -1 for a free handle.
+	 */
+	private int[] handleSlots;
+
+	/**
+	 * Holds the parent of each handle, or -1 for a root.
+	 */
+	private int[] parents;
+
+	/**
+	 * Holds the first child of each handle, or -1.
+	 */
+	private int[] firstChildren;
+
+	/**
+	 * Holds the last child of each handle, or -1.
+	 */
+	private int[] lastChildren;
+
+	/**
+	 * Holds the next sibling of each handle, or -1.
+	 */
+	private int[] nextSiblings;
+
+	/**
+	 * Holds the previous sibling of each handle, or -1.
+	 */
+	private int[] previousSiblings;
+
+	/**
+	 * Holds the handles free to reuse.
+	 */
+	private int[] freeHandles;
+
+	/**
+	 * Holds the number of handles free to reuse.
+	 */
+	private int freeHandleCount;
+
+	/**
+	 * Holds the number of handles ever used.
+	 */
+	private int handleCount;
+
+	/**
+	 * Holds the first root, or -1.
+	 */
+	private int firstRoot;
+
+	/**
+	 * Holds the last root, or -1.
+	 */
+	private int lastRoot;
+
+	/**
+	 * Holds the handle of each slot.
+	 */
+	private int[] slotHandles;
+
+	/**
+	 * Holds the slot of the parent of each slot, or -1 for a root.
+	 */
+	private int[] parentSlots;
+
+	/**
+	 * Holds the number of nodes in the subtree of each slot.
+	 */
+	private int[] subtreeSizes;
+
+	/**
+	 * Holds the local matrix of each slot, 16 floats each.
+	 */
+	private float[] localMatrices;
+
+	/**
+	 * Holds the world matrix of each slot, 16 floats each.
+	 */
+	private float[] worldMatrices;
+
+	/**
+	 * Holds whether the local matrix of each slot was set.
+	 */
+	private boolean[] dirtyFlags;
+
+	/**
+	 * Holds whether the world matrix of each slot was rebuilt in the last
+	 * update.
+	 */
+	private boolean[] changedFlags;
+
+	/**
+	 * Holds the number of slots used, counting removed nodes until the next
+	 * update.
+	 */
+	private int slotCount;
+
+	/**
+	 * Holds the number of nodes.
+	 */
+	private int nodeCount;
+
+	/**
+	 * Whether the hierarchy changed since the arrays were ordered.
+	 */
+	private boolean structureDirty;
+
+	/**
+	 * Holds the slots updated before the ranges of the parallel update.
+	 */
+	private int[] serialSlots;
+
+	/**
+	 * Holds the number of slots updated before the ranges.
+	 */
+	private int serialSlotCount;
+
+	/**
+	 * Holds the first slot of each range.
+	 */
+	private int[] rangeStarts;
+
+	/**
+	 * Holds the slot after the last of each range.
+	 */
+	private int[] rangeEnds;
+
+	/**
+	 * Holds the number of ranges.
+	 */
+	private int rangeCount;
+
+	/**
+	 * Whether the ranges are stale.
+	 */
+	private boolean rangesDirty;
+
+	/**
+	 * Used for ordering the handles.
+	 */
+	private int[] orderedHandles;
+
+	/**
+	 * Used for ordering the local matrices.
+	 */
+	private float[] orderedLocalMatrices;
+
+	/**
+	 * Initializes this scene graph with room for 1024 nodes.
+	 */
+	public SceneGraph( )
+	{
+		this( 1024 );
+	}
+
+	/**
+	 * Initializes this scene graph.
+	 * 
+	 * @param capacity The number of nodes to make room for.
+	 */
+	public SceneGraph( int capacity )
+	{
+		capacity = Math.max( capacity, 1 );
+
+		kernel = Matrix4FKernel.getDefault( );
+		rangeTask = this::updateRanges;
+		handleSlots = new int[ capacity ];
+		parents = new int[ capacity ];
+		firstChildren = new int[ capacity ];
+		lastChildren = new int[ capacity ];
+		nextSiblings = new int[ capacity ];
+		previousSiblings = new int[ capacity ];
+		freeHandles = new int[ capacity ];
+		freeHandleCount = 0;
+		handleCount = 0;
+		firstRoot = -1;
+		lastRoot = -1;
+		slotHandles = new int[ capacity ];
+		parentSlots = new int[ capacity ];
+		subtreeSizes = new int[ capacity ];
+		localMatrices = new float[ capacity * 16 ];
+		worldMatrices = new float[ capacity * 16 ];
+		dirtyFlags = new boolean[ capacity ];
+		changedFlags = new boolean[ capacity ];
+		slotCount = 0;
+		nodeCount = 0;
+		structureDirty = false;
+		serialSlots = new int[ 16 ];
+		serialSlotCount = 0;
+		rangeStarts = new int[ 16 ];
+		rangeEnds = new int[ 16 ];
+		rangeCount = 0;
+		rangesDirty = true;
+		orderedHandles = new int[ capacity ];
+		orderedLocalMatrices = new float[ capacity * 16 ];
+	}
+
+	/**
+	 * @return The number of nodes.
+	 */
+	public int getNodeCount( )
+	{
+		return nodeCount;
+	}
+
+	/**
+	 * @param handle The handle of a node.
+	 * @return The parent of the node, or -1 for a root.
+	 */
+	public int getParent( int handle )
+	{
+		return parents[ handle ];
+	}
+
+	/**
+	 * @param handle The handle of a node.
+	 * @return The index of the node in the world matrices, valid after an
+	 *         update until the hierarchy changes.
+	 */
+	public int getSlot( int handle )
+	{
+		return handleSlots[ handle ];
+	}
+
+	/**
+	 * @return The world matrices, 16 floats each, in depth first order after
+	 *         an update.
+	 */
+	public float[] getWorldMatrices( )
+	{
+		return worldMatrices;
+	}
+
+	/**
+	 * Copies the local matrix of a node.
+	 * 
+	 * @param handle The handle of the node.
+	 * @param matrix The matrix to copy into.
+	 * @return The matrix.
+	 */
+	public Matrix4F getLocalMatrix( int handle, Matrix4F matrix )
+	{
+		return matrix.set( localMatrices, handleSlots[ handle ] * 16 );
+	}
+
+	/**
+	 * Copies the world matrix a node had at the last update.
+	 * 
+	 * @param handle The handle of the node.
+	 * @param matrix The matrix to copy into.
+	 * @return The matrix.
+	 */
+	public Matrix4F getWorldMatrix( int handle, Matrix4F matrix )
+	{
+		return matrix.set( worldMatrices, handleSlots[ handle ] * 16 );
+	}
+
+	/**
+	 * Adds a node with an identity local matrix as the last child of a node.
+	 * 
+	 * @param parent The handle of the parent, or -1 for a root.
+	 * @return The handle of the new node.
+	 */
+	public int addNode( int parent )
+	{
+		int handle = freeHandleCount > 0 ? freeHandles[ --freeHandleCount ]
+				: handleCount++ ;
+		int slot = slotCount++ ;
+
+		ensureHandleCapacity( handleCount );
+		ensureSlotCapacity( slotCount );
+
+		handleSlots[ handle ] = slot;
+		firstChildren[ handle ] = -1;
+		lastChildren[ handle ] = -1;
+		slotHandles[ slot ] = handle;
+		parentSlots[ slot ] = -1;
+		dirtyFlags[ slot ] = true;
+
+		Arrays.fill( localMatrices, slot * 16, slot * 16 + 16, 0.0F );
+
+		localMatrices[ slot * 16 ] = 1.0F;
+		localMatrices[ slot * 16 + 5 ] = 1.0F;
+		localMatrices[ slot * 16 + 10 ] = 1.0F;
+		localMatrices[ slot * 16 + 15 ] = 1.0F;
+
+		link( handle, parent );
+
+		nodeCount++ ;
+		structureDirty = true;
+
+		return handle;
+	}
+
+	/**
+	 * Removes a node and all of its descendants.
+	 * 
+	 * @param handle The handle of the node.
+	 */
+	public void removeNode( int handle )
+	{
+		int current = handle;
+
+		unlink( handle );
+
+		while( true )
+		{
+			slotHandles[ handleSlots[ current ] ] = -1;
+			handleSlots[ current ] = -1;
+			freeHandles[ freeHandleCount++ ] = current;
+			nodeCount-- ;
+
+			if( firstChildren[ current ] >= 0 )
+			{
+				current = firstChildren[ current ];
+
+				continue;
+			}
+
+			while( current != handle && nextSiblings[ current ] < 0 )
+			{
+				current = parents[ current ];
+			}
+
+			if( current == handle )
+			{
+				break;
+			}
+
+			current = nextSiblings[ current ];
+		}
+
+		structureDirty = true;
+	}
+
+	/**
+	 * Moves a node, with its descendants, to be the last child of a node.
+	 * 
+	 * @param handle The handle of the node.
+	 * @param parent The handle of the new parent, or -1 for a root. Must not
+	 *        be a descendant of the node.
+	 */
+	public void setParent( int handle, int parent )
+	{
+		unlink( handle );
+		link( handle, parent );
+
+		structureDirty = true;
+	}
+
+	/**
+	 * Sets the local matrix of a node.
+	 * 
+	 * @param handle The handle of the node.
+	 * @param matrix The local matrix.
+	 */
+	public void setLocalMatrix( int handle, Matrix4F matrix )
+	{
+		int slot = handleSlots[ handle ];
+
+		matrix.store( localMatrices, slot * 16 );
+
+		dirtyFlags[ slot ] = true;
+	}
+
+	/**
+	 * Updates the world matrices of the nodes whose local matrix, or an
+	 * ancestor's, was set since the last update.
+	 */
+	public void update( )
+	{
+		if( structureDirty )
+		{
+			order( );
+		}
+
+		updateRange( 0, nodeCount );
+	}
+
+	/**
+	 * Updates the world matrices like {@link #update()}, spreading independent
+	 * subtrees across a job system.
+	 * 
+	 * @param jobSystem The job system.
+	 */
+	public void update( JobSystem jobSystem )
+	{
+		if( structureDirty )
+		{
+			order( );
+		}
+
+		if( rangesDirty )
+		{
+			partition( );
+		}
+
+		for( int i = 0; i < serialSlotCount; i++ )
+		{
+			updateRange( serialSlots[ i ], serialSlots[ i ] + 1 );
+		}
+
+		jobSystem.parallelFor( 0, rangeCount, 1, rangeTask );
+	}
+
+	/**
+	 * Updates the world matrices in some ranges of the parallel update.
+	 * 
+	 * @param fromIndex The first range.
+	 * @param toIndex The range after the last.
+	 */
+	private void updateRanges( int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			updateRange( rangeStarts[ i ], rangeEnds[ i ] );
+		}
+	}
+
+	/**
+	 * Updates the world matrices in a range of slots, whose parents outside
+	 * the range are already updated.
+	 * 
+	 * @param fromIndex The first slot.
+	 * @param toIndex The slot after the last.
+	 */
+	private void updateRange( int fromIndex, int toIndex )
+	{
+		for( int i = fromIndex; i < toIndex; i++ )
+		{
+			int parentSlot = parentSlots[ i ];
+
+			if( dirtyFlags[ i ] || parentSlot >= 0 && changedFlags[ parentSlot ] )
+			{
+				if( parentSlot < 0 )
+				{
+					System.arraycopy( localMatrices, i * 16, worldMatrices,
+							i * 16, 16 );
+				}
+				else
+				{
+					kernel.multiply( worldMatrices, parentSlot * 16,
+							localMatrices, i * 16, worldMatrices, i * 16 );
+				}
+
+				dirtyFlags[ i ] = false;
+				changedFlags[ i ] = true;
+			}
+			else
+			{
+				changedFlags[ i ] = false;
+			}
+		}
+	}
+
+	/**
+	 * Orders the arrays depth first, dropping removed nodes. Every world matrix
+	 * is rebuilt at the next update.
+	 */
+	private void order( )
+	{
+		int slot = 0;
+
+		for( int root = firstRoot; root >= 0; root = nextSiblings[ root ] )
+		{
+			int current = root;
+
+			while( true )
+			{
+				orderedHandles[ slot ] = current;
+
+				System.arraycopy( localMatrices, handleSlots[ current ] * 16,
+						orderedLocalMatrices, slot * 16, 16 );
+
+				slot++ ;
+
+				if( firstChildren[ current ] >= 0 )
+				{
+					current = firstChildren[ current ];
+
+					continue;
+				}
+
+				while( current != root && nextSiblings[ current ] < 0 )
+				{
+					current = parents[ current ];
+				}
+
+				if( current == root )
+				{
+					break;
+				}
+
+				current = nextSiblings[ current ];
+			}
+		}
+
+		int[] handles = slotHandles;
+		float[] matrices = localMatrices;
+
+		slotHandles = orderedHandles;
+		localMatrices = orderedLocalMatrices;
+		orderedHandles = handles;
+		orderedLocalMatrices = matrices;
+
+		for( int i = 0; i < nodeCount; i++ )
+		{
+			int handle = slotHandles[ i ];
+			int parent = parents[ handle ];
+
+			handleSlots[ handle ] = i;
+			parentSlots[ i ] = parent >= 0 ? handleSlots[ parent ] : -1;
+			subtreeSizes[ i ] = 1;
+			dirtyFlags[ i ] = true;
+		}
+
+		for( int i = nodeCount - 1; i > 0; i-- )
+		{
+			if( parentSlots[ i ] >= 0 )
+			{
+				subtreeSizes[ parentSlots[ i ] ] += subtreeSizes[ i ];
+			}
+		}
+
+		slotCount = nodeCount;
+		structureDirty = false;
+		rangesDirty = true;
+	}
+
+	/**
+	 * Cuts the slots into ranges of whole subtrees no larger than the grain
+	 * size, merging neighbouring ranges while they fit. The nodes with larger
+	 * subtrees are updated before the ranges.
+	 */
+	private void partition( )
+	{
+		int i = 0;
+
+		serialSlotCount = 0;
+		rangeCount = 0;
+
+		while( i < nodeCount )
+		{
+			if( subtreeSizes[ i ] > GRAIN_SIZE )
+			{
+				if( serialSlotCount == serialSlots.length )
+				{
+					serialSlots = Arrays.copyOf( serialSlots,
+							serialSlotCount * 2 );
+				}
+
+				serialSlots[ serialSlotCount++ ] = i;
+				i++ ;
+			}
+			else
+			{
+				int end = i + subtreeSizes[ i ];
+
+				if( rangeCount > 0 && rangeEnds[ rangeCount - 1 ] == i
+						&& end - rangeStarts[ rangeCount - 1 ] <= GRAIN_SIZE )
+				{
+					rangeEnds[ rangeCount - 1 ] = end;
+				}
+				else
+				{
+					if( rangeCount == rangeStarts.length )
+					{
+						rangeStarts = Arrays.copyOf( rangeStarts, rangeCount * 2 );
+						rangeEnds = Arrays.copyOf( rangeEnds, rangeCount * 2 );
+					}
+
+					rangeStarts[ rangeCount ] = i;
+					rangeEnds[ rangeCount ] = end;
+					rangeCount++ ;
+				}
+
+				i = end;
+			}
+		}
+
+		rangesDirty = false;
+	}
+
+	/**
+	 * Links a handle as the last child of a parent.
+	 * 
+	 * @param handle The handle.
+	 * @param parent The handle of the parent, or -1 for a root.
+	 */
+	private void link( int handle, int parent )
+	{
+		int last = parent >= 0 ? lastChildren[ parent ] : lastRoot;
+
+		parents[ handle ] = parent;
+		previousSiblings[ handle ] = last;
+		nextSiblings[ handle ] = -1;
+
+		if( last >= 0 )
+		{
+			nextSiblings[ last ] = handle;
+		}
+		else if( parent >= 0 )
+		{
+			firstChildren[ parent ] = handle;
+		}
+		else
+		{
+			firstRoot = handle;
+		}
+
+		if( parent >= 0 )
+		{
+			lastChildren[ parent ] = handle;
+		}
+		else
+		{
+			lastRoot = handle;
+		}
+	}
+
+	/**
+	 * Unlinks a handle from its parent and siblings.
+	 * 
+	 * @param handle The handle.
+	 */
+	private void unlink( int handle )
+	{
+		int parent = parents[ handle ];
+		int previous = previousSiblings[ handle ];
+		int next = nextSiblings[ handle ];
+
+		if( previous >= 0 )
+		{
+			nextSiblings[ previous ] = next;
+		}
+		else if( parent >= 0 )
+		{
+			firstChildren[ parent ] = next;
+		}
+		else
+		{
+			firstRoot = next;
+		}
+
+		if( next >= 0 )
+		{
+			previousSiblings[ next ] = previous;
+		}
+		else if( parent >= 0 )
+		{
+			lastChildren[ parent ] = previous;
+		}
+		else
+		{
+			lastRoot = previous;
+		}
+
+		previousSiblings[ handle ] = -1;
+		nextSiblings[ handle ] = -1;
+	}
+
+	/**
+	 * Grows the handle arrays to fit a number of handles.
+	 * 
+	 * @param capacity The number of handles.
+	 */
+	private void ensureHandleCapacity( int capacity )
+	{
+		if( capacity > handleSlots.length )
+		{
+			capacity = Math.max( capacity, handleSlots.length * 2 );
+
+			handleSlots = Arrays.copyOf( handleSlots, capacity );
+			parents = Arrays.copyOf( parents, capacity );
+			firstChildren = Arrays.copyOf( firstChildren, capacity );
+			lastChildren = Arrays.copyOf( lastChildren, capacity );
+			nextSiblings = Arrays.copyOf( nextSiblings, capacity );
+			previousSiblings = Arrays.copyOf( previousSiblings, capacity );
+			freeHandles = Arrays.copyOf( freeHandles, capacity );
+		}
+	}
+
+	/**
+	 * Grows the slot arrays to fit a number of slots.
+	 * 
+	 * @param capacity The number of slots.
+	 */
+	private void ensureSlotCapacity( int capacity )
+	{
+		if( capacity > slotHandles.length )
+		{
+			capacity = Math.max( capacity, slotHandles.length * 2 );
+
+			slotHandles = Arrays.copyOf( slotHandles, capacity );
+			parentSlots = Arrays.copyOf( parentSlots, capacity );
+			subtreeSizes = Arrays.copyOf( subtreeSizes, capacity );
+			localMatrices = Arrays.copyOf( localMatrices, capacity * 16 );
+			worldMatrices = Arrays.copyOf( worldMatrices, capacity * 16 );
+			dirtyFlags = Arrays.copyOf( dirtyFlags, capacity );
+			changedFlags = Arrays.copyOf( changedFlags, capacity );
+			orderedHandles = new int[ capacity ];
+			orderedLocalMatrices = new float[ capacity * 16 ];
+		}
+	}
+}
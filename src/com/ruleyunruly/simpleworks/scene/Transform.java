@@ -0,0 +1,354 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.scene;
+
+import com.ruleyunruly.simpleworks.math.Matrix4F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+
+/**
+ * Holds a translation, rotation, and scale, and caches the local and world
+ * matrices built from them.
+ * <p>
+ * The local matrix is only rebuilt after the translation, rotation, or scale
+ * changed, and the world matrix only after the local matrix or the parent's
+ * world matrix changed. A parent's world matrix counts a version every time it
+ * is rebuilt, so a child can tell it is stale without the parent keeping track
+ * of its children. Static transforms therefore cost a few comparisons a frame.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class Transform
+{
+	/**
+	 * The vector to translate by.
+	 */
+	private final Vector3F translation;
+
+	/**
+	 * The vector to rotate by, in degrees about each axis.
+	 */
+	private final Vector3F rotation;
+
+	/**
+	 * The vector to scale by.
+	 */
+	private final Vector3F scale;
+
+	/**
+	 * Caches the matrix built from the translation, rotation, and scale.
+	 */
+	private final Matrix4F localMatrix;
+
+	/**
+	 * Caches the local matrix transformed by the parent's world matrix.
+	 */
+	private final Matrix4F worldMatrix;
+
+	/**
+	 * Holds the transform this one is relative to, or null.
+	 */
+	private Transform parent;
+
+	/**
+	 * Whether the local matrix is stale.
+	 */
+	private boolean localDirty;
+
+	/**
+	 * Whether the world matrix is stale regardless of the parent.
+	 */
+	private boolean worldDirty;
+
+	/**
+	 * Counts the times the world matrix was rebuilt.
+	 */
+	private int worldVersion;
+
+	/**
+	 * Holds the parent's world version the world matrix was built with.
+	 */
+	private int parentWorldVersion;
+
+	/**
+	 * Initializes this transform to no translation, no rotation, and a scale
+	 * of one, with no parent.
+	 */
+	public Transform( )
+	{
+		translation = new Vector3F( 0.0F, 0.0F, 0.0F );
+		rotation = new Vector3F( 0.0F, 0.0F, 0.0F );
+		scale = new Vector3F( 1.0F, 1.0F, 1.0F );
+		localMatrix = new Matrix4F( );
+		worldMatrix = new Matrix4F( );
+		parent = null;
+		localDirty = true;
+		worldDirty = true;
+		worldVersion = 0;
+		parentWorldVersion = 0;
+	}
+
+	/**
+	 * @return The vector to translate by. Call {@link #setDirty()} after
+	 *         changing it directly.
+	 */
+	public Vector3F getTranslation( )
+	{
+		return translation;
+	}
+
+	/**
+	 * @return The vector to rotate by, in degrees about each axis. Call
+	 *         {@link #setDirty()} after changing it directly.
+	 */
+	public Vector3F getRotation( )
+	{
+		return rotation;
+	}
+
+	/**
+	 * @return The vector to scale by. Call {@link #setDirty()} after changing
+	 *         it directly.
+	 */
+	public Vector3F getScale( )
+	{
+		return scale;
+	}
+
+	/**
+	 * @return The transform this one is relative to, or null.
+	 */
+	public Transform getParent( )
+	{
+		return parent;
+	}
+
+	/**
+	 * @return Whether the local matrix is stale.
+	 */
+	public boolean isDirty( )
+	{
+		return localDirty;
+	}
+
+	/**
+	 * @return The number of times the world matrix was rebuilt.
+	 */
+	public int getWorldVersion( )
+	{
+		return worldVersion;
+	}
+
+	/**
+	 * @return The local matrix, rebuilt first if stale.
+	 */
+	public Matrix4F getLocalMatrix( )
+	{
+		if( localDirty )
+		{
+			localMatrix.recreateIntoTransformation( translation, rotation,
+					scale );
+
+			localDirty = false;
+		}
+
+		return localMatrix;
+	}
+
+	/**
+	 * @return The world matrix, rebuilt first if it or a parent's is stale.
+	 */
+	public Matrix4F getWorldMatrix( )
+	{
+		if( parent == null )
+		{
+			if( worldDirty )
+			{
+				worldMatrix.set( getLocalMatrix( ) );
+
+				worldDirty = false;
+				worldVersion++ ;
+			}
+		}
+		else
+		{
+			Matrix4F parentWorldMatrix = parent.getWorldMatrix( );
+
+			if( worldDirty || parentWorldVersion != parent.worldVersion )
+			{
+				worldMatrix.set( parentWorldMatrix )
+						.multiply( getLocalMatrix( ) );
+
+				worldDirty = false;
+				worldVersion++ ;
+				parentWorldVersion = parent.worldVersion;
+			}
+		}
+
+		return worldMatrix;
+	}
+
+	/**
+	 * Sets the translation.
+	 * 
+	 * @param x The x coordinate to translate by.
+	 * @param y The y coordinate to translate by.
+	 * @param z The z coordinate to translate by.
+	 * @return This transform.
+	 */
+	public Transform setTranslation( float x, float y, float z )
+	{
+		translation.x = x;
+		translation.y = y;
+		translation.z = z;
+		localDirty = true;
+		worldDirty = true;
+
+		return this;
+	}
+
+	/**
+	 * Sets the translation.
+	 * 
+	 * @param translation The vector to translate by.
+	 * @return This transform.
+	 */
+	public Transform setTranslation( Vector3F translation )
+	{
+		return setTranslation( translation.x, translation.y, translation.z );
+	}
+
+	/**
+	 * Sets the rotation.
+	 * 
+	 * @param x The angle (in degrees) to rotate about the x axis.
+	 * @param y The angle (in degrees) to rotate about the y axis.
+	 * @param z The angle (in degrees) to rotate about the z axis.
+	 * @return This transform.
+	 */
+	public Transform setRotation( float x, float y, float z )
+	{
+		rotation.x = x;
+		rotation.y = y;
+		rotation.z = z;
+		localDirty = true;
+		worldDirty = true;
+
+		return this;
+	}
+
+	/**
+	 * Sets the rotation.
+	 * 
+	 * @param rotation The vector to rotate by, in degrees about each axis.
+	 * @return This transform.
+	 */
+	public Transform setRotation( Vector3F rotation )
+	{
+		return setRotation( rotation.x, rotation.y, rotation.z );
+	}
+
+	/**
+	 * Sets the scale.
+	 * 
+	 * @param x The factor to scale the x axis by.
+	 * @param y The factor to scale the y axis by.
+	 * @param z The factor to scale the z axis by.
+	 * @return This transform.
+	 */
+	public Transform setScale( float x, float y, float z )
+	{
+		scale.x = x;
+		scale.y = y;
+		scale.z = z;
+		localDirty = true;
+		worldDirty = true;
+
+		return this;
+	}
+
+	/**
+	 * Sets the scale.
+	 * 
+	 * @param scale The vector to scale by.
+	 * @return This transform.
+	 */
+	public Transform setScale( Vector3F scale )
+	{
+		return setScale( scale.x, scale.y, scale.z );
+	}
+
+	/**
+	 * Sets the transform this one is relative to.
+	 * 
+	 * @param parent The parent, or null for none.
+	 * @return This transform.
+	 */
+	public Transform setParent( Transform parent )
+	{
+		this.parent = parent;
+		worldDirty = true;
+
+		return this;
+	}
+
+	/**
+	 * Marks the local and world matrices stale, after the translation,
+	 * rotation, or scale were changed directly.
+	 * 
+	 * @return This transform.
+	 */
+	public Transform setDirty( )
+	{
+		localDirty = true;
+		worldDirty = true;
+
+		return this;
+	}
+
+	/**
+	 * Translates by a vector.
+	 * 
+	 * @param translation The vector to translate by.
+	 * @return This transform.
+	 */
+	public Transform translate( Vector3F translation )
+	{
+		return setTranslation( this.translation.x + translation.x,
+				this.translation.y + translation.y,
+				this.translation.z + translation.z );
+	}
+
+	/**
+	 * Rotates by a vector.
+	 * 
+	 * @param rotation The vector to rotate by, in degrees about each axis.
+	 * @return This transform.
+	 */
+	public Transform rotate( Vector3F rotation )
+	{
+		return setRotation( this.rotation.x + rotation.x,
+				this.rotation.y + rotation.y, this.rotation.z + rotation.z );
+	}
+}
@@ -0,0 +1,1037 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.spatial;
+
+import static java.lang.Math.*;
+
+import java.util.Arrays;
+
+import com.ruleyunruly.simpleworks.math.AABB;
+import com.ruleyunruly.simpleworks.math.Frustum;
+import com.ruleyunruly.simpleworks.math.Ray;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector4F;
+
+/**
+ * Holds moving boxes in a dynamic bounding volume hierarchy, for finding
+ * overlapping pairs and for box, ray, and frustum queries in logarithmic
+ * rather than linear time.
+ * <p>
+ * Each box is a leaf, known by a proxy that stays the same until the box is
+ * removed. Leaves store fat bounds, grown by a margin and by the predicted
+ * motion, so a box that moves a little needs no change to the tree. New
+ * leaves are placed where they add the least surface area, and the tree is
+ * kept balanced with rotations as leaves are inserted and removed.
+ * <p>
+ * Nodes live in pooled primitive arrays that only grow, so a tree that has
+ * reached its working size allocates nothing. Queries share one traversal
+ * stack, so a tree must only be used by one thread at a time, and callbacks
+ * must not query or change the tree.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class DynamicBVH
+{
+	/**
+	 * Represents no node.
+	 */
+	public static final int NULL = -1;
+
+	/**
+	 * The factor the predicted motion of a moved box is scaled by.
+	 */
+	private static final float DISPLACEMENT_MULTIPLIER = 4.0F;
+
+	/**
+	 * The factor of the margin a fat box may exceed its box by before it is
+	 * shrunk.
+	 */
+	private static final float SHRINK_FACTOR = 4.0F;
+
+	/**
+	 * Holds the margin boxes are grown by.
+	 */
+	private final float margin;
+
+	/**
+	 * Holds the bounds of the nodes, as the smallest x, y, and z followed by
+	 * the largest x, y, and z.
+	 */
+	private float[] bounds;
+
+	/**
+	 * Holds the parents of the nodes, or the next free node for free nodes.
+	 */
+	private int[] parents;
+
+	/**
+	 * Holds the two children of the nodes, or {@link #NULL} for leaves.
+	 */
+	private int[] children;
+
+	/**
+	 * Holds the heights of the nodes, 0 for leaves and -1 for free nodes.
+	 */
+	private int[] heights;
+
+	/**
+	 * Holds the values of the leaves.
+	 */
+	private int[] values;
+
+	/**
+	 * Whether the leaves are waiting to have their pairs found.
+	 */
+	private boolean[] moved;
+
+	/**
+	 * Holds the number of nodes the arrays have room for.
+	 */
+	private int capacity;
+
+	/**
+	 * Holds the root node.
+	 */
+	private int root;
+
+	/**
+	 * Holds the first free node.
+	 */
+	private int freeList;
+
+	/**
+	 * Holds the number of leaves.
+	 */
+	private int proxyCount;
+
+	/**
+	 * Holds the leaves waiting to have their pairs found.
+	 */
+	private int[] moveBuffer;
+
+	/**
+	 * Holds the number of leaves waiting to have their pairs found.
+	 */
+	private int moveCount;
+
+	/**
+	 * Used for traversing the tree without recursion.
+	 */
+	private int[] stack;
+
+	/**
+	 * Initializes this tree with a margin of 0.1 and room for 16 nodes.
+	 */
+	public DynamicBVH( )
+	{
+		this( 0.1F, 16 );
+	}
+
+	/**
+	 * Initializes this tree.
+	 * 
+	 * @param margin The margin to grow boxes by.
+	 * @param capacity The number of nodes to make room for.
+	 */
+	public DynamicBVH( float margin, int capacity )
+	{
+		this.margin = margin;
+		this.capacity = 0;
+
+		bounds = new float[ 0 ];
+		parents = new int[ 0 ];
+		children = new int[ 0 ];
+		heights = new int[ 0 ];
+		values = new int[ 0 ];
+		moved = new boolean[ 0 ];
+		root = NULL;
+		freeList = NULL;
+		moveBuffer = new int[ 16 ];
+		stack = new int[ 64 ];
+
+		grow( max( capacity, 2 ) );
+	}
+
+	/**
+	 * @return The margin boxes are grown by.
+	 */
+	public float getMargin( )
+	{
+		return margin;
+	}
+
+	/**
+	 * @return The number of boxes in this tree.
+	 */
+	public int getProxyCount( )
+	{
+		return proxyCount;
+	}
+
+	/**
+	 * @return The height of this tree, 0 if it is empty or holds one box.
+	 */
+	public int getHeight( )
+	{
+		return root == NULL ? 0 : heights[ root ];
+	}
+
+	/**
+	 * @param proxy The proxy of the box.
+	 * @return The value stored with the box.
+	 */
+	public int getValue( int proxy )
+	{
+		return values[ proxy ];
+	}
+
+	/**
+	 * Gets the fat bounds stored for a box.
+	 * 
+	 * @param proxy The proxy of the box.
+	 * @param destination The box to store the bounds in.
+	 * @return The destination box.
+	 */
+	public AABB getFatBox( int proxy, AABB destination )
+	{
+		int offset = proxy * 6;
+
+		destination.min.x = bounds[ offset ];
+		destination.min.y = bounds[ offset + 1 ];
+		destination.min.z = bounds[ offset + 2 ];
+		destination.max.x = bounds[ offset + 3 ];
+		destination.max.y = bounds[ offset + 4 ];
+		destination.max.z = bounds[ offset + 5 ];
+
+		return destination;
+	}
+
+	/**
+	 * Inserts a box.
+	 * 
+	 * @param box The box to insert.
+	 * @param value The value to store with the box.
+	 * @return The proxy of the box.
+	 */
+	public int insert( AABB box, int value )
+	{
+		int proxy = allocateNode( );
+
+		setBounds( proxy, box.min.x - margin, box.min.y - margin,
+				box.min.z - margin, box.max.x + margin, box.max.y + margin,
+				box.max.z + margin );
+
+		values[ proxy ] = value;
+
+		insertLeaf( proxy );
+		bufferMove( proxy );
+
+		proxyCount++ ;
+
+		return proxy;
+	}
+
+	/**
+	 * Removes a box.
+	 * 
+	 * @param proxy The proxy of the box.
+	 */
+	public void remove( int proxy )
+	{
+		if( moved[ proxy ] )
+		{
+			for( int i = 0; i < moveCount; i++ )
+			{
+				if( moveBuffer[ i ] == proxy )
+				{
+					moveBuffer[ i ] = NULL;
+				}
+			}
+		}
+
+		removeLeaf( proxy );
+		freeNode( proxy );
+
+		proxyCount-- ;
+	}
+
+	/**
+	 * Moves a box. The tree only changes if the box has left its fat bounds
+	 * or has shrunk well inside them.
+	 * 
+	 * @param proxy The proxy of the box.
+	 * @param box The new box.
+	 * @return Whether the box was reinserted.
+	 */
+	public boolean move( int proxy, AABB box )
+	{
+		return move( proxy, box, 0.0F, 0.0F, 0.0F );
+	}
+
+	/**
+	 * Moves a box. The tree only changes if the box has left its fat bounds
+	 * or has shrunk well inside them. The new fat bounds are stretched along
+	 * the displacement, so a box that keeps moving the same way stays inside
+	 * them for longer.
+	 * 
+	 * @param proxy The proxy of the box.
+	 * @param box The new box.
+	 * @param displacement The distance the box moved since the last move.
+	 * @return Whether the box was reinserted.
+	 */
+	public boolean move( int proxy, AABB box, Vector3F displacement )
+	{
+		return move( proxy, box, displacement.x, displacement.y,
+				displacement.z );
+	}
+
+	/**
+	 * Moves a box, stretching the fat bounds along the displacement.
+	 * 
+	 * @param proxy The proxy of the box.
+	 * @param box The new box.
+	 * @param dx The distance the box moved along the x axis.
+	 * @param dy The distance the box moved along the y axis.
+	 * @param dz The distance the box moved along the z axis.
+	 * @return Whether the box was reinserted.
+	 */
+	private boolean move( int proxy, AABB box, float dx, float dy, float dz )
+	{
+		int offset = proxy * 6;
+		float minX = box.min.x - margin;
+		float minY = box.min.y - margin;
+		float minZ = box.min.z - margin;
+		float maxX = box.max.x + margin;
+		float maxY = box.max.y + margin;
+		float maxZ = box.max.z + margin;
+
+		dx *= DISPLACEMENT_MULTIPLIER;
+		dy *= DISPLACEMENT_MULTIPLIER;
+		dz *= DISPLACEMENT_MULTIPLIER;
+
+		if( dx < 0.0F )
+		{
+			minX += dx;
+		}
+		else
+		{
+			maxX += dx;
+		}
+
+		if( dy < 0.0F )
+		{
+			minY += dy;
+		}
+		else
+		{
+			maxY += dy;
+		}
+
+		if( dz < 0.0F )
+		{
+			minZ += dz;
+		}
+		else
+		{
+			maxZ += dz;
+		}
+
+		if( bounds[ offset ] <= box.min.x && bounds[ offset + 1 ] <= box.min.y
+				&& bounds[ offset + 2 ] <= box.min.z
+				&& bounds[ offset + 3 ] >= box.max.x
+				&& bounds[ offset + 4 ] >= box.max.y
+				&& bounds[ offset + 5 ] >= box.max.z )
+		{
+			float shrinkMargin = SHRINK_FACTOR * margin;
+
+			if( bounds[ offset ] >= minX - shrinkMargin
+					&& bounds[ offset + 1 ] >= minY - shrinkMargin
+					&& bounds[ offset + 2 ] >= minZ - shrinkMargin
+					&& bounds[ offset + 3 ] <= maxX + shrinkMargin
+					&& bounds[ offset + 4 ] <= maxY + shrinkMargin
+					&& bounds[ offset + 5 ] <= maxZ + shrinkMargin )
+			{
+				return false;
+			}
+		}
+
+		removeLeaf( proxy );
+		setBounds( proxy, minX, minY, minZ, maxX, maxY, maxZ );
+		insertLeaf( proxy );
+		bufferMove( proxy );
+
+		return true;
+	}
+
+	/**
+	 * Finds the boxes whose fat bounds overlap a box.
+	 * 
+	 * @param box The box to test.
+	 * @param callback The callback to report the proxies to.
+	 */
+	public void queryBox( AABB box, ProxyCallback callback )
+	{
+		query( box.min.x, box.min.y, box.min.z, box.max.x, box.max.y,
+				box.max.z, NULL, callback, null );
+	}
+
+	/**
+	 * Finds the pairs of overlapping fat bounds that involve a box inserted
+	 * or reinserted since the last call. Each pair is reported once.
+	 * 
+	 * @param callback The callback to report the pairs to.
+	 */
+	public void updatePairs( PairCallback callback )
+	{
+		for( int i = 0; i < moveCount; i++ )
+		{
+			int proxy = moveBuffer[ i ];
+
+			if( proxy != NULL )
+			{
+				int offset = proxy * 6;
+
+				query( bounds[ offset ], bounds[ offset + 1 ],
+						bounds[ offset + 2 ], bounds[ offset + 3 ],
+						bounds[ offset + 4 ], bounds[ offset + 5 ], proxy, null,
+						callback );
+			}
+		}
+
+		for( int i = 0; i < moveCount; i++ )
+		{
+			if( moveBuffer[ i ] != NULL )
+			{
+				moved[ moveBuffer[ i ] ] = false;
+			}
+		}
+
+		moveCount = 0;
+	}
+
+	/**
+	 * Finds the boxes whose fat bounds a ray hits.
+	 * 
+	 * @param origin The origin of the ray.
+	 * @param direction The direction of the ray.
+	 * @param maxDistance The length of the ray, in multiples of the direction.
+	 * @param callback The callback to report the proxies to.
+	 */
+	public void queryRay( Vector3F origin, Vector3F direction,
+			float maxDistance, RayCallback callback )
+	{
+		float originX = origin.x;
+		float originY = origin.y;
+		float originZ = origin.z;
+		float inverseX = 1.0F / direction.x;
+		float inverseY = 1.0F / direction.y;
+		float inverseZ = 1.0F / direction.z;
+		int count = 0;
+
+		if( root == NULL )
+		{
+			return;
+		}
+
+		stack[ count++ ] = root;
+
+		while( count > 0 )
+		{
+			int node = stack[ --count ];
+			int offset = node * 6;
+			float x1 = ( bounds[ offset ] - originX ) * inverseX;
+			float x2 = ( bounds[ offset + 3 ] - originX ) * inverseX;
+			float y1 = ( bounds[ offset + 1 ] - originY ) * inverseY;
+			float y2 = ( bounds[ offset + 4 ] - originY ) * inverseY;
+			float z1 = ( bounds[ offset + 2 ] - originZ ) * inverseZ;
+			float z2 = ( bounds[ offset + 5 ] - originZ ) * inverseZ;
+			float near = max( max( 0.0F, min( x1, x2 ) ),
+					max( min( y1, y2 ), min( z1, z2 ) ) );
+			float far = min( min( maxDistance, max( x1, x2 ) ),
+					min( max( y1, y2 ), max( z1, z2 ) ) );
+
+			if( near > far )
+			{
+				continue;
+			}
+
+			if( children[ node * 2 ] == NULL )
+			{
+				float distance = callback.report( node, near );
+
+				if( distance == 0.0F )
+				{
+					return;
+				}
+
+				if( distance > 0.0F )
+				{
+					maxDistance = min( maxDistance, distance );
+				}
+			}
+			else
+			{
+				ensureStack( count + 2 );
+
+				stack[ count++ ] = children[ node * 2 ];
+				stack[ count++ ] = children[ node * 2 + 1 ];
+			}
+		}
+	}
+
+	/**
+	 * Finds the boxes whose fat bounds a ray hits.
+	 * 
+	 * @param ray The ray.
+	 * @param maxDistance The length of the ray, in multiples of the direction.
+	 * @param callback The callback to report the proxies to.
+	 */
+	public void queryRay( Ray ray, float maxDistance, RayCallback callback )
+	{
+		queryRay( ray.origin, ray.direction, maxDistance, callback );
+	}
+
+	/**
+	 * Finds the boxes whose fat bounds may be visible in a frustum. Subtrees
+	 * wholly inside the frustum are reported without testing their leaves.
+	 * 
+	 * @param frustum The frustum to test.
+	 * @param callback The callback to report the proxies to.
+	 */
+	public void queryFrustum( Frustum frustum, ProxyCallback callback )
+	{
+		Vector4F[] planes = frustum.planes;
+		int count = 0;
+
+		if( root == NULL )
+		{
+			return;
+		}
+
+		stack[ count++ ] = root * 2;
+
+		while( count > 0 )
+		{
+			int entry = stack[ --count ];
+			int node = entry >> 1;
+			boolean inside = ( entry & 1 ) != 0;
+
+			if( !inside )
+			{
+				int offset = node * 6;
+				float centerX = ( bounds[ offset ] + bounds[ offset + 3 ] )
+						* 0.5F;
+				float centerY = ( bounds[ offset + 1 ] + bounds[ offset + 4 ] )
+						* 0.5F;
+				float centerZ = ( bounds[ offset + 2 ] + bounds[ offset + 5 ] )
+						* 0.5F;
+				float extentX = bounds[ offset + 3 ] - centerX;
+				float extentY = bounds[ offset + 4 ] - centerY;
+				float extentZ = bounds[ offset + 5 ] - centerZ;
+				boolean outside = false;
+
+				inside = true;
+
+				for( int i = 0; i < 6 && !outside; i++ )
+				{
+					Vector4F plane = planes[ i ];
+					float distance = plane.x * centerX + plane.y * centerY
+							+ plane.z * centerZ + plane.w;
+					float radius = abs( plane.x ) * extentX
+							+ abs( plane.y ) * extentY
+							+ abs( plane.z ) * extentZ;
+
+					outside = distance < -radius;
+					inside &= distance >= radius;
+				}
+
+				if( outside )
+				{
+					continue;
+				}
+			}
+
+			if( children[ node * 2 ] == NULL )
+			{
+				if( !callback.report( node ) )
+				{
+					return;
+				}
+			}
+			else
+			{
+				int flag = inside ? 1 : 0;
+
+				ensureStack( count + 2 );
+
+				stack[ count++ ] = children[ node * 2 ] * 2 + flag;
+				stack[ count++ ] = children[ node * 2 + 1 ] * 2 + flag;
+			}
+		}
+	}
+
+	/**
+	 * Finds the leaves whose bounds overlap a box, reporting them either as
+	 * proxies or as pairs with a moved leaf.
+	 * 
+	 * @param minX The smallest x of the box.
+	 * @param minY The smallest y of the box.
+	 * @param minZ The smallest z of the box.
+	 * @param maxX The largest x of the box.
+	 * @param maxY The largest y of the box.
+	 * @param maxZ The largest z of the box.
+	 * @param proxy The moved leaf, or {@link #NULL}.
+	 * @param proxyCallback The callback to report proxies to, or null.
+	 * @param pairCallback The callback to report pairs to, or null.
+	 */
+	private void query( float minX, float minY, float minZ, float maxX,
+			float maxY, float maxZ, int proxy, ProxyCallback proxyCallback,
+			PairCallback pairCallback )
+	{
+		int count = 0;
+
+		if( root == NULL )
+		{
+			return;
+		}
+
+		stack[ count++ ] = root;
+
+		while( count > 0 )
+		{
+			int node = stack[ --count ];
+			int offset = node * 6;
+
+			if( bounds[ offset ] > maxX || bounds[ offset + 3 ] < minX
+					|| bounds[ offset + 1 ] > maxY
+					|| bounds[ offset + 4 ] < minY
+					|| bounds[ offset + 2 ] > maxZ
+					|| bounds[ offset + 5 ] < minZ )
+			{
+				continue;
+			}
+
+			if( children[ node * 2 ] != NULL )
+			{
+				ensureStack( count + 2 );
+
+				stack[ count++ ] = children[ node * 2 ];
+				stack[ count++ ] = children[ node * 2 + 1 ];
+			}
+			else if( pairCallback == null )
+			{
+				if( !proxyCallback.report( node ) )
+				{
+					return;
+				}
+			}
+			else if( node != proxy && ( !moved[ node ] || node < proxy ) )
+			{
+				// A pair of moved leaves is reported from the larger proxy.
+				pairCallback.report( min( node, proxy ), max( node, proxy ) );
+			}
+		}
+	}
+
+	/**
+	 * Places a leaf where it adds the least surface area, then refits and
+	 * balances its ancestors.
+	 * 
+	 * @param leaf The leaf to place.
+	 */
+	private void insertLeaf( int leaf )
+	{
+		int index = root;
+
+		if( root == NULL )
+		{
+			root = leaf;
+			parents[ leaf ] = NULL;
+
+			return;
+		}
+
+		while( children[ index * 2 ] != NULL )
+		{
+			int child1 = children[ index * 2 ];
+			int child2 = children[ index * 2 + 1 ];
+			float area = getSurfaceArea( index );
+			float combinedArea = getUnionSurfaceArea( index, leaf );
+			float cost = 2.0F * combinedArea;
+			float inheritanceCost = 2.0F * ( combinedArea - area );
+			float cost1 = getDescentCost( child1, leaf ) + inheritanceCost;
+			float cost2 = getDescentCost( child2, leaf ) + inheritanceCost;
+
+			if( cost < cost1 && cost < cost2 )
+			{
+				break;
+			}
+
+			index = cost1 < cost2 ? child1 : child2;
+		}
+
+		int sibling = index;
+		int oldParent = parents[ sibling ];
+		int newParent = allocateNode( );
+
+		parents[ newParent ] = oldParent;
+		heights[ newParent ] = heights[ sibling ] + 1;
+		children[ newParent * 2 ] = sibling;
+		children[ newParent * 2 + 1 ] = leaf;
+		parents[ sibling ] = newParent;
+		parents[ leaf ] = newParent;
+
+		setUnionBounds( newParent, sibling, leaf );
+		replaceChild( oldParent, sibling, newParent );
+		refit( parents[ leaf ] );
+	}
+
+	/**
+	 * Takes a leaf out of the tree, putting its sibling in place of its
+	 * parent, then refits and balances its ancestors.
+	 * 
+	 * @param leaf The leaf to take out.
+	 */
+	private void removeLeaf( int leaf )
+	{
+		if( leaf == root )
+		{
+			root = NULL;
+
+			return;
+		}
+
+		int parent = parents[ leaf ];
+		int grandParent = parents[ parent ];
+		int sibling = children[ parent * 2 ] == leaf
+				? children[ parent * 2 + 1 ] : children[ parent * 2 ];
+
+		parents[ sibling ] = grandParent;
+
+		replaceChild( grandParent, parent, sibling );
+		freeNode( parent );
+		refit( grandParent );
+	}
+
+	/**
+	 * Balances a node and its ancestors, updating their heights and bounds.
+	 * 
+	 * @param node The first node to refit.
+	 */
+	private void refit( int node )
+	{
+		while( node != NULL )
+		{
+			node = balance( node );
+
+			int child1 = children[ node * 2 ];
+			int child2 = children[ node * 2 + 1 ];
+
+			heights[ node ] = 1 + max( heights[ child1 ], heights[ child2 ] );
+
+			setUnionBounds( node, child1, child2 );
+
+			node = parents[ node ];
+		}
+	}
+
+	/**
+	 * Rotates a node's taller child up if the heights of its children differ
+	 * by more than one.
+	 * 
+	 * @param a The node to balance.
+	 * @return The node now in the place of the balanced node.
+	 */
+	private int balance( int a )
+	{
+		if( children[ a * 2 ] == NULL || heights[ a ] < 2 )
+		{
+			return a;
+		}
+
+		int b = children[ a * 2 ];
+		int c = children[ a * 2 + 1 ];
+		int difference = heights[ c ] - heights[ b ];
+
+		if( difference > 1 )
+		{
+			rotate( a, c, b, 1 );
+
+			return c;
+		}
+
+		if( difference < -1 )
+		{
+			rotate( a, b, c, 0 );
+
+			return b;
+		}
+
+		return a;
+	}
+
+	/**
+	 * Rotates a child up into the place of its parent. The shorter child of
+	 * the risen node takes its place under the old parent.
+	 * 
+	 * @param a The node to rotate down.
+	 * @param up The child of the node to rotate up.
+	 * @param other The other child of the node.
+	 * @param side The side of the node the child to rotate up is on.
+	 */
+	private void rotate( int a, int up, int other, int side )
+	{
+		int f = children[ up * 2 ];
+		int g = children[ up * 2 + 1 ];
+		int grandParent = parents[ a ];
+		int taller = heights[ f ] > heights[ g ] ? f : g;
+		int shorter = taller == f ? g : f;
+
+		children[ up * 2 ] = a;
+		children[ up * 2 + 1 ] = taller;
+		parents[ up ] = grandParent;
+		parents[ a ] = up;
+		children[ a * 2 + side ] = shorter;
+		parents[ shorter ] = a;
+
+		replaceChild( grandParent, a, up );
+		setUnionBounds( a, other, shorter );
+
+		heights[ a ] = 1 + max( heights[ other ], heights[ shorter ] );
+
+		setUnionBounds( up, a, taller );
+
+		heights[ up ] = 1 + max( heights[ a ], heights[ taller ] );
+	}
+
+	/**
+	 * Replaces a child of a node, or the root if there is no node.
+	 * 
+	 * @param parent The node, or {@link #NULL}.
+	 * @param oldChild The child to replace.
+	 * @param newChild The child to replace it with.
+	 */
+	private void replaceChild( int parent, int oldChild, int newChild )
+	{
+		if( parent == NULL )
+		{
+			root = newChild;
+		}
+		else if( children[ parent * 2 ] == oldChild )
+		{
+			children[ parent * 2 ] = newChild;
+		}
+		else
+		{
+			children[ parent * 2 + 1 ] = newChild;
+		}
+	}
+
+	/**
+	 * @param node The node to descend into.
+	 * @param leaf The leaf being placed.
+	 * @return The surface area added by placing the leaf under the node.
+	 */
+	private float getDescentCost( int node, int leaf )
+	{
+		float area = getUnionSurfaceArea( node, leaf );
+
+		return children[ node * 2 ] == NULL ? area
+				: area - getSurfaceArea( node );
+	}
+
+	/**
+	 * @param node The node.
+	 * @return The surface area of the node's bounds.
+	 */
+	private float getSurfaceArea( int node )
+	{
+		int offset = node * 6;
+		float width = bounds[ offset + 3 ] - bounds[ offset ];
+		float height = bounds[ offset + 4 ] - bounds[ offset + 1 ];
+		float depth = bounds[ offset + 5 ] - bounds[ offset + 2 ];
+
+		return 2.0F * ( width * height + height * depth + depth * width );
+	}
+
+	/**
+	 * @param node1 The first node.
+	 * @param node2 The second node.
+	 * @return The surface area of the bounds holding both nodes.
+	 */
+	private float getUnionSurfaceArea( int node1, int node2 )
+	{
+		int offset1 = node1 * 6;
+		int offset2 = node2 * 6;
+		float width = max( bounds[ offset1 + 3 ], bounds[ offset2 + 3 ] )
+				- min( bounds[ offset1 ], bounds[ offset2 ] );
+		float height = max( bounds[ offset1 + 4 ], bounds[ offset2 + 4 ] )
+				- min( bounds[ offset1 + 1 ], bounds[ offset2 + 1 ] );
+		float depth = max( bounds[ offset1 + 5 ], bounds[ offset2 + 5 ] )
+				- min( bounds[ offset1 + 2 ], bounds[ offset2 + 2 ] );
+
+		return 2.0F * ( width * height + height * depth + depth * width );
+	}
+
+	/**
+	 * Sets the bounds of a node.
+	 * 
+	 * @param node The node.
+	 * @param minX The smallest x.
+	 * @param minY The smallest y.
+	 * @param minZ The smallest z.
+	 * @param maxX The largest x.
+	 * @param maxY The largest y.
+	 * @param maxZ The largest z.
+	 */
+	private void setBounds( int node, float minX, float minY, float minZ,
+			float maxX, float maxY, float maxZ )
+	{
+		int offset = node * 6;
+
+		bounds[ offset ] = minX;
+		bounds[ offset + 1 ] = minY;
+		bounds[ offset + 2 ] = minZ;
+		bounds[ offset + 3 ] = maxX;
+		bounds[ offset + 4 ] = maxY;
+		bounds[ offset + 5 ] = maxZ;
+	}
+
+	/**
+	 * Sets the bounds of a node to hold two other nodes.
+	 * 
+	 * @param node The node.
+	 * @param node1 The first node to hold.
+	 * @param node2 The second node to hold.
+	 */
+	private void setUnionBounds( int node, int node1, int node2 )
+	{
+		int offset1 = node1 * 6;
+		int offset2 = node2 * 6;
+
+		setBounds( node, min( bounds[ offset1 ], bounds[ offset2 ] ),
+				min( bounds[ offset1 + 1 ], bounds[ offset2 + 1 ] ),
+				min( bounds[ offset1 + 2 ], bounds[ offset2 + 2 ] ),
+				max( bounds[ offset1 + 3 ], bounds[ offset2 + 3 ] ),
+				max( bounds[ offset1 + 4 ], bounds[ offset2 + 4 ] ),
+				max( bounds[ offset1 + 5 ], bounds[ offset2 + 5 ] ) );
+	}
+
+	/**
+	 * Queues a leaf to have its pairs found, unless it already is.
+	 * 
+	 * @param proxy The leaf.
+	 */
+	private void bufferMove( int proxy )
+	{
+		if( moved[ proxy ] )
+		{
+			return;
+		}
+
+		if( moveCount == moveBuffer.length )
+		{
+			moveBuffer = Arrays.copyOf( moveBuffer, moveCount * 2 );
+		}
+
+		moved[ proxy ] = true;
+		moveBuffer[ moveCount++ ] = proxy;
+	}
+
+	/**
+	 * Makes sure the traversal stack has room for a number of nodes.
+	 * 
+	 * @param size The number of nodes.
+	 */
+	private void ensureStack( int size )
+	{
+		if( size > stack.length )
+		{
+			stack = Arrays.copyOf( stack, stack.length * 2 );
+		}
+	}
+
+	/**
+	 * Takes a node from the free list, growing the arrays if it is empty.
+	 * 
+	 * @return The node.
+	 */
+	private int allocateNode( )
+	{
+		if( freeList == NULL )
+		{
+			grow( capacity * 2 );
+		}
+
+		int node = freeList;
+
+		freeList = parents[ node ];
+		parents[ node ] = NULL;
+		children[ node * 2 ] = NULL;
+		children[ node * 2 + 1 ] = NULL;
+		heights[ node ] = 0;
+		values[ node ] = 0;
+		moved[ node ] = false;
+
+		return node;
+	}
+
+	/**
+	 * Puts a node back on the free list.
+	 * 
+	 * @param node The node.
+	 */
+	private void freeNode( int node )
+	{
+		parents[ node ] = freeList;
+		heights[ node ] = -1;
+		freeList = node;
+	}
+
+	/**
+	 * Grows the arrays and puts the new nodes on the free list.
+	 * 
+	 * @param newCapacity The number of nodes to make room for.
+	 */
+	private void grow( int newCapacity )
+	{
+		bounds = Arrays.copyOf( bounds, newCapacity * 6 );
+		parents = Arrays.copyOf( parents, newCapacity );
+		children = Arrays.copyOf( children, newCapacity * 2 );
+		heights = Arrays.copyOf( heights, newCapacity );
+		values = Arrays.copyOf( values, newCapacity );
+		moved = Arrays.copyOf( moved, newCapacity );
+
+		for( int i = capacity; i < newCapacity; i++ )
+		{
+			parents[ i ] = i + 1;
+			heights[ i ] = -1;
+		}
+
+		parents[ newCapacity - 1 ] = freeList;
+		freeList = capacity;
+		capacity = newCapacity;
+	}
+}
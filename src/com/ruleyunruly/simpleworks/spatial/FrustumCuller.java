@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.spatial;
+
+import java.util.Arrays;
+
+import com.ruleyunruly.simpleworks.core.JobSystem;
+import com.ruleyunruly.simpleworks.core.RangeTask;
+import com.ruleyunruly.simpleworks.math.Frustum;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Culls large batches of spheres or boxes against a {@link Frustum} across a
+ * {@link JobSystem}.
+ * <p>
+ * The range is cut into chunks, and each chunk writes its visible indices to
+ * its own part of the output, where no other chunk writes. The parts are then
+ * moved together, so the output is the same compact, ordered list the
+ * single-threaded batch tests write. A culler keeps its state between calls,
+ * so it must only be used by one thread at a time.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class FrustumCuller
+{
+	/**
+	 * The job system to spread the chunks across.
+	 */
+	private final JobSystem jobSystem;
+
+	/**
+	 * The number of shapes in a chunk.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * Culls ranges of chunks.
+	 */
+	private final RangeTask chunkTask;
+
+	/**
+	 * Holds the number of visible indices each chunk wrote.
+	 */
+	private int[] chunkCounts;
+
+	/**
+	 * Holds the frustum being culled against.
+	 */
+	private Frustum frustum;
+
+	/**
+	 * Holds the centers of the shapes being culled.
+	 */
+	private Vector3FArray centers;
+
+	/**
+	 * Holds the radii of the spheres being culled, or null for boxes.
+	 */
+	private float[] radii;
+
+	/**
+	 * Holds the half sizes of the boxes being culled, or null for spheres.
+	 */
+	private Vector3FArray extents;
+
+	/**
+	 * Holds the first index being culled.
+	 */
+	private int fromIndex;
+
+	/**
+	 * Holds the index after the last being culled.
+	 */
+	private int toIndex;
+
+	/**
+	 * Holds the array the visible indices are written to.
+	 */
+	private int[] visibleIndices;
+
+	/**
+	 * Holds the index the first visible index is written at.
+	 */
+	private int offset;
+
+	/**
+	 * Initializes this culler with chunks of 4096 shapes.
+	 * 
+	 * @param jobSystem The job system to spread the chunks across.
+	 */
+	public FrustumCuller( JobSystem jobSystem )
+	{
+		this( jobSystem, 4096 );
+	}
+
+	/**
+	 * Initializes this culler.
+	 * 
+	 * @param jobSystem The job system to spread the chunks across.
+	 * @param chunkSize The number of shapes in a chunk.
+	 */
+	public FrustumCuller( JobSystem jobSystem, int chunkSize )
+	{
+		this.jobSystem = jobSystem;
+		this.chunkSize = Math.max( chunkSize, 1 );
+
+		chunkTask = this::cullChunks;
+		chunkCounts = new int[ 16 ];
+	}
+
+	/**
+	 * Culls a range of spheres in parallel, like {@link Frustum#cullSpheres}.
+	 * 
+	 * @param frustum The frustum to cull against.
+	 * @param centers The centers of the spheres.
+	 * @param radii The radii of the spheres.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param visibleIndices The array to write the indices to, with room for
+	 *        every index in the range after the offset.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int cullSpheres( Frustum frustum, Vector3FArray centers,
+			float[] radii, int fromIndex, int toIndex, int[] visibleIndices,
+			int offset )
+	{
+		this.radii = radii;
+		this.extents = null;
+
+		return cull( frustum, centers, fromIndex, toIndex, visibleIndices,
+				offset );
+	}
+
+	/**
+	 * Culls a range of boxes in parallel, like {@link Frustum#cullBoxes}.
+	 * 
+	 * @param frustum The frustum to cull against.
+	 * @param centers The centers of the boxes.
+	 * @param extents The half sizes of the boxes along each axis.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param visibleIndices The array to write the indices to, with room for
+	 *        every index in the range after the offset.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int cullBoxes( Frustum frustum, Vector3FArray centers,
+			Vector3FArray extents, int fromIndex, int toIndex,
+			int[] visibleIndices, int offset )
+	{
+		this.radii = null;
+		this.extents = extents;
+
+		return cull( frustum, centers, fromIndex, toIndex, visibleIndices,
+				offset );
+	}
+
+	/**
+	 * Culls the chunks of a range in parallel and moves their visible indices
+	 * together.
+	 * 
+	 * @param frustum The frustum to cull against.
+	 * @param centers The centers of the shapes.
+	 * @param fromIndex The first index.
+	 * @param toIndex The index after the last.
+	 * @param visibleIndices The array to write the indices to.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	private int cull( Frustum frustum, Vector3FArray centers, int fromIndex,
+			int toIndex, int[] visibleIndices, int offset )
+	{
+		int chunkCount = ( toIndex - fromIndex + chunkSize - 1 ) / chunkSize;
+		int count = 0;
+
+		if( chunkCount > chunkCounts.length )
+		{
+			chunkCounts = Arrays.copyOf( chunkCounts, chunkCount * 2 );
+		}
+
+		this.frustum = frustum;
+		this.centers = centers;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+		this.visibleIndices = visibleIndices;
+		this.offset = offset;
+
+		jobSystem.parallelFor( 0, chunkCount, 1, chunkTask );
+
+		for( int i = 0; i < chunkCount; i++ )
+		{
+			if( count != i * chunkSize )
+			{
+				System.arraycopy( visibleIndices, offset + i * chunkSize,
+						visibleIndices, offset + count, chunkCounts[ i ] );
+			}
+
+			count += chunkCounts[ i ];
+		}
+
+		this.frustum = null;
+		this.centers = null;
+		this.radii = null;
+		this.extents = null;
+		this.visibleIndices = null;
+
+		return count;
+	}
+
+	/**
+	 * Culls a range of chunks, each into its own part of the output.
+	 * 
+	 * @param fromChunk The first chunk.
+	 * @param toChunk The chunk after the last.
+	 */
+	private void cullChunks( int fromChunk, int toChunk )
+	{
+		for( int i = fromChunk; i < toChunk; i++ )
+		{
+			int start = fromIndex + i * chunkSize;
+			int end = Math.min( start + chunkSize, toIndex );
+			int chunkOffset = offset + i * chunkSize;
+
+			chunkCounts[ i ] = radii != null ? frustum.cullSpheres( centers,
+					radii, start, end, visibleIndices, chunkOffset )
+					: frustum.cullBoxes( centers, extents, start, end,
+							visibleIndices, chunkOffset );
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.spatial;
+
+/**
+ * Receives the proxies whose bounds a ray hits during a spatial query.
+ * <p>
+ * The returned value steers the rest of the query: a negative value ignores
+ * the proxy, zero ends the query, and a positive value clips the ray to that
+ * distance, so returning the distance of an exact hit finds the closest hit.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+@FunctionalInterface
+public interface RayCallback
+{
+	/**
+	 * Receives a proxy whose bounds the ray hits.
+	 * 
+	 * @param proxy The proxy hit.
+	 * @param distance The distance along the ray where it enters the bounds.
+	 * @return The new maximum distance of the ray, zero to end the query, or
+	 *         a negative value to ignore the proxy.
+	 */
+	float report( int proxy, float distance );
+}
@@ -0,0 +1,675 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Christopher R. Ruley
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.ruleyunruly.simpleworks.spatial;
+
+import static java.lang.Math.*;
+
+import java.util.Arrays;
+
+import com.ruleyunruly.simpleworks.math.Vector2F;
+import com.ruleyunruly.simpleworks.math.Vector3F;
+import com.ruleyunruly.simpleworks.math.Vector3FArray;
+
+/**
+ * Sorts points into a uniform grid of cells, for finding the neighbors of
+ * many points that all move every frame.
+ * <p>
+ * The grid is rebuilt from scratch rather than updated: each point's cell is
+ * found in an open-addressed hash table of packed cell coordinates, and the
+ * points are then sorted by cell with a counting sort, so the points of a
+ * cell sit next to each other in copied position arrays. Queries read only
+ * those arrays and report the indices the points were given to the rebuild
+ * with. Points may be placed in 3D, or on a plane with {@link Vector2F}
+ * positions.
+ * <p>
+ * Every table and array is kept between rebuilds and only grows, so a grid
+ * that has reached its working size allocates nothing. Cell coordinates are
+ * packed into 21 bits each, so cells more than about a million cells from the
+ * origin share entries with other cells, which only costs extra distance
+ * tests.
+ * 
+ * @version 1.0 20261018
+ * @author Christopher R. Ruley
+ */
+public class SpatialHashGrid
+{
+	/**
+	 * Represents no cell.
+	 */
+	private static final int NULL = -1;
+
+	/**
+	 * The mask of one packed cell coordinate.
+	 */
+	private static final long COORDINATE_MASK = 0x1FFFFFL;
+
+	/**
+	 * Holds the size of a cell along each axis.
+	 */
+	private final float cellSize;
+
+	/**
+	 * Holds the reciprocal of the cell size.
+	 */
+	private final float inverseCellSize;
+
+	/**
+	 * Whether the points were placed on a plane.
+	 */
+	private boolean planar;
+
+	/**
+	 * Holds the number of points.
+	 */
+	private int count;
+
+	/**
+	 * Holds the number of cells holding points.
+	 */
+	private int cellCount;
+
+	/**
+	 * Holds the packed cell coordinates of the table slots.
+	 */
+	private long[] keys;
+
+	/**
+	 * Holds the cells of the table slots, or {@link #NULL} for empty slots.
+	 */
+	private int[] slots;
+
+	/**
+	 * Used for wrapping table slots.
+	 */
+	private int mask;
+
+	/**
+	 * Holds the x coordinates of the cells.
+	 */
+	private int[] cellX;
+
+	/**
+	 * Holds the y coordinates of the cells.
+	 */
+	private int[] cellY;
+
+	/**
+	 * Holds the z coordinates of the cells.
+	 */
+	private int[] cellZ;
+
+	/**
+	 * Holds the index in the sorted arrays of the first point of each cell,
+	 * followed by the number of points.
+	 */
+	private int[] cellStarts;
+
+	/**
+	 * Holds the cell of each point while rebuilding, then the index of each
+	 * point in the sorted arrays.
+	 */
+	private int[] ranks;
+
+	/**
+	 * Holds the indices of the points, sorted by cell.
+	 */
+	private int[] sortedIndices;
+
+	/**
+	 * Holds the x coordinates of the points, sorted by cell.
+	 */
+	private float[] sortedX;
+
+	/**
+	 * Holds the y coordinates of the points, sorted by cell.
+	 */
+	private float[] sortedY;
+
+	/**
+	 * Holds the z coordinates of the points, sorted by cell.
+	 */
+	private float[] sortedZ;
+
+	/**
+	 * Initializes this grid with room for 1024 points.
+	 * 
+	 * @param cellSize The size of a cell along each axis.
+	 */
+	public SpatialHashGrid( float cellSize )
+	{
+		this( cellSize, 1024 );
+	}
+
+	/**
+	 * Initializes this grid.
+	 * 
+	 * @param cellSize The size of a cell along each axis.
+	 * @param capacity The number of points to make room for.
+	 */
+	public SpatialHashGrid( float cellSize, int capacity )
+	{
+		this.cellSize = cellSize;
+
+		inverseCellSize = 1.0F / cellSize;
+		keys = new long[ 0 ];
+		slots = new int[ 0 ];
+		cellX = new int[ 0 ];
+		cellY = new int[ 0 ];
+		cellZ = new int[ 0 ];
+		cellStarts = new int[ 1 ];
+		ranks = new int[ 0 ];
+		sortedIndices = new int[ 0 ];
+		sortedX = new float[ 0 ];
+		sortedY = new float[ 0 ];
+		sortedZ = new float[ 0 ];
+
+		ensureCapacity( capacity );
+	}
+
+	/**
+	 * @return The size of a cell along each axis.
+	 */
+	public float getCellSize( )
+	{
+		return cellSize;
+	}
+
+	/**
+	 * @return The number of points in this grid.
+	 */
+	public int getCount( )
+	{
+		return count;
+	}
+
+	/**
+	 * @return The number of cells holding points.
+	 */
+	public int getCellCount( )
+	{
+		return cellCount;
+	}
+
+	/**
+	 * Rebuilds this grid from points in 3D.
+	 * 
+	 * @param positions The positions of the points.
+	 * @param count The number of points, which are given indices from 0.
+	 * @return This grid.
+	 */
+	public SpatialHashGrid rebuild( Vector3FArray positions, int count )
+	{
+		return rebuild( positions.x, positions.y, positions.z, count );
+	}
+
+	/**
+	 * Rebuilds this grid from points on a plane.
+	 * 
+	 * @param x The x coordinates of the points.
+	 * @param y The y coordinates of the points.
+	 * @param count The number of points, which are given indices from 0.
+	 * @return This grid.
+	 */
+	public SpatialHashGrid rebuild( float[] x, float[] y, int count )
+	{
+		return rebuild( x, y, null, count );
+	}
+
+	/**
+	 * Reports the points within a radius of a position.
+	 * 
+	 * @param center The position.
+	 * @param radius The radius.
+	 * @param callback The callback to report the indices of the points to.
+	 * @return The number of points reported.
+	 */
+	public int queryRadius( Vector3F center, float radius,
+			ProxyCallback callback )
+	{
+		return query( center.x, center.y, center.z, radius, NULL, callback,
+				null, 0 );
+	}
+
+	/**
+	 * Reports the points within a radius of a position on the plane.
+	 * 
+	 * @param center The position.
+	 * @param radius The radius.
+	 * @param callback The callback to report the indices of the points to.
+	 * @return The number of points reported.
+	 */
+	public int queryRadius( Vector2F center, float radius,
+			ProxyCallback callback )
+	{
+		return query( center.x, center.y, 0.0F, radius, NULL, callback, null,
+				0 );
+	}
+
+	/**
+	 * Writes the indices of the points within a radius of a position, as
+	 * many as the array has room for.
+	 * 
+	 * @param center The position.
+	 * @param radius The radius.
+	 * @param indices The array to write the indices to.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int queryRadius( Vector3F center, float radius, int[] indices,
+			int offset )
+	{
+		return query( center.x, center.y, center.z, radius, NULL, null,
+				indices, offset );
+	}
+
+	/**
+	 * Writes the indices of the points within a radius of a position on the
+	 * plane, as many as the array has room for.
+	 * 
+	 * @param center The position.
+	 * @param radius The radius.
+	 * @param indices The array to write the indices to.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int queryRadius( Vector2F center, float radius, int[] indices,
+			int offset )
+	{
+		return query( center.x, center.y, 0.0F, radius, NULL, null, indices,
+				offset );
+	}
+
+	/**
+	 * Reports the other points within a radius of a point.
+	 * 
+	 * @param index The index of the point.
+	 * @param radius The radius.
+	 * @param callback The callback to report the indices of the points to.
+	 * @return The number of points reported.
+	 */
+	public int queryNeighbors( int index, float radius,
+			ProxyCallback callback )
+	{
+		int rank = ranks[ index ];
+
+		return query( sortedX[ rank ], sortedY[ rank ], sortedZ[ rank ],
+				radius, rank, callback, null, 0 );
+	}
+
+	/**
+	 * Writes the indices of the other points within a radius of a point, as
+	 * many as the array has room for.
+	 * 
+	 * @param index The index of the point.
+	 * @param radius The radius.
+	 * @param indices The array to write the indices to.
+	 * @param offset The index to write the first index at.
+	 * @return The number of indices written.
+	 */
+	public int queryNeighbors( int index, float radius, int[] indices,
+			int offset )
+	{
+		int rank = ranks[ index ];
+
+		return query( sortedX[ rank ], sortedY[ rank ], sortedZ[ rank ],
+				radius, rank, null, indices, offset );
+	}
+
+	/**
+	 * Reports every pair of points within a radius of each other, once. Each
+	 * cell is only compared with itself and half of its neighbors.
+	 * 
+	 * @param radius The radius, no larger than the cell size.
+	 * @param callback The callback to report the pairs of indices to.
+	 */
+	public void queryPairs( float radius, PairCallback callback )
+	{
+		float radiusSquared = radius * radius;
+		int maxOffsetZ = planar ? 0 : 1;
+
+		for( int cell = 0; cell < cellCount; cell++ )
+		{
+			int start = cellStarts[ cell ];
+			int end = cellStarts[ cell + 1 ];
+
+			for( int i = start; i < end; i++ )
+			{
+				reportPairs( i, i + 1, end, radiusSquared, callback );
+			}
+
+			for( int offsetZ = 0; offsetZ <= maxOffsetZ; offsetZ++ )
+			{
+				for( int offsetY = offsetZ == 0 ? 0 : -1; offsetY <= 1;
+						offsetY++ )
+				{
+					int minOffsetX = offsetZ == 0 && offsetY == 0 ? 1 : -1;
+
+					for( int offsetX = minOffsetX; offsetX <= 1; offsetX++ )
+					{
+						int other = findCell( cellX[ cell ] + offsetX,
+								cellY[ cell ] + offsetY,
+								cellZ[ cell ] + offsetZ );
+
+						if( other == NULL )
+						{
+							continue;
+						}
+
+						int otherStart = cellStarts[ other ];
+						int otherEnd = cellStarts[ other + 1 ];
+
+						for( int i = start; i < end; i++ )
+						{
+							reportPairs( i, otherStart, otherEnd,
+									radiusSquared, callback );
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds this grid.
+	 * 
+	 * @param x The x coordinates of the points.
+	 * @param y The y coordinates of the points.
+	 * @param z The z coordinates of the points, or null for a plane.
+	 * @param count The number of points.
+	 * @return This grid.
+	 */
+	private SpatialHashGrid rebuild( float[] x, float[] y, float[] z,
+			int count )
+	{
+		ensureCapacity( count );
+		Arrays.fill( slots, NULL );
+
+		this.count = count;
+		this.planar = z == null;
+		cellCount = 0;
+
+		for( int i = 0; i < count; i++ )
+		{
+			int cell = findOrAddCell( getCoordinate( x[ i ] ),
+					getCoordinate( y[ i ] ),
+					planar ? 0 : getCoordinate( z[ i ] ) );
+
+			ranks[ i ] = cell;
+			cellStarts[ cell ]++ ;
+		}
+
+		for( int cell = 0, start = 0; cell <= cellCount; cell++ )
+		{
+			int size = cellStarts[ cell ];
+
+			cellStarts[ cell ] = start;
+			start += size;
+		}
+
+		for( int i = 0; i < count; i++ )
+		{
+			int rank = cellStarts[ ranks[ i ] ]++ ;
+
+			ranks[ i ] = rank;
+			sortedIndices[ rank ] = i;
+			sortedX[ rank ] = x[ i ];
+			sortedY[ rank ] = y[ i ];
+			sortedZ[ rank ] = planar ? 0.0F : z[ i ];
+		}
+
+		for( int cell = cellCount; cell > 0; cell-- )
+		{
+			cellStarts[ cell ] = cellStarts[ cell - 1 ];
+		}
+
+		cellStarts[ 0 ] = 0;
+
+		return this;
+	}
+
+	/**
+	 * Reports or writes the points within a radius of a position.
+	 * 
+	 * @param x The x coordinate of the position.
+	 * @param y The y coordinate of the position.
+	 * @param z The z coordinate of the position.
+	 * @param radius The radius.
+	 * @param skipped The sorted index of a point to leave out, or
+	 *        {@link #NULL}.
+	 * @param callback The callback to report the indices to, or null.
+	 * @param indices The array to write the indices to, if there is no
+	 *        callback.
+	 * @param offset The index to write the first index at.
+	 * @return The number of points reported or written.
+	 */
+	private int query( float x, float y, float z, float radius, int skipped,
+			ProxyCallback callback, int[] indices, int offset )
+	{
+		float radiusSquared = radius * radius;
+		int minX = getCoordinate( x - radius );
+		int minY = getCoordinate( y - radius );
+		int minZ = planar ? 0 : getCoordinate( z - radius );
+		int maxX = getCoordinate( x + radius );
+		int maxY = getCoordinate( y + radius );
+		int maxZ = planar ? 0 : getCoordinate( z + radius );
+		int found = offset;
+
+		for( int cz = minZ; cz <= maxZ; cz++ )
+		{
+			for( int cy = minY; cy <= maxY; cy++ )
+			{
+				for( int cx = minX; cx <= maxX; cx++ )
+				{
+					int cell = findCell( cx, cy, cz );
+
+					if( cell == NULL )
+					{
+						continue;
+					}
+
+					for( int i = cellStarts[ cell ]; i < cellStarts[ cell + 1 ];
+							i++ )
+					{
+						float dx = sortedX[ i ] - x;
+						float dy = sortedY[ i ] - y;
+						float dz = sortedZ[ i ] - z;
+
+						if( dx * dx + dy * dy + dz * dz > radiusSquared
+								|| i == skipped )
+						{
+							continue;
+						}
+
+						if( callback != null )
+						{
+							found++ ;
+
+							if( !callback.report( sortedIndices[ i ] ) )
+							{
+								return found - offset;
+							}
+						}
+						else if( found < indices.length )
+						{
+							indices[ found++ ] = sortedIndices[ i ];
+						}
+						else
+						{
+							return found - offset;
+						}
+					}
+				}
+			}
+		}
+
+		return found - offset;
+	}
+
+	/**
+	 * Reports the pairs between a point and a range of points within a
+	 * radius of each other.
+	 * 
+	 * @param i The sorted index of the point.
+	 * @param fromIndex The first sorted index.
+	 * @param toIndex The sorted index after the last.
+	 * @param radiusSquared The square of the radius.
+	 * @param callback The callback to report the pairs of indices to.
+	 */
+	private void reportPairs( int i, int fromIndex, int toIndex,
+			float radiusSquared, PairCallback callback )
+	{
+		float x = sortedX[ i ];
+		float y = sortedY[ i ];
+		float z = sortedZ[ i ];
+
+		for( int j = fromIndex; j < toIndex; j++ )
+		{
+			float dx = sortedX[ j ] - x;
+			float dy = sortedY[ j ] - y;
+			float dz = sortedZ[ j ] - z;
+
+			if( dx * dx + dy * dy + dz * dz <= radiusSquared )
+			{
+				callback.report( sortedIndices[ i ], sortedIndices[ j ] );
+			}
+		}
+	}
+
+	/**
+	 * @param value The position along an axis.
+	 * @return The coordinate of the cell holding the position.
+	 */
+	private int getCoordinate( float value )
+	{
+		return ( int ) floor( value * inverseCellSize );
+	}
+
+	/**
+	 * @param x The x coordinate of the cell.
+	 * @param y The y coordinate of the cell.
+	 * @param z The z coordinate of the cell.
+	 * @return The coordinates packed into one key.
+	 */
+	private static long getKey( int x, int y, int z )
+	{
+		return ( x & COORDINATE_MASK ) << 42 | ( y & COORDINATE_MASK ) << 21
+				| ( z & COORDINATE_MASK );
+	}
+
+	/**
+	 * @param key The packed coordinates of a cell.
+	 * @return The table slot to start looking for the cell at.
+	 */
+	private int getSlot( long key )
+	{
+		long hash = key * 0x9E3779B97F4A7C15L;
+
+		return ( int ) ( hash ^ ( hash >>> 32 ) ) & mask;
+	}
+
+	/**
+	 * @param x The x coordinate of the cell.
+	 * @param y The y coordinate of the cell.
+	 * @param z The z coordinate of the cell.
+	 * @return The cell, or {@link #NULL} if no point is in it.
+	 */
+	private int findCell( int x, int y, int z )
+	{
+		long key = getKey( x, y, z );
+
+		for( int slot = getSlot( key ); slots[ slot ] != NULL;
+				slot = ( slot + 1 ) & mask )
+		{
+			if( keys[ slot ] == key )
+			{
+				return slots[ slot ];
+			}
+		}
+
+		return NULL;
+	}
+
+	/**
+	 * @param x The x coordinate of the cell.
+	 * @param y The y coordinate of the cell.
+	 * @param z The z coordinate of the cell.
+	 * @return The cell, added with no points if it was not found.
+	 */
+	private int findOrAddCell( int x, int y, int z )
+	{
+		long key = getKey( x, y, z );
+		int slot = getSlot( key );
+
+		for( ; slots[ slot ] != NULL; slot = ( slot + 1 ) & mask )
+		{
+			if( keys[ slot ] == key )
+			{
+				return slots[ slot ];
+			}
+		}
+
+		int cell = cellCount++ ;
+
+		keys[ slot ] = key;
+		slots[ slot ] = cell;
+		cellX[ cell ] = x;
+		cellY[ cell ] = y;
+		cellZ[ cell ] = z;
+		cellStarts[ cell ] = 0;
+		cellStarts[ cell + 1 ] = 0;
+
+		return cell;
+	}
+
+	/**
+	 * Grows the tables and arrays to hold a number of points, with the hash
+	 * table at most half full.
+	 * 
+	 * @param capacity The number of points.
+	 */
+	private void ensureCapacity( int capacity )
+	{
+		int tableSize = Integer.highestOneBit( max( capacity, 8 ) - 1 ) << 2;
+
+		if( tableSize > slots.length )
+		{
+			keys = new long[ tableSize ];
+			slots = new int[ tableSize ];
+			mask = tableSize - 1;
+		}
+
+		if( capacity > ranks.length )
+		{
+			cellX = new int[ capacity ];
+			cellY = new int[ capacity ];
+			cellZ = new int[ capacity ];
+			cellStarts = new int[ capacity + 1 ];
+			ranks = new int[ capacity ];
+			sortedIndices = new int[ capacity ];
+			sortedX = new float[ capacity ];
+			sortedY = new float[ capacity ];
+			sortedZ = new float[ capacity ];
+		}
+	}
+}